@@ -1,7 +1,7 @@
 //
 // Copyright (c) ZeroC, Inc. All rights reserved.
 //
-// Generated by makeprops.py from file ./config/PropertyNames.xml, Fri Sep  6 18:11:04 2019
+// Generated by makeprops.py from file ../config/PropertyNames.xml, Sat Oct 17 13:29:20 2026
 
 // IMPORTANT: Do not edit this file -- any edits made here will be lost!
 
@@ -30,7 +30,9 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.Admin.AdapterId", false, 0),
     IceInternal::Property("Ice.Admin.Endpoints", false, 0),
     IceInternal::Property("Ice.Admin.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("Ice.Admin.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("Ice.Admin.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("Ice.Admin.Locator.ConnectionPool", false, 0),
     IceInternal::Property("Ice.Admin.Locator.PreferSecure", false, 0),
     IceInternal::Property("Ice.Admin.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Ice.Admin.Locator.InvocationTimeout", false, 0),
@@ -42,7 +44,9 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.Admin.PublishedEndpoints", false, 0),
     IceInternal::Property("Ice.Admin.ReplicaGroupId", false, 0),
     IceInternal::Property("Ice.Admin.Router.EndpointSelection", false, 0),
+    IceInternal::Property("Ice.Admin.Router.EndpointBalancing", false, 0),
     IceInternal::Property("Ice.Admin.Router.ConnectionCached", false, 0),
+    IceInternal::Property("Ice.Admin.Router.ConnectionPool", false, 0),
     IceInternal::Property("Ice.Admin.Router.PreferSecure", false, 0),
     IceInternal::Property("Ice.Admin.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Ice.Admin.Router.InvocationTimeout", false, 0),
@@ -59,6 +63,10 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.Admin.ThreadPool.Serialize", false, 0),
     IceInternal::Property("Ice.Admin.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("Ice.Admin.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("Ice.Admin.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("Ice.Admin.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("Ice.Admin.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("Ice.Admin.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("Ice.Admin.MessageSizeMax", false, 0),
     IceInternal::Property("Ice.Admin.DelayCreation", false, 0),
     IceInternal::Property("Ice.Admin.Enabled", false, 0),
@@ -71,19 +79,28 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.BackgroundLocatorCacheUpdates", false, 0),
     IceInternal::Property("Ice.BatchAutoFlush", true, 0),
     IceInternal::Property("Ice.BatchAutoFlushSize", false, 0),
+    IceInternal::Property("Ice.BufferPool", false, 0),
+    IceInternal::Property("Ice.BufferPool.MaxBuffers", false, 0),
+    IceInternal::Property("Ice.BufferPool.MaxSize", false, 0),
     IceInternal::Property("Ice.ChangeUser", false, 0),
     IceInternal::Property("Ice.ClassGraphDepthMax", false, 0),
     IceInternal::Property("Ice.ClientAccessPolicyProtocol", false, 0),
+    IceInternal::Property("Ice.Compression.Codec", false, 0),
     IceInternal::Property("Ice.Compression.Level", false, 0),
     IceInternal::Property("Ice.CollectObjects", false, 0),
+    IceInternal::Property("Ice.CollocationDirect", false, 0),
     IceInternal::Property("Ice.Config", false, 0),
     IceInternal::Property("Ice.ConsoleListener", false, 0),
     IceInternal::Property("Ice.Default.CollocationOptimized", false, 0),
+    IceInternal::Property("Ice.Default.ConnectionPool", false, 0),
     IceInternal::Property("Ice.Default.EncodingVersion", false, 0),
+    IceInternal::Property("Ice.Default.EndpointBalancing", false, 0),
     IceInternal::Property("Ice.Default.EndpointSelection", false, 0),
     IceInternal::Property("Ice.Default.Host", false, 0),
     IceInternal::Property("Ice.Default.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("Ice.Default.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("Ice.Default.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("Ice.Default.Locator.ConnectionPool", false, 0),
     IceInternal::Property("Ice.Default.Locator.PreferSecure", false, 0),
     IceInternal::Property("Ice.Default.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Ice.Default.Locator.InvocationTimeout", false, 0),
@@ -98,7 +115,9 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.Default.PreferSecure", false, 0),
     IceInternal::Property("Ice.Default.Protocol", false, 0),
     IceInternal::Property("Ice.Default.Router.EndpointSelection", false, 0),
+    IceInternal::Property("Ice.Default.Router.EndpointBalancing", false, 0),
     IceInternal::Property("Ice.Default.Router.ConnectionCached", false, 0),
+    IceInternal::Property("Ice.Default.Router.ConnectionPool", false, 0),
     IceInternal::Property("Ice.Default.Router.PreferSecure", false, 0),
     IceInternal::Property("Ice.Default.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Ice.Default.Router.InvocationTimeout", false, 0),
@@ -110,14 +129,24 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.Default.SlicedFormat", false, 0),
     IceInternal::Property("Ice.Default.SourceAddress", false, 0),
     IceInternal::Property("Ice.Default.Timeout", false, 0),
+    IceInternal::Property("Ice.EndpointWeight.*", false, 0),
     IceInternal::Property("Ice.EventLog.Source", false, 0),
     IceInternal::Property("Ice.FactoryAssemblies", false, 0),
+    IceInternal::Property("Ice.GatherWriteSize", false, 0),
+    IceInternal::Property("Ice.HostResolver.CacheTTL", false, 0),
+    IceInternal::Property("Ice.HostResolver.NegativeCacheTTL", false, 0),
+    IceInternal::Property("Ice.HostResolver.Size", false, 0),
     IceInternal::Property("Ice.HTTPProxyHost", false, 0),
     IceInternal::Property("Ice.HTTPProxyPort", false, 0),
     IceInternal::Property("Ice.ImplicitContext", false, 0),
     IceInternal::Property("Ice.InitPlugins", false, 0),
     IceInternal::Property("Ice.IPv4", false, 0),
     IceInternal::Property("Ice.IPv6", false, 0),
+    IceInternal::Property("Ice.LocatorCache.MaxSize", false, 0),
+    IceInternal::Property("Ice.LocatorCache.RefreshAhead", false, 0),
+    IceInternal::Property("Ice.LogAsync", false, 0),
+    IceInternal::Property("Ice.LogAsync.Capacity", false, 0),
+    IceInternal::Property("Ice.LogAsync.Overflow", false, 0),
     IceInternal::Property("Ice.LogFile", false, 0),
     IceInternal::Property("Ice.LogFile.SizeMax", false, 0),
     IceInternal::Property("Ice.LogStdErr.Convert", false, 0),
@@ -144,6 +173,10 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.SOCKSProxyPort", false, 0),
     IceInternal::Property("Ice.StdErr", false, 0),
     IceInternal::Property("Ice.StdOut", false, 0),
+    IceInternal::Property("Ice.Stream.ChunkSize", false, 0),
+    IceInternal::Property("Ice.Stream.IdleTimeout", false, 0),
+    IceInternal::Property("Ice.Stream.Window", false, 0),
+    IceInternal::Property("Ice.StringCache", false, 0),
     IceInternal::Property("Ice.SyslogFacility", false, 0),
     IceInternal::Property("Ice.ThreadPool.Client.Size", false, 0),
     IceInternal::Property("Ice.ThreadPool.Client.SizeMax", false, 0),
@@ -152,6 +185,10 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.ThreadPool.Client.Serialize", false, 0),
     IceInternal::Property("Ice.ThreadPool.Client.ThreadIdleTime", false, 0),
     IceInternal::Property("Ice.ThreadPool.Client.ThreadPriority", false, 0),
+    IceInternal::Property("Ice.ThreadPool.Client.Selectors", false, 0),
+    IceInternal::Property("Ice.ThreadPool.Client.Adaptive", false, 0),
+    IceInternal::Property("Ice.ThreadPool.Client.AdaptiveTarget", false, 0),
+    IceInternal::Property("Ice.ThreadPool.Client.VirtualThreads", false, 0),
     IceInternal::Property("Ice.ThreadPool.Server.Size", false, 0),
     IceInternal::Property("Ice.ThreadPool.Server.SizeMax", false, 0),
     IceInternal::Property("Ice.ThreadPool.Server.SizeWarn", false, 0),
@@ -159,10 +196,16 @@ const IceInternal::Property IcePropsData[] =
     IceInternal::Property("Ice.ThreadPool.Server.Serialize", false, 0),
     IceInternal::Property("Ice.ThreadPool.Server.ThreadIdleTime", false, 0),
     IceInternal::Property("Ice.ThreadPool.Server.ThreadPriority", false, 0),
+    IceInternal::Property("Ice.ThreadPool.Server.Selectors", false, 0),
+    IceInternal::Property("Ice.ThreadPool.Server.Adaptive", false, 0),
+    IceInternal::Property("Ice.ThreadPool.Server.AdaptiveTarget", false, 0),
+    IceInternal::Property("Ice.ThreadPool.Server.VirtualThreads", false, 0),
     IceInternal::Property("Ice.ThreadPriority", false, 0),
+    IceInternal::Property("Ice.TimerTick", false, 0),
     IceInternal::Property("Ice.ToStringMode", false, 0),
     IceInternal::Property("Ice.Trace.Admin.Properties", false, 0),
     IceInternal::Property("Ice.Trace.Admin.Logger", false, 0),
+    IceInternal::Property("Ice.Trace.BufferPool", false, 0),
     IceInternal::Property("Ice.Trace.Locator", false, 0),
     IceInternal::Property("Ice.Trace.Network", false, 0),
     IceInternal::Property("Ice.Trace.Protocol", false, 0),
@@ -199,6 +242,7 @@ const IceInternal::Property IceMXPropsData[] =
     IceInternal::Property("IceMX.Metrics.*.GroupBy", false, 0),
     IceInternal::Property("IceMX.Metrics.*.Map", false, 0),
     IceInternal::Property("IceMX.Metrics.*.RetainDetached", false, 0),
+    IceInternal::Property("IceMX.Metrics.*.Histogram", false, 0),
     IceInternal::Property("IceMX.Metrics.*.Accept", false, 0),
     IceInternal::Property("IceMX.Metrics.*.Reject", false, 0),
     IceInternal::Property("IceMX.Metrics.*", false, 0),
@@ -217,7 +261,9 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Multicast.AdapterId", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Endpoints", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Locator.InvocationTimeout", false, 0),
@@ -229,7 +275,9 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Multicast.PublishedEndpoints", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.ReplicaGroupId", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Router.PreferSecure", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.Router.InvocationTimeout", false, 0),
@@ -246,6 +294,10 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Multicast.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceDiscovery.Multicast.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceDiscovery.Multicast.MessageSizeMax", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ACM.Timeout", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ACM.Heartbeat", false, 0),
@@ -254,7 +306,9 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Reply.AdapterId", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Endpoints", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Locator.InvocationTimeout", false, 0),
@@ -266,7 +320,9 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Reply.PublishedEndpoints", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ReplicaGroupId", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Router.PreferSecure", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceDiscovery.Reply.Router.InvocationTimeout", false, 0),
@@ -283,6 +339,10 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Reply.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceDiscovery.Reply.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceDiscovery.Reply.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceDiscovery.Reply.MessageSizeMax", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ACM.Timeout", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ACM.Heartbeat", false, 0),
@@ -291,7 +351,9 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Locator.AdapterId", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Endpoints", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Locator.InvocationTimeout", false, 0),
@@ -303,7 +365,9 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Locator.PublishedEndpoints", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ReplicaGroupId", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Router.PreferSecure", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceDiscovery.Locator.Router.InvocationTimeout", false, 0),
@@ -320,6 +384,10 @@ const IceInternal::Property IceDiscoveryPropsData[] =
     IceInternal::Property("IceDiscovery.Locator.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceDiscovery.Locator.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceDiscovery.Locator.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceDiscovery.Locator.MessageSizeMax", false, 0),
     IceInternal::Property("IceDiscovery.Lookup", false, 0),
     IceInternal::Property("IceDiscovery.Timeout", false, 0),
@@ -344,7 +412,9 @@ const IceInternal::Property IceLocatorDiscoveryPropsData[] =
     IceInternal::Property("IceLocatorDiscovery.Reply.AdapterId", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Endpoints", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Locator.InvocationTimeout", false, 0),
@@ -356,7 +426,9 @@ const IceInternal::Property IceLocatorDiscoveryPropsData[] =
     IceInternal::Property("IceLocatorDiscovery.Reply.PublishedEndpoints", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.ReplicaGroupId", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Router.PreferSecure", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.Router.InvocationTimeout", false, 0),
@@ -373,6 +445,10 @@ const IceInternal::Property IceLocatorDiscoveryPropsData[] =
     IceInternal::Property("IceLocatorDiscovery.Reply.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Reply.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Reply.MessageSizeMax", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ACM.Timeout", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ACM.Heartbeat", false, 0),
@@ -381,7 +457,9 @@ const IceInternal::Property IceLocatorDiscoveryPropsData[] =
     IceInternal::Property("IceLocatorDiscovery.Locator.AdapterId", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Endpoints", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Locator.InvocationTimeout", false, 0),
@@ -393,7 +471,9 @@ const IceInternal::Property IceLocatorDiscoveryPropsData[] =
     IceInternal::Property("IceLocatorDiscovery.Locator.PublishedEndpoints", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ReplicaGroupId", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Router.PreferSecure", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.Router.InvocationTimeout", false, 0),
@@ -410,6 +490,10 @@ const IceInternal::Property IceLocatorDiscoveryPropsData[] =
     IceInternal::Property("IceLocatorDiscovery.Locator.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceLocatorDiscovery.Locator.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Locator.MessageSizeMax", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Lookup", false, 0),
     IceInternal::Property("IceLocatorDiscovery.Timeout", false, 0),
@@ -454,7 +538,9 @@ const IceInternal::PropertyArray
 const IceInternal::Property IceBoxAdminPropsData[] =
 {
     IceInternal::Property("IceBoxAdmin.ServiceManager.Proxy.EndpointSelection", false, 0),
+    IceInternal::Property("IceBoxAdmin.ServiceManager.Proxy.EndpointBalancing", false, 0),
     IceInternal::Property("IceBoxAdmin.ServiceManager.Proxy.ConnectionCached", false, 0),
+    IceInternal::Property("IceBoxAdmin.ServiceManager.Proxy.ConnectionPool", false, 0),
     IceInternal::Property("IceBoxAdmin.ServiceManager.Proxy.PreferSecure", false, 0),
     IceInternal::Property("IceBoxAdmin.ServiceManager.Proxy.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceBoxAdmin.ServiceManager.Proxy.InvocationTimeout", false, 0),
@@ -478,7 +564,9 @@ const IceInternal::Property IceBridgePropsData[] =
     IceInternal::Property("IceBridge.Source.AdapterId", false, 0),
     IceInternal::Property("IceBridge.Source.Endpoints", false, 0),
     IceInternal::Property("IceBridge.Source.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceBridge.Source.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceBridge.Source.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceBridge.Source.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceBridge.Source.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceBridge.Source.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceBridge.Source.Locator.InvocationTimeout", false, 0),
@@ -490,7 +578,9 @@ const IceInternal::Property IceBridgePropsData[] =
     IceInternal::Property("IceBridge.Source.PublishedEndpoints", false, 0),
     IceInternal::Property("IceBridge.Source.ReplicaGroupId", false, 0),
     IceInternal::Property("IceBridge.Source.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceBridge.Source.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceBridge.Source.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceBridge.Source.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceBridge.Source.Router.PreferSecure", false, 0),
     IceInternal::Property("IceBridge.Source.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceBridge.Source.Router.InvocationTimeout", false, 0),
@@ -507,6 +597,10 @@ const IceInternal::Property IceBridgePropsData[] =
     IceInternal::Property("IceBridge.Source.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceBridge.Source.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceBridge.Source.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceBridge.Source.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceBridge.Source.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceBridge.Source.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceBridge.Source.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceBridge.Source.MessageSizeMax", false, 0),
     IceInternal::Property("IceBridge.Target.Endpoints", false, 0),
     IceInternal::Property("IceBridge.InstanceName", false, 0),
@@ -533,7 +627,9 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Server.AdapterId", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Endpoints", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Locator.InvocationTimeout", false, 0),
@@ -545,7 +641,9 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Server.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGridAdmin.Server.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGridAdmin.Server.Router.InvocationTimeout", false, 0),
@@ -562,6 +660,10 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Server.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGridAdmin.Server.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGridAdmin.Server.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGridAdmin.Server.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGridAdmin.Server.MessageSizeMax", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Address", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Interface", false, 0),
@@ -573,7 +675,9 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Discovery.Reply.AdapterId", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Endpoints", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Locator.InvocationTimeout", false, 0),
@@ -585,7 +689,9 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Discovery.Reply.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.Router.InvocationTimeout", false, 0),
@@ -602,6 +708,10 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Discovery.Reply.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Reply.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Reply.MessageSizeMax", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ACM.Timeout", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ACM.Heartbeat", false, 0),
@@ -610,7 +720,9 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Discovery.Locator.AdapterId", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Endpoints", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Locator.InvocationTimeout", false, 0),
@@ -622,7 +734,9 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Discovery.Locator.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.Router.InvocationTimeout", false, 0),
@@ -639,6 +753,10 @@ const IceInternal::Property IceGridAdminPropsData[] =
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGridAdmin.Discovery.Locator.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGridAdmin.Discovery.Locator.MessageSizeMax", false, 0),
     IceInternal::Property("IceGridAdmin.Trace.Observers", false, 0),
     IceInternal::Property("IceGridAdmin.Trace.SaveToRegistry", false, 0),
@@ -657,7 +775,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.AdminRouter.AdapterId", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Endpoints", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Locator.InvocationTimeout", false, 0),
@@ -669,7 +789,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.AdminRouter.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.Router.InvocationTimeout", false, 0),
@@ -686,6 +808,10 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.AdminRouter.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGrid.AdminRouter.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGrid.AdminRouter.MessageSizeMax", false, 0),
     IceInternal::Property("IceGrid.InstanceName", false, 0),
     IceInternal::Property("IceGrid.Node.ACM.Timeout", false, 0),
@@ -695,7 +821,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Node.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Node.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Node.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Node.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Node.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Node.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Node.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Node.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Node.Locator.InvocationTimeout", false, 0),
@@ -707,7 +835,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Node.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGrid.Node.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGrid.Node.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Node.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Node.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Node.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Node.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Node.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Node.Router.InvocationTimeout", false, 0),
@@ -724,6 +854,10 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Node.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGrid.Node.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Node.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGrid.Node.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGrid.Node.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGrid.Node.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGrid.Node.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGrid.Node.MessageSizeMax", false, 0),
     IceInternal::Property("IceGrid.Node.AllowRunningServersAsRoot", false, 0),
     IceInternal::Property("IceGrid.Node.AllowEndpointsOverride", false, 0),
@@ -744,7 +878,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Node.Trace.Server", false, 0),
     IceInternal::Property("IceGrid.Node.UserAccounts", false, 0),
     IceInternal::Property("IceGrid.Node.UserAccountMapper.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Node.UserAccountMapper.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Node.UserAccountMapper.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Node.UserAccountMapper.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Node.UserAccountMapper.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Node.UserAccountMapper.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Node.UserAccountMapper.InvocationTimeout", false, 0),
@@ -756,7 +892,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Node.WaitTime", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminCryptPasswords", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminPermissionsVerifier.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminPermissionsVerifier.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminPermissionsVerifier.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminPermissionsVerifier.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminPermissionsVerifier.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminPermissionsVerifier.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminPermissionsVerifier.InvocationTimeout", false, 0),
@@ -773,7 +911,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Locator.InvocationTimeout", false, 0),
@@ -785,7 +925,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.Router.InvocationTimeout", false, 0),
@@ -802,9 +944,15 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSessionManager.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSessionManager.MessageSizeMax", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.AdminSSLPermissionsVerifier.InvocationTimeout", false, 0),
@@ -820,7 +968,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Client.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Locator.InvocationTimeout", false, 0),
@@ -832,7 +982,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Client.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.Router.InvocationTimeout", false, 0),
@@ -849,6 +1001,10 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Client.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.Client.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGrid.Registry.Client.MessageSizeMax", false, 0),
     IceInternal::Property("IceGrid.Registry.CryptPasswords", false, 0),
     IceInternal::Property("IceGrid.Registry.DefaultTemplates", false, 0),
@@ -859,7 +1015,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Discovery.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Locator.InvocationTimeout", false, 0),
@@ -871,7 +1029,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Discovery.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Router.InvocationTimeout", false, 0),
@@ -888,6 +1048,10 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Discovery.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.Discovery.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.MessageSizeMax", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Enabled", false, 0),
     IceInternal::Property("IceGrid.Registry.Discovery.Address", false, 0),
@@ -901,7 +1065,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Internal.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Locator.InvocationTimeout", false, 0),
@@ -913,7 +1079,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Internal.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.Router.InvocationTimeout", false, 0),
@@ -930,12 +1098,18 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Internal.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.Internal.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGrid.Registry.Internal.MessageSizeMax", false, 0),
     IceInternal::Property("IceGrid.Registry.LMDB.MapSize", false, 0),
     IceInternal::Property("IceGrid.Registry.LMDB.Path", false, 0),
     IceInternal::Property("IceGrid.Registry.NodeSessionTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.PermissionsVerifier.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.PermissionsVerifier.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.PermissionsVerifier.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.PermissionsVerifier.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.PermissionsVerifier.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.PermissionsVerifier.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.PermissionsVerifier.InvocationTimeout", false, 0),
@@ -955,7 +1129,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Server.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Locator.InvocationTimeout", false, 0),
@@ -967,7 +1143,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Server.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.Router.InvocationTimeout", false, 0),
@@ -984,6 +1162,10 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.Server.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.Server.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGrid.Registry.Server.MessageSizeMax", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionFilters", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.ACM.Timeout", false, 0),
@@ -993,7 +1175,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.SessionManager.AdapterId", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Endpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Locator.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Locator.InvocationTimeout", false, 0),
@@ -1005,7 +1189,9 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.SessionManager.PublishedEndpoints", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.ReplicaGroupId", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.Router.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Router.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.Router.InvocationTimeout", false, 0),
@@ -1022,10 +1208,16 @@ const IceInternal::Property IceGridPropsData[] =
     IceInternal::Property("IceGrid.Registry.SessionManager.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IceGrid.Registry.SessionManager.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionManager.MessageSizeMax", false, 0),
     IceInternal::Property("IceGrid.Registry.SessionTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.SSLPermissionsVerifier.EndpointSelection", false, 0),
+    IceInternal::Property("IceGrid.Registry.SSLPermissionsVerifier.EndpointBalancing", false, 0),
     IceInternal::Property("IceGrid.Registry.SSLPermissionsVerifier.ConnectionCached", false, 0),
+    IceInternal::Property("IceGrid.Registry.SSLPermissionsVerifier.ConnectionPool", false, 0),
     IceInternal::Property("IceGrid.Registry.SSLPermissionsVerifier.PreferSecure", false, 0),
     IceInternal::Property("IceGrid.Registry.SSLPermissionsVerifier.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IceGrid.Registry.SSLPermissionsVerifier.InvocationTimeout", false, 0),
@@ -1064,7 +1256,9 @@ const IceInternal::Property IcePatch2PropsData[] =
     IceInternal::Property("IcePatch2.AdapterId", false, 0),
     IceInternal::Property("IcePatch2.Endpoints", false, 0),
     IceInternal::Property("IcePatch2.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("IcePatch2.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("IcePatch2.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("IcePatch2.Locator.ConnectionPool", false, 0),
     IceInternal::Property("IcePatch2.Locator.PreferSecure", false, 0),
     IceInternal::Property("IcePatch2.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IcePatch2.Locator.InvocationTimeout", false, 0),
@@ -1076,7 +1270,9 @@ const IceInternal::Property IcePatch2PropsData[] =
     IceInternal::Property("IcePatch2.PublishedEndpoints", false, 0),
     IceInternal::Property("IcePatch2.ReplicaGroupId", false, 0),
     IceInternal::Property("IcePatch2.Router.EndpointSelection", false, 0),
+    IceInternal::Property("IcePatch2.Router.EndpointBalancing", false, 0),
     IceInternal::Property("IcePatch2.Router.ConnectionCached", false, 0),
+    IceInternal::Property("IcePatch2.Router.ConnectionPool", false, 0),
     IceInternal::Property("IcePatch2.Router.PreferSecure", false, 0),
     IceInternal::Property("IcePatch2.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("IcePatch2.Router.InvocationTimeout", false, 0),
@@ -1093,6 +1289,10 @@ const IceInternal::Property IcePatch2PropsData[] =
     IceInternal::Property("IcePatch2.ThreadPool.Serialize", false, 0),
     IceInternal::Property("IcePatch2.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("IcePatch2.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("IcePatch2.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("IcePatch2.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("IcePatch2.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("IcePatch2.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("IcePatch2.MessageSizeMax", false, 0),
     IceInternal::Property("IcePatch2.Directory", false, 0),
     IceInternal::Property("IcePatch2.InstanceName", false, 0),
@@ -1197,7 +1397,9 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Client.AdapterId", false, 0),
     IceInternal::Property("Glacier2.Client.Endpoints", false, 0),
     IceInternal::Property("Glacier2.Client.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("Glacier2.Client.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("Glacier2.Client.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("Glacier2.Client.Locator.ConnectionPool", false, 0),
     IceInternal::Property("Glacier2.Client.Locator.PreferSecure", false, 0),
     IceInternal::Property("Glacier2.Client.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Glacier2.Client.Locator.InvocationTimeout", false, 0),
@@ -1209,7 +1411,9 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Client.PublishedEndpoints", false, 0),
     IceInternal::Property("Glacier2.Client.ReplicaGroupId", false, 0),
     IceInternal::Property("Glacier2.Client.Router.EndpointSelection", false, 0),
+    IceInternal::Property("Glacier2.Client.Router.EndpointBalancing", false, 0),
     IceInternal::Property("Glacier2.Client.Router.ConnectionCached", false, 0),
+    IceInternal::Property("Glacier2.Client.Router.ConnectionPool", false, 0),
     IceInternal::Property("Glacier2.Client.Router.PreferSecure", false, 0),
     IceInternal::Property("Glacier2.Client.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Glacier2.Client.Router.InvocationTimeout", false, 0),
@@ -1226,6 +1430,10 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Client.ThreadPool.Serialize", false, 0),
     IceInternal::Property("Glacier2.Client.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("Glacier2.Client.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("Glacier2.Client.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("Glacier2.Client.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("Glacier2.Client.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("Glacier2.Client.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("Glacier2.Client.MessageSizeMax", false, 0),
     IceInternal::Property("Glacier2.Client.AlwaysBatch", false, 0),
     IceInternal::Property("Glacier2.Client.Buffered", false, 0),
@@ -1244,7 +1452,9 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Filter.Identity.Accept", false, 0),
     IceInternal::Property("Glacier2.InstanceName", false, 0),
     IceInternal::Property("Glacier2.PermissionsVerifier.EndpointSelection", false, 0),
+    IceInternal::Property("Glacier2.PermissionsVerifier.EndpointBalancing", false, 0),
     IceInternal::Property("Glacier2.PermissionsVerifier.ConnectionCached", false, 0),
+    IceInternal::Property("Glacier2.PermissionsVerifier.ConnectionPool", false, 0),
     IceInternal::Property("Glacier2.PermissionsVerifier.PreferSecure", false, 0),
     IceInternal::Property("Glacier2.PermissionsVerifier.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Glacier2.PermissionsVerifier.InvocationTimeout", false, 0),
@@ -1255,7 +1465,9 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.PermissionsVerifier", false, 0),
     IceInternal::Property("Glacier2.ReturnClientProxy", false, 0),
     IceInternal::Property("Glacier2.SSLPermissionsVerifier.EndpointSelection", false, 0),
+    IceInternal::Property("Glacier2.SSLPermissionsVerifier.EndpointBalancing", false, 0),
     IceInternal::Property("Glacier2.SSLPermissionsVerifier.ConnectionCached", false, 0),
+    IceInternal::Property("Glacier2.SSLPermissionsVerifier.ConnectionPool", false, 0),
     IceInternal::Property("Glacier2.SSLPermissionsVerifier.PreferSecure", false, 0),
     IceInternal::Property("Glacier2.SSLPermissionsVerifier.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Glacier2.SSLPermissionsVerifier.InvocationTimeout", false, 0),
@@ -1272,7 +1484,9 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Server.AdapterId", false, 0),
     IceInternal::Property("Glacier2.Server.Endpoints", false, 0),
     IceInternal::Property("Glacier2.Server.Locator.EndpointSelection", false, 0),
+    IceInternal::Property("Glacier2.Server.Locator.EndpointBalancing", false, 0),
     IceInternal::Property("Glacier2.Server.Locator.ConnectionCached", false, 0),
+    IceInternal::Property("Glacier2.Server.Locator.ConnectionPool", false, 0),
     IceInternal::Property("Glacier2.Server.Locator.PreferSecure", false, 0),
     IceInternal::Property("Glacier2.Server.Locator.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Glacier2.Server.Locator.InvocationTimeout", false, 0),
@@ -1284,7 +1498,9 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Server.PublishedEndpoints", false, 0),
     IceInternal::Property("Glacier2.Server.ReplicaGroupId", false, 0),
     IceInternal::Property("Glacier2.Server.Router.EndpointSelection", false, 0),
+    IceInternal::Property("Glacier2.Server.Router.EndpointBalancing", false, 0),
     IceInternal::Property("Glacier2.Server.Router.ConnectionCached", false, 0),
+    IceInternal::Property("Glacier2.Server.Router.ConnectionPool", false, 0),
     IceInternal::Property("Glacier2.Server.Router.PreferSecure", false, 0),
     IceInternal::Property("Glacier2.Server.Router.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Glacier2.Server.Router.InvocationTimeout", false, 0),
@@ -1301,6 +1517,10 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Server.ThreadPool.Serialize", false, 0),
     IceInternal::Property("Glacier2.Server.ThreadPool.ThreadIdleTime", false, 0),
     IceInternal::Property("Glacier2.Server.ThreadPool.ThreadPriority", false, 0),
+    IceInternal::Property("Glacier2.Server.ThreadPool.Selectors", false, 0),
+    IceInternal::Property("Glacier2.Server.ThreadPool.Adaptive", false, 0),
+    IceInternal::Property("Glacier2.Server.ThreadPool.AdaptiveTarget", false, 0),
+    IceInternal::Property("Glacier2.Server.ThreadPool.VirtualThreads", false, 0),
     IceInternal::Property("Glacier2.Server.MessageSizeMax", false, 0),
     IceInternal::Property("Glacier2.Server.AlwaysBatch", false, 0),
     IceInternal::Property("Glacier2.Server.Buffered", false, 0),
@@ -1309,7 +1529,9 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.Server.Trace.Override", false, 0),
     IceInternal::Property("Glacier2.Server.Trace.Request", false, 0),
     IceInternal::Property("Glacier2.SessionManager.EndpointSelection", false, 0),
+    IceInternal::Property("Glacier2.SessionManager.EndpointBalancing", false, 0),
     IceInternal::Property("Glacier2.SessionManager.ConnectionCached", false, 0),
+    IceInternal::Property("Glacier2.SessionManager.ConnectionPool", false, 0),
     IceInternal::Property("Glacier2.SessionManager.PreferSecure", false, 0),
     IceInternal::Property("Glacier2.SessionManager.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Glacier2.SessionManager.InvocationTimeout", false, 0),
@@ -1319,7 +1541,9 @@ const IceInternal::Property Glacier2PropsData[] =
     IceInternal::Property("Glacier2.SessionManager.Context.*", false, 0),
     IceInternal::Property("Glacier2.SessionManager", false, 0),
     IceInternal::Property("Glacier2.SSLSessionManager.EndpointSelection", false, 0),
+    IceInternal::Property("Glacier2.SSLSessionManager.EndpointBalancing", false, 0),
     IceInternal::Property("Glacier2.SSLSessionManager.ConnectionCached", false, 0),
+    IceInternal::Property("Glacier2.SSLSessionManager.ConnectionPool", false, 0),
     IceInternal::Property("Glacier2.SSLSessionManager.PreferSecure", false, 0),
     IceInternal::Property("Glacier2.SSLSessionManager.LocatorCacheTimeout", false, 0),
     IceInternal::Property("Glacier2.SSLSessionManager.InvocationTimeout", false, 0),
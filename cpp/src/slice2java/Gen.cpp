@@ -5268,6 +5268,29 @@ Slice::Gen::ProxyVisitor::visitOperation(const OperationPtr& p)
     {
         out << "null";
     }
+
+    //
+    // Collocated servants of the interface can be called directly, without marshaling the parameters
+    // and results, if enabled with Ice.CollocationDirect. AMD operations, operations with marshaled
+    // results and operations with optional parameters are always marshaled.
+    //
+    if(cl->isInterface() && !cl->hasMetaData("amd") && !p->hasMetaData("amd") && !p->hasMarshaledResult() &&
+       !sendsOptionals)
+    {
+        const string servant = getUnqualified(cl, package);
+        out << ",";
+        out << nl << servant << ".class, (obj, current) -> ";
+        if(returnsParams)
+        {
+            out << "((" << servant << ")obj)." << fixKwd(p->name()) << spar << getInArgs(p, true) << "current"
+                << epar;
+        }
+        else
+        {
+            out << "{ ((" << servant << ")obj)." << fixKwd(p->name()) << spar << getInArgs(p, true) << "current"
+                << epar << "; return null; }";
+        }
+    }
     out.restoreIndent();
     out << ");";
     out << nl << "return f;";
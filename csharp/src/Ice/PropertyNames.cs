@@ -1,7 +1,7 @@
 //
 // Copyright (c) ZeroC, Inc. All rights reserved.
 //
-// Generated by makeprops.py from file ./config/PropertyNames.xml, Fri Sep  6 18:11:04 2019
+// Generated by makeprops.py from file ../config/PropertyNames.xml, Sat Oct 17 13:29:20 2026
 
 // IMPORTANT: Do not edit this file -- any edits made here will be lost!
 
@@ -32,7 +32,9 @@ namespace IceInternal
              new Property(@"^Ice\.Admin\.AdapterId$", false, null),
              new Property(@"^Ice\.Admin\.Endpoints$", false, null),
              new Property(@"^Ice\.Admin\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^Ice\.Admin\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^Ice\.Admin\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^Ice\.Admin\.Locator\.ConnectionPool$", false, null),
              new Property(@"^Ice\.Admin\.Locator\.PreferSecure$", false, null),
              new Property(@"^Ice\.Admin\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^Ice\.Admin\.Locator\.InvocationTimeout$", false, null),
@@ -44,7 +46,9 @@ namespace IceInternal
              new Property(@"^Ice\.Admin\.PublishedEndpoints$", false, null),
              new Property(@"^Ice\.Admin\.ReplicaGroupId$", false, null),
              new Property(@"^Ice\.Admin\.Router\.EndpointSelection$", false, null),
+             new Property(@"^Ice\.Admin\.Router\.EndpointBalancing$", false, null),
              new Property(@"^Ice\.Admin\.Router\.ConnectionCached$", false, null),
+             new Property(@"^Ice\.Admin\.Router\.ConnectionPool$", false, null),
              new Property(@"^Ice\.Admin\.Router\.PreferSecure$", false, null),
              new Property(@"^Ice\.Admin\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^Ice\.Admin\.Router\.InvocationTimeout$", false, null),
@@ -61,6 +65,10 @@ namespace IceInternal
              new Property(@"^Ice\.Admin\.ThreadPool\.Serialize$", false, null),
              new Property(@"^Ice\.Admin\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^Ice\.Admin\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^Ice\.Admin\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^Ice\.Admin\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^Ice\.Admin\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^Ice\.Admin\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^Ice\.Admin\.MessageSizeMax$", false, null),
              new Property(@"^Ice\.Admin\.DelayCreation$", false, null),
              new Property(@"^Ice\.Admin\.Enabled$", false, null),
@@ -73,19 +81,28 @@ namespace IceInternal
              new Property(@"^Ice\.BackgroundLocatorCacheUpdates$", false, null),
              new Property(@"^Ice\.BatchAutoFlush$", true, null),
              new Property(@"^Ice\.BatchAutoFlushSize$", false, null),
+             new Property(@"^Ice\.BufferPool$", false, null),
+             new Property(@"^Ice\.BufferPool\.MaxBuffers$", false, null),
+             new Property(@"^Ice\.BufferPool\.MaxSize$", false, null),
              new Property(@"^Ice\.ChangeUser$", false, null),
              new Property(@"^Ice\.ClassGraphDepthMax$", false, null),
              new Property(@"^Ice\.ClientAccessPolicyProtocol$", false, null),
+             new Property(@"^Ice\.Compression\.Codec$", false, null),
              new Property(@"^Ice\.Compression\.Level$", false, null),
              new Property(@"^Ice\.CollectObjects$", false, null),
+             new Property(@"^Ice\.CollocationDirect$", false, null),
              new Property(@"^Ice\.Config$", false, null),
              new Property(@"^Ice\.ConsoleListener$", false, null),
              new Property(@"^Ice\.Default\.CollocationOptimized$", false, null),
+             new Property(@"^Ice\.Default\.ConnectionPool$", false, null),
              new Property(@"^Ice\.Default\.EncodingVersion$", false, null),
+             new Property(@"^Ice\.Default\.EndpointBalancing$", false, null),
              new Property(@"^Ice\.Default\.EndpointSelection$", false, null),
              new Property(@"^Ice\.Default\.Host$", false, null),
              new Property(@"^Ice\.Default\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^Ice\.Default\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^Ice\.Default\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^Ice\.Default\.Locator\.ConnectionPool$", false, null),
              new Property(@"^Ice\.Default\.Locator\.PreferSecure$", false, null),
              new Property(@"^Ice\.Default\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^Ice\.Default\.Locator\.InvocationTimeout$", false, null),
@@ -100,7 +117,9 @@ namespace IceInternal
              new Property(@"^Ice\.Default\.PreferSecure$", false, null),
              new Property(@"^Ice\.Default\.Protocol$", false, null),
              new Property(@"^Ice\.Default\.Router\.EndpointSelection$", false, null),
+             new Property(@"^Ice\.Default\.Router\.EndpointBalancing$", false, null),
              new Property(@"^Ice\.Default\.Router\.ConnectionCached$", false, null),
+             new Property(@"^Ice\.Default\.Router\.ConnectionPool$", false, null),
              new Property(@"^Ice\.Default\.Router\.PreferSecure$", false, null),
              new Property(@"^Ice\.Default\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^Ice\.Default\.Router\.InvocationTimeout$", false, null),
@@ -112,14 +131,24 @@ namespace IceInternal
              new Property(@"^Ice\.Default\.SlicedFormat$", false, null),
              new Property(@"^Ice\.Default\.SourceAddress$", false, null),
              new Property(@"^Ice\.Default\.Timeout$", false, null),
+             new Property(@"^Ice\.EndpointWeight\.[^\s]+$", false, null),
              new Property(@"^Ice\.EventLog\.Source$", false, null),
              new Property(@"^Ice\.FactoryAssemblies$", false, null),
+             new Property(@"^Ice\.GatherWriteSize$", false, null),
+             new Property(@"^Ice\.HostResolver\.CacheTTL$", false, null),
+             new Property(@"^Ice\.HostResolver\.NegativeCacheTTL$", false, null),
+             new Property(@"^Ice\.HostResolver\.Size$", false, null),
              new Property(@"^Ice\.HTTPProxyHost$", false, null),
              new Property(@"^Ice\.HTTPProxyPort$", false, null),
              new Property(@"^Ice\.ImplicitContext$", false, null),
              new Property(@"^Ice\.InitPlugins$", false, null),
              new Property(@"^Ice\.IPv4$", false, null),
              new Property(@"^Ice\.IPv6$", false, null),
+             new Property(@"^Ice\.LocatorCache\.MaxSize$", false, null),
+             new Property(@"^Ice\.LocatorCache\.RefreshAhead$", false, null),
+             new Property(@"^Ice\.LogAsync$", false, null),
+             new Property(@"^Ice\.LogAsync\.Capacity$", false, null),
+             new Property(@"^Ice\.LogAsync\.Overflow$", false, null),
              new Property(@"^Ice\.LogFile$", false, null),
              new Property(@"^Ice\.LogFile\.SizeMax$", false, null),
              new Property(@"^Ice\.LogStdErr\.Convert$", false, null),
@@ -146,6 +175,10 @@ namespace IceInternal
              new Property(@"^Ice\.SOCKSProxyPort$", false, null),
              new Property(@"^Ice\.StdErr$", false, null),
              new Property(@"^Ice\.StdOut$", false, null),
+             new Property(@"^Ice\.Stream\.ChunkSize$", false, null),
+             new Property(@"^Ice\.Stream\.IdleTimeout$", false, null),
+             new Property(@"^Ice\.Stream\.Window$", false, null),
+             new Property(@"^Ice\.StringCache$", false, null),
              new Property(@"^Ice\.SyslogFacility$", false, null),
              new Property(@"^Ice\.ThreadPool\.Client\.Size$", false, null),
              new Property(@"^Ice\.ThreadPool\.Client\.SizeMax$", false, null),
@@ -154,6 +187,10 @@ namespace IceInternal
              new Property(@"^Ice\.ThreadPool\.Client\.Serialize$", false, null),
              new Property(@"^Ice\.ThreadPool\.Client\.ThreadIdleTime$", false, null),
              new Property(@"^Ice\.ThreadPool\.Client\.ThreadPriority$", false, null),
+             new Property(@"^Ice\.ThreadPool\.Client\.Selectors$", false, null),
+             new Property(@"^Ice\.ThreadPool\.Client\.Adaptive$", false, null),
+             new Property(@"^Ice\.ThreadPool\.Client\.AdaptiveTarget$", false, null),
+             new Property(@"^Ice\.ThreadPool\.Client\.VirtualThreads$", false, null),
              new Property(@"^Ice\.ThreadPool\.Server\.Size$", false, null),
              new Property(@"^Ice\.ThreadPool\.Server\.SizeMax$", false, null),
              new Property(@"^Ice\.ThreadPool\.Server\.SizeWarn$", false, null),
@@ -161,10 +198,16 @@ namespace IceInternal
              new Property(@"^Ice\.ThreadPool\.Server\.Serialize$", false, null),
              new Property(@"^Ice\.ThreadPool\.Server\.ThreadIdleTime$", false, null),
              new Property(@"^Ice\.ThreadPool\.Server\.ThreadPriority$", false, null),
+             new Property(@"^Ice\.ThreadPool\.Server\.Selectors$", false, null),
+             new Property(@"^Ice\.ThreadPool\.Server\.Adaptive$", false, null),
+             new Property(@"^Ice\.ThreadPool\.Server\.AdaptiveTarget$", false, null),
+             new Property(@"^Ice\.ThreadPool\.Server\.VirtualThreads$", false, null),
              new Property(@"^Ice\.ThreadPriority$", false, null),
+             new Property(@"^Ice\.TimerTick$", false, null),
              new Property(@"^Ice\.ToStringMode$", false, null),
              new Property(@"^Ice\.Trace\.Admin\.Properties$", false, null),
              new Property(@"^Ice\.Trace\.Admin\.Logger$", false, null),
+             new Property(@"^Ice\.Trace\.BufferPool$", false, null),
              new Property(@"^Ice\.Trace\.Locator$", false, null),
              new Property(@"^Ice\.Trace\.Network$", false, null),
              new Property(@"^Ice\.Trace\.Protocol$", false, null),
@@ -198,6 +241,7 @@ namespace IceInternal
              new Property(@"^IceMX\.Metrics\.[^\s]+\.GroupBy$", false, null),
              new Property(@"^IceMX\.Metrics\.[^\s]+\.Map$", false, null),
              new Property(@"^IceMX\.Metrics\.[^\s]+\.RetainDetached$", false, null),
+             new Property(@"^IceMX\.Metrics\.[^\s]+\.Histogram$", false, null),
              new Property(@"^IceMX\.Metrics\.[^\s]+\.Accept$", false, null),
              new Property(@"^IceMX\.Metrics\.[^\s]+\.Reject$", false, null),
              new Property(@"^IceMX\.Metrics\.[^\s]+$", false, null),
@@ -213,7 +257,9 @@ namespace IceInternal
              new Property(@"^IceDiscovery\.Multicast\.AdapterId$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Endpoints$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceDiscovery\.Multicast\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceDiscovery\.Multicast\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Locator\.InvocationTimeout$", false, null),
@@ -225,7 +271,9 @@ namespace IceInternal
              new Property(@"^IceDiscovery\.Multicast\.PublishedEndpoints$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.ReplicaGroupId$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceDiscovery\.Multicast\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceDiscovery\.Multicast\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Router\.PreferSecure$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.Router\.InvocationTimeout$", false, null),
@@ -242,6 +290,10 @@ namespace IceInternal
              new Property(@"^IceDiscovery\.Multicast\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceDiscovery\.Multicast\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceDiscovery\.Multicast\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceDiscovery\.Multicast\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceDiscovery\.Multicast\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceDiscovery\.Multicast\.MessageSizeMax$", false, null),
              new Property(@"^IceDiscovery\.Reply\.ACM\.Timeout$", false, null),
              new Property(@"^IceDiscovery\.Reply\.ACM\.Heartbeat$", false, null),
@@ -250,7 +302,9 @@ namespace IceInternal
              new Property(@"^IceDiscovery\.Reply\.AdapterId$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Endpoints$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceDiscovery\.Reply\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceDiscovery\.Reply\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Locator\.InvocationTimeout$", false, null),
@@ -262,7 +316,9 @@ namespace IceInternal
              new Property(@"^IceDiscovery\.Reply\.PublishedEndpoints$", false, null),
              new Property(@"^IceDiscovery\.Reply\.ReplicaGroupId$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceDiscovery\.Reply\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceDiscovery\.Reply\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Router\.PreferSecure$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceDiscovery\.Reply\.Router\.InvocationTimeout$", false, null),
@@ -279,6 +335,10 @@ namespace IceInternal
              new Property(@"^IceDiscovery\.Reply\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceDiscovery\.Reply\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceDiscovery\.Reply\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceDiscovery\.Reply\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceDiscovery\.Reply\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceDiscovery\.Reply\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceDiscovery\.Reply\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceDiscovery\.Reply\.MessageSizeMax$", false, null),
              new Property(@"^IceDiscovery\.Locator\.ACM\.Timeout$", false, null),
              new Property(@"^IceDiscovery\.Locator\.ACM\.Heartbeat$", false, null),
@@ -287,7 +347,9 @@ namespace IceInternal
              new Property(@"^IceDiscovery\.Locator\.AdapterId$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Endpoints$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceDiscovery\.Locator\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceDiscovery\.Locator\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Locator\.InvocationTimeout$", false, null),
@@ -299,7 +361,9 @@ namespace IceInternal
              new Property(@"^IceDiscovery\.Locator\.PublishedEndpoints$", false, null),
              new Property(@"^IceDiscovery\.Locator\.ReplicaGroupId$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceDiscovery\.Locator\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceDiscovery\.Locator\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Router\.PreferSecure$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceDiscovery\.Locator\.Router\.InvocationTimeout$", false, null),
@@ -316,6 +380,10 @@ namespace IceInternal
              new Property(@"^IceDiscovery\.Locator\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceDiscovery\.Locator\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceDiscovery\.Locator\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceDiscovery\.Locator\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceDiscovery\.Locator\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceDiscovery\.Locator\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceDiscovery\.Locator\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceDiscovery\.Locator\.MessageSizeMax$", false, null),
              new Property(@"^IceDiscovery\.Lookup$", false, null),
              new Property(@"^IceDiscovery\.Timeout$", false, null),
@@ -337,7 +405,9 @@ namespace IceInternal
              new Property(@"^IceLocatorDiscovery\.Reply\.AdapterId$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Endpoints$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Reply\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Reply\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Locator\.InvocationTimeout$", false, null),
@@ -349,7 +419,9 @@ namespace IceInternal
              new Property(@"^IceLocatorDiscovery\.Reply\.PublishedEndpoints$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.ReplicaGroupId$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Reply\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Reply\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Router\.PreferSecure$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.Router\.InvocationTimeout$", false, null),
@@ -366,6 +438,10 @@ namespace IceInternal
              new Property(@"^IceLocatorDiscovery\.Reply\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Reply\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Reply\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Reply\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Reply\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceLocatorDiscovery\.Reply\.MessageSizeMax$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.ACM\.Timeout$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.ACM\.Heartbeat$", false, null),
@@ -374,7 +450,9 @@ namespace IceInternal
              new Property(@"^IceLocatorDiscovery\.Locator\.AdapterId$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Endpoints$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Locator\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Locator\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Locator\.InvocationTimeout$", false, null),
@@ -386,7 +464,9 @@ namespace IceInternal
              new Property(@"^IceLocatorDiscovery\.Locator\.PublishedEndpoints$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.ReplicaGroupId$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Locator\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Locator\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Router\.PreferSecure$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.Router\.InvocationTimeout$", false, null),
@@ -403,6 +483,10 @@ namespace IceInternal
              new Property(@"^IceLocatorDiscovery\.Locator\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Locator\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Locator\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Locator\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceLocatorDiscovery\.Locator\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceLocatorDiscovery\.Locator\.MessageSizeMax$", false, null),
              new Property(@"^IceLocatorDiscovery\.Lookup$", false, null),
              new Property(@"^IceLocatorDiscovery\.Timeout$", false, null),
@@ -441,7 +525,9 @@ namespace IceInternal
         public static Property[] IceBoxAdminProps =
         {
              new Property(@"^IceBoxAdmin\.ServiceManager\.Proxy\.EndpointSelection$", false, null),
+             new Property(@"^IceBoxAdmin\.ServiceManager\.Proxy\.EndpointBalancing$", false, null),
              new Property(@"^IceBoxAdmin\.ServiceManager\.Proxy\.ConnectionCached$", false, null),
+             new Property(@"^IceBoxAdmin\.ServiceManager\.Proxy\.ConnectionPool$", false, null),
              new Property(@"^IceBoxAdmin\.ServiceManager\.Proxy\.PreferSecure$", false, null),
              new Property(@"^IceBoxAdmin\.ServiceManager\.Proxy\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceBoxAdmin\.ServiceManager\.Proxy\.InvocationTimeout$", false, null),
@@ -462,7 +548,9 @@ namespace IceInternal
              new Property(@"^IceBridge\.Source\.AdapterId$", false, null),
              new Property(@"^IceBridge\.Source\.Endpoints$", false, null),
              new Property(@"^IceBridge\.Source\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceBridge\.Source\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceBridge\.Source\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceBridge\.Source\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceBridge\.Source\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceBridge\.Source\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceBridge\.Source\.Locator\.InvocationTimeout$", false, null),
@@ -474,7 +562,9 @@ namespace IceInternal
              new Property(@"^IceBridge\.Source\.PublishedEndpoints$", false, null),
              new Property(@"^IceBridge\.Source\.ReplicaGroupId$", false, null),
              new Property(@"^IceBridge\.Source\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceBridge\.Source\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceBridge\.Source\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceBridge\.Source\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceBridge\.Source\.Router\.PreferSecure$", false, null),
              new Property(@"^IceBridge\.Source\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceBridge\.Source\.Router\.InvocationTimeout$", false, null),
@@ -491,6 +581,10 @@ namespace IceInternal
              new Property(@"^IceBridge\.Source\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceBridge\.Source\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceBridge\.Source\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceBridge\.Source\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceBridge\.Source\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceBridge\.Source\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceBridge\.Source\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceBridge\.Source\.MessageSizeMax$", false, null),
              new Property(@"^IceBridge\.Target\.Endpoints$", false, null),
              new Property(@"^IceBridge\.InstanceName$", false, null),
@@ -514,7 +608,9 @@ namespace IceInternal
              new Property(@"^IceGridAdmin\.Server\.AdapterId$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Endpoints$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGridAdmin\.Server\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGridAdmin\.Server\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Locator\.InvocationTimeout$", false, null),
@@ -526,7 +622,9 @@ namespace IceInternal
              new Property(@"^IceGridAdmin\.Server\.PublishedEndpoints$", false, null),
              new Property(@"^IceGridAdmin\.Server\.ReplicaGroupId$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGridAdmin\.Server\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGridAdmin\.Server\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGridAdmin\.Server\.Router\.InvocationTimeout$", false, null),
@@ -543,6 +641,10 @@ namespace IceInternal
              new Property(@"^IceGridAdmin\.Server\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGridAdmin\.Server\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGridAdmin\.Server\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGridAdmin\.Server\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGridAdmin\.Server\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGridAdmin\.Server\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGridAdmin\.Server\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGridAdmin\.Server\.MessageSizeMax$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Address$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Interface$", false, null),
@@ -554,7 +656,9 @@ namespace IceInternal
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.AdapterId$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Endpoints$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Reply\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Reply\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Locator\.InvocationTimeout$", false, null),
@@ -566,7 +670,9 @@ namespace IceInternal
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.PublishedEndpoints$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.ReplicaGroupId$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Reply\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Reply\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.Router\.InvocationTimeout$", false, null),
@@ -583,6 +689,10 @@ namespace IceInternal
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Reply\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Reply\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Reply\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Reply\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Reply\.MessageSizeMax$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.ACM\.Timeout$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.ACM\.Heartbeat$", false, null),
@@ -591,7 +701,9 @@ namespace IceInternal
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.AdapterId$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Endpoints$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Locator\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Locator\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Locator\.InvocationTimeout$", false, null),
@@ -603,7 +715,9 @@ namespace IceInternal
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.PublishedEndpoints$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.ReplicaGroupId$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Locator\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Locator\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.Router\.InvocationTimeout$", false, null),
@@ -620,6 +734,10 @@ namespace IceInternal
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Locator\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Locator\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Locator\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGridAdmin\.Discovery\.Locator\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGridAdmin\.Discovery\.Locator\.MessageSizeMax$", false, null),
              new Property(@"^IceGridAdmin\.Trace\.Observers$", false, null),
              new Property(@"^IceGridAdmin\.Trace\.SaveToRegistry$", false, null),
@@ -635,7 +753,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.AdminRouter\.AdapterId$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Endpoints$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.AdminRouter\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.AdminRouter\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Locator\.InvocationTimeout$", false, null),
@@ -647,7 +767,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.AdminRouter\.PublishedEndpoints$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.ReplicaGroupId$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.AdminRouter\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.AdminRouter\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.Router\.InvocationTimeout$", false, null),
@@ -664,6 +786,10 @@ namespace IceInternal
              new Property(@"^IceGrid\.AdminRouter\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGrid\.AdminRouter\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGrid\.AdminRouter\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGrid\.AdminRouter\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGrid\.AdminRouter\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGrid\.AdminRouter\.MessageSizeMax$", false, null),
              new Property(@"^IceGrid\.InstanceName$", false, null),
              new Property(@"^IceGrid\.Node\.ACM\.Timeout$", false, null),
@@ -673,7 +799,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Node\.AdapterId$", false, null),
              new Property(@"^IceGrid\.Node\.Endpoints$", false, null),
              new Property(@"^IceGrid\.Node\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Node\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Node\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Node\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Node\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Node\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Node\.Locator\.InvocationTimeout$", false, null),
@@ -685,7 +813,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Node\.PublishedEndpoints$", false, null),
              new Property(@"^IceGrid\.Node\.ReplicaGroupId$", false, null),
              new Property(@"^IceGrid\.Node\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Node\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Node\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Node\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Node\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Node\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Node\.Router\.InvocationTimeout$", false, null),
@@ -702,6 +832,10 @@ namespace IceInternal
              new Property(@"^IceGrid\.Node\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGrid\.Node\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGrid\.Node\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGrid\.Node\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGrid\.Node\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGrid\.Node\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGrid\.Node\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGrid\.Node\.MessageSizeMax$", false, null),
              new Property(@"^IceGrid\.Node\.AllowRunningServersAsRoot$", false, null),
              new Property(@"^IceGrid\.Node\.AllowEndpointsOverride$", false, null),
@@ -722,7 +856,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Node\.Trace\.Server$", false, null),
              new Property(@"^IceGrid\.Node\.UserAccounts$", false, null),
              new Property(@"^IceGrid\.Node\.UserAccountMapper\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Node\.UserAccountMapper\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Node\.UserAccountMapper\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Node\.UserAccountMapper\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Node\.UserAccountMapper\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Node\.UserAccountMapper\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Node\.UserAccountMapper\.InvocationTimeout$", false, null),
@@ -734,7 +870,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Node\.WaitTime$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminCryptPasswords$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminPermissionsVerifier\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminPermissionsVerifier\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminPermissionsVerifier\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminPermissionsVerifier\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminPermissionsVerifier\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminPermissionsVerifier\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminPermissionsVerifier\.InvocationTimeout$", false, null),
@@ -751,7 +889,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.AdapterId$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Endpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Locator\.InvocationTimeout$", false, null),
@@ -763,7 +903,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.PublishedEndpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.ReplicaGroupId$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.Router\.InvocationTimeout$", false, null),
@@ -780,9 +922,15 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSessionManager\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSessionManager\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSessionManager\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSessionManager\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSessionManager\.MessageSizeMax$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSSLPermissionsVerifier\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSSLPermissionsVerifier\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSSLPermissionsVerifier\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.AdminSSLPermissionsVerifier\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSSLPermissionsVerifier\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSSLPermissionsVerifier\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.AdminSSLPermissionsVerifier\.InvocationTimeout$", false, null),
@@ -798,7 +946,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Client\.AdapterId$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Endpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.Client\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.Client\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Locator\.InvocationTimeout$", false, null),
@@ -810,7 +960,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Client\.PublishedEndpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.ReplicaGroupId$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.Client\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.Client\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.Router\.InvocationTimeout$", false, null),
@@ -827,6 +979,10 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Client\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGrid\.Registry\.Client\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGrid\.Registry\.Client\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGrid\.Registry\.Client\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGrid\.Registry\.Client\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGrid\.Registry\.Client\.MessageSizeMax$", false, null),
              new Property(@"^IceGrid\.Registry\.CryptPasswords$", false, null),
              new Property(@"^IceGrid\.Registry\.DefaultTemplates$", false, null),
@@ -837,7 +993,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Discovery\.AdapterId$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Endpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.Discovery\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.Discovery\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Locator\.InvocationTimeout$", false, null),
@@ -849,7 +1007,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Discovery\.PublishedEndpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.ReplicaGroupId$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.Discovery\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.Discovery\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Router\.InvocationTimeout$", false, null),
@@ -866,6 +1026,10 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Discovery\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGrid\.Registry\.Discovery\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGrid\.Registry\.Discovery\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGrid\.Registry\.Discovery\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGrid\.Registry\.Discovery\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.MessageSizeMax$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Enabled$", false, null),
              new Property(@"^IceGrid\.Registry\.Discovery\.Address$", false, null),
@@ -879,7 +1043,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Internal\.AdapterId$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Endpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.Internal\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.Internal\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Locator\.InvocationTimeout$", false, null),
@@ -891,7 +1057,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Internal\.PublishedEndpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.ReplicaGroupId$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.Internal\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.Internal\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.Router\.InvocationTimeout$", false, null),
@@ -908,12 +1076,18 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Internal\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGrid\.Registry\.Internal\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGrid\.Registry\.Internal\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGrid\.Registry\.Internal\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGrid\.Registry\.Internal\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGrid\.Registry\.Internal\.MessageSizeMax$", false, null),
              new Property(@"^IceGrid\.Registry\.LMDB\.MapSize$", false, null),
              new Property(@"^IceGrid\.Registry\.LMDB\.Path$", false, null),
              new Property(@"^IceGrid\.Registry\.NodeSessionTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.PermissionsVerifier\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.PermissionsVerifier\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.PermissionsVerifier\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.PermissionsVerifier\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.PermissionsVerifier\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.PermissionsVerifier\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.PermissionsVerifier\.InvocationTimeout$", false, null),
@@ -933,7 +1107,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Server\.AdapterId$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Endpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.Server\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.Server\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Locator\.InvocationTimeout$", false, null),
@@ -945,7 +1121,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Server\.PublishedEndpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.ReplicaGroupId$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.Server\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.Server\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.Router\.InvocationTimeout$", false, null),
@@ -962,6 +1140,10 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.Server\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGrid\.Registry\.Server\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGrid\.Registry\.Server\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGrid\.Registry\.Server\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGrid\.Registry\.Server\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGrid\.Registry\.Server\.MessageSizeMax$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionFilters$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.ACM\.Timeout$", false, null),
@@ -971,7 +1153,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.SessionManager\.AdapterId$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Endpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.SessionManager\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.SessionManager\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Locator\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Locator\.InvocationTimeout$", false, null),
@@ -983,7 +1167,9 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.SessionManager\.PublishedEndpoints$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.ReplicaGroupId$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.SessionManager\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.SessionManager\.Router\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Router\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.Router\.InvocationTimeout$", false, null),
@@ -1000,10 +1186,16 @@ namespace IceInternal
              new Property(@"^IceGrid\.Registry\.SessionManager\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IceGrid\.Registry\.SessionManager\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IceGrid\.Registry\.SessionManager\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IceGrid\.Registry\.SessionManager\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IceGrid\.Registry\.SessionManager\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionManager\.MessageSizeMax$", false, null),
              new Property(@"^IceGrid\.Registry\.SessionTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.SSLPermissionsVerifier\.EndpointSelection$", false, null),
+             new Property(@"^IceGrid\.Registry\.SSLPermissionsVerifier\.EndpointBalancing$", false, null),
              new Property(@"^IceGrid\.Registry\.SSLPermissionsVerifier\.ConnectionCached$", false, null),
+             new Property(@"^IceGrid\.Registry\.SSLPermissionsVerifier\.ConnectionPool$", false, null),
              new Property(@"^IceGrid\.Registry\.SSLPermissionsVerifier\.PreferSecure$", false, null),
              new Property(@"^IceGrid\.Registry\.SSLPermissionsVerifier\.LocatorCacheTimeout$", false, null),
              new Property(@"^IceGrid\.Registry\.SSLPermissionsVerifier\.InvocationTimeout$", false, null),
@@ -1039,7 +1231,9 @@ namespace IceInternal
              new Property(@"^IcePatch2\.AdapterId$", false, null),
              new Property(@"^IcePatch2\.Endpoints$", false, null),
              new Property(@"^IcePatch2\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^IcePatch2\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^IcePatch2\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^IcePatch2\.Locator\.ConnectionPool$", false, null),
              new Property(@"^IcePatch2\.Locator\.PreferSecure$", false, null),
              new Property(@"^IcePatch2\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^IcePatch2\.Locator\.InvocationTimeout$", false, null),
@@ -1051,7 +1245,9 @@ namespace IceInternal
              new Property(@"^IcePatch2\.PublishedEndpoints$", false, null),
              new Property(@"^IcePatch2\.ReplicaGroupId$", false, null),
              new Property(@"^IcePatch2\.Router\.EndpointSelection$", false, null),
+             new Property(@"^IcePatch2\.Router\.EndpointBalancing$", false, null),
              new Property(@"^IcePatch2\.Router\.ConnectionCached$", false, null),
+             new Property(@"^IcePatch2\.Router\.ConnectionPool$", false, null),
              new Property(@"^IcePatch2\.Router\.PreferSecure$", false, null),
              new Property(@"^IcePatch2\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^IcePatch2\.Router\.InvocationTimeout$", false, null),
@@ -1068,6 +1264,10 @@ namespace IceInternal
              new Property(@"^IcePatch2\.ThreadPool\.Serialize$", false, null),
              new Property(@"^IcePatch2\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^IcePatch2\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^IcePatch2\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^IcePatch2\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^IcePatch2\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^IcePatch2\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^IcePatch2\.MessageSizeMax$", false, null),
              new Property(@"^IcePatch2\.Directory$", false, null),
              new Property(@"^IcePatch2\.InstanceName$", false, null),
@@ -1157,7 +1357,9 @@ namespace IceInternal
              new Property(@"^Glacier2\.Client\.AdapterId$", false, null),
              new Property(@"^Glacier2\.Client\.Endpoints$", false, null),
              new Property(@"^Glacier2\.Client\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^Glacier2\.Client\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^Glacier2\.Client\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^Glacier2\.Client\.Locator\.ConnectionPool$", false, null),
              new Property(@"^Glacier2\.Client\.Locator\.PreferSecure$", false, null),
              new Property(@"^Glacier2\.Client\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^Glacier2\.Client\.Locator\.InvocationTimeout$", false, null),
@@ -1169,7 +1371,9 @@ namespace IceInternal
              new Property(@"^Glacier2\.Client\.PublishedEndpoints$", false, null),
              new Property(@"^Glacier2\.Client\.ReplicaGroupId$", false, null),
              new Property(@"^Glacier2\.Client\.Router\.EndpointSelection$", false, null),
+             new Property(@"^Glacier2\.Client\.Router\.EndpointBalancing$", false, null),
              new Property(@"^Glacier2\.Client\.Router\.ConnectionCached$", false, null),
+             new Property(@"^Glacier2\.Client\.Router\.ConnectionPool$", false, null),
              new Property(@"^Glacier2\.Client\.Router\.PreferSecure$", false, null),
              new Property(@"^Glacier2\.Client\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^Glacier2\.Client\.Router\.InvocationTimeout$", false, null),
@@ -1186,6 +1390,10 @@ namespace IceInternal
              new Property(@"^Glacier2\.Client\.ThreadPool\.Serialize$", false, null),
              new Property(@"^Glacier2\.Client\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^Glacier2\.Client\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^Glacier2\.Client\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^Glacier2\.Client\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^Glacier2\.Client\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^Glacier2\.Client\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^Glacier2\.Client\.MessageSizeMax$", false, null),
              new Property(@"^Glacier2\.Client\.AlwaysBatch$", false, null),
              new Property(@"^Glacier2\.Client\.Buffered$", false, null),
@@ -1204,7 +1412,9 @@ namespace IceInternal
              new Property(@"^Glacier2\.Filter\.Identity\.Accept$", false, null),
              new Property(@"^Glacier2\.InstanceName$", false, null),
              new Property(@"^Glacier2\.PermissionsVerifier\.EndpointSelection$", false, null),
+             new Property(@"^Glacier2\.PermissionsVerifier\.EndpointBalancing$", false, null),
              new Property(@"^Glacier2\.PermissionsVerifier\.ConnectionCached$", false, null),
+             new Property(@"^Glacier2\.PermissionsVerifier\.ConnectionPool$", false, null),
              new Property(@"^Glacier2\.PermissionsVerifier\.PreferSecure$", false, null),
              new Property(@"^Glacier2\.PermissionsVerifier\.LocatorCacheTimeout$", false, null),
              new Property(@"^Glacier2\.PermissionsVerifier\.InvocationTimeout$", false, null),
@@ -1215,7 +1425,9 @@ namespace IceInternal
              new Property(@"^Glacier2\.PermissionsVerifier$", false, null),
              new Property(@"^Glacier2\.ReturnClientProxy$", false, null),
              new Property(@"^Glacier2\.SSLPermissionsVerifier\.EndpointSelection$", false, null),
+             new Property(@"^Glacier2\.SSLPermissionsVerifier\.EndpointBalancing$", false, null),
              new Property(@"^Glacier2\.SSLPermissionsVerifier\.ConnectionCached$", false, null),
+             new Property(@"^Glacier2\.SSLPermissionsVerifier\.ConnectionPool$", false, null),
              new Property(@"^Glacier2\.SSLPermissionsVerifier\.PreferSecure$", false, null),
              new Property(@"^Glacier2\.SSLPermissionsVerifier\.LocatorCacheTimeout$", false, null),
              new Property(@"^Glacier2\.SSLPermissionsVerifier\.InvocationTimeout$", false, null),
@@ -1232,7 +1444,9 @@ namespace IceInternal
              new Property(@"^Glacier2\.Server\.AdapterId$", false, null),
              new Property(@"^Glacier2\.Server\.Endpoints$", false, null),
              new Property(@"^Glacier2\.Server\.Locator\.EndpointSelection$", false, null),
+             new Property(@"^Glacier2\.Server\.Locator\.EndpointBalancing$", false, null),
              new Property(@"^Glacier2\.Server\.Locator\.ConnectionCached$", false, null),
+             new Property(@"^Glacier2\.Server\.Locator\.ConnectionPool$", false, null),
              new Property(@"^Glacier2\.Server\.Locator\.PreferSecure$", false, null),
              new Property(@"^Glacier2\.Server\.Locator\.LocatorCacheTimeout$", false, null),
              new Property(@"^Glacier2\.Server\.Locator\.InvocationTimeout$", false, null),
@@ -1244,7 +1458,9 @@ namespace IceInternal
              new Property(@"^Glacier2\.Server\.PublishedEndpoints$", false, null),
              new Property(@"^Glacier2\.Server\.ReplicaGroupId$", false, null),
              new Property(@"^Glacier2\.Server\.Router\.EndpointSelection$", false, null),
+             new Property(@"^Glacier2\.Server\.Router\.EndpointBalancing$", false, null),
              new Property(@"^Glacier2\.Server\.Router\.ConnectionCached$", false, null),
+             new Property(@"^Glacier2\.Server\.Router\.ConnectionPool$", false, null),
              new Property(@"^Glacier2\.Server\.Router\.PreferSecure$", false, null),
              new Property(@"^Glacier2\.Server\.Router\.LocatorCacheTimeout$", false, null),
              new Property(@"^Glacier2\.Server\.Router\.InvocationTimeout$", false, null),
@@ -1261,6 +1477,10 @@ namespace IceInternal
              new Property(@"^Glacier2\.Server\.ThreadPool\.Serialize$", false, null),
              new Property(@"^Glacier2\.Server\.ThreadPool\.ThreadIdleTime$", false, null),
              new Property(@"^Glacier2\.Server\.ThreadPool\.ThreadPriority$", false, null),
+             new Property(@"^Glacier2\.Server\.ThreadPool\.Selectors$", false, null),
+             new Property(@"^Glacier2\.Server\.ThreadPool\.Adaptive$", false, null),
+             new Property(@"^Glacier2\.Server\.ThreadPool\.AdaptiveTarget$", false, null),
+             new Property(@"^Glacier2\.Server\.ThreadPool\.VirtualThreads$", false, null),
              new Property(@"^Glacier2\.Server\.MessageSizeMax$", false, null),
              new Property(@"^Glacier2\.Server\.AlwaysBatch$", false, null),
              new Property(@"^Glacier2\.Server\.Buffered$", false, null),
@@ -1269,7 +1489,9 @@ namespace IceInternal
              new Property(@"^Glacier2\.Server\.Trace\.Override$", false, null),
              new Property(@"^Glacier2\.Server\.Trace\.Request$", false, null),
              new Property(@"^Glacier2\.SessionManager\.EndpointSelection$", false, null),
+             new Property(@"^Glacier2\.SessionManager\.EndpointBalancing$", false, null),
              new Property(@"^Glacier2\.SessionManager\.ConnectionCached$", false, null),
+             new Property(@"^Glacier2\.SessionManager\.ConnectionPool$", false, null),
              new Property(@"^Glacier2\.SessionManager\.PreferSecure$", false, null),
              new Property(@"^Glacier2\.SessionManager\.LocatorCacheTimeout$", false, null),
              new Property(@"^Glacier2\.SessionManager\.InvocationTimeout$", false, null),
@@ -1279,7 +1501,9 @@ namespace IceInternal
              new Property(@"^Glacier2\.SessionManager\.Context\.[^\s]+$", false, null),
              new Property(@"^Glacier2\.SessionManager$", false, null),
              new Property(@"^Glacier2\.SSLSessionManager\.EndpointSelection$", false, null),
+             new Property(@"^Glacier2\.SSLSessionManager\.EndpointBalancing$", false, null),
              new Property(@"^Glacier2\.SSLSessionManager\.ConnectionCached$", false, null),
+             new Property(@"^Glacier2\.SSLSessionManager\.ConnectionPool$", false, null),
              new Property(@"^Glacier2\.SSLSessionManager\.PreferSecure$", false, null),
              new Property(@"^Glacier2\.SSLSessionManager\.LocatorCacheTimeout$", false, null),
              new Property(@"^Glacier2\.SSLSessionManager\.InvocationTimeout$", false, null),
@@ -0,0 +1,70 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import bench.Bench.ThroughputPrx;
+
+//
+// Measures queuing a batch of oneway requests and flushing it. Each benchmark
+// operation queues batchSize requests followed by a single flush.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BatchBenchmark
+{
+    @Param({"tcp", "ssl"})
+    public String transport;
+
+    @Param({"10", "100", "1000"})
+    public int batchSize;
+
+    @Param({"0", "1024"})
+    public int payloadSize;
+
+    @Setup
+    public void setup()
+    {
+        java.util.Map<String, String> properties = new java.util.HashMap<>();
+        properties.put("Ice.BatchAutoFlushSize", "0"); // Flush explicitly.
+        _fixture = new Fixture(transport, properties);
+        _batch = _fixture.proxy().ice_batchOneway();
+        _payload = Fixture.createByteSeq(payloadSize);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        _fixture.close();
+    }
+
+    @Benchmark
+    public void queueAndFlush()
+    {
+        for(int i = 0; i < batchSize; ++i)
+        {
+            _batch.sendByteSeq(_payload);
+        }
+        _batch.ice_flushBatchRequests();
+    }
+
+    @Benchmark
+    public void queueAndFlushCommunicator()
+    {
+        for(int i = 0; i < batchSize; ++i)
+        {
+            _batch.sendByteSeq(_payload);
+        }
+        _fixture.clientCommunicator().flushBatchRequests(com.zeroc.Ice.CompressBatch.BasedOnProxy);
+    }
+
+    private Fixture _fixture;
+    private ThroughputPrx _batch;
+    private byte[] _payload;
+}
@@ -0,0 +1,95 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import bench.Bench.Node;
+
+//
+// Measures marshaling and unmarshaling of class graphs. The depth parameter
+// controls the number of values in the graph (2^depth - 1).
+//
+// readSmallGraph unmarshals a graph of 3 values, which is dominated by the
+// per-message costs of resolving type IDs and instantiating the classes.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ClassGraphBenchmark
+{
+    @Param({"4", "10", "17"})
+    public int depth;
+
+    @Param({"Compact", "Sliced"})
+    public String format;
+
+    @Setup
+    public void setup()
+    {
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = com.zeroc.Ice.Util.createProperties();
+        initData.properties.setProperty("Ice.MessageSizeMax", "0");
+        initData.properties.setProperty("Ice.Package.Bench", "bench");
+        initData.properties.setProperty("Ice.Default.SlicedFormat", format.equals("Sliced") ? "1" : "0");
+        _communicator = com.zeroc.Ice.Util.initialize(initData);
+
+        _root = Fixture.createTree(depth, new int[1]);
+        _marshaled = writeGraph(_root);
+        _smallMarshaled = writeGraph(Fixture.createTree(2, new int[1]));
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        _communicator.destroy();
+    }
+
+    @Benchmark
+    public byte[] writeGraph()
+    {
+        return writeGraph(_root);
+    }
+
+    @Benchmark
+    public Node readGraph()
+    {
+        return readGraph(_marshaled);
+    }
+
+    @Benchmark
+    public Node readSmallGraph()
+    {
+        return readGraph(_smallMarshaled);
+    }
+
+    private byte[] writeGraph(Node root)
+    {
+        com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream(_communicator);
+        os.startEncapsulation();
+        os.writeValue(root);
+        os.writePendingValues();
+        os.endEncapsulation();
+        return os.finished();
+    }
+
+    private Node readGraph(byte[] marshaled)
+    {
+        final com.zeroc.IceInternal.Holder<Node> holder = new com.zeroc.IceInternal.Holder<>();
+        com.zeroc.Ice.InputStream is = new com.zeroc.Ice.InputStream(_communicator, marshaled);
+        is.startEncapsulation();
+        is.readValue(v -> holder.value = v, Node.class);
+        is.readPendingValues();
+        is.endEncapsulation();
+        return holder.value;
+    }
+
+    private com.zeroc.Ice.Communicator _communicator;
+    private Node _root;
+    private byte[] _marshaled;
+    private byte[] _smallMarshaled;
+}
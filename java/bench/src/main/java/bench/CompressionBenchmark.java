@@ -0,0 +1,63 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import bench.Bench.ThroughputPrx;
+
+//
+// Compares twoway invocations with and without protocol compression. Messages
+// smaller than 100 bytes are never compressed by the Ice runtime.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CompressionBenchmark
+{
+    @Param({"false", "true"})
+    public boolean compress;
+
+    @Param({"1", "9"})
+    public int level;
+
+    @Param({"1024", "65536", "1048576"})
+    public int payloadSize;
+
+    @Setup
+    public void setup()
+    {
+        java.util.Map<String, String> properties = new java.util.HashMap<>();
+        properties.put("Ice.Compression.Level", Integer.toString(level));
+        _fixture = new Fixture("tcp", properties);
+        _proxy = _fixture.proxy().ice_compress(compress);
+        _proxy.ice_ping(); // The compressed proxy might use a new connection.
+        _payload = Fixture.createByteSeq(payloadSize);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        _fixture.close();
+    }
+
+    @Benchmark
+    public void send()
+    {
+        _proxy.sendByteSeq(_payload);
+    }
+
+    @Benchmark
+    public byte[] echo()
+    {
+        return _proxy.echoByteSeq(_payload);
+    }
+
+    private Fixture _fixture;
+    private ThroughputPrx _proxy;
+    private byte[] _payload;
+}
@@ -0,0 +1,128 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package bench;
+
+import bench.Bench.Node;
+import bench.Bench.ThroughputPrx;
+
+//
+// Sets up the communicators, object adapter and proxy used by the invocation
+// benchmarks. The "collocated" transport uses a single communicator so that
+// invocations go through the collocated request handler; the other transports
+// use a separate client communicator connected over the loopback interface.
+//
+public final class Fixture implements AutoCloseable
+{
+    public static final String[] Transports = { "collocated", "tcp", "ws", "ssl" };
+
+    public Fixture(String transport, java.util.Map<String, String> properties)
+    {
+        boolean collocated = transport.equals("collocated");
+        String protocol = collocated ? "tcp" : transport;
+
+        _server = com.zeroc.Ice.Util.initialize(createInitData(protocol, "server", properties));
+        _server.getProperties().setProperty("BenchAdapter.Endpoints", protocol + " -h 127.0.0.1 -p 0");
+        com.zeroc.Ice.ObjectAdapter adapter = _server.createObjectAdapter("BenchAdapter");
+        com.zeroc.Ice.ObjectPrx prx = adapter.add(new ThroughputI(), com.zeroc.Ice.Util.stringToIdentity("bench"));
+        adapter.activate();
+
+        if(collocated)
+        {
+            _client = null;
+            _proxy = ThroughputPrx.uncheckedCast(prx);
+        }
+        else
+        {
+            _client = com.zeroc.Ice.Util.initialize(createInitData(protocol, "client", properties));
+            _proxy = ThroughputPrx.uncheckedCast(_client.stringToProxy(prx.toString()));
+            _proxy.ice_ping(); // Establish the connection outside of the measurement.
+        }
+    }
+
+    public ThroughputPrx proxy()
+    {
+        return _proxy;
+    }
+
+    public com.zeroc.Ice.Communicator clientCommunicator()
+    {
+        return _client != null ? _client : _server;
+    }
+
+    @Override
+    public void close()
+    {
+        if(_client != null)
+        {
+            _client.destroy();
+        }
+        _server.destroy();
+    }
+
+    public static byte[] createByteSeq(int size)
+    {
+        byte[] seq = new byte[size];
+        for(int i = 0; i < size; ++i)
+        {
+            //
+            // Use a repeating pattern rather than random data to get stable
+            // compression ratios between runs.
+            //
+            seq[i] = (byte)(i % 64);
+        }
+        return seq;
+    }
+
+    public static String[] createStringSeq(int size, boolean ascii)
+    {
+        String[] seq = new String[size];
+        for(int i = 0; i < size; ++i)
+        {
+            seq[i] = (ascii ? "hello world " : "héllo wörld 世界 ") + i;
+        }
+        return seq;
+    }
+
+    //
+    // Creates a balanced tree of Node values with the given depth, the resulting
+    // graph holds 2^depth - 1 values.
+    //
+    public static Node createTree(int depth, int[] counter)
+    {
+        if(depth == 0)
+        {
+            return null;
+        }
+        int value = counter[0]++;
+        return new Node(value, "node" + value, createTree(depth - 1, counter), createTree(depth - 1, counter));
+    }
+
+    private static com.zeroc.Ice.InitializationData createInitData(String protocol, String side,
+                                                                  java.util.Map<String, String> properties)
+    {
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = com.zeroc.Ice.Util.createProperties();
+        initData.properties.setProperty("Ice.Default.Protocol", protocol);
+        initData.properties.setProperty("Ice.Warn.Connections", "0");
+        initData.properties.setProperty("Ice.MessageSizeMax", "0");
+        initData.properties.setProperty("Ice.Package.Bench", "bench");
+        if(protocol.equals("ssl") || protocol.equals("wss"))
+        {
+            initData.properties.setProperty("Ice.Plugin.IceSSL", "com.zeroc.IceSSL.PluginFactory");
+            initData.properties.setProperty("IceSSL.DefaultDir", System.getProperty("bench.certs", "../../certs"));
+            initData.properties.setProperty("IceSSL.Keystore", side + ".jks");
+            initData.properties.setProperty("IceSSL.Password", "password");
+        }
+        for(java.util.Map.Entry<String, String> e : properties.entrySet())
+        {
+            initData.properties.setProperty(e.getKey(), e.getValue());
+        }
+        return initData;
+    }
+
+    private final com.zeroc.Ice.Communicator _server;
+    private final com.zeroc.Ice.Communicator _client;
+    private final ThroughputPrx _proxy;
+}
@@ -0,0 +1,71 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import bench.Bench.ThroughputPrx;
+
+//
+// Measures the round-trip latency of twoway invocations and the cost of
+// sending oneway invocations over the collocated, tcp, ws and ssl transports.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class InvocationBenchmark
+{
+    @Param({"collocated", "tcp", "ws", "ssl"})
+    public String transport;
+
+    @Param({"0", "1024", "65536"})
+    public int payloadSize;
+
+    @Setup
+    public void setup()
+    {
+        _fixture = new Fixture(transport, new java.util.HashMap<>());
+        _twoway = _fixture.proxy();
+        _oneway = _twoway.ice_oneway();
+        _payload = Fixture.createByteSeq(payloadSize);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        _fixture.close();
+    }
+
+    @Benchmark
+    public void twowayPing()
+    {
+        _twoway.ice_ping();
+    }
+
+    @Benchmark
+    public void twowaySend()
+    {
+        _twoway.sendByteSeq(_payload);
+    }
+
+    @Benchmark
+    public byte[] twowayEcho()
+    {
+        return _twoway.echoByteSeq(_payload);
+    }
+
+    @Benchmark
+    public void onewaySend()
+    {
+        _oneway.sendByteSeq(_payload);
+    }
+
+    private Fixture _fixture;
+    private ThroughputPrx _twoway;
+    private ThroughputPrx _oneway;
+    private byte[] _payload;
+}
@@ -0,0 +1,166 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import bench.Bench.Fixed;
+import bench.Bench.FixedSHelper;
+
+//
+// Measures OutputStream/InputStream throughput for primitives, sequences and
+// strings without any transport involved.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MarshalingBenchmark
+{
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean direct;
+
+    @Setup
+    public void setup()
+    {
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = com.zeroc.Ice.Util.createProperties();
+        initData.properties.setProperty("Ice.MessageSizeMax", "0");
+        _communicator = com.zeroc.Ice.Util.initialize(initData);
+
+        _bytes = Fixture.createByteSeq(size);
+        _ints = new int[size];
+        _doubles = new double[size];
+        _fixed = new Fixed[size];
+        for(int i = 0; i < size; ++i)
+        {
+            _ints[i] = i;
+            _doubles[i] = i * 1.5;
+            _fixed[i] = new Fixed(i, i * 2L, i * 1.5);
+        }
+        _asciiStrings = Fixture.createStringSeq(size, true);
+        _unicodeStrings = Fixture.createStringSeq(size, false);
+
+        _marshaledInts = write(os -> os.writeIntSeq(_ints));
+        _marshaledDoubles = write(os -> os.writeDoubleSeq(_doubles));
+        _marshaledFixed = write(os -> FixedSHelper.write(os, _fixed));
+        _marshaledAsciiStrings = write(os -> os.writeStringSeq(_asciiStrings));
+        _marshaledUnicodeStrings = write(os -> os.writeStringSeq(_unicodeStrings));
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        _communicator.destroy();
+    }
+
+    @Benchmark
+    public byte[] writeInts()
+    {
+        return write(os ->
+            {
+                for(int i = 0; i < size; ++i)
+                {
+                    os.writeInt(_ints[i]);
+                }
+            });
+    }
+
+    @Benchmark
+    public byte[] writeByteSeq()
+    {
+        return write(os -> os.writeByteSeq(_bytes));
+    }
+
+    @Benchmark
+    public byte[] writeIntSeq()
+    {
+        return write(os -> os.writeIntSeq(_ints));
+    }
+
+    @Benchmark
+    public byte[] writeDoubleSeq()
+    {
+        return write(os -> os.writeDoubleSeq(_doubles));
+    }
+
+    @Benchmark
+    public byte[] writeFixedSeq()
+    {
+        return write(os -> FixedSHelper.write(os, _fixed));
+    }
+
+    @Benchmark
+    public byte[] writeAsciiStringSeq()
+    {
+        return write(os -> os.writeStringSeq(_asciiStrings));
+    }
+
+    @Benchmark
+    public byte[] writeUnicodeStringSeq()
+    {
+        return write(os -> os.writeStringSeq(_unicodeStrings));
+    }
+
+    @Benchmark
+    public int[] readIntSeq()
+    {
+        return read(_marshaledInts).readIntSeq();
+    }
+
+    @Benchmark
+    public double[] readDoubleSeq()
+    {
+        return read(_marshaledDoubles).readDoubleSeq();
+    }
+
+    @Benchmark
+    public Fixed[] readFixedSeq()
+    {
+        return FixedSHelper.read(read(_marshaledFixed));
+    }
+
+    @Benchmark
+    public String[] readAsciiStringSeq()
+    {
+        return read(_marshaledAsciiStrings).readStringSeq();
+    }
+
+    @Benchmark
+    public String[] readUnicodeStringSeq()
+    {
+        return read(_marshaledUnicodeStrings).readStringSeq();
+    }
+
+    private byte[] write(java.util.function.Consumer<com.zeroc.Ice.OutputStream> writer)
+    {
+        com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream(_communicator, direct);
+        writer.accept(os);
+        return os.finished();
+    }
+
+    private com.zeroc.Ice.InputStream read(byte[] data)
+    {
+        return new com.zeroc.Ice.InputStream(_communicator, data);
+    }
+
+    private com.zeroc.Ice.Communicator _communicator;
+    private byte[] _bytes;
+    private int[] _ints;
+    private double[] _doubles;
+    private Fixed[] _fixed;
+    private String[] _asciiStrings;
+    private String[] _unicodeStrings;
+
+    private byte[] _marshaledInts;
+    private byte[] _marshaledDoubles;
+    private byte[] _marshaledFixed;
+    private byte[] _marshaledAsciiStrings;
+    private byte[] _marshaledUnicodeStrings;
+}
@@ -0,0 +1,79 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+//
+// Measures the marshaling of the request header fields which depend on the
+// proxy and the operation: encoding the identity, facet and operation name
+// for each request compared to copying their cached encoding.
+//
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RequestHeaderBenchmark
+{
+    @Param({"", "facet"})
+    public String facet;
+
+    @Setup
+    public void setup()
+    {
+        _communicator = com.zeroc.Ice.Util.initialize();
+        com.zeroc.Ice.ObjectPrx proxy =
+            _communicator.stringToProxy("category/throughput:tcp -h localhost -p 10000").ice_facet(facet);
+        _reference = ((com.zeroc.Ice._ObjectPrxI)proxy)._getReference();
+
+        com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream(_communicator);
+        os.writeString(_operation);
+        _marshaledOperation = os.finished();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        _communicator.destroy();
+    }
+
+    @Benchmark
+    public byte[] encodeHeader()
+    {
+        com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream(_communicator);
+        os.writeBlob(com.zeroc.IceInternal.Protocol.requestHdr);
+        _reference.getIdentity().ice_writeMembers(os);
+        String facet = _reference.getFacet();
+        if(facet.length() == 0)
+        {
+            os.writeStringSeq(null);
+        }
+        else
+        {
+            os.writeStringSeq(new String[] { facet });
+        }
+        os.writeString(_operation);
+        os.writeByte((byte)com.zeroc.Ice.OperationMode.Normal.value());
+        return os.finished();
+    }
+
+    @Benchmark
+    public byte[] copyHeader()
+    {
+        com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream(_communicator);
+        os.writeBlob(com.zeroc.IceInternal.Protocol.requestHdr);
+        os.writeBlob(_reference.getMarshaledIdentityAndFacet());
+        os.writeBlob(_marshaledOperation);
+        os.writeByte((byte)com.zeroc.Ice.OperationMode.Normal.value());
+        return os.finished();
+    }
+
+    private static final String _operation = "sendByteSeq";
+
+    private com.zeroc.Ice.Communicator _communicator;
+    private com.zeroc.IceInternal.Reference _reference;
+    private byte[] _marshaledOperation;
+}
@@ -0,0 +1,50 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package bench;
+
+import bench.Bench.Fixed;
+import bench.Bench.Node;
+import bench.Bench.Throughput;
+
+public final class ThroughputI implements Throughput
+{
+    @Override
+    public void ping(com.zeroc.Ice.Current current)
+    {
+    }
+
+    @Override
+    public void sendByteSeq(byte[] seq, com.zeroc.Ice.Current current)
+    {
+    }
+
+    @Override
+    public byte[] echoByteSeq(byte[] seq, com.zeroc.Ice.Current current)
+    {
+        return seq;
+    }
+
+    @Override
+    public void sendStringSeq(String[] seq, com.zeroc.Ice.Current current)
+    {
+    }
+
+    @Override
+    public void sendFixedSeq(Fixed[] seq, com.zeroc.Ice.Current current)
+    {
+    }
+
+    @Override
+    public Node echoNode(Node root, com.zeroc.Ice.Current current)
+    {
+        return root;
+    }
+
+    @Override
+    public void shutdown(com.zeroc.Ice.Current current)
+    {
+        current.adapter.getCommunicator().shutdown();
+    }
+}
@@ -0,0 +1,552 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.Ice;
+
+/**
+ * The asynchronous default logger, enabled with the Ice.LogAsync property. The
+ * calling threads only queue the log records in a bounded lock-free ring buffer,
+ * the records are formatted and written in batches to the log file or stderr by
+ * a single writer thread. When the ring buffer is full, the records are either
+ * dropped or the calling threads wait for space, depending on the
+ * Ice.LogAsync.Overflow property.
+ **/
+public class AsyncLoggerI implements Logger
+{
+    /**
+     * Creates an asynchronous logger.
+     *
+     * @param prefix The logger prefix.
+     * @param file The log file, or an empty string to log to stderr.
+     * @param capacity The capacity of the ring buffer, rounded up to a power of two.
+     * @param block True to wait for space when the ring buffer is full, false to
+     * drop the record.
+     * @param threadFactory The factory used to create the writer thread.
+     * @param threadStart The callback called by the writer thread when it starts, or null.
+     * @param threadStop The callback called by the writer thread before it stops, or null.
+     **/
+    public
+    AsyncLoggerI(String prefix, String file, int capacity, boolean block,
+                 java.util.concurrent.ThreadFactory threadFactory, Runnable threadStart, Runnable threadStop)
+    {
+        _prefix = prefix;
+        _formattedPrefix = prefix.length() > 0 ? prefix + ": " : "";
+        _writer = new Writer(file, capacity, block, threadFactory, threadStart, threadStop);
+        _owner = true;
+    }
+
+    private
+    AsyncLoggerI(String prefix, Writer writer)
+    {
+        _prefix = prefix;
+        _formattedPrefix = prefix.length() > 0 ? prefix + ": " : "";
+        _writer = writer;
+        _owner = false;
+    }
+
+    @Override
+    public void
+    print(String message)
+    {
+        _writer.log(new Record(PrintRecord, _formattedPrefix, null, message));
+    }
+
+    @Override
+    public void
+    trace(String category, String message)
+    {
+        _writer.log(new Record(TraceRecord, _formattedPrefix, category, message));
+    }
+
+    @Override
+    public void
+    warning(String message)
+    {
+        _writer.log(new Record(WarningRecord, _formattedPrefix, null, message));
+    }
+
+    @Override
+    public void
+    error(String message)
+    {
+        _writer.log(new Record(ErrorRecord, _formattedPrefix, null, message));
+    }
+
+    @Override
+    public String
+    getPrefix()
+    {
+        return _prefix;
+    }
+
+    @Override
+    public Logger
+    cloneWithPrefix(String prefix)
+    {
+        return new AsyncLoggerI(prefix, _writer);
+    }
+
+    /**
+     * Returns the number of log records dropped because the ring buffer was full.
+     *
+     * @return The number of dropped log records.
+     **/
+    public long
+    getDroppedCount()
+    {
+        return _writer.dropped.get();
+    }
+
+    /**
+     * Writes the queued log records and stops the writer thread. The records
+     * logged afterwards are written to stderr by the calling thread, the log file
+     * is closed. Only the logger which
+     * created the writer thread stops it, the loggers created with cloneWithPrefix
+     * share the writer thread.
+     **/
+    public void
+    destroy()
+    {
+        if(_owner)
+        {
+            _writer.destroy();
+        }
+    }
+
+    private static final int PrintRecord = 0;
+    private static final int TraceRecord = 1;
+    private static final int WarningRecord = 2;
+    private static final int ErrorRecord = 3;
+
+    private static final class Record
+    {
+        Record(int type, String prefix, String category, String message)
+        {
+            this.type = type;
+            this.time = type == PrintRecord ? 0 : System.currentTimeMillis();
+            this.prefix = prefix;
+            this.category = category;
+            this.message = message;
+            this.thread = type == WarningRecord || type == ErrorRecord ? Thread.currentThread().getName() : null;
+        }
+
+        final int type;
+        final long time;
+        final String prefix;
+        final String category;
+        final String message;
+        final String thread;
+    }
+
+    //
+    // The writer owns the ring buffer, the output and the writer thread. The ring buffer
+    // is a bounded multi-producer queue with a sequence number per slot: a producer claims
+    // a slot with a CAS on the enqueue position and publishes the record by advancing the
+    // slot sequence, the writer thread is the only consumer.
+    //
+    private static final class Writer implements Runnable
+    {
+        Writer(String file, int capacity, boolean block, java.util.concurrent.ThreadFactory threadFactory,
+               Runnable threadStart, Runnable threadStop)
+        {
+            int size = 1;
+            while(size < capacity && size < (1 << 30))
+            {
+                size <<= 1;
+            }
+            _mask = size - 1;
+            _records = new Record[size];
+            _sequences = new java.util.concurrent.atomic.AtomicLongArray(size);
+            for(int i = 0; i < size; ++i)
+            {
+                _sequences.set(i, i);
+            }
+            _block = block;
+
+            _lineSeparator = System.getProperty("line.separator");
+            _date = java.text.DateFormat.getDateInstance(java.text.DateFormat.SHORT);
+            _time = new java.text.SimpleDateFormat(" HH:mm:ss");
+
+            if(file.length() != 0)
+            {
+                try
+                {
+                    _out = new java.io.FileOutputStream(new java.io.File(file), true);
+                }
+                catch(java.io.FileNotFoundException ex)
+                {
+                    throw new InitializationException("FileLogger: cannot open " + file);
+                }
+            }
+
+            _threadStart = threadStart;
+            _threadStop = threadStop;
+            _thread = threadFactory.newThread(this);
+            _thread.setDaemon(true);
+            _thread.start();
+        }
+
+        void
+        log(Record record)
+        {
+            boolean queued;
+            while(!(queued = offer(record)))
+            {
+                if(_destroyed)
+                {
+                    break;
+                }
+                else if(!_block)
+                {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                java.util.concurrent.locks.LockSupport.unpark(_thread);
+                java.util.concurrent.locks.LockSupport.parkNanos(BlockWait);
+            }
+
+            if(_destroyed)
+            {
+                //
+                // The writer thread is stopped or stopping, write the record directly
+                // once the queued records are written.
+                //
+                synchronized(this)
+                {
+                    while(drain())
+                    {
+                        flush();
+                    }
+                    if(!queued)
+                    {
+                        append(record);
+                    }
+                    flush();
+                }
+                return;
+            }
+
+            if(_parked)
+            {
+                java.util.concurrent.locks.LockSupport.unpark(_thread);
+            }
+        }
+
+        void
+        destroy()
+        {
+            _destroyed = true;
+            java.util.concurrent.locks.LockSupport.unpark(_thread);
+            boolean interrupted = false;
+            while(true)
+            {
+                try
+                {
+                    _thread.join();
+                    break;
+                }
+                catch(InterruptedException ex)
+                {
+                    interrupted = true;
+                }
+            }
+
+            synchronized(this)
+            {
+                while(drain())
+                {
+                    flush();
+                }
+                if(_out != null)
+                {
+                    try
+                    {
+                        _out.close();
+                    }
+                    catch(java.io.IOException ex)
+                    {
+                    }
+                    _out = null; // The records logged after destroy are written to stderr.
+                }
+            }
+
+            if(interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void
+        run()
+        {
+            hook(_threadStart, "threadStart");
+            try
+            {
+                writeRecords();
+            }
+            finally
+            {
+                hook(_threadStop, "threadStop");
+            }
+        }
+
+        private void
+        writeRecords()
+        {
+            while(true)
+            {
+                synchronized(this)
+                {
+                    if(drain())
+                    {
+                        flush();
+                        continue;
+                    }
+                }
+
+                if(_destroyed)
+                {
+                    return;
+                }
+
+                _parked = true;
+                if(!hasRecord() && !_destroyed)
+                {
+                    java.util.concurrent.locks.LockSupport.park(this);
+                }
+                _parked = false;
+            }
+        }
+
+        //
+        // Calls a thread hook. The failures are written directly, logging them would wait for
+        // this thread if the ring buffer is full.
+        //
+        private void
+        hook(Runnable hook, String name)
+        {
+            if(hook != null)
+            {
+                try
+                {
+                    hook.run();
+                }
+                catch(java.lang.Exception ex)
+                {
+                    synchronized(this)
+                    {
+                        append(new Record(ErrorRecord, "", null, name + " method raised an unexpected exception in `" +
+                                          _thread.getName() + "' thread:\n" + com.zeroc.IceInternal.Ex.toString(ex)));
+                        flush();
+                    }
+                }
+            }
+        }
+
+        private boolean
+        offer(Record record)
+        {
+            long pos = _enqueuePos.get();
+            while(true)
+            {
+                int index = (int)(pos & _mask);
+                long diff = _sequences.get(index) - pos;
+                if(diff == 0)
+                {
+                    if(_enqueuePos.compareAndSet(pos, pos + 1))
+                    {
+                        _records[index] = record;
+                        _sequences.set(index, pos + 1); // Volatile write, see _parked in log()
+                        return true;
+                    }
+                    pos = _enqueuePos.get();
+                }
+                else if(diff < 0)
+                {
+                    return false; // Full
+                }
+                else
+                {
+                    pos = _enqueuePos.get();
+                }
+            }
+        }
+
+        private boolean
+        hasRecord()
+        {
+            return _sequences.get((int)(_dequeuePos & _mask)) == _dequeuePos + 1;
+        }
+
+        //
+        // Formats the queued records into the batch buffer, returns true if records were
+        // formatted. Must be called with the writer locked.
+        //
+        private boolean
+        drain()
+        {
+            boolean drained = false;
+            while(_batch.length() < BatchSize)
+            {
+                int index = (int)(_dequeuePos & _mask);
+                if(_sequences.get(index) != _dequeuePos + 1)
+                {
+                    break;
+                }
+                Record record = _records[index];
+                _records[index] = null;
+                _sequences.lazySet(index, _dequeuePos + _mask + 1);
+                ++_dequeuePos;
+
+                append(record);
+                drained = true;
+            }
+
+            long dropped = this.dropped.get();
+            if(dropped > _droppedReported)
+            {
+                long count = dropped - _droppedReported;
+                _droppedReported = dropped;
+                append(new Record(WarningRecord, "", null, count + " log records dropped, the log buffer is full"));
+                drained = true;
+            }
+            return drained;
+        }
+
+        private void
+        append(Record record)
+        {
+            int start = _batch.length();
+            switch(record.type)
+            {
+            case TraceRecord:
+                _batch.append("-- ");
+                break;
+            case WarningRecord:
+                _batch.append("-! ");
+                break;
+            case ErrorRecord:
+                _batch.append("!! ");
+                break;
+            default:
+                _batch.append(record.message);
+                _batch.append(_lineSeparator);
+                return;
+            }
+
+            appendTime(record.time);
+            _batch.append(' ');
+            _batch.append(record.prefix);
+            switch(record.type)
+            {
+            case TraceRecord:
+                _batch.append(record.category);
+                break;
+            case WarningRecord:
+                _batch.append("warning: ");
+                _batch.append(record.thread);
+                break;
+            default:
+                _batch.append("error: ");
+                _batch.append(record.thread);
+                break;
+            }
+            _batch.append(": ");
+
+            int idx = _batch.length();
+            _batch.append(record.message);
+            while((idx = _batch.indexOf("\n", idx)) != -1)
+            {
+                _batch.insert(idx + 1, "   ");
+                ++idx;
+            }
+            _batch.append(_lineSeparator);
+        }
+
+        //
+        // The date and the time to the second are only formatted when the second changes.
+        //
+        private void
+        appendTime(long time)
+        {
+            long second = time / 1000;
+            if(second != _cachedSecond)
+            {
+                java.util.Date date = new java.util.Date(second * 1000);
+                _cachedTime = _date.format(date) + _time.format(date) + ":";
+                _cachedSecond = second;
+            }
+            _batch.append(_cachedTime);
+            int millis = (int)(time % 1000);
+            if(millis < 100)
+            {
+                _batch.append('0');
+            }
+            if(millis < 10)
+            {
+                _batch.append('0');
+            }
+            _batch.append(millis);
+        }
+
+        private void
+        flush()
+        {
+            if(_batch.length() == 0)
+            {
+                return;
+            }
+
+            String s = _batch.toString();
+            _batch.setLength(0);
+            if(_out == null)
+            {
+                System.err.print(s);
+                System.err.flush();
+            }
+            else
+            {
+                try
+                {
+                    _out.write(s.getBytes());
+                }
+                catch(java.io.IOException ex)
+                {
+                }
+            }
+        }
+
+        final java.util.concurrent.atomic.AtomicLong dropped = new java.util.concurrent.atomic.AtomicLong();
+
+        private static final int BatchSize = 64 * 1024;
+        private static final long BlockWait = 100 * 1000; // 100us
+
+        private final int _mask;
+        private final Record[] _records;
+        private final java.util.concurrent.atomic.AtomicLongArray _sequences;
+        private final java.util.concurrent.atomic.AtomicLong _enqueuePos = new java.util.concurrent.atomic.AtomicLong();
+        private long _dequeuePos;
+        private final boolean _block;
+        private final Thread _thread;
+        private final Runnable _threadStart;
+        private final Runnable _threadStop;
+        private volatile boolean _parked;
+        private volatile boolean _destroyed;
+
+        private final String _lineSeparator;
+        private final java.text.DateFormat _date;
+        private final java.text.SimpleDateFormat _time;
+        private long _cachedSecond = -1;
+        private String _cachedTime;
+        private final StringBuilder _batch = new StringBuilder(4096);
+        private long _droppedReported;
+        private java.io.FileOutputStream _out;
+    }
+
+    private final String _prefix;
+    private final String _formattedPrefix;
+    private final Writer _writer;
+    private final boolean _owner;
+}
@@ -0,0 +1,63 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.Ice;
+
+/**
+ * A servant implements <code>BatchDispatch</code> to receive the requests of
+ * a flushed batch with a single call rather than one dispatch per request.
+ * The consecutive requests of a batch with the same identity, facet and
+ * operation are dispatched together with a single servant lookup and a single
+ * dispatch observer. This amortizes the dispatch overhead for batches of
+ * many small requests, such as telemetry reports.
+ *
+ * Batch dispatch only applies to the servants registered with the object
+ * adapter (active servant map and default servants), it doesn't apply to
+ * the servants returned by servant locators and to collocated invocations.
+ **/
+public interface BatchDispatch
+{
+    /**
+     * A request of a batch.
+     **/
+    public static final class Request
+    {
+        public Request(Current current, byte[] inEncaps)
+        {
+            this.current = current;
+            this.inEncaps = inEncaps;
+        }
+
+        /**
+         * The Current object of the request.
+         **/
+        public final Current current;
+
+        /**
+         * The encoded input parameters, an encapsulation as for
+         * {@link Blobject#ice_invoke}.
+         **/
+        public final byte[] inEncaps;
+    }
+
+    /**
+     * Returns true if the batch requests for the given operation are dispatched
+     * with {@link #ice_invokeBatch}, false to dispatch them one by one as usual.
+     *
+     * @param operation The operation name.
+     * @return True to dispatch the requests for the operation with ice_invokeBatch.
+     **/
+    boolean ice_isBatchOperation(String operation);
+
+    /**
+     * Dispatches the given batch requests. The requests are oneway requests for
+     * the same identity, facet and operation, in the order they were sent.
+     *
+     * @param requests The requests, there are at least two requests.
+     * @throws UserException A user exception raised by this method is reported
+     * like a user exception raised by a oneway dispatch.
+     **/
+    void ice_invokeBatch(java.util.List<Request> requests)
+        throws UserException;
+}
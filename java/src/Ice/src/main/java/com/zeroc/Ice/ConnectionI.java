@@ -359,53 +359,19 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         }
     }
 
-    synchronized public int
+    public int
     sendAsyncRequest(OutgoingAsyncBase out, boolean compress, boolean response, int batchRequestNum)
             throws com.zeroc.IceInternal.RetryException
     {
         final OutputStream os = out.getOs();
 
-        if(_exception != null)
-        {
-            //
-            // If the connection is closed before we even have a chance
-            // to send our request, we always try to send the request
-            // again.
-            //
-            throw new com.zeroc.IceInternal.RetryException((LocalException) _exception.fillInStackTrace());
-        }
-
-        assert (_state > StateNotValidated);
-        assert (_state < StateClosing);
-
-        //
-        // Ensure the message isn't bigger than what we can send with the
-        // transport.
-        //
-        _transceiver.checkSendSize(os.getBuffer());
-
-        //
-        // Notify the request that it's cancelable with this connection.
-        // This will throw if the request is canceled.
-        //
-        out.cancelable(this);
-
         int requestId = 0;
         if(response)
         {
             //
-            // Create a new unique request ID.
-            //
-            requestId = _nextRequestId++;
-            if(requestId <= 0)
-            {
-                _nextRequestId = 1;
-                requestId = _nextRequestId++;
-            }
-
-            //
-            // Fill in the request ID.
+            // Create a new unique request ID and fill it in.
             //
+            requestId = nextRequestId();
             os.pos(Protocol.headerSize);
             os.writeInt(requestId);
         }
@@ -415,28 +381,78 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             os.writeInt(batchRequestNum);
         }
 
-        out.attachRemoteObserver(initConnectionInfo(), _endpoint, requestId);
+        //
+        // The request ID is part of the message body, once it's assigned the
+        // message can be compressed. This is done before locking the
+        // connection to not hold the connection monitor while compressing.
+        //
+        OutgoingMessage message = new OutgoingMessage(out, os, compress, requestId);
+        compress(message);
 
-        int status;
-        try
-        {
-            status = sendMessage(new OutgoingMessage(out, os, compress, requestId));
-        }
-        catch(LocalException ex)
+        synchronized(this)
         {
-            setState(StateClosed, ex);
-            assert (_exception != null);
-            throw (LocalException) _exception.fillInStackTrace();
-        }
+            if(_exception != null)
+            {
+                //
+                // If the connection is closed before we even have a chance
+                // to send our request, we always try to send the request
+                // again.
+                //
+                throw new com.zeroc.IceInternal.RetryException((LocalException) _exception.fillInStackTrace());
+            }
+
+            assert (_state > StateNotValidated);
+            assert (_state < StateClosing);
 
-        if(response)
-        {
             //
-            // Add to the async requests map.
+            // Ensure the message isn't bigger than what we can send with the
+            // transport.
             //
-            _asyncRequests.put(requestId, out);
+            _transceiver.checkSendSize(os.getBuffer());
+
+            //
+            // Notify the request that it's cancelable with this connection.
+            // This will throw if the request is canceled.
+            //
+            out.cancelable(this);
+
+            out.attachRemoteObserver(initConnectionInfo(), _endpoint, requestId);
+
+            int status;
+            try
+            {
+                status = sendMessage(message);
+            }
+            catch(LocalException ex)
+            {
+                setState(StateClosed, ex);
+                assert (_exception != null);
+                throw (LocalException) _exception.fillInStackTrace();
+            }
+
+            if(response)
+            {
+                //
+                // Add to the async requests map.
+                //
+                out.setSentTime(System.nanoTime());
+                _asyncRequests.put(requestId, out);
+                _asyncRequestCount = _asyncRequests.size();
+            }
+            return status;
+        }
+    }
+
+    private int nextRequestId()
+    {
+        while(true)
+        {
+            final int requestId = _nextRequestId.get();
+            if(_nextRequestId.compareAndSet(requestId, requestId == Integer.MAX_VALUE ? 1 : requestId + 1))
+            {
+                return requestId;
+            }
         }
-        return status;
     }
 
     public com.zeroc.IceInternal.BatchRequestQueue
@@ -655,6 +671,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 if(o.requestId > 0)
                 {
                     _asyncRequests.remove(o.requestId);
+                    _asyncRequestCount = _asyncRequests.size();
                 }
 
                 if(ex instanceof ConnectionTimeoutException)
@@ -668,11 +685,11 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                     // streams, it will be removed once the sending is finished.
                     //
                     // Note that since we swapped the message stream to _writeStream
-                    // it's fine if the OutgoingAsync output stream is released (and
-                    // as long as canceled requests cannot be retried).
+                    // (or _gatherStreams) it's fine if the OutgoingAsync output stream
+                    // is released (and as long as canceled requests cannot be retried).
                     //
                     o.canceled();
-                    if(o != _sendStreams.getFirst())
+                    if(!o.prepared)
                     {
                         it.remove();
                     }
@@ -687,24 +704,19 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
 
         if(outAsync instanceof com.zeroc.IceInternal.OutgoingAsync)
         {
-            java.util.Iterator<OutgoingAsyncBase> it2 = _asyncRequests.values().iterator();
-            while(it2.hasNext())
+            if(ex instanceof ConnectionTimeoutException)
             {
-                if(it2.next() == outAsync)
+                if(_asyncRequests.containsValue(outAsync))
                 {
-                    if(ex instanceof ConnectionTimeoutException)
-                    {
-                        setState(StateClosed, ex);
-                    }
-                    else
-                    {
-                        it2.remove();
-                        if(outAsync.completed(ex))
-                        {
-                            outAsync.invokeCompletedAsync();
-                        }
-                    }
-                    return;
+                    setState(StateClosed, ex);
+                }
+            }
+            else if(_asyncRequests.removeValue(outAsync))
+            {
+                _asyncRequestCount = _asyncRequests.size();
+                if(outAsync.completed(ex))
+                {
+                    outAsync.invokeCompletedAsync();
                 }
             }
         }
@@ -967,15 +979,30 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
 
                 if((readyOp & SocketOperation.Write) != 0)
                 {
-                    final Buffer buf = _writeStream.getBuffer();
-                    if(_observer != null)
+                    if(_writeBuffers != null)
                     {
-                        observerStartWrite(buf);
+                        if(_observer != null)
+                        {
+                            observerStartWrite(_writeBuffers);
+                        }
+                        writeOp = write(_writeBuffers);
+                        if(_observer != null && (writeOp & SocketOperation.Write) == 0)
+                        {
+                            observerFinishWrite(_writeBuffers);
+                        }
                     }
-                    writeOp = write(buf);
-                    if(_observer != null && (writeOp & SocketOperation.Write) == 0)
+                    else
                     {
-                        observerFinishWrite(buf);
+                        final Buffer buf = _writeStream.getBuffer();
+                        if(_observer != null)
+                        {
+                            observerStartWrite(buf);
+                        }
+                        writeOp = write(buf);
+                        if(_observer != null && (writeOp & SocketOperation.Write) == 0)
+                        {
+                            observerFinishWrite(buf);
+                        }
                     }
                 }
 
@@ -1230,7 +1257,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             final StartCallback finalStartCB = startCB;
             final java.util.List<OutgoingMessage> finalSentCBs = sentCBs;
             final MessageInfo finalInfo = info;
-            _threadPool.dispatchFromThisThread(new com.zeroc.IceInternal.DispatchWorkItem(this)
+            current.dispatchFromThisThread(new com.zeroc.IceInternal.DispatchWorkItem(this)
             {
                 @Override
                 public void run()
@@ -1397,7 +1424,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         }
         else
         {
-            _threadPool.dispatchFromThisThread(new com.zeroc.IceInternal.DispatchWorkItem(this)
+            current.dispatchFromThisThread(new com.zeroc.IceInternal.DispatchWorkItem(this)
             {
                 @Override
                 public void run()
@@ -1501,6 +1528,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 //
                 OutgoingMessage message = _sendStreams.getFirst();
                 _writeStream.swap(message.stream);
+                returnGatheredStreams();
             }
 
             for(OutgoingMessage p : _sendStreams)
@@ -1522,6 +1550,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             }
         }
         _asyncRequests.clear();
+        _asyncRequestCount = 0;
 
         //
         // Don't wait to be reaped to reclaim memory allocated by read/write streams.
@@ -1529,7 +1558,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         _writeStream.clear();
         _writeStream.getBuffer().clear();
         _readStream.clear();
-        _readStream.getBuffer().clear();
+        _readStream.getBuffer().release();
 
         if(_closeCallback != null)
         {
@@ -1641,6 +1670,24 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         setState(StateClosed, ex);
     }
 
+    //
+    // Returns the number of requests waiting for a reply. It's read without locking
+    // and can be slightly out of date.
+    //
+    public int getAsyncRequestCount()
+    {
+        return _asyncRequestCount;
+    }
+
+    //
+    // Returns the moving average of the reply latency in nanoseconds, 0 if no reply was
+    // received yet. It's read without locking.
+    //
+    public long getLatency()
+    {
+        return _latency;
+    }
+
     public com.zeroc.IceInternal.ThreadPool getThreadPool()
     {
         return _threadPool;
@@ -1661,11 +1708,9 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         _endpoint = endpoint;
         _adapter = adapter;
         final InitializationData initData = instance.initializationData();
-        // Cached for better performance.
-        _dispatcher = initData.dispatcher != null;
         _logger = initData.logger; // Cached for better performance.
         _traceLevels = instance.traceLevels(); // Cached for better performance.
-        _timer = instance.timer();
+        _timer = instance.timingWheel();
         _writeTimeout = new TimeoutCallback();
         _writeTimeoutFuture = null;
         _readTimeout = new TimeoutCallback();
@@ -1681,7 +1726,6 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         {
             _acmLastActivity = -1;
         }
-        _nextRequestId = 1;
         _messageSizeMax = adapter != null ? adapter.messageSizeMax() : instance.messageSizeMax();
         _batchRequestQueue = new com.zeroc.IceInternal.BatchRequestQueue(instance, _endpoint.datagram());
         _readStream = new InputStream(instance, Protocol.currentProtocolEncoding);
@@ -1689,6 +1733,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         _readStreamPos = -1;
         _writeStream = new OutputStream(instance, Protocol.currentProtocolEncoding);
         _writeStreamPos = -1;
+        _gatherWriteSize = _endpoint.datagram() ? 0 : instance.gatherWriteSize();
         _dispatchCount = 0;
         _state = StateNotInitialized;
 
@@ -1703,6 +1748,15 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         }
         _compressionLevel = compressionLevel;
 
+        //
+        // Connections compress messages with bzip2, which all Ice implementations
+        // support, until another codec is negotiated. Outgoing connections use the
+        // configured codec if the server advertises it in the validate connection
+        // message (see validate). Incoming connections switch to the codec of the
+        // first message compressed by the peer with another codec (see parseMessage).
+        //
+        _compressionCodec = instance.compressionCodecManager().getBZip2();
+
         if(adapter != null)
         {
             _servantManager = adapter.getServantManager();
@@ -1732,6 +1786,13 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         {
             throw new SyscallException(ex);
         }
+
+        //
+        // Cached for better performance. The dispatch is also handed off to the thread pool
+        // if the thread pool uses selector threads or virtual threads.
+        //
+        _dispatcher = initData.dispatcher != null || _threadPool.hasSelectorThreads() ||
+                      _threadPool.hasVirtualThreads();
     }
 
     @SuppressWarnings("deprecation")
@@ -2146,9 +2207,9 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                     Protocol.currentProtocol.ice_writeMembers(_writeStream);
                     Protocol.currentProtocolEncoding.ice_writeMembers(_writeStream);
                     _writeStream.writeByte(Protocol.validateConnectionMsg);
-                    _writeStream.writeByte((byte) 0); // Compression status
-                                                      // (always zero for
-                                                      // validate connection).
+                    // Compression status: the advertised compression codec, zero
+                    // if the configured codec is bzip2.
+                    _writeStream.writeByte(_instance.compressionCodecManager().getAdvertisedId());
                     _writeStream.writeInt(Protocol.headerSize); // Message size.
                     TraceUtil.traceSend(_writeStream, _logger, _traceLevels);
                     _writeStream.prepareWrite();
@@ -2229,14 +2290,17 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 {
                     throw new ConnectionNotValidatedException();
                 }
-                _readStream.readByte(); // Ignore compression status for
-                                        // validate connection.
+                // The compression status of the validate connection message is the
+                // compression codec advertised by the server, if any.
+                byte advertisedCodec = _readStream.readByte();
                 int size = _readStream.readInt();
                 if(size != Protocol.headerSize)
                 {
                     throw new IllegalMessageSizeException();
                 }
                 TraceUtil.traceRecv(_readStream, _logger, _traceLevels);
+
+                _compressionCodec = _instance.compressionCodecManager().negotiate(advertisedCodec);
             }
         }
 
@@ -2284,6 +2348,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             // Message wasn't sent, empty the _writeStream, we're not going to send more data.
             OutgoingMessage message = _sendStreams.getFirst();
             _writeStream.swap(message.stream);
+            returnGatheredStreams();
             return SocketOperation.None;
         }
 
@@ -2303,6 +2368,21 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 }
                 _sendStreams.removeFirst();
 
+                //
+                // The gathered messages were sent with the first message.
+                //
+                for(int i = 0; i < _gatherCount; ++i)
+                {
+                    message = _sendStreams.removeFirst();
+                    _gatherStreams.get(i).swap(message.stream);
+                    if(message.sent())
+                    {
+                        callbacks.add(message);
+                    }
+                }
+                _gatherCount = 0;
+                _writeBuffers = null;
+
                 //
                 // If there's nothing left to send, we're done.
                 //
@@ -2328,32 +2408,58 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 //
                 message = _sendStreams.getFirst();
                 assert (!message.prepared);
-                OutputStream stream = message.stream;
 
-                message.stream = doCompress(stream, message.compress);
+                compress(message);
                 message.stream.prepareWrite();
                 message.prepared = true;
-                TraceUtil.traceSend(stream, _logger, _traceLevels);
+                TraceUtil.traceSend(message.uncompressed, _logger, _traceLevels);
                 _writeStream.swap(message.stream);
 
                 //
-                // Send the message.
+                // Gather the following messages to send them with this one.
                 //
-                if(_observer != null)
+                if(_gatherWriteSize > 0 && _sendStreams.size() > 1)
                 {
-                    observerStartWrite(_writeStream.getBuffer());
+                    gatherMessages();
                 }
-                if(_writeStream.pos() != _writeStream.size())
+
+                //
+                // Send the message.
+                //
+                if(_writeBuffers != null)
                 {
-                    int op = write(_writeStream.getBuffer());
+                    if(_observer != null)
+                    {
+                        observerStartWrite(_writeBuffers);
+                    }
+                    int op = write(_writeBuffers);
                     if(op != 0)
                     {
                         return op;
                     }
+                    if(_observer != null)
+                    {
+                        observerFinishWrite(_writeBuffers);
+                    }
                 }
-                if(_observer != null)
+                else
                 {
-                    observerFinishWrite(_writeStream.getBuffer());
+                    if(_observer != null)
+                    {
+                        observerStartWrite(_writeStream.getBuffer());
+                    }
+                    if(_writeStream.pos() != _writeStream.size())
+                    {
+                        int op = write(_writeStream.getBuffer());
+                        if(op != 0)
+                        {
+                            return op;
+                        }
+                    }
+                    if(_observer != null)
+                    {
+                        observerFinishWrite(_writeStream.getBuffer());
+                    }
                 }
             }
 
@@ -2396,13 +2502,11 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
 
         assert (!message.prepared);
 
-        OutputStream stream = message.stream;
-
-        message.stream = doCompress(stream, message.compress);
+        compress(message);
         message.stream.prepareWrite();
         message.prepared = true;
         int op;
-        TraceUtil.traceSend(stream, _logger, _traceLevels);
+        TraceUtil.traceSend(message.uncompressed, _logger, _traceLevels);
 
         //
         // Send the message without blocking.
@@ -2441,8 +2545,82 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         return AsyncStatus.Queued;
     }
 
+    private void gatherMessages()
+    {
+        assert (_gatherCount == 0 && _writeBuffers == null);
+
+        int size = _writeStream.size();
+        java.util.Iterator<OutgoingMessage> p = _sendStreams.iterator();
+        p.next(); // The first message, already swapped to _writeStream.
+        while(p.hasNext() && size < _gatherWriteSize)
+        {
+            OutgoingMessage message = p.next();
+            assert (!message.prepared);
+
+            compress(message);
+            if(size + message.stream.size() > _gatherWriteSize)
+            {
+                break;
+            }
+            size += message.stream.size();
+
+            message.stream.prepareWrite();
+            message.prepared = true;
+            TraceUtil.traceSend(message.uncompressed, _logger, _traceLevels);
+
+            if(_gatherCount == _gatherStreams.size())
+            {
+                _gatherStreams.add(new OutputStream(_instance, Protocol.currentProtocolEncoding));
+            }
+            _gatherStreams.get(_gatherCount++).swap(message.stream);
+        }
+
+        if(_gatherCount > 0)
+        {
+            _writeBuffers = new Buffer[_gatherCount + 1];
+            _writeBuffers[0] = _writeStream.getBuffer();
+            for(int i = 0; i < _gatherCount; ++i)
+            {
+                _writeBuffers[i + 1] = _gatherStreams.get(i).getBuffer();
+            }
+        }
+    }
+
+    private void returnGatheredStreams()
+    {
+        if(_gatherCount > 0)
+        {
+            //
+            // Return the gathered streams to the messages, they follow the first message.
+            //
+            java.util.Iterator<OutgoingMessage> p = _sendStreams.iterator();
+            p.next();
+            for(int i = 0; i < _gatherCount; ++i)
+            {
+                _gatherStreams.get(i).swap(p.next().stream);
+            }
+            _gatherCount = 0;
+            _writeBuffers = null;
+        }
+    }
+
+    private void compress(OutgoingMessage message)
+    {
+        if(message.uncompressed == null) // Not already compressed by sendAsyncRequest
+        {
+            message.uncompressed = message.stream;
+            message.stream = doCompress(message.stream, message.compress);
+        }
+    }
+
     private OutputStream doCompress(OutputStream uncompressed, boolean compress)
     {
+        //
+        // The codec can be changed concurrently by parseMessage, read it once so that the
+        // message is compressed and tagged with the same codec.
+        //
+        final com.zeroc.IceInternal.CompressionCodec codec = _compressionCodec;
+
         boolean compressionSupported = false;
         if(compress)
         {
@@ -2450,7 +2628,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             // Don't check whether compression support is available unless the
             // proxy is configured for compression.
             //
-            compressionSupported = com.zeroc.IceInternal.BZip2.supported();
+            compressionSupported = codec.supported();
         }
 
         if(compressionSupported && uncompressed.size() >= 100)
@@ -2458,8 +2636,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             //
             // Do compression.
             //
-            Buffer cbuf = com.zeroc.IceInternal.BZip2.compress(uncompressed.getBuffer(),
-                                                               Protocol.headerSize, _compressionLevel);
+            Buffer cbuf = codec.compress(uncompressed.getBuffer(), Protocol.headerSize, _compressionLevel);
             if(cbuf != null)
             {
                 OutputStream cstream =
@@ -2469,7 +2646,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 // Set compression status.
                 //
                 cstream.pos(9);
-                cstream.writeByte((byte) 2);
+                cstream.writeByte(codec.id());
 
                 //
                 // Write the size of the compressed stream into the header.
@@ -2483,7 +2660,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 // this to trace requests correctly.
                 //
                 uncompressed.pos(9);
-                uncompressed.writeByte((byte) 2);
+                uncompressed.writeByte(codec.id());
                 uncompressed.writeInt(cstream.size());
 
                 return cstream;
@@ -2540,22 +2717,49 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             info.stream.pos(8);
             byte messageType = info.stream.readByte();
             info.compress = info.stream.readByte();
-            if(info.compress == (byte)2)
+            if((info.compress & 0xff) >= 2)
             {
-                if(com.zeroc.IceInternal.BZip2.supported())
+                com.zeroc.IceInternal.CompressionCodec codec = _compressionCodec;
+                if(codec.id() != info.compress)
+                {
+                    codec = _instance.compressionCodecManager().get(info.compress);
+                }
+
+                if(codec == null)
                 {
-                    Buffer ubuf = com.zeroc.IceInternal.BZip2.uncompress(info.stream.getBuffer(),
-                                                                         Protocol.headerSize,
-                                                                         _messageSizeMax);
+                    FeatureNotSupportedException ex = new FeatureNotSupportedException();
+                    ex.unsupportedFeature = "Cannot uncompress compressed message: unknown compression codec "
+                                            + (info.compress & 0xff);
+                    throw ex;
+                }
+                else if(codec.supported())
+                {
+                    Buffer ubuf = codec.uncompress(info.stream.getBuffer(), Protocol.headerSize, _messageSizeMax);
+                    info.stream.getBuffer().release();
                     info.stream = new InputStream(info.stream.instance(), info.stream.getEncoding(), ubuf, true);
+
+                    //
+                    // The peer supports this codec, use it for the messages we send.
+                    //
+                    if(_connector == null)
+                    {
+                        _compressionCodec = codec;
+                    }
                 }
-                else
+                else if(codec.id() == 2)
                 {
                     FeatureNotSupportedException ex = new FeatureNotSupportedException();
                     ex.unsupportedFeature = "Cannot uncompress compressed message: "
                                             + "org.apache.tools.bzip2.CBZip2OutputStream was not found";
                     throw ex;
                 }
+                else
+                {
+                    FeatureNotSupportedException ex = new FeatureNotSupportedException();
+                    ex.unsupportedFeature = "Cannot uncompress compressed message: " + codec.name()
+                                            + " compression codec is not available";
+                    throw ex;
+                }
             }
             info.stream.pos(Protocol.headerSize);
 
@@ -2636,6 +2840,16 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                     info.requestId = info.stream.readInt();
 
                     OutgoingAsyncBase outAsync = _asyncRequests.remove(info.requestId);
+                    _asyncRequestCount = _asyncRequests.size();
+                    if(outAsync != null)
+                    {
+                        //
+                        // Exponentially weighted moving average of the reply latency, with a
+                        // weight of 1/8 for the new sample.
+                        //
+                        long latency = System.nanoTime() - outAsync.getSentTime();
+                        _latency = _latency == 0 ? latency : _latency + (latency - _latency) / 8;
+                    }
                     if(outAsync != null && outAsync.completed(info.stream))
                     {
                         info.outAsync = outAsync;
@@ -2691,6 +2905,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         //
 
         Incoming in = null;
+        boolean release = true;
         try
         {
             while(invokeNum > 0)
@@ -2703,16 +2918,31 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
                 in = getIncoming(adapter, response, compress, requestId);
 
                 //
-                // Dispatch the invocation.
+                // Dispatch the invocation. The requests of a batch can be dispatched
+                // together if the servant implements BatchDispatch.
                 //
-                in.invoke(servantManager, stream);
-
-                --invokeNum;
+                if(invokeNum > 1 && !response && servantManager != null)
+                {
+                    invokeNum -= in.invokeBatch(servantManager, stream, invokeNum);
+                }
+                else
+                {
+                    in.invoke(servantManager, stream);
+                    --invokeNum;
+                }
+                release &= in.isCompleted();
 
                 reclaimIncoming(in);
                 in = null;
             }
 
+            if(release)
+            {
+                //
+                // The requests are dispatched, return the memory to the buffer pool.
+                //
+                stream.getBuffer().release();
+            }
             stream.clear();
         }
         catch(LocalException ex)
@@ -2819,18 +3049,17 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             {
                 if(_readTimeoutFuture != null)
                 {
-                    _readTimeoutFuture.cancel(false);
+                    _readTimeoutFuture.cancel();
                 }
-                _readTimeoutFuture = _timer.schedule(_readTimeout, timeout, java.util.concurrent.TimeUnit.MILLISECONDS);
+                _readTimeoutFuture = _timer.schedule(_readTimeout, timeout);
             }
             if((status & (SocketOperation.Write | SocketOperation.Connect)) != 0)
             {
                 if(_writeTimeoutFuture != null)
                 {
-                    _writeTimeoutFuture.cancel(false);
+                    _writeTimeoutFuture.cancel();
                 }
-                _writeTimeoutFuture = _timer.schedule(_writeTimeout, timeout,
-                        java.util.concurrent.TimeUnit.MILLISECONDS);
+                _writeTimeoutFuture = _timer.schedule(_writeTimeout, timeout);
             }
         }
         catch(Throwable ex)
@@ -2843,13 +3072,13 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
     {
         if((status & SocketOperation.Read) != 0 && _readTimeoutFuture != null)
         {
-            _readTimeoutFuture.cancel(false);
+            _readTimeoutFuture.cancel();
             _readTimeoutFuture = null;
         }
         if((status & (SocketOperation.Write | SocketOperation.Connect)) != 0 &&
            _writeTimeoutFuture != null)
         {
-            _writeTimeoutFuture.cancel(false);
+            _writeTimeoutFuture.cancel();
             _writeTimeoutFuture = null;
         }
     }
@@ -2937,6 +3166,44 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         _writeStreamPos = -1;
     }
 
+    //
+    // The gathered buffers are observed as a single buffer, _writeStreamPos is the sum
+    // of the buffer positions.
+    //
+    private void observerStartWrite(Buffer[] bufs)
+    {
+        final int pos = position(bufs);
+        if(_writeStreamPos >= 0 && pos > _writeStreamPos)
+        {
+            _observer.sentBytes(pos - _writeStreamPos);
+        }
+        _writeStreamPos = pos;
+    }
+
+    private void observerFinishWrite(Buffer[] bufs)
+    {
+        if(_writeStreamPos == -1)
+        {
+            return;
+        }
+        final int pos = position(bufs);
+        if(pos > _writeStreamPos)
+        {
+            _observer.sentBytes(pos - _writeStreamPos);
+        }
+        _writeStreamPos = -1;
+    }
+
+    private static int position(Buffer[] bufs)
+    {
+        int pos = 0;
+        for(Buffer buf : bufs)
+        {
+            pos += buf.b.position();
+        }
+        return pos;
+    }
+
     private Incoming getIncoming(ObjectAdapter adapter, boolean response, byte compress,
                                                        int requestId)
     {
@@ -3040,6 +3307,33 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         return op;
     }
 
+    private int write(Buffer[] bufs)
+    {
+        final int start = position(bufs);
+        int op = _transceiver.write(bufs);
+        final int end = position(bufs);
+        if(_instance.traceLevels().network >= 3 && end != start)
+        {
+            int limit = 0;
+            for(Buffer buf : bufs)
+            {
+                limit += buf.b.limit();
+            }
+            StringBuffer s = new StringBuffer("sent ");
+            s.append(end - start);
+            s.append(" of ");
+            s.append(limit - start);
+            s.append(" bytes via ");
+            s.append(_endpoint.protocol());
+            s.append(" (");
+            s.append(bufs.length);
+            s.append(" messages)\n");
+            s.append(toString());
+            _instance.initializationData().logger.trace(_instance.traceLevels().networkCat, s.toString());
+        }
+        return op;
+    }
+
     private static class OutgoingMessage
     {
         OutgoingMessage(OutputStream stream, boolean compress, boolean adopt)
@@ -3071,6 +3365,10 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
             {
                 OutputStream stream = new OutputStream(this.stream.instance(), Protocol.currentProtocolEncoding);
                 stream.swap(this.stream);
+                if(this.uncompressed == this.stream)
+                {
+                    this.uncompressed = stream;
+                }
                 this.stream = stream;
                 adopt = false;
             }
@@ -3094,6 +3392,7 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
         }
 
         public OutputStream stream;
+        public OutputStream uncompressed; // The stream before compression, set once the stream is compressed.
         public OutgoingAsyncBase outAsync;
         public boolean compress;
         public int requestId;
@@ -3118,11 +3417,11 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
     private final com.zeroc.IceInternal.TraceLevels _traceLevels;
     private final com.zeroc.IceInternal.ThreadPool _threadPool;
 
-    private final java.util.concurrent.ScheduledExecutorService _timer;
+    private final com.zeroc.IceInternal.TimingWheel _timer;
     private final Runnable _writeTimeout;
-    private java.util.concurrent.Future<?> _writeTimeoutFuture;
+    private com.zeroc.IceInternal.TimingWheel.Timeout _writeTimeoutFuture;
     private final Runnable _readTimeout;
-    private java.util.concurrent.Future<?> _readTimeoutFuture;
+    private com.zeroc.IceInternal.TimingWheel.Timeout _readTimeoutFuture;
 
     private StartCallback _startCallback = null;
 
@@ -3132,10 +3431,14 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
     private long _acmLastActivity;
 
     private final int _compressionLevel;
+    private volatile com.zeroc.IceInternal.CompressionCodec _compressionCodec;
 
-    private int _nextRequestId;
+    private final java.util.concurrent.atomic.AtomicInteger _nextRequestId =
+        new java.util.concurrent.atomic.AtomicInteger(1);
 
-    private java.util.Map<Integer, OutgoingAsyncBase> _asyncRequests = new java.util.HashMap<>();
+    private com.zeroc.IceInternal.IntMap<OutgoingAsyncBase> _asyncRequests = new com.zeroc.IceInternal.IntMap<>();
+    private volatile int _asyncRequestCount; // The size of _asyncRequests, read without the mutex.
+    private volatile long _latency; // Updated with the mutex, read without.
 
     private LocalException _exception;
 
@@ -3148,6 +3451,16 @@ public final class ConnectionI extends com.zeroc.IceInternal.EventHandler
     private boolean _readHeader;
     private OutputStream _writeStream;
 
+    //
+    // Gathered writes: the messages following the first message of _sendStreams which
+    // are written with it. Their streams are swapped to _gatherStreams like the stream
+    // of the first message is swapped to _writeStream.
+    //
+    private final int _gatherWriteSize;
+    private final java.util.ArrayList<OutputStream> _gatherStreams = new java.util.ArrayList<>();
+    private int _gatherCount;
+    private Buffer[] _writeBuffers; // The buffers of the gathered write, null if not gathering.
+
     private com.zeroc.Ice.Instrumentation.ConnectionObserver _observer;
     private int _readStreamPos;
     private int _writeStreamPos;
@@ -0,0 +1,48 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.Ice;
+
+/**
+ * This exception is raised if there was an error while parsing an
+ * endpoint balancing policy, set with the EndpointBalancing proxy
+ * property or with Ice.Default.EndpointBalancing.
+ **/
+public class EndpointBalancingParseException extends LocalException
+{
+    public EndpointBalancingParseException()
+    {
+        this.str = "";
+    }
+
+    public EndpointBalancingParseException(Throwable cause)
+    {
+        super(cause);
+        this.str = "";
+    }
+
+    public EndpointBalancingParseException(String str)
+    {
+        this.str = str;
+    }
+
+    public EndpointBalancingParseException(String str, Throwable cause)
+    {
+        super(cause);
+        this.str = str;
+    }
+
+    @Override
+    public String ice_id()
+    {
+        return "::Ice::EndpointBalancingParseException";
+    }
+
+    /**
+     * Describes the failure and includes the string that could not be parsed.
+     **/
+    public String str;
+
+    public static final long serialVersionUID = 0L;
+}
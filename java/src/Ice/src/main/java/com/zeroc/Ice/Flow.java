@@ -0,0 +1,88 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.Ice;
+
+/**
+ * Interfaces for flow-controlled streams of items, used by {@link StreamSender}
+ * and {@link StreamReceiver}. They mirror the interfaces of
+ * <code>java.util.concurrent.Flow</code>, which isn't available with Java 8,
+ * and follow the same rules. They can be adapted to the JDK interfaces with
+ * simple delegating wrappers.
+ **/
+public final class Flow
+{
+    /**
+     * A producer of items received by subscribers.
+     *
+     * @param <T> The type of the items.
+     **/
+    @FunctionalInterface
+    public interface Publisher<T>
+    {
+        /**
+         * Adds the given subscriber to this publisher.
+         *
+         * @param subscriber The subscriber.
+         **/
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of items.
+     *
+     * @param <T> The type of the items.
+     **/
+    public interface Subscriber<T>
+    {
+        /**
+         * Called before any other method of the subscriber.
+         *
+         * @param subscription The subscription used to request items.
+         **/
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with the next item of the subscription.
+         *
+         * @param item The item.
+         **/
+        void onNext(T item);
+
+        /**
+         * Called when the subscription failed, no other method is called afterwards.
+         *
+         * @param throwable The failure.
+         **/
+        void onError(Throwable throwable);
+
+        /**
+         * Called when all the items have been received, no other method is called
+         * afterwards.
+         **/
+        void onComplete();
+    }
+
+    /**
+     * The link between a publisher and a subscriber.
+     **/
+    public interface Subscription
+    {
+        /**
+         * Requests up to n more items.
+         *
+         * @param n The number of items, must be positive.
+         **/
+        void request(long n);
+
+        /**
+         * Stops the delivery of items.
+         **/
+        void cancel();
+    }
+
+    private Flow()
+    {
+    }
+}
@@ -33,44 +33,52 @@ public abstract class ImplicitContextI implements ImplicitContext
     abstract public void write(java.util.Map<String, String> prxContext, OutputStream os);
     abstract java.util.Map<String, String> combine(java.util.Map<String, String> prxContext);
 
+    //
+    // The shared context is an immutable snapshot replaced on each update, invocations
+    // read it without locking. The marshaled form of a snapshot is computed by the first
+    // invocation which writes it and reused until the context changes.
+    //
     static class Shared extends ImplicitContextI
     {
         @Override
-        public synchronized java.util.Map<String, String> getContext()
+        public java.util.Map<String, String> getContext()
         {
-            return new java.util.HashMap<>(_context);
+            return new java.util.HashMap<>(_snapshot.context);
         }
 
         @Override
         public synchronized void setContext(java.util.Map<String, String> context)
         {
-            _context.clear();
-            if(context != null && !context.isEmpty())
+            if(context == null || context.isEmpty())
+            {
+                _snapshot = _emptySnapshot;
+            }
+            else
             {
-                _context.putAll(context);
+                _snapshot = new Snapshot(new java.util.HashMap<>(context));
             }
         }
 
         @Override
-        public synchronized boolean containsKey(String key)
+        public boolean containsKey(String key)
         {
             if(key == null)
             {
                 key = "";
             }
 
-            return _context.containsKey(key);
+            return _snapshot.context.containsKey(key);
         }
 
         @Override
-        public synchronized String get(String key)
+        public String get(String key)
         {
             if(key == null)
             {
                 key = "";
             }
 
-            String val = _context.get(key);
+            String val = _snapshot.context.get(key);
             if(val == null)
             {
                 val = "";
@@ -91,7 +99,9 @@ public abstract class ImplicitContextI implements ImplicitContext
                 value = "";
             }
 
-            String oldVal = _context.put(key, value);
+            java.util.Map<String, String> context = new java.util.HashMap<>(_snapshot.context);
+            String oldVal = context.put(key, value);
+            _snapshot = new Snapshot(context);
             if(oldVal == null)
             {
                 oldVal = "";
@@ -107,7 +117,13 @@ public abstract class ImplicitContextI implements ImplicitContext
                 key = "";
             }
 
-            String val = _context.remove(key);
+            String val = null;
+            if(_snapshot.context.containsKey(key))
+            {
+                java.util.Map<String, String> context = new java.util.HashMap<>(_snapshot.context);
+                val = context.remove(key);
+                _snapshot = context.isEmpty() ? _emptySnapshot : new Snapshot(context);
+            }
 
             if(val == null)
             {
@@ -119,33 +135,72 @@ public abstract class ImplicitContextI implements ImplicitContext
         @Override
         public void write(java.util.Map<String, String> prxContext, OutputStream os)
         {
+            Snapshot snapshot = _snapshot;
             if(prxContext.isEmpty())
             {
-                synchronized(this)
-                {
-                    ContextHelper.write(os, _context);
-                }
+                snapshot.write(os);
+            }
+            else if(snapshot.context.isEmpty())
+            {
+                ContextHelper.write(os, prxContext);
             }
             else
             {
-                java.util.Map<String, String> ctx = null;
-                synchronized(this)
-                {
-                    ctx = _context.isEmpty() ? prxContext : combine(prxContext);
-                }
-                ContextHelper.write(os, ctx);
+                ContextHelper.write(os, combine(snapshot.context, prxContext));
             }
         }
 
         @Override
-        synchronized java.util.Map<String, String> combine(java.util.Map<String, String> prxContext)
+        java.util.Map<String, String> combine(java.util.Map<String, String> prxContext)
         {
-            java.util.Map<String, String> combined = new java.util.HashMap<>(_context);
+            return combine(_snapshot.context, prxContext);
+        }
+
+        private static java.util.Map<String, String> combine(java.util.Map<String, String> context,
+                                                            java.util.Map<String, String> prxContext)
+        {
+            java.util.Map<String, String> combined = new java.util.HashMap<>(context);
             combined.putAll(prxContext);
             return combined;
         }
 
-        private java.util.Map<String, String> _context = new java.util.HashMap<>();
+        private static final class Snapshot
+        {
+            Snapshot(java.util.Map<String, String> context)
+            {
+                this.context = context;
+            }
+
+            void write(OutputStream os)
+            {
+                if(context.isEmpty())
+                {
+                    os.writeSize(0);
+                    return;
+                }
+
+                //
+                // The marshaled context depends on the string converter and encoding of the
+                // stream, they are the same for all the invocations of a communicator.
+                //
+                byte[] bytes = _bytes;
+                if(bytes == null)
+                {
+                    OutputStream s = new OutputStream(os.instance(), os.getEncoding(), false);
+                    ContextHelper.write(s, context);
+                    bytes = s.finished();
+                    s.getBuffer().release();
+                    _bytes = bytes; // Benign race, concurrent writers compute the same bytes.
+                }
+                os.writeBlob(bytes);
+            }
+
+            final java.util.Map<String, String> context; // Never modified
+            private volatile byte[] _bytes;
+        }
+
+        private static final Snapshot _emptySnapshot = new Snapshot(java.util.Collections.emptyMap());
+        private volatile Snapshot _snapshot = _emptySnapshot;
     }
 
     static class PerThread extends ImplicitContextI
@@ -217,7 +217,7 @@ public class InputStream
     public InputStream(Instance instance, EncodingVersion encoding, boolean direct)
     {
         initialize(instance, encoding);
-        _buf = new Buffer(direct);
+        _buf = new Buffer(direct, instance.bufferPool());
     }
 
     public InputStream(Instance instance, EncodingVersion encoding, byte[] data)
@@ -1029,6 +1029,7 @@ public class InputStream
             // return type used in Java 9 java.nio.ByteBuffer
             ((java.nio.Buffer)v).limit(sz);
             _buf.position(_buf.b.position() + sz);
+            _buf.unpool(); // The returned buffer shares the stream memory.
             return v.asReadOnlyBuffer();
         }
         catch(java.nio.BufferUnderflowException ex)
@@ -1270,6 +1271,7 @@ public class InputStream
             // return type used in Java 9 java.nio.ShortBuffer
             ((java.nio.Buffer)v).limit(sz);
             _buf.position(_buf.b.position() + sz * 2);
+            _buf.unpool(); // The returned buffer shares the stream memory.
             return v.asReadOnlyBuffer();
         }
         catch(java.nio.BufferUnderflowException ex)
@@ -1370,6 +1372,7 @@ public class InputStream
             // return type used in Java 9 java.nio.IntBuffer
             ((java.nio.Buffer)v).limit(sz);
             _buf.position(_buf.b.position() + sz * 4);
+            _buf.unpool(); // The returned buffer shares the stream memory.
             return v.asReadOnlyBuffer();
         }
         catch(java.nio.BufferUnderflowException ex)
@@ -1470,6 +1473,7 @@ public class InputStream
             // return type used in Java 9 java.nio.LongBuffer
             ((java.nio.Buffer)v).limit(sz);
             _buf.position(_buf.b.position() + sz * 8);
+            _buf.unpool(); // The returned buffer shares the stream memory.
             return v.asReadOnlyBuffer();
         }
         catch(java.nio.BufferUnderflowException ex)
@@ -1570,6 +1574,7 @@ public class InputStream
             // return type used in Java 9 java.nio.FloatBuffer
             ((java.nio.Buffer)v).limit(sz);
             _buf.position(_buf.b.position() + sz * 4);
+            _buf.unpool(); // The returned buffer shares the stream memory.
             return v.asReadOnlyBuffer();
         }
         catch(java.nio.BufferUnderflowException ex)
@@ -1670,6 +1675,7 @@ public class InputStream
             // return type used in Java 9 java.nio.DoubleBuffer
             ((java.nio.Buffer)v).limit(sz);
             _buf.position(_buf.b.position() + sz * 8);
+            _buf.unpool(); // The returned buffer shares the stream memory.
             return v.asReadOnlyBuffer();
         }
         catch(java.nio.BufferUnderflowException ex)
@@ -1686,6 +1692,23 @@ public class InputStream
      * @return The extracted string.
      **/
     public String readString()
+    {
+        return readString(false);
+    }
+
+    /**
+     * Extracts a string from the stream. Small strings are looked up in the communicator
+     * string cache when it's enabled with <code>Ice.StringCache</code>. This is intended
+     * for strings which are frequently repeated, such as operation names.
+     *
+     * @return The extracted string.
+     **/
+    public String readCachedString()
+    {
+        return readString(true);
+    }
+
+    private String readString(boolean cached)
     {
         final int len = readSize();
 
@@ -1693,73 +1716,136 @@ public class InputStream
         {
             return "";
         }
+
+        //
+        // Check the buffer has enough bytes to read.
+        //
+        if(_buf.b.remaining() < len)
+        {
+            throw new UnmarshalOutOfBoundsException();
+        }
+
+        //
+        // Decode the string directly from the buffer array if the buffer
+        // isn't a direct buffer. Otherwise, copy the bytes into the
+        // _stringBytes array to avoid creating excessive garbage.
+        //
+        final byte[] data;
+        final int offset;
+        final java.nio.ByteBuffer b = _buf.b;
+        if(b.hasArray())
+        {
+            final int pos = b.position();
+            data = b.array();
+            offset = b.arrayOffset() + pos;
+            _buf.position(pos + len);
+        }
         else
+        {
+            if(_stringBytes == null || len > _stringBytes.length)
+            {
+                _stringBytes = new byte[len];
+            }
+            b.get(_stringBytes, 0, len);
+            data = _stringBytes;
+            offset = 0;
+        }
+
+        if(cached && _instance != null && _instance.stringCache() != null)
+        {
+            String s = _instance.stringCache().get(data, offset, len);
+            if(s != null)
+            {
+                return s;
+            }
+        }
+
+        //
+        // A UTF-8 string never has more characters than bytes.
+        //
+        if(_stringChars == null || len > _stringChars.length)
+        {
+            _stringChars = new char[len];
+        }
+
+        final int n = decodeUTF8(data, offset, len, _stringChars);
+        if(n < 0)
         {
             //
-            // Check the buffer has enough bytes to read.
+            // Invalid UTF-8 sequence, let the String constructor replace
+            // the malformed input.
             //
-            if(_buf.b.remaining() < len)
+            return new String(data, offset, len, _utf8);
+        }
+        return new String(_stringChars, 0, n);
+    }
+
+    //
+    // Decode the UTF-8 bytes into the given array and return the number of
+    // characters, or -1 if the bytes aren't a valid UTF-8 sequence.
+    //
+    private static int decodeUTF8(byte[] data, int offset, int len, char[] chars)
+    {
+        final int end = offset + len;
+        int i = offset;
+        int n = 0;
+
+        //
+        // Fast path for 7-bit characters.
+        //
+        while(i < end && data[i] >= 0)
+        {
+            chars[n++] = (char)data[i++];
+        }
+
+        while(i < end)
+        {
+            final int b1 = data[i++];
+            if(b1 >= 0)
             {
-                throw new UnmarshalOutOfBoundsException();
+                chars[n++] = (char)b1;
             }
-
-            try
+            else if((b1 & 0xe0) == 0xc0 && i < end)
             {
-                //
-                // We reuse the _stringBytes array to avoid creating
-                // excessive garbage.
-                //
-                if(_stringBytes == null || len > _stringBytes.length)
-                {
-                    _stringBytes = new byte[len];
-                }
-                if(_stringChars == null || len > _stringChars.length)
+                final int b2 = data[i++];
+                final int c = ((b1 & 0x1f) << 6) | (b2 & 0x3f);
+                if((b2 & 0xc0) != 0x80 || c < 0x80)
                 {
-                    _stringChars = new char[len];
+                    return -1;
                 }
-                _buf.b.get(_stringBytes, 0, len);
-
-                //
-                // It's more efficient to construct a string using a
-                // character array instead of a byte array, because
-                // byte arrays require conversion.
-                //
-                for(int i = 0; i < len; i++)
+                chars[n++] = (char)c;
+            }
+            else if((b1 & 0xf0) == 0xe0 && i + 1 < end)
+            {
+                final int b2 = data[i++];
+                final int b3 = data[i++];
+                final int c = ((b1 & 0x0f) << 12) | ((b2 & 0x3f) << 6) | (b3 & 0x3f);
+                if((b2 & 0xc0) != 0x80 || (b3 & 0xc0) != 0x80 || c < 0x800 || Character.isSurrogate((char)c))
                 {
-                    if(_stringBytes[i] < 0)
-                    {
-                        //
-                        // Multi-byte character found - we must use
-                        // conversion.
-                        //
-                        // TODO: If the string contains garbage bytes
-                        // that won't correctly decode as UTF, the
-                        // behavior of this constructor is
-                        // undefined. It would be better to explicitly
-                        // decode using
-                        // java.nio.charset.CharsetDecoder and to
-                        // throw MarshalException if the string won't
-                        // decode.
-                        //
-                        return new String(_stringBytes, 0, len, "UTF8");
-                    }
-                    else
-                    {
-                        _stringChars[i] = (char)_stringBytes[i];
-                    }
+                    return -1;
                 }
-                return new String(_stringChars, 0, len);
+                chars[n++] = (char)c;
             }
-            catch(java.io.UnsupportedEncodingException ex)
+            else if((b1 & 0xf8) == 0xf0 && i + 2 < end)
             {
-                assert(false);
-                return "";
+                final int b2 = data[i++];
+                final int b3 = data[i++];
+                final int b4 = data[i++];
+                final int cp = ((b1 & 0x07) << 18) | ((b2 & 0x3f) << 12) | ((b3 & 0x3f) << 6) | (b4 & 0x3f);
+                if((b2 & 0xc0) != 0x80 || (b3 & 0xc0) != 0x80 || (b4 & 0xc0) != 0x80 ||
+                   cp < 0x10000 || cp > Character.MAX_CODE_POINT)
+                {
+                    return -1;
+                }
+                chars[n++] = Character.highSurrogate(cp);
+                chars[n++] = Character.lowSurrogate(cp);
             }
-            catch(java.nio.BufferUnderflowException ex)
+            else
             {
-                throw new UnmarshalOutOfBoundsException();
+                return -1;
             }
         }
+        return n;
     }
 
     /**
@@ -2259,8 +2345,7 @@ public class InputStream
             _sliceValues = sliceValues;
             _valueFactoryManager = f;
             _classResolver = cr;
-            _typeIdIndex = 0;
-            _unmarshaledMap = new java.util.TreeMap<>();
+            _unmarshaledMap = new com.zeroc.IceInternal.IntMap<>();
         }
 
         abstract void readValue(java.util.function.Consumer<Value> cb);
@@ -2286,23 +2371,25 @@ public class InputStream
         {
             if(_typeIdMap == null) // Lazy initialization
             {
-                _typeIdMap = new java.util.TreeMap<>();
+                _typeIdMap = new java.util.ArrayList<>();
             }
 
+            //
+            // Type ID indexes are assigned sequentially, starting with 1.
+            //
             if(isIndex)
             {
                 int index = _stream.readSize();
-                String typeId = _typeIdMap.get(index);
-                if(typeId == null)
+                if(index < 1 || index > _typeIdMap.size())
                 {
                     throw new UnmarshalOutOfBoundsException();
                 }
-                return typeId;
+                return _typeIdMap.get(index - 1);
             }
             else
             {
                 String typeId = _stream.readString();
-                _typeIdMap.put(++_typeIdIndex, typeId);
+                _typeIdMap.add(typeId);
                 return typeId;
             }
         }
@@ -2375,20 +2462,64 @@ public class InputStream
                 Class<?> cls = resolveClass(typeId);
 
                 if(cls != null)
+                {
+                    v = instantiate(cls, typeId);
+                }
+            }
+
+            return v;
+        }
+
+        //
+        // Instantiate the given Value class with its cached constructor handle.
+        //
+        protected static Value instantiate(Class<?> cls, String typeId)
+        {
+            final java.lang.invoke.MethodHandle ctor = _constructors.get(cls);
+            try
+            {
+                if(ctor == null)
+                {
+                    //
+                    // No accessible public constructor, let reflection report the error.
+                    //
+                    return (Value)cls.getDeclaredConstructor().newInstance();
+                }
+                return (Value)ctor.invokeExact();
+            }
+            catch(java.lang.Error ex)
+            {
+                throw ex;
+            }
+            catch(java.lang.Throwable ex)
+            {
+                throw new NoValueFactoryException("no value factory", typeId, ex);
+            }
+        }
+
+        //
+        // The no-argument constructors of the Value classes, shared by all the
+        // streams. Invoking a constructor handle is considerably cheaper than
+        // reflective instantiation.
+        //
+        private static final ClassValue<java.lang.invoke.MethodHandle> _constructors =
+            new ClassValue<java.lang.invoke.MethodHandle>()
+            {
+                @Override
+                protected java.lang.invoke.MethodHandle computeValue(Class<?> cls)
                 {
                     try
                     {
-                        v = (Value)cls.getDeclaredConstructor().newInstance();
+                        return java.lang.invoke.MethodHandles.publicLookup().findConstructor(
+                            cls, java.lang.invoke.MethodType.methodType(void.class)).asType(
+                                java.lang.invoke.MethodType.methodType(Value.class));
                     }
-                    catch(java.lang.Exception ex)
+                    catch(NoSuchMethodException | IllegalAccessException ex)
                     {
-                        throw new NoValueFactoryException("no value factory", typeId, ex);
+                        return null;
                     }
                 }
-            }
-
-            return v;
-        }
+            };
 
         protected void addPatchEntry(int index, java.util.function.Consumer<Value> cb)
         {
@@ -2407,7 +2538,7 @@ public class InputStream
 
             if(_patchMap == null) // Lazy initialization
             {
-                _patchMap = new java.util.TreeMap<>();
+                _patchMap = new com.zeroc.IceInternal.IntMap<>();
             }
 
             //
@@ -2525,10 +2656,9 @@ public class InputStream
         //
         // Encapsulation attributes for value unmarshaling.
         //
-        protected java.util.TreeMap<Integer, java.util.LinkedList<java.util.function.Consumer<Value>> > _patchMap;
-        private java.util.TreeMap<Integer, Value> _unmarshaledMap;
-        private java.util.TreeMap<Integer, String> _typeIdMap;
-        private int _typeIdIndex;
+        protected com.zeroc.IceInternal.IntMap<java.util.LinkedList<java.util.function.Consumer<Value>> > _patchMap;
+        private com.zeroc.IceInternal.IntMap<Value> _unmarshaledMap;
+        private java.util.List<String> _typeIdMap;
         private java.util.List<Value> _valueList;
         private java.util.HashMap<String, Class<?> > _typeIdCache;
     }
@@ -3244,7 +3374,7 @@ public class InputStream
                     //
                     if(_compactIdCache == null)
                     {
-                        _compactIdCache = new java.util.TreeMap<>(); // Lazy initialization.
+                        _compactIdCache = new com.zeroc.IceInternal.IntMap<>(); // Lazy initialization.
                     }
                     else
                     {
@@ -3254,16 +3384,8 @@ public class InputStream
                         Class<?> cls = _compactIdCache.get(_current.compactId);
                         if(cls != null)
                         {
-                            try
-                            {
-                                v = (Value)cls.getDeclaredConstructor().newInstance();
-                                updateCache = false;
-                            }
-                            catch(java.lang.Exception ex)
-                            {
-                                throw new NoValueFactoryException("no value factory", "compact ID " +
-                                                                  _current.compactId, ex);
-                            }
+                            v = instantiate(cls, "compact ID " + _current.compactId);
+                            updateCache = false;
                         }
                     }
 
@@ -3463,7 +3585,7 @@ public class InputStream
         private java.util.function.IntFunction<String> _compactIdResolver;
         private InstanceData _current;
         private int _valueIdIndex; // The ID of the next instance to unmarshal.
-        private java.util.TreeMap<Integer, Class<?> > _compactIdCache; // Cache of compact type IDs.
+        private com.zeroc.IceInternal.IntMap<Class<?> > _compactIdCache; // Cache of compact type IDs.
     }
 
     private static final class Encaps
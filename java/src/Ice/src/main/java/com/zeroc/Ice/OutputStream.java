@@ -92,12 +92,12 @@ public class OutputStream
 
     public OutputStream(com.zeroc.IceInternal.Instance instance, EncodingVersion encoding)
     {
-        initialize(instance, encoding, instance.cacheMessageBuffers() > 1);
+        this(instance, encoding, instance.cacheMessageBuffers() > 1);
     }
 
     public OutputStream(com.zeroc.IceInternal.Instance instance, EncodingVersion encoding, boolean direct)
     {
-        initialize(instance, encoding, direct);
+        initialize(instance, encoding, new com.zeroc.IceInternal.Buffer(direct, instance.bufferPool()));
     }
 
     public OutputStream(com.zeroc.IceInternal.Instance instance, EncodingVersion encoding,
@@ -1444,9 +1444,6 @@ public class OutputStream
         }
     }
 
-    final static java.nio.charset.Charset _utf8 = java.nio.charset.Charset.forName("UTF8");
-    private java.nio.charset.CharsetEncoder _charEncoder = null;
-
     /**
      * Writes a string to the stream.
      *
@@ -1458,59 +1455,125 @@ public class OutputStream
         if(v == null)
         {
             writeSize(0);
+            return;
+        }
+
+        final int len = v.length();
+        if(len == 0)
+        {
+            writeSize(0);
+            return;
+        }
+
+        //
+        // Compute the size of the UTF-8 encoded string first, this allows
+        // to encode the string directly into the stream buffer.
+        //
+        final int sz = utf8Length(v, len);
+        writeSize(sz);
+        expand(sz);
+
+        final java.nio.ByteBuffer b = _buf.b;
+        if(b.hasArray())
+        {
+            final int pos = b.position();
+            encodeUTF8(v, len, b.array(), b.arrayOffset() + pos);
+            _buf.position(pos + sz);
         }
         else
         {
-            final int len = v.length();
-            if(len > 0)
+            //
+            // Direct buffer, encode the string into the reusable byte
+            // array and transfer it with a single bulk put.
+            //
+            if(_stringBytes == null || sz > _stringBytes.length)
             {
-                if(_stringBytes == null || len > _stringBytes.length)
-                {
-                    _stringBytes = new byte[len];
-                }
-                if(_stringChars == null || len > _stringChars.length)
+                _stringBytes = new byte[sz];
+            }
+            encodeUTF8(v, len, _stringBytes, 0);
+            b.put(_stringBytes, 0, sz);
+        }
+    }
+
+    //
+    // Returns the number of bytes of the UTF-8 encoding of the given string.
+    //
+    private static int utf8Length(String v, int len)
+    {
+        int sz = len;
+        int i = 0;
+
+        //
+        // Fast path for 7-bit characters.
+        //
+        while(i < len && v.charAt(i) < 0x80)
+        {
+            ++i;
+        }
+
+        for(; i < len; ++i)
+        {
+            final char c = v.charAt(i);
+            if(c >= 0x80)
+            {
+                if(c < 0x800)
                 {
-                    _stringChars = new char[len];
+                    sz += 1;
                 }
-                //
-                // If the string contains only 7-bit characters, it's more efficient
-                // to perform the conversion to UTF-8 manually.
-                //
-                v.getChars(0, len, _stringChars, 0);
-                for(int i = 0; i < len; ++i)
+                else if(Character.isSurrogate(c))
                 {
-                    if(_stringChars[i] > (char)127)
+                    if(Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(v.charAt(i + 1)))
                     {
-                        //
-                        // Found a multibyte character.
-                        //
-                        if(_charEncoder == null)
-                        {
-                            _charEncoder = _utf8.newEncoder();
-                        }
-                        java.nio.ByteBuffer b = null;
-                        try
-                        {
-                            b = _charEncoder.encode(java.nio.CharBuffer.wrap(_stringChars, 0, len));
-                        }
-                        catch(java.nio.charset.CharacterCodingException ex)
-                        {
-                            throw new MarshalException(ex);
-                        }
-                        writeSize(b.limit());
-                        expand(b.limit());
-                        _buf.b.put(b);
-                        return;
+                        sz += 2; // 4 bytes for 2 chars.
+                        ++i;
                     }
-                    _stringBytes[i] = (byte)_stringChars[i];
+                    else
+                    {
+                        throw new MarshalException("string contains an unpaired surrogate character");
+                    }
+                }
+                else
+                {
+                    sz += 2;
                 }
-                writeSize(len);
-                expand(len);
-                _buf.b.put(_stringBytes, 0, len);
+            }
+        }
+        return sz;
+    }
+
+    //
+    // Encode the string into the given array, the array must have room for
+    // the number of bytes returned by utf8Length().
+    //
+    private static void encodeUTF8(String v, int len, byte[] data, int offset)
+    {
+        int j = offset;
+        int i = 0;
+        while(i < len)
+        {
+            final char c = v.charAt(i++);
+            if(c < 0x80)
+            {
+                data[j++] = (byte)c;
+            }
+            else if(c < 0x800)
+            {
+                data[j++] = (byte)(0xc0 | (c >> 6));
+                data[j++] = (byte)(0x80 | (c & 0x3f));
+            }
+            else if(Character.isHighSurrogate(c))
+            {
+                final int cp = Character.toCodePoint(c, v.charAt(i++));
+                data[j++] = (byte)(0xf0 | (cp >> 18));
+                data[j++] = (byte)(0x80 | ((cp >> 12) & 0x3f));
+                data[j++] = (byte)(0x80 | ((cp >> 6) & 0x3f));
+                data[j++] = (byte)(0x80 | (cp & 0x3f));
             }
             else
             {
-                writeSize(0);
+                data[j++] = (byte)(0xe0 | (c >> 12));
+                data[j++] = (byte)(0x80 | ((c >> 6) & 0x3f));
+                data[j++] = (byte)(0x80 | (c & 0x3f));
             }
         }
     }
@@ -1801,7 +1864,6 @@ public class OutputStream
     private Object _closure;
     private FormatType _format;
     private byte[] _stringBytes; // Reusable array for string operations.
-    private char[] _stringChars; // Reusable array for string operations.
 
     private enum SliceType { NoSlice, ValueSlice, ExceptionSlice }
 
@@ -0,0 +1,385 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.Ice;
+
+/**
+ * A servant that receives the streams sent with a {@link StreamSender}. For each
+ * new stream, the handler is called with a publisher of the received bytes. The
+ * handler (or a later caller) must subscribe to the publisher; the chunks of the
+ * stream are acknowledged to the sender only once they have been delivered to
+ * the subscriber, so a slow subscriber slows down the sender instead of causing
+ * the chunks to be buffered.
+ *
+ * The byte buffers delivered to the subscriber are read-only views of the
+ * request data, they aren't copied and aren't reused by the Ice run time.
+ *
+ * A stream is closed once it completes, fails, is canceled by the subscriber
+ * or aborted by the sender; the chunks received afterwards for this stream are
+ * rejected. A stream which receives no chunk and no request from its subscriber
+ * for Ice.Stream.IdleTimeout seconds (60 by default, 0 to disable) is failed
+ * and closed.
+ **/
+public class StreamReceiver implements BlobjectAsync
+{
+    /**
+     * Called by the receiver for each new stream.
+     **/
+    @FunctionalInterface
+    public interface Handler
+    {
+        /**
+         * Called when the first chunk of a new stream is received.
+         *
+         * @param name The stream name given to {@link StreamSender#send}.
+         * @param publisher The publisher of the bytes of the stream. It accepts a
+         * single subscriber.
+         * @param current The Current object of the first request of the stream.
+         **/
+        void stream(String name, Flow.Publisher<java.nio.ByteBuffer> publisher, Current current);
+    }
+
+    /**
+     * Creates a stream receiver.
+     *
+     * @param handler The handler called for each new stream.
+     **/
+    public StreamReceiver(Handler handler)
+    {
+        _handler = handler;
+    }
+
+    @Override
+    public java.util.concurrent.CompletionStage<Object.Ice_invokeResult> ice_invokeAsync(byte[] inEncaps,
+                                                                                         Current current)
+    {
+        if(current.operation.equals(StreamSender.ChunkOperation))
+        {
+            InputStream is = new InputStream(current.adapter.getCommunicator(), inEncaps);
+            is.startEncapsulation();
+            String id = is.readString();
+            String name = is.readString();
+            long sequence = is.readLong();
+            boolean last = is.readBool();
+            java.nio.ByteBuffer data = is.readByteBuffer();
+            is.endEncapsulation();
+
+            InboundStream stream;
+            boolean created = false;
+            synchronized(this)
+            {
+                stream = _streams.get(id);
+                if(stream == null)
+                {
+                    if(_closed.containsKey(id))
+                    {
+                        //
+                        // A chunk sent before the stream was closed, don't re-create it.
+                        //
+                        java.util.concurrent.CompletableFuture<Object.Ice_invokeResult> f =
+                            new java.util.concurrent.CompletableFuture<>();
+                        f.completeExceptionally(new UnknownException("stream `" + id + "' is closed"));
+                        return f;
+                    }
+                    stream = new InboundStream(id);
+                    _streams.put(id, stream);
+                    scheduleIdleCheck(stream, current.adapter.getCommunicator());
+                    created = true;
+                }
+            }
+            if(created)
+            {
+                _handler.stream(name, stream, current);
+            }
+            return stream.chunk(sequence, last, data);
+        }
+        else if(current.operation.equals(StreamSender.AbortOperation))
+        {
+            InputStream is = new InputStream(current.adapter.getCommunicator(), inEncaps);
+            is.startEncapsulation();
+            String id = is.readString();
+            String reason = is.readString();
+            is.endEncapsulation();
+
+            InboundStream stream = close(id);
+            if(stream != null)
+            {
+                stream.fail(new UnknownException("stream aborted by sender:\n" + reason), true);
+            }
+            return java.util.concurrent.CompletableFuture.completedFuture(new Object.Ice_invokeResult(true, null));
+        }
+        else if(current.operation.equals("ice_ping"))
+        {
+            return java.util.concurrent.CompletableFuture.completedFuture(new Object.Ice_invokeResult(true, null));
+        }
+        throw new OperationNotExistException(current.id, current.facet, current.operation);
+    }
+
+    //
+    // Removes the stream and remembers its id to reject the chunks which are still in
+    // flight, for example after a cancellation. The id is also remembered if the stream
+    // doesn't exist, an abort can be dispatched before the first chunk.
+    //
+    private synchronized InboundStream close(String id)
+    {
+        InboundStream stream = _streams.remove(id);
+        _closed.put(id, Boolean.TRUE);
+        if(stream != null && stream._idleCheck != null)
+        {
+            stream._idleCheck.cancel(false);
+            stream._idleCheck = null;
+        }
+        return stream;
+    }
+
+    private void scheduleIdleCheck(InboundStream stream, Communicator communicator)
+    {
+        // Called with the receiver locked.
+        if(_idleTimeout < 0)
+        {
+            _idleTimeout = communicator.getProperties().getPropertyAsIntWithDefault("Ice.Stream.IdleTimeout", 60);
+        }
+        if(_idleTimeout > 0)
+        {
+            try
+            {
+                stream._idleCheck = com.zeroc.IceInternal.Util.getInstance(communicator).timer().scheduleWithFixedDelay(
+                    () -> stream.checkIdle(_idleTimeout), _idleTimeout, _idleTimeout,
+                    java.util.concurrent.TimeUnit.SECONDS);
+            }
+            catch(CommunicatorDestroyedException ex)
+            {
+                // Ignore, the stream fails with the dispatch.
+            }
+        }
+    }
+
+    private static class Chunk
+    {
+        Chunk(boolean last, java.nio.ByteBuffer data)
+        {
+            this.last = last;
+            this.data = data;
+        }
+
+        final boolean last;
+        final java.nio.ByteBuffer data;
+        final java.util.concurrent.CompletableFuture<Object.Ice_invokeResult> future =
+            new java.util.concurrent.CompletableFuture<>();
+    }
+
+    //
+    // The chunks of a stream can be dispatched out of order by the server thread pool,
+    // they are re-ordered with their sequence number. There are at most "window" chunks
+    // waiting for delivery since the sender waits for the acknowledgments.
+    //
+    private class InboundStream implements Flow.Publisher<java.nio.ByteBuffer>, Flow.Subscription
+    {
+        InboundStream(String id)
+        {
+            _id = id;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super java.nio.ByteBuffer> subscriber)
+        {
+            Throwable error;
+            synchronized(this)
+            {
+                if(_subscriber != null)
+                {
+                    error = new IllegalStateException("stream already subscribed");
+                }
+                else
+                {
+                    _subscriber = subscriber;
+                    error = _error;
+                }
+            }
+
+            subscriber.onSubscribe(this);
+            if(error != null)
+            {
+                subscriber.onError(error);
+            }
+        }
+
+        @Override
+        public void request(long n)
+        {
+            if(n <= 0)
+            {
+                close(_id);
+                fail(new IllegalArgumentException("non-positive request"), true);
+                return;
+            }
+            synchronized(this)
+            {
+                _demand = _demand + n < 0 ? Long.MAX_VALUE : _demand + n;
+                _lastActivity = System.nanoTime();
+            }
+            deliver();
+        }
+
+        @Override
+        public void cancel()
+        {
+            close(_id);
+            fail(new UnknownException("stream canceled by receiver"), false);
+        }
+
+        java.util.concurrent.CompletionStage<Object.Ice_invokeResult> chunk(long sequence, boolean last,
+                                                                           java.nio.ByteBuffer data)
+        {
+            Chunk chunk = new Chunk(last, data);
+            synchronized(this)
+            {
+                if(_error != null)
+                {
+                    chunk.future.completeExceptionally(_error);
+                    return chunk.future;
+                }
+                _chunks.put(sequence, chunk);
+                _lastActivity = System.nanoTime();
+            }
+            deliver();
+            return chunk.future;
+        }
+
+        void fail(Throwable error, boolean notify)
+        {
+            java.util.List<Chunk> chunks;
+            Flow.Subscriber<? super java.nio.ByteBuffer> subscriber;
+            synchronized(this)
+            {
+                if(_error != null || _done)
+                {
+                    return;
+                }
+                _error = error;
+                chunks = new java.util.ArrayList<>(_chunks.values());
+                _chunks.clear();
+                subscriber = notify ? _subscriber : null;
+            }
+
+            for(Chunk c : chunks)
+            {
+                c.future.completeExceptionally(error);
+            }
+            if(subscriber != null)
+            {
+                subscriber.onError(error);
+            }
+        }
+
+        //
+        // Called periodically by the timer: the stream is failed if neither the sender nor
+        // the subscriber made progress for the idle timeout, for example because the sender
+        // went away without aborting the stream.
+        //
+        void checkIdle(int timeout)
+        {
+            synchronized(this)
+            {
+                if(System.nanoTime() - _lastActivity < java.util.concurrent.TimeUnit.SECONDS.toNanos(timeout))
+                {
+                    return;
+                }
+            }
+            close(_id);
+            fail(new UnknownException("stream idle for more than " + timeout + " seconds"), true);
+        }
+
+        private void deliver()
+        {
+            while(true)
+            {
+                Chunk chunk;
+                Flow.Subscriber<? super java.nio.ByteBuffer> subscriber;
+                synchronized(this)
+                {
+                    //
+                    // Only one thread delivers the chunks to ensure they are delivered in
+                    // order and onNext calls aren't concurrent.
+                    //
+                    if(_delivering || _subscriber == null || _error != null)
+                    {
+                        return;
+                    }
+                    chunk = _chunks.get(_next);
+                    if(chunk == null || (chunk.data.hasRemaining() && _demand == 0))
+                    {
+                        return;
+                    }
+                    _chunks.remove(_next);
+                    ++_next;
+                    if(chunk.data.hasRemaining() && _demand != Long.MAX_VALUE)
+                    {
+                        --_demand;
+                    }
+                    _done = chunk.last;
+                    _delivering = true;
+                    subscriber = _subscriber;
+                }
+
+                try
+                {
+                    if(chunk.data.hasRemaining())
+                    {
+                        subscriber.onNext(chunk.data);
+                    }
+                    if(chunk.last)
+                    {
+                        close(_id);
+                        subscriber.onComplete();
+                    }
+                    chunk.future.complete(new Object.Ice_invokeResult(true, null));
+                }
+                catch(Throwable ex)
+                {
+                    chunk.future.completeExceptionally(ex);
+                    close(_id);
+                    fail(ex, !chunk.last);
+                }
+                finally
+                {
+                    synchronized(this)
+                    {
+                        _delivering = false;
+                    }
+                }
+            }
+        }
+
+        private final String _id;
+        private java.util.concurrent.ScheduledFuture<?> _idleCheck; // Protected by the receiver lock
+        private long _lastActivity = System.nanoTime();
+        private final java.util.TreeMap<Long, Chunk> _chunks = new java.util.TreeMap<>();
+        private Flow.Subscriber<? super java.nio.ByteBuffer> _subscriber;
+        private long _demand;
+        private long _next;
+        private boolean _delivering;
+        private boolean _done;
+        private Throwable _error;
+    }
+
+    private final Handler _handler;
+    private final java.util.Map<String, InboundStream> _streams = new java.util.HashMap<>();
+    private int _idleTimeout = -1;
+
+    //
+    // The ids of the recently closed streams, the oldest ids are forgotten once there are
+    // more than ClosedMax ids. The chunks of a closed stream arrive shortly after it's
+    // closed since the sender has at most "window" chunks in flight.
+    //
+    private static final int ClosedMax = 1024;
+    private final java.util.Map<String, Boolean> _closed = new java.util.LinkedHashMap<String, Boolean>()
+    {
+        @Override
+        protected boolean removeEldestEntry(java.util.Map.Entry<String, Boolean> eldest)
+        {
+            return size() > ClosedMax;
+        }
+    };
+}
@@ -0,0 +1,270 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.Ice;
+
+/**
+ * Sends a stream of bytes to a {@link StreamReceiver} servant without buffering
+ * the whole stream in memory. The items of the published stream are split into
+ * chunks of at most <code>chunkSize</code> bytes which are sent with regular
+ * invocations on the receiver proxy, over its existing connection.
+ *
+ * The transfer is flow-controlled: at most <code>window</code> chunks are in
+ * flight and the receiver only replies to a chunk once it has been delivered
+ * to the receiving subscriber. The memory used by a stream is therefore bounded
+ * by <code>chunkSize * window</code> on both sides, regardless of the size of
+ * the stream and of Ice.MessageSizeMax.
+ **/
+public class StreamSender
+{
+    /**
+     * Creates a stream sender for the given receiver. The chunk size and window are
+     * set with the Ice.Stream.ChunkSize (in kilobytes, 64 by default) and
+     * Ice.Stream.Window (4 by default) properties.
+     *
+     * @param receiver The proxy of the {@link StreamReceiver} servant.
+     **/
+    public StreamSender(ObjectPrx receiver)
+    {
+        this(receiver,
+             receiver.ice_getCommunicator().getProperties().getPropertyAsIntWithDefault("Ice.Stream.ChunkSize", 64) *
+                1024,
+             receiver.ice_getCommunicator().getProperties().getPropertyAsIntWithDefault("Ice.Stream.Window", 4));
+    }
+
+    /**
+     * Creates a stream sender for the given receiver.
+     *
+     * @param receiver The proxy of the {@link StreamReceiver} servant.
+     * @param chunkSize The maximum number of bytes sent with each chunk.
+     * @param window The maximum number of chunks in flight.
+     **/
+    public StreamSender(ObjectPrx receiver, int chunkSize, int window)
+    {
+        if(chunkSize <= 0 || window <= 0)
+        {
+            throw new IllegalArgumentException("invalid chunk size or window");
+        }
+        _receiver = receiver.ice_twoway();
+        _chunkSize = chunkSize;
+        _window = window;
+    }
+
+    /**
+     * Sends the bytes published by the given publisher. The receiver handler is
+     * called with the stream name and a publisher of the received bytes.
+     *
+     * @param name The stream name.
+     * @param publisher The publisher of the bytes to send.
+     * @return A future that completes once all the bytes have been delivered to the
+     * receiving subscriber, or exceptionally if the stream failed or was canceled by
+     * the receiver.
+     **/
+    public java.util.concurrent.CompletableFuture<Void> send(String name,
+                                                             Flow.Publisher<java.nio.ByteBuffer> publisher)
+    {
+        Transfer transfer = new Transfer(name);
+        publisher.subscribe(transfer);
+        return transfer.future;
+    }
+
+    static final String ChunkOperation = "streamChunk";
+    static final String AbortOperation = "streamAbort";
+
+    private class Transfer implements Flow.Subscriber<java.nio.ByteBuffer>
+    {
+        Transfer(String name)
+        {
+            _name = name;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription)
+        {
+            synchronized(this)
+            {
+                if(_subscription != null || _failed)
+                {
+                    subscription.cancel();
+                    return;
+                }
+                _subscription = subscription;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(java.nio.ByteBuffer item)
+        {
+            synchronized(this)
+            {
+                assert(_item == null);
+                _item = item;
+            }
+            pump();
+        }
+
+        @Override
+        public void onError(Throwable throwable)
+        {
+            boolean abort;
+            synchronized(this)
+            {
+                abort = !_failed && _sequence > 0;
+                _failed = true;
+            }
+            if(abort)
+            {
+                //
+                // Tell the receiver that the stream won't complete, this is a best-effort
+                // notification.
+                //
+                OutputStream os = new OutputStream(_receiver.ice_getCommunicator(), _receiver.ice_getEncodingVersion());
+                os.startEncapsulation();
+                os.writeString(_id);
+                os.writeString(throwable.toString());
+                os.endEncapsulation();
+                _receiver.ice_invokeAsync(AbortOperation, OperationMode.Normal, os.finished());
+            }
+            future.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete()
+        {
+            synchronized(this)
+            {
+                _completed = true;
+            }
+            pump();
+        }
+
+        private void pump()
+        {
+            java.util.List<byte[]> chunks = new java.util.ArrayList<>();
+            boolean request = false;
+            boolean done = false;
+            synchronized(this)
+            {
+                if(_failed)
+                {
+                    return;
+                }
+
+                while(_outstanding < _window)
+                {
+                    if(_item != null)
+                    {
+                        if(_item.hasRemaining())
+                        {
+                            java.nio.ByteBuffer data = _item.duplicate();
+                            int len = Math.min(_chunkSize, data.remaining());
+                            ((java.nio.Buffer)data).limit(data.position() + len);
+                            ((java.nio.Buffer)_item).position(_item.position() + len);
+                            chunks.add(encode(data, false));
+                            continue;
+                        }
+                        _item = null;
+                        request = !_completed;
+                    }
+                    else if(_completed && !_lastSent)
+                    {
+                        chunks.add(encode(null, true));
+                        _lastSent = true;
+                    }
+                    break;
+                }
+                done = _lastSent && _outstanding == 0 && chunks.isEmpty();
+            }
+
+            for(byte[] chunk : chunks)
+            {
+                _receiver.ice_invokeAsync(ChunkOperation, OperationMode.Normal, chunk).whenComplete((r, ex) ->
+                    {
+                        if(ex == null && !r.returnValue)
+                        {
+                            ex = new UnknownUserException("stream chunk failed with user exception");
+                        }
+                        if(ex != null)
+                        {
+                            fail(ex);
+                        }
+                        else
+                        {
+                            synchronized(this)
+                            {
+                                --_outstanding;
+                            }
+                            pump();
+                        }
+                    });
+            }
+
+            if(done)
+            {
+                future.complete(null);
+            }
+            else if(request)
+            {
+                _subscription.request(1);
+            }
+        }
+
+        private byte[] encode(java.nio.ByteBuffer data, boolean last)
+        {
+            ++_outstanding;
+            OutputStream os = new OutputStream(_receiver.ice_getCommunicator(), _receiver.ice_getEncodingVersion());
+            os.startEncapsulation();
+            os.writeString(_id);
+            os.writeString(_name);
+            os.writeLong(_sequence++);
+            os.writeBool(last);
+            if(data != null)
+            {
+                os.writeByteBuffer(data);
+            }
+            else
+            {
+                os.writeSize(0);
+            }
+            os.endEncapsulation();
+            return os.finished();
+        }
+
+        private void fail(Throwable ex)
+        {
+            Flow.Subscription subscription;
+            synchronized(this)
+            {
+                if(_failed)
+                {
+                    return;
+                }
+                _failed = true;
+                subscription = _subscription;
+            }
+            if(subscription != null)
+            {
+                subscription.cancel();
+            }
+            future.completeExceptionally(ex);
+        }
+
+        final java.util.concurrent.CompletableFuture<Void> future = new java.util.concurrent.CompletableFuture<>();
+
+        private final String _id = java.util.UUID.randomUUID().toString();
+        private final String _name;
+        private Flow.Subscription _subscription;
+        private java.nio.ByteBuffer _item;
+        private long _sequence;
+        private int _outstanding;
+        private boolean _completed;
+        private boolean _lastSent;
+        private boolean _failed;
+    }
+
+    private final ObjectPrx _receiver;
+    private final int _chunkSize;
+    private final int _window;
+}
@@ -562,6 +562,11 @@ public class _ObjectPrxI implements ObjectPrx, java.io.Serializable
         return _reference.getRequestHandler(this);
     }
 
+    synchronized public com.zeroc.IceInternal.RequestHandler _getCachedRequestHandler()
+    {
+        return _requestHandler;
+    }
+
     synchronized public com.zeroc.IceInternal.BatchRequestQueue _getBatchRequestQueue()
     {
         if(_batchRequestQueue == null)
@@ -16,12 +16,23 @@ public class Buffer
     }
 
     public Buffer(boolean direct, java.nio.ByteOrder order)
+    {
+        this(direct, order, null);
+    }
+
+    public Buffer(boolean direct, BufferPool pool)
+    {
+        this(direct, java.nio.ByteOrder.LITTLE_ENDIAN, pool);
+    }
+
+    public Buffer(boolean direct, java.nio.ByteOrder order, BufferPool pool)
     {
         b = _emptyBuffer;
         _size = 0;
         _capacity = 0;
         _direct = direct;
         _order = order;
+        _pool = pool;
     }
 
     public Buffer(byte[] data)
@@ -62,11 +73,21 @@ public class Buffer
         _direct = buf._direct;
         _shrinkCounter = buf._shrinkCounter;
         _order = buf._order;
+        _pool = buf._pool;
 
         if(adopt)
         {
+            _pooled = buf._pooled;
             buf.clear();
         }
+        else
+        {
+            //
+            // The memory is shared with the given buffer which remains its
+            // owner, this buffer must never return it to the pool.
+            //
+            _pooled = false;
+        }
     }
 
     public java.nio.Buffer position(int newPosition)
@@ -98,6 +119,8 @@ public class Buffer
         final boolean direct = buf._direct;
         final int shrinkCounter = buf._shrinkCounter;
         final java.nio.ByteOrder order = buf._order;
+        final BufferPool pool = buf._pool;
+        final boolean pooled = buf._pooled;
 
         buf.b = b;
         buf._size = _size;
@@ -105,6 +128,8 @@ public class Buffer
         buf._direct = _direct;
         buf._shrinkCounter = _shrinkCounter;
         buf._order = _order;
+        buf._pool = _pool;
+        buf._pooled = _pooled;
 
         b = bb;
         _size = size;
@@ -112,6 +137,8 @@ public class Buffer
         _direct = direct;
         _shrinkCounter = shrinkCounter;
         _order = order;
+        _pool = pool;
+        _pooled = pooled;
     }
 
     public int size()
@@ -130,6 +157,32 @@ public class Buffer
         _size = 0;
         _capacity = 0;
         _shrinkCounter = 0;
+        _pooled = false;
+    }
+
+    //
+    // Clear the buffer and return its memory to the buffer pool. This
+    // must only be called once the memory is no longer referenced, for
+    // example once the request or reply it holds has been dispatched or
+    // unmarshaled.
+    //
+    public void release()
+    {
+        if(_pooled)
+        {
+            _pool.release(b);
+        }
+        clear();
+    }
+
+    //
+    // Called when the memory of this buffer is exposed to the application
+    // (for example with zero-copy sequence unmarshaling). The memory is
+    // then left to the garbage collector instead of being recycled.
+    //
+    public void unpool()
+    {
+        _pooled = false;
     }
 
     //
@@ -218,7 +271,24 @@ public class Buffer
         {
             java.nio.ByteBuffer buf;
 
-            if(_direct)
+            if(_pool != null)
+            {
+                //
+                // The pool rounds the capacity up to its size class.
+                //
+                buf = _pool.allocate(_capacity, _direct);
+                if(buf.capacity() == b.capacity())
+                {
+                    //
+                    // Shrinking to the same size class, keep the current memory.
+                    //
+                    _pool.release(buf);
+                    _capacity = b.capacity();
+                    return;
+                }
+                _capacity = buf.capacity();
+            }
+            else if(_direct)
             {
                 buf = java.nio.ByteBuffer.allocateDirect(_capacity);
             }
@@ -237,12 +307,17 @@ public class Buffer
                 position(0);
                 limit(java.lang.Math.min(_capacity, b.capacity()));
                 buf.put(b);
+                if(_pooled)
+                {
+                    _pool.release(b);
+                }
                 b = buf;
                 limit(b.capacity());
                 position(pos);
             }
 
             b.order(_order); // Preserve the original order.
+            _pooled = _pool != null;
         }
         catch(OutOfMemoryError ex)
         {
@@ -260,4 +335,6 @@ public class Buffer
     private boolean _direct; // Use direct buffers?
     private int _shrinkCounter;
     private java.nio.ByteOrder _order;
+    private BufferPool _pool; // The pool to allocate memory from, null if pooling is disabled.
+    private boolean _pooled; // Whether or not b should be returned to the pool on release.
 }
@@ -0,0 +1,147 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+//
+// A communicator-wide pool of byte buffers used by the protocol streams.
+//
+// Buffers are grouped in power-of-two size classes, from MinSize up to the
+// configured maximum size. Each size class keeps a bounded number of heap
+// and direct buffers. Buffers larger than the largest size class are never
+// pooled.
+//
+public final class BufferPool
+{
+    public static final int MinSize = 256;
+
+    @SuppressWarnings("unchecked")
+    BufferPool(int maxSize, int maxBuffers)
+    {
+        int classes = 0;
+        for(long sz = MinSize; sz <= maxSize; sz <<= 1)
+        {
+            ++classes;
+        }
+
+        _heap = new java.util.concurrent.ArrayBlockingQueue[classes];
+        _direct = new java.util.concurrent.ArrayBlockingQueue[classes];
+        for(int i = 0; i < classes; ++i)
+        {
+            _heap[i] = new java.util.concurrent.ArrayBlockingQueue<>(maxBuffers);
+            _direct[i] = new java.util.concurrent.ArrayBlockingQueue<>(maxBuffers);
+        }
+    }
+
+    public java.nio.ByteBuffer allocate(int capacity, boolean direct)
+    {
+        final int index = sizeClass(capacity);
+        if(index >= _heap.length)
+        {
+            _oversized.increment();
+            return direct ? java.nio.ByteBuffer.allocateDirect(capacity) : java.nio.ByteBuffer.allocate(capacity);
+        }
+
+        java.nio.ByteBuffer buf = (direct ? _direct : _heap)[index].poll();
+        if(buf != null)
+        {
+            _hits.increment();
+            ((java.nio.Buffer)buf).clear();
+            return buf;
+        }
+
+        _misses.increment();
+        final int size = MinSize << index;
+        return direct ? java.nio.ByteBuffer.allocateDirect(size) : java.nio.ByteBuffer.allocate(size);
+    }
+
+    public void release(java.nio.ByteBuffer buf)
+    {
+        final int index = sizeClass(buf.capacity());
+        if(index >= _heap.length || (MinSize << index) != buf.capacity())
+        {
+            return; // Not allocated from one of our size classes.
+        }
+
+        if((buf.isDirect() ? _direct : _heap)[index].offer(buf))
+        {
+            _released.increment();
+        }
+        else
+        {
+            _discarded.increment(); // The size class is full, leave it to the garbage collector.
+        }
+    }
+
+    public long hits()
+    {
+        return _hits.sum();
+    }
+
+    public long misses()
+    {
+        return _misses.sum();
+    }
+
+    public long released()
+    {
+        return _released.sum();
+    }
+
+    public long discarded()
+    {
+        return _discarded.sum();
+    }
+
+    public long oversized()
+    {
+        return _oversized.sum();
+    }
+
+    public double hitRate()
+    {
+        final long hits = hits();
+        final long total = hits + misses();
+        return total == 0 ? 0.0 : (double)hits / total;
+    }
+
+    public com.zeroc.IceStats.BufferPoolStats getStats()
+    {
+        return new com.zeroc.IceStats.BufferPoolStats(hits(), misses(), released(), discarded(), oversized());
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder();
+        s.append("hits = ").append(hits());
+        s.append(", misses = ").append(misses());
+        s.append(", hit rate = ").append(String.format("%.2f%%", hitRate() * 100));
+        s.append(", released = ").append(released());
+        s.append(", discarded = ").append(discarded());
+        s.append(", oversized = ").append(oversized());
+        return s.toString();
+    }
+
+    private static int sizeClass(int capacity)
+    {
+        if(capacity <= MinSize)
+        {
+            return 0;
+        }
+        //
+        // Index of the smallest power of two >= capacity, relative to MinSize.
+        //
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1) - Integer.numberOfTrailingZeros(MinSize);
+    }
+
+    private final java.util.concurrent.ArrayBlockingQueue<java.nio.ByteBuffer>[] _heap;
+    private final java.util.concurrent.ArrayBlockingQueue<java.nio.ByteBuffer>[] _direct;
+
+    private final java.util.concurrent.atomic.LongAdder _hits = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _misses = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _released = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _discarded = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _oversized = new java.util.concurrent.atomic.LongAdder();
+}
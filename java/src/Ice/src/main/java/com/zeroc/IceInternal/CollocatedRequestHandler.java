@@ -22,7 +22,7 @@ public class CollocatedRequestHandler implements RequestHandler, ResponseHandler
         {
             if(sentAsync(_outAsync))
             {
-                invokeAll(_os, _requestId, _batchRequestNum);
+                invokeAll(_os, _requestId, _batchRequestNum, null);
             }
         }
 
@@ -43,6 +43,14 @@ public class CollocatedRequestHandler implements RequestHandler, ResponseHandler
         _logger = _reference.getInstance().initializationData().logger; // Cached for better performance.
         _traceLevels = _reference.getInstance().traceLevels(); // Cached for better performance.
         _requestId = 0;
+
+        //
+        // Synchronous twoway invocations are dispatched directly from the calling thread if
+        // there's no dispatcher and no invocation timeout, see invokeAsyncRequest. These
+        // invocations can also skip the marshaling of parameters and results if enabled.
+        //
+        _direct = ref.getInstance().collocationDirect() && !_dispatcher && _response &&
+            !ref.getInstance().queueRequests() && ref.getInvocationTimeout() <= 0 && _traceLevels.protocol < 1;
     }
 
     @Override
@@ -146,6 +154,31 @@ public class CollocatedRequestHandler implements RequestHandler, ResponseHandler
         _adapter.decDirectCount();
     }
 
+    //
+    // Called by Incoming when the invocation was dispatched without marshaling the
+    // parameters, the result is passed by reference to the invocation.
+    //
+    public void
+    sendDirectResponse(int requestId, Object result)
+    {
+        OutgoingAsync<?> outAsync = null;
+        synchronized(this)
+        {
+            assert(_response);
+            outAsync = (OutgoingAsync<?>)_asyncRequests.remove(requestId);
+            if(outAsync != null && !outAsync.completedDirect(result))
+            {
+                outAsync = null;
+            }
+        }
+
+        if(outAsync != null)
+        {
+            outAsync.invokeCompleted();
+        }
+        _adapter.decDirectCount();
+    }
+
     @Override
     public void
     sendNoResponse()
@@ -184,6 +217,12 @@ public class CollocatedRequestHandler implements RequestHandler, ResponseHandler
         return null;
     }
 
+    boolean
+    canDispatchDirect()
+    {
+        return _direct;
+    }
+
     int invokeAsyncRequest(OutgoingAsyncBase outAsync, int batchRequestNum, boolean sync)
     {
         //
@@ -234,7 +273,12 @@ public class CollocatedRequestHandler implements RequestHandler, ResponseHandler
         {
             if(sentAsync(outAsync))
             {
-                invokeAll(outAsync.getOs(), requestId, batchRequestNum);
+                OutgoingAsync<?> direct = null;
+                if(_direct && outAsync instanceof OutgoingAsync && ((OutgoingAsync<?>)outAsync).dispatchDirect())
+                {
+                    direct = (OutgoingAsync<?>)outAsync;
+                }
+                invokeAll(outAsync.getOs(), requestId, batchRequestNum, direct);
             }
         }
         return AsyncStatus.Queued;
@@ -266,7 +310,7 @@ public class CollocatedRequestHandler implements RequestHandler, ResponseHandler
     }
 
     private void
-    invokeAll(com.zeroc.Ice.OutputStream os, int requestId, int batchRequestNum)
+    invokeAll(com.zeroc.Ice.OutputStream os, int requestId, int batchRequestNum, OutgoingAsync<?> direct)
     {
         if(_traceLevels.protocol >= 1)
         {
@@ -318,7 +362,7 @@ public class CollocatedRequestHandler implements RequestHandler, ResponseHandler
 
                 Incoming in = new Incoming(_reference.getInstance(), this, null, _adapter, _response, (byte)0,
                                            requestId);
-                in.invoke(servantManager, is);
+                in.invoke(servantManager, is, direct);
                 --invokeNum;
             }
         }
@@ -424,6 +468,7 @@ public class CollocatedRequestHandler implements RequestHandler, ResponseHandler
     private final com.zeroc.Ice.ObjectAdapterI _adapter;
     private final com.zeroc.Ice.Logger _logger;
     private final TraceLevels _traceLevels;
+    private final boolean _direct;
 
     private int _requestId;
 
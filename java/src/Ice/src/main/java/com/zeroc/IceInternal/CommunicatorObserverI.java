@@ -5,8 +5,10 @@
 package com.zeroc.IceInternal;
 
 import com.zeroc.IceMX.*;
+import com.zeroc.IceStats.*;
 
-public class CommunicatorObserverI implements com.zeroc.Ice.Instrumentation.CommunicatorObserver
+public class CommunicatorObserverI implements com.zeroc.Ice.Instrumentation.CommunicatorObserver,
+                                              ThreadPoolSizingObserver, EndpointStatsObserver
 {
     static void
     addEndpointAttributes(MetricsHelper.AttributeResolver r, Class<?> cl)
@@ -802,6 +804,28 @@ public class CommunicatorObserverI implements com.zeroc.Ice.Instrumentation.Comm
         }
     }
 
+    @Override
+    public void
+    sizingChanged(ThreadPoolSizing sizing)
+    {
+        _metrics.threadPoolSizingChanged(sizing);
+        if(_delegate instanceof ThreadPoolSizingObserver)
+        {
+            ((ThreadPoolSizingObserver)_delegate).sizingChanged(sizing);
+        }
+    }
+
+    @Override
+    public void
+    endpointStatsChanged(EndpointStats[] stats)
+    {
+        _metrics.endpointStatsChanged(stats);
+        if(_delegate instanceof EndpointStatsObserver)
+        {
+            ((EndpointStatsObserver)_delegate).endpointStatsChanged(stats);
+        }
+    }
+
     public MetricsAdminI getFacet()
     {
         return _metrics;
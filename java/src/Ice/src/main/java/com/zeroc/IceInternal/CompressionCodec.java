@@ -0,0 +1,46 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+//
+// A compression codec for Ice protocol messages.
+//
+// The codec identifier is sent as the compression status of compressed
+// messages. The value 2 is reserved for bzip2, the only codec supported
+// by all Ice implementations, and 3 for the built-in deflate codec.
+// Codecs provided by plug-ins (LZ4, Zstd, ...) must use a value greater
+// than 3 and be registered with ProtocolPluginFacade.addCompressionCodec.
+//
+public interface CompressionCodec
+{
+    //
+    // The compression status value used on the wire for this codec.
+    //
+    byte id();
+
+    //
+    // The codec name used with the Ice.Compression.Codec property.
+    //
+    String name();
+
+    //
+    // Returns true if the codec can be used, for example if its
+    // third-party library is available.
+    //
+    boolean supported();
+
+    //
+    // Compress the message body of the given buffer. The returned buffer
+    // contains the message header, followed by the uncompressed message
+    // size and the compressed body. Returns null if the compressed data
+    // isn't smaller than the uncompressed data.
+    //
+    Buffer compress(Buffer buf, int headerSize, int compressionLevel);
+
+    //
+    // Uncompress a buffer previously compressed with compress().
+    //
+    Buffer uncompress(Buffer buf, int headerSize, int messageSizeMax);
+}
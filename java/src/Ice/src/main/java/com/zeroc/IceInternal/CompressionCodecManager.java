@@ -0,0 +1,165 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+public final class CompressionCodecManager
+{
+    CompressionCodecManager(Instance instance)
+    {
+        _instance = instance;
+
+        _bzip2 = new BZip2Codec();
+        add(_bzip2);
+        add(new DeflateCodec(instance.bufferPool()));
+    }
+
+    public synchronized void add(CompressionCodec codec)
+    {
+        if(codec.id() < BZip2Codec.ID)
+        {
+            throw new IllegalArgumentException("invalid compression codec id `" + codec.id() + "'");
+        }
+        for(CompressionCodec c : _codecs)
+        {
+            if(c.id() == codec.id() || c.name().equals(codec.name()))
+            {
+                com.zeroc.Ice.AlreadyRegisteredException ex = new com.zeroc.Ice.AlreadyRegisteredException();
+                ex.id = codec.name();
+                ex.kindOfObject = "compression codec";
+                throw ex;
+            }
+        }
+        _codecs.add(codec);
+    }
+
+    public synchronized CompressionCodec get(byte id)
+    {
+        for(CompressionCodec c : _codecs)
+        {
+            if(c.id() == id)
+            {
+                return c;
+            }
+        }
+        return null;
+    }
+
+    public synchronized CompressionCodec get(String name)
+    {
+        for(CompressionCodec c : _codecs)
+        {
+            if(c.name().equals(name))
+            {
+                return c;
+            }
+        }
+        return null;
+    }
+
+    public void initialize()
+    {
+        String name = _instance.initializationData().properties.getPropertyWithDefault("Ice.Compression.Codec",
+                                                                                      "bzip2");
+        CompressionCodec codec = get(name);
+        if(codec == null)
+        {
+            throw new com.zeroc.Ice.InitializationException("unknown compression codec `" + name + "'");
+        }
+        _default = codec;
+    }
+
+    //
+    // Returns the codec configured with Ice.Compression.Codec. Outgoing
+    // connections only use it if the server advertised it when validating
+    // the connection, see getAdvertisedId().
+    //
+    public CompressionCodec getDefault()
+    {
+        assert(_default != null);
+        return _default;
+    }
+
+    //
+    // Returns the compression status written in the validate connection
+    // message sent by the server side of a connection: the id of the
+    // configured codec if it isn't bzip2, zero otherwise. Other Ice
+    // implementations ignore the compression status of this message and
+    // never advertise a codec, their peers keep using bzip2.
+    //
+    public byte getAdvertisedId()
+    {
+        CompressionCodec codec = getDefault();
+        return codec.id() != BZip2Codec.ID && codec.supported() ? codec.id() : (byte)0;
+    }
+
+    //
+    // Returns the codec to use for an outgoing connection given the compression
+    // status of the validate connection message received from the server: the
+    // configured codec if the server advertised it, bzip2 otherwise.
+    //
+    public CompressionCodec negotiate(byte advertisedId)
+    {
+        CompressionCodec codec = getDefault();
+        if(advertisedId != 0 && codec.id() == advertisedId && codec.supported())
+        {
+            return codec;
+        }
+        return _bzip2;
+    }
+
+    //
+    // Returns the bzip2 codec, used by connections until a codec is negotiated:
+    // incoming connections switch to the codec of the first message compressed
+    // by the peer with another codec.
+    //
+    public CompressionCodec getBZip2()
+    {
+        return _bzip2;
+    }
+
+    //
+    // The bzip2 codec, backed by Apache Commons Compress. This is the only
+    // codec understood by all Ice implementations.
+    //
+    static final class BZip2Codec implements CompressionCodec
+    {
+        static final byte ID = 2;
+
+        @Override
+        public byte id()
+        {
+            return ID;
+        }
+
+        @Override
+        public String name()
+        {
+            return "bzip2";
+        }
+
+        @Override
+        public boolean supported()
+        {
+            return BZip2.supported();
+        }
+
+        @Override
+        public Buffer compress(Buffer buf, int headerSize, int compressionLevel)
+        {
+            return BZip2.compress(buf, headerSize, compressionLevel);
+        }
+
+        @Override
+        public Buffer uncompress(Buffer buf, int headerSize, int messageSizeMax)
+        {
+            return BZip2.uncompress(buf, headerSize, messageSizeMax);
+        }
+    }
+
+    private final Instance _instance;
+    private final CompressionCodec _bzip2;
+    private volatile CompressionCodec _default;
+    private final java.util.List<CompressionCodec> _codecs = new java.util.ArrayList<>();
+}
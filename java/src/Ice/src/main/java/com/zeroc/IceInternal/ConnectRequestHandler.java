@@ -345,7 +345,14 @@ public class ConnectRequestHandler
         if(_reference.getCacheConnection() && exception == null)
         {
             RequestHandler previous = _requestHandler;
-            _requestHandler = new ConnectionRequestHandler(_reference, _connection, _compress);
+            if(_reference.getConnectionPool() > 1)
+            {
+                _requestHandler = new PooledRequestHandler(_reference, _connection, _compress);
+            }
+            else
+            {
+                _requestHandler = new ConnectionRequestHandler(_reference, _connection, _compress);
+            }
             if(_reference.getInstance().queueRequests())
             {
                 _requestHandler = new QueueRequestHandler(_reference.getInstance(), _requestHandler);
@@ -6,8 +6,7 @@ package com.zeroc.IceInternal;
 
 class ConnectionACMMonitor implements ACMMonitor
 {
-    ConnectionACMMonitor(FactoryACMMonitor parent, java.util.concurrent.ScheduledExecutorService timer,
-        ACMConfig config)
+    ConnectionACMMonitor(FactoryACMMonitor parent, TimingWheel timer, ACMConfig config)
     {
         _parent = parent;
         _timer = timer;
@@ -41,10 +40,8 @@ class ConnectionACMMonitor implements ACMMonitor
         _connection = connection;
         if(_config.timeout > 0)
         {
-            _future = _timer.scheduleAtFixedRate(() -> { monitorConnection(); },
-                                                 _config.timeout / 2,
-                                                 _config.timeout / 2,
-                                                 java.util.concurrent.TimeUnit.MILLISECONDS);
+            _future = _timer.scheduleAtFixedRate(() -> { monitorConnection(); }, _config.timeout / 2,
+                                                 _config.timeout / 2);
         }
     }
 
@@ -56,7 +53,7 @@ class ConnectionACMMonitor implements ACMMonitor
         _connection = null;
         if(_config.timeout > 0)
         {
-            _future.cancel(false);
+            _future.cancel();
             _future = null;
         }
     }
@@ -111,8 +108,8 @@ class ConnectionACMMonitor implements ACMMonitor
     }
 
     final private FactoryACMMonitor _parent;
-    final private java.util.concurrent.ScheduledExecutorService _timer;
-    private java.util.concurrent.Future<?> _future;
+    final private TimingWheel _timer;
+    private TimingWheel.Timeout _future;
     final private ACMConfig _config;
 
     private com.zeroc.Ice.ConnectionI _connection;
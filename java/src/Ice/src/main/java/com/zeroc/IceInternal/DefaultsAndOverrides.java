@@ -115,7 +115,8 @@ public final class DefaultsAndOverrides
         {
             overrideCompress = true;
             boolean b = properties.getPropertyAsInt("Ice.Override.Compress") > 0;
-            if(b && !BZip2.supported())
+            if(b && properties.getPropertyWithDefault("Ice.Compression.Codec", "bzip2").equals("bzip2") &&
+               !BZip2.supported())
             {
                 System.err.println("warning: bzip2 support not available, Ice.Override.Compress ignored");
                 b = false;
@@ -160,6 +161,9 @@ public final class DefaultsAndOverrides
             throw ex;
         }
 
+        defaultEndpointBalancing =
+            EndpointBalancer.parse(properties.getPropertyWithDefault("Ice.Default.EndpointBalancing", "None"));
+
         intValue = properties.getPropertyAsIntWithDefault("Ice.Default.Timeout", 60000);
         if(intValue < 1 && intValue != -1)
         {
@@ -204,6 +208,20 @@ public final class DefaultsAndOverrides
 
         defaultPreferSecure = properties.getPropertyAsIntWithDefault("Ice.Default.PreferSecure", 0) > 0;
 
+        intValue = properties.getPropertyAsIntWithDefault("Ice.Default.ConnectionPool", 1);
+        if(intValue < 1)
+        {
+            defaultConnectionPool = 1;
+            StringBuffer msg = new StringBuffer("invalid value for Ice.Default.ConnectionPool `");
+            msg.append(properties.getProperty("Ice.Default.ConnectionPool"));
+            msg.append("': defaulting to 1");
+            logger.warning(msg.toString());
+        }
+        else
+        {
+            defaultConnectionPool = intValue;
+        }
+
         value = properties.getPropertyWithDefault("Ice.Default.EncodingVersion",
                                                   com.zeroc.Ice.Util.encodingVersionToString(Protocol.currentEncoding));
         defaultEncoding = com.zeroc.Ice.Util.stringToEncodingVersion(value);
@@ -218,10 +236,12 @@ public final class DefaultsAndOverrides
     final public String defaultProtocol;
     final public boolean defaultCollocationOptimization;
     final public com.zeroc.Ice.EndpointSelectionType defaultEndpointSelection;
+    final public int defaultEndpointBalancing;
     final public int defaultTimeout;
     final public int defaultLocatorCacheTimeout;
     final public int defaultInvocationTimeout;
     final public boolean defaultPreferSecure;
+    final public int defaultConnectionPool;
     final public com.zeroc.Ice.EncodingVersion defaultEncoding;
     final public com.zeroc.Ice.FormatType defaultFormat;
 
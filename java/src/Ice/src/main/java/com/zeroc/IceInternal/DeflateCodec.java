@@ -0,0 +1,221 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+//
+// A compression codec using the raw deflate format of java.util.zip. Unlike
+// bzip2 it doesn't require any third-party library and is considerably
+// cheaper, which makes compression worthwhile for mid-size messages.
+//
+// Data is compressed directly from and into the stream buffers, which are
+// allocated from the communicator buffer pool when it's enabled.
+//
+final class DeflateCodec implements CompressionCodec
+{
+    static final byte ID = 3;
+
+    DeflateCodec(BufferPool pool)
+    {
+        _pool = pool;
+    }
+
+    @Override
+    public byte id()
+    {
+        return ID;
+    }
+
+    @Override
+    public String name()
+    {
+        return "deflate";
+    }
+
+    @Override
+    public boolean supported()
+    {
+        return true;
+    }
+
+    @Override
+    public Buffer compress(Buffer buf, int headerSize, int compressionLevel)
+    {
+        final int uncompressedLen = buf.size() - headerSize;
+
+        byte[] data;
+        int offset;
+        if(buf.b.hasArray())
+        {
+            data = buf.b.array();
+            offset = buf.b.arrayOffset();
+        }
+        else
+        {
+            data = new byte[buf.size()];
+            buf.position(0);
+            buf.b.get(data);
+            offset = 0;
+        }
+
+        //
+        // The compressed body must be smaller than the uncompressed body
+        // for compression to be worthwhile, so the output is limited to
+        // the uncompressed size.
+        //
+        Buffer r = new Buffer(false, _pool);
+        r.resize(headerSize + 4 + uncompressedLen, false);
+        final byte[] out = r.b.array();
+        final int outOffset = r.b.arrayOffset() + headerSize + 4;
+
+        java.util.zip.Deflater deflater = getDeflater(compressionLevel);
+        int compressedLen;
+        boolean finished;
+        try
+        {
+            deflater.setInput(data, offset + headerSize, uncompressedLen);
+            deflater.finish();
+            compressedLen = deflater.deflate(out, outOffset, uncompressedLen - 1);
+            finished = deflater.finished();
+        }
+        finally
+        {
+            releaseDeflater(deflater);
+        }
+
+        if(!finished)
+        {
+            r.release();
+            return null;
+        }
+
+        r.resize(headerSize + 4 + compressedLen, false);
+        r.position(0);
+
+        //
+        // Copy the header from the uncompressed stream to the compressed one.
+        //
+        r.b.put(data, offset, headerSize);
+
+        //
+        // Add the size of the uncompressed stream before the message body.
+        //
+        r.b.putInt(buf.size());
+        r.position(headerSize + 4 + compressedLen);
+        return r;
+    }
+
+    @Override
+    public Buffer uncompress(Buffer buf, int headerSize, int messageSizeMax)
+    {
+        buf.position(headerSize);
+        final int uncompressedSize = buf.b.getInt();
+        if(uncompressedSize <= headerSize)
+        {
+            throw new com.zeroc.Ice.IllegalMessageSizeException();
+        }
+        if(uncompressedSize > messageSizeMax)
+        {
+            Ex.throwMemoryLimitException(uncompressedSize, messageSizeMax);
+        }
+
+        final int compressedLen = buf.size() - headerSize - 4;
+
+        byte[] compressed;
+        int offset;
+        if(buf.b.hasArray())
+        {
+            compressed = buf.b.array();
+            offset = buf.b.arrayOffset();
+        }
+        else
+        {
+            compressed = new byte[buf.size()];
+            buf.position(0);
+            buf.b.get(compressed);
+            offset = 0;
+        }
+
+        Buffer r = new Buffer(false, _pool);
+        r.resize(uncompressedSize, false);
+
+        java.util.zip.Inflater inflater = getInflater();
+        try
+        {
+            inflater.setInput(compressed, offset + headerSize + 4, compressedLen);
+            final int n = inflater.inflate(r.b.array(), r.b.arrayOffset() + headerSize,
+                                           uncompressedSize - headerSize);
+            if(n != uncompressedSize - headerSize)
+            {
+                throw new com.zeroc.Ice.CompressionException("deflate uncompression failure: invalid size");
+            }
+        }
+        catch(java.util.zip.DataFormatException ex)
+        {
+            throw new com.zeroc.Ice.CompressionException("deflate uncompression failure", ex);
+        }
+        finally
+        {
+            releaseInflater(inflater);
+        }
+
+        //
+        // Copy the header from the compressed stream to the uncompressed one.
+        //
+        r.position(0);
+        r.b.put(compressed, offset, headerSize);
+
+        return r;
+    }
+
+    private java.util.zip.Deflater getDeflater(int compressionLevel)
+    {
+        java.util.zip.Deflater deflater = _deflaters.poll();
+        if(deflater == null)
+        {
+            deflater = new java.util.zip.Deflater(compressionLevel, true);
+        }
+        else
+        {
+            deflater.setLevel(compressionLevel);
+        }
+        return deflater;
+    }
+
+    private void releaseDeflater(java.util.zip.Deflater deflater)
+    {
+        deflater.reset();
+        if(!_deflaters.offer(deflater))
+        {
+            deflater.end(); // Release the native memory now rather than on finalization.
+        }
+    }
+
+    private java.util.zip.Inflater getInflater()
+    {
+        java.util.zip.Inflater inflater = _inflaters.poll();
+        return inflater == null ? new java.util.zip.Inflater(true) : inflater;
+    }
+
+    private void releaseInflater(java.util.zip.Inflater inflater)
+    {
+        inflater.reset();
+        if(!_inflaters.offer(inflater))
+        {
+            inflater.end();
+        }
+    }
+
+    //
+    // Deflater and Inflater allocate native memory, they're cached rather
+    // than created for each message.
+    //
+    private static final int CacheSize = Runtime.getRuntime().availableProcessors();
+
+    private final BufferPool _pool;
+    private final java.util.concurrent.ArrayBlockingQueue<java.util.zip.Deflater> _deflaters =
+        new java.util.concurrent.ArrayBlockingQueue<>(CacheSize);
+    private final java.util.concurrent.ArrayBlockingQueue<java.util.zip.Inflater> _inflaters =
+        new java.util.concurrent.ArrayBlockingQueue<>(CacheSize);
+}
@@ -0,0 +1,187 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+//
+// Orders the endpoints of a proxy according to its EndpointBalancing policy. The proxy
+// then gets its connection from the first endpoint of the balanced order: the outgoing
+// connection factory returns an existing connection to this endpoint or establishes a
+// new one. The next endpoints are only tried if the connection establishment fails.
+//
+// The statistics of an endpoint are computed from the active connections to the
+// endpoint: the number of requests waiting for a reply and the latency (moving average
+// of the reply times) of the connections. The last known latency of an endpoint is kept
+// once its connections are closed.
+//
+final class EndpointBalancer
+{
+    static final int None = 0;
+    static final int LeastOutstanding = 1;
+    static final int Latency = 2;
+    static final int Weighted = 3;
+
+    static int
+    parse(String value)
+    {
+        if(value.equals("None"))
+        {
+            return None;
+        }
+        else if(value.equals("LeastOutstanding"))
+        {
+            return LeastOutstanding;
+        }
+        else if(value.equals("Latency"))
+        {
+            return Latency;
+        }
+        else if(value.equals("Weighted"))
+        {
+            return Weighted;
+        }
+        else
+        {
+            throw new com.zeroc.Ice.EndpointBalancingParseException(
+                "illegal value `" + value + "'; expected `None', `LeastOutstanding', `Latency' or `Weighted'");
+        }
+    }
+
+    static String
+    toString(int policy)
+    {
+        switch(policy)
+        {
+        case LeastOutstanding:
+            return "LeastOutstanding";
+        case Latency:
+            return "Latency";
+        case Weighted:
+            return "Weighted";
+        default:
+            return "None";
+        }
+    }
+
+    EndpointBalancer(Instance instance)
+    {
+        _instance = instance;
+    }
+
+    //
+    // Returns the endpoints ordered according to the given policy, the given array isn't
+    // modified. The statistics are the statistics of the endpoints with the overrides
+    // applied, they are the keys of the connections of the outgoing connection factory.
+    //
+    EndpointI[]
+    balance(EndpointI[] endpoints, com.zeroc.IceStats.EndpointStats[] stats, int policy)
+    {
+        assert(policy != None && endpoints.length == stats.length);
+        final int n = endpoints.length;
+        final java.util.concurrent.ThreadLocalRandom random = java.util.concurrent.ThreadLocalRandom.current();
+        Integer[] order = new Integer[n];
+        for(int i = 0; i < n; ++i)
+        {
+            order[i] = i;
+        }
+
+        //
+        // Shuffle first, so that the endpoints with the same cost are picked randomly.
+        //
+        for(int i = n - 1; i > 0; --i)
+        {
+            int j = random.nextInt(i + 1);
+            Integer tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+
+        switch(policy)
+        {
+        case LeastOutstanding:
+        {
+            java.util.Arrays.sort(order, (a, b) -> Integer.compare(stats[a].outstanding, stats[b].outstanding));
+            break;
+        }
+
+        case Latency:
+        {
+            //
+            // Power of two choices: the cheapest of two random endpoints is tried first and the
+            // other endpoints are tried in random order. The cost of an endpoint is its latency
+            // weighted by its outstanding requests; an endpoint without a known latency has no
+            // cost so that it gets probed.
+            //
+            if(n > 1 && cost(stats[order[1]]) < cost(stats[order[0]]))
+            {
+                Integer tmp = order[0];
+                order[0] = order[1];
+                order[1] = tmp;
+            }
+            break;
+        }
+
+        case Weighted:
+        {
+            //
+            // Weighted random order without replacement: each endpoint gets the key u^(1/w)
+            // with u uniform in (0, 1) and the endpoints are sorted by decreasing key. The
+            // endpoints with a zero weight are only tried last.
+            //
+            final double[] keys = new double[n];
+            for(int i = 0; i < n; ++i)
+            {
+                double w = stats[i].weight;
+                keys[i] = w > 0 ? Math.pow(1.0 - random.nextDouble(), 1.0 / w) : -1.0;
+            }
+            java.util.Arrays.sort(order, (a, b) -> Double.compare(keys[b], keys[a]));
+            break;
+        }
+
+        default:
+        {
+            assert(false);
+            break;
+        }
+        }
+
+        EndpointI[] result = new EndpointI[n];
+        for(int i = 0; i < n; ++i)
+        {
+            result[i] = endpoints[order[i]];
+        }
+        return result;
+    }
+
+    //
+    // The static weight of an endpoint, set with Ice.EndpointWeight.<host>:<port> or
+    // Ice.EndpointWeight.<host>. The default weight is 1. The weight isn't cached so that
+    // updates of the properties are taken into account, it's only read when the endpoints
+    // of a proxy are balanced before getting a connection.
+    //
+    int
+    getWeight(EndpointI endpoint)
+    {
+        if(!(endpoint instanceof IPEndpointI))
+        {
+            return 1;
+        }
+
+        IPEndpointI ipEndpoint = (IPEndpointI)endpoint;
+        String host = ipEndpoint._host != null ? ipEndpoint._host : "";
+        String key = host + ":" + ipEndpoint._port;
+        com.zeroc.Ice.Properties properties = _instance.initializationData().properties;
+        int weight = properties.getPropertyAsIntWithDefault("Ice.EndpointWeight." + key,
+            properties.getPropertyAsIntWithDefault("Ice.EndpointWeight." + host, 1));
+        return weight < 0 ? 0 : weight;
+    }
+
+    private static double
+    cost(com.zeroc.IceStats.EndpointStats stats)
+    {
+        return (double)stats.latency * (stats.outstanding + 1);
+    }
+
+    private final Instance _instance;
+}
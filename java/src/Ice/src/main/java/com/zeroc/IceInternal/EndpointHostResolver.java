@@ -4,6 +4,15 @@
 
 package com.zeroc.IceInternal;
 
+//
+// Resolves endpoint host names with a bounded pool of resolver threads
+// (Ice.HostResolver.Size). Concurrent lookups of the same host and port are
+// coalesced into a single DNS request.
+//
+// The addresses are cached for Ice.HostResolver.CacheTTL seconds and DNS
+// failures for Ice.HostResolver.NegativeCacheTTL seconds, both caches are
+// disabled by default. The cache is only used without network proxy.
+//
 class EndpointHostResolver
 {
     EndpointHostResolver(Instance instance)
@@ -11,11 +20,29 @@ class EndpointHostResolver
         _instance = instance;
         _protocol = instance.protocolSupport();
         _preferIPv6 = instance.preferIPv6();
+
+        com.zeroc.Ice.Properties properties = _instance.initializationData().properties;
+        _size = Math.max(1, properties.getPropertyAsIntWithDefault("Ice.HostResolver.Size", 4));
+        _cacheTTL = Math.max(0, properties.getPropertyAsInt("Ice.HostResolver.CacheTTL")) * 1000L;
+        _negativeCacheTTL = Math.max(0, properties.getPropertyAsInt("Ice.HostResolver.NegativeCacheTTL")) * 1000L;
         try
         {
-            _threadName = Util.createThreadName(_instance.initializationData().properties, "Ice.HostResolver");
-            _executor = java.util.concurrent.Executors.newFixedThreadPool(1,
-                            Util.createThreadFactory(_instance.initializationData().properties, _threadName));
+            _threadName = Util.createThreadName(properties, "Ice.HostResolver");
+            final java.util.concurrent.ThreadFactory factory = Util.createThreadFactory(properties, _threadName);
+            java.util.concurrent.ThreadPoolExecutor executor =
+                new java.util.concurrent.ThreadPoolExecutor(_size, _size, 60, java.util.concurrent.TimeUnit.SECONDS,
+                    new java.util.concurrent.LinkedBlockingQueue<>(),
+                    r ->
+                    {
+                        Thread t = factory.newThread(r);
+                        if(_size > 1)
+                        {
+                            t.setName(_threadName + "-" + _threadCount.incrementAndGet());
+                        }
+                        return t;
+                    });
+            executor.allowCoreThreadTimeOut(true); // Don't keep idle resolver threads.
+            _executor = executor;
             updateObserver();
         }
         catch(RuntimeException ex)
@@ -26,8 +53,8 @@ class EndpointHostResolver
         }
     }
 
-    synchronized void resolve(final String host, final int port, final com.zeroc.Ice.EndpointSelectionType selType,
-                              final IPEndpointI endpoint, final EndpointI_connectors callback)
+    void resolve(final String host, final int port, final com.zeroc.Ice.EndpointSelectionType selType,
+                 final IPEndpointI endpoint, final EndpointI_connectors callback)
     {
         //
         // TODO: Optimize to avoid the lookup if the given host is a textual IPv4 or IPv6
@@ -35,13 +62,27 @@ class EndpointHostResolver
         // not provide such methods).
         //
 
-        assert(!_destroyed);
-
         NetworkProxy networkProxy = _instance.networkProxy();
         if(networkProxy == null)
         {
             java.util.List<java.net.InetSocketAddress> addrs = Network.getAddresses(host, port, _protocol, selType,
                                                                                     _preferIPv6, false);
+            if(addrs == null)
+            {
+                CacheEntry entry = getCacheEntry(host, port);
+                if(entry != null)
+                {
+                    if(entry.exception != null)
+                    {
+                        callback.exception(new com.zeroc.Ice.DNSException(entry.exception.error,
+                                                                          entry.exception.host));
+                        return;
+                    }
+                    addrs = new java.util.ArrayList<>(entry.addresses);
+                    Network.orderAddresses(addrs, _protocol, selType, _preferIPv6);
+                }
+            }
+
             if(addrs != null)
             {
                 callback.connectors(endpoint.connectors(addrs, networkProxy));
@@ -49,81 +90,39 @@ class EndpointHostResolver
             }
         }
 
-        final com.zeroc.Ice.Instrumentation.ThreadObserver threadObserver = _observer;
         final com.zeroc.Ice.Instrumentation.Observer observer = getObserver(endpoint);
         if(observer != null)
         {
             observer.attach();
         }
 
-        _executor.execute(() ->
-            {
-                synchronized(EndpointHostResolver.this)
-                {
-                    if(_destroyed)
-                    {
-                        com.zeroc.Ice.CommunicatorDestroyedException ex =
-                            new com.zeroc.Ice.CommunicatorDestroyedException();
-                        if(observer != null)
-                        {
-                            observer.failed(ex.ice_id());
-                            observer.detach();
-                        }
-                        callback.exception(ex);
-                        return;
-                    }
-                }
-
-                if(threadObserver != null)
-                {
-                    threadObserver.stateChanged(com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateIdle,
-                                                com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateInUseForOther);
-                }
-
-                com.zeroc.Ice.Instrumentation.Observer obsv = observer;
-                try
-                {
-                    int protocol = _protocol;
-                    NetworkProxy np = _instance.networkProxy();
-                    if(np != null)
-                    {
-                        np = np.resolveHost(_protocol);
-                        if(np != null)
-                        {
-                            protocol = np.getProtocolSupport();
-                        }
-                    }
-
-                    java.util.List<java.net.InetSocketAddress> addresses =
-                        Network.getAddresses(host, port, protocol, selType, _preferIPv6, true);
+        final String key = host + ":" + port;
+        final Request request = new Request(selType, endpoint, callback, observer);
+        synchronized(this)
+        {
+            assert(!_destroyed);
 
-                    if(obsv != null)
-                    {
-                        obsv.detach();
-                        obsv = null;
-                    }
+            java.util.List<Request> requests = _pending.get(key);
+            if(requests != null)
+            {
+                //
+                // A lookup for the same host and port is already in progress, the request
+                // will complete with its result.
+                //
+                requests.add(request);
+                _coalesced.increment();
+                return;
+            }
+            requests = new java.util.ArrayList<>();
+            requests.add(request);
+            _pending.put(key, requests);
 
-                    callback.connectors(endpoint.connectors(addresses, np));
-                }
-                catch(com.zeroc.Ice.LocalException ex)
-                {
-                    if(obsv != null)
-                    {
-                        obsv.failed(ex.ice_id());
-                        obsv.detach();
-                    }
-                    callback.exception(ex);
-                }
-                finally
-                {
-                    if(threadObserver != null)
-                    {
-                        threadObserver.stateChanged(
-                            com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateInUseForOther,
-                            com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateIdle);
-                    }
-                }
-            });
+            //
+            // Submit the lookup with the lock held, destroy() shuts down the executor and
+            // it would otherwise reject the lookup and leave the pending requests behind.
+            //
+            _executor.execute(() -> lookup(key, host, port));
+        }
     }
 
     synchronized void destroy()
@@ -158,6 +157,18 @@ class EndpointHostResolver
                 _observer.detach();
             }
         }
+
+        if(_instance.traceLevels().network >= 2 && (_cacheTTL > 0 || _negativeCacheTTL > 0 || _size > 1))
+        {
+            _instance.initializationData().logger.trace(_instance.traceLevels().networkCat,
+                                                        "endpoint host resolver statistics: " + getStats());
+        }
+    }
+
+    synchronized com.zeroc.IceStats.HostResolverStats getStats()
+    {
+        return new com.zeroc.IceStats.HostResolverStats(_lookups.sum(), _coalesced.sum(), _hits.sum(),
+                                                        _negativeHits.sum(), _cache.size());
     }
 
     synchronized void updateObserver()
@@ -175,6 +186,159 @@ class EndpointHostResolver
         }
     }
 
+    private void lookup(String key, String host, int port)
+    {
+        java.util.List<Request> requests;
+        com.zeroc.Ice.Instrumentation.ThreadObserver threadObserver = null;
+        synchronized(this)
+        {
+            if(_destroyed)
+            {
+                requests = _pending.remove(key);
+                com.zeroc.Ice.CommunicatorDestroyedException ex = new com.zeroc.Ice.CommunicatorDestroyedException();
+                for(Request r : requests)
+                {
+                    r.exception(ex);
+                }
+                return;
+            }
+
+            //
+            // The thread observer represents all the resolver threads, it's in use as
+            // long as one of the threads is resolving a host.
+            //
+            if(_busy++ == 0)
+            {
+                threadObserver = _observer;
+            }
+        }
+
+        if(threadObserver != null)
+        {
+            threadObserver.stateChanged(com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateIdle,
+                                        com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateInUseForOther);
+        }
+
+        try
+        {
+            int protocol = _protocol;
+            NetworkProxy np = _instance.networkProxy();
+            if(np != null)
+            {
+                np = np.resolveHost(_protocol);
+                if(np != null)
+                {
+                    protocol = np.getProtocolSupport();
+                }
+            }
+
+            java.util.List<java.net.InetSocketAddress> addresses = null;
+            com.zeroc.Ice.LocalException failure = null;
+            _lookups.increment();
+            try
+            {
+                addresses = Network.getAddresses(host, port, protocol, com.zeroc.Ice.EndpointSelectionType.Ordered,
+                                                 _preferIPv6, true);
+            }
+            catch(com.zeroc.Ice.LocalException ex)
+            {
+                failure = ex;
+            }
+
+            synchronized(this)
+            {
+                if(np == null)
+                {
+                    if(addresses != null && _cacheTTL > 0)
+                    {
+                        _cache.put(key, new CacheEntry(addresses, null, _cacheTTL));
+                    }
+                    else if(failure instanceof com.zeroc.Ice.DNSException && _negativeCacheTTL > 0)
+                    {
+                        _cache.put(key, new CacheEntry(null, (com.zeroc.Ice.DNSException)failure,
+                                                       _negativeCacheTTL));
+                    }
+                }
+
+                //
+                // Requests added after this point start a new lookup.
+                //
+                requests = _pending.remove(key);
+            }
+
+            for(Request r : requests)
+            {
+                if(failure != null)
+                {
+                    r.exception(failure);
+                }
+                else
+                {
+                    try
+                    {
+                        java.util.List<java.net.InetSocketAddress> addrs = addresses;
+                        if(requests.size() > 1 || r.selType != com.zeroc.Ice.EndpointSelectionType.Ordered)
+                        {
+                            addrs = new java.util.ArrayList<>(addresses);
+                            Network.orderAddresses(addrs, protocol, r.selType, _preferIPv6);
+                        }
+                        r.connectors(addrs, np);
+                    }
+                    catch(com.zeroc.Ice.LocalException ex)
+                    {
+                        r.exception(ex);
+                    }
+                }
+            }
+        }
+        finally
+        {
+            threadObserver = null;
+            synchronized(this)
+            {
+                if(--_busy == 0)
+                {
+                    threadObserver = _observer;
+                }
+            }
+            if(threadObserver != null)
+            {
+                threadObserver.stateChanged(com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateInUseForOther,
+                                            com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateIdle);
+            }
+        }
+    }
+
+    private synchronized CacheEntry getCacheEntry(String host, int port)
+    {
+        if(_cache.isEmpty())
+        {
+            return null;
+        }
+
+        final String key = host + ":" + port;
+        CacheEntry entry = _cache.get(key);
+        if(entry == null)
+        {
+            return null;
+        }
+        else if(Time.currentMonotonicTimeMillis() >= entry.expire)
+        {
+            _cache.remove(key);
+            return null;
+        }
+
+        if(entry.exception != null)
+        {
+            _negativeHits.increment();
+        }
+        else
+        {
+            _hits.increment();
+        }
+        return entry;
+    }
+
     private com.zeroc.Ice.Instrumentation.Observer
     getObserver(IPEndpointI endpoint)
     {
@@ -186,11 +350,87 @@ class EndpointHostResolver
         return null;
     }
 
+    private static class Request
+    {
+        Request(com.zeroc.Ice.EndpointSelectionType selType, IPEndpointI endpoint, EndpointI_connectors callback,
+                com.zeroc.Ice.Instrumentation.Observer observer)
+        {
+            this.selType = selType;
+            this.endpoint = endpoint;
+            this.callback = callback;
+            this.observer = observer;
+        }
+
+        void connectors(java.util.List<java.net.InetSocketAddress> addresses, NetworkProxy np)
+        {
+            java.util.List<Connector> connectors = endpoint.connectors(addresses, np);
+            if(observer != null)
+            {
+                observer.detach();
+            }
+            callback.connectors(connectors);
+        }
+
+        void exception(com.zeroc.Ice.LocalException ex)
+        {
+            if(observer != null)
+            {
+                observer.failed(ex.ice_id());
+                observer.detach();
+            }
+            callback.exception(ex);
+        }
+
+        final com.zeroc.Ice.EndpointSelectionType selType;
+        final IPEndpointI endpoint;
+        final EndpointI_connectors callback;
+        final com.zeroc.Ice.Instrumentation.Observer observer;
+    }
+
+    private static class CacheEntry
+    {
+        CacheEntry(java.util.List<java.net.InetSocketAddress> addresses, com.zeroc.Ice.DNSException exception,
+                   long ttl)
+        {
+            this.addresses = addresses;
+            this.exception = exception;
+            this.expire = Time.currentMonotonicTimeMillis() + ttl;
+        }
+
+        final java.util.List<java.net.InetSocketAddress> addresses;
+        final com.zeroc.Ice.DNSException exception;
+        final long expire;
+    }
+
+    private static final int MaxCacheSize = 1024;
+
     private final Instance _instance;
     private final int _protocol;
     private final boolean _preferIPv6;
+    private final int _size;
+    private final long _cacheTTL;
+    private final long _negativeCacheTTL;
     private boolean _destroyed;
+    private int _busy;
     private com.zeroc.Ice.Instrumentation.ThreadObserver _observer;
     private String _threadName;
+    private final java.util.concurrent.atomic.AtomicInteger _threadCount =
+        new java.util.concurrent.atomic.AtomicInteger();
     private java.util.concurrent.ExecutorService _executor;
+
+    private final java.util.Map<String, java.util.List<Request>> _pending = new java.util.HashMap<>();
+    private final java.util.Map<String, CacheEntry> _cache =
+        new java.util.LinkedHashMap<String, CacheEntry>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(java.util.Map.Entry<String, CacheEntry> eldest)
+            {
+                return size() > MaxCacheSize;
+            }
+        };
+
+    private final java.util.concurrent.atomic.LongAdder _lookups = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _coalesced = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _hits = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _negativeHits = new java.util.concurrent.atomic.LongAdder();
 }
@@ -36,4 +36,5 @@ public abstract class EventHandler
     public int _registered = 0;
     public int _ready = 0;
     public java.nio.channels.SelectionKey _key = null;
+    ThreadPool.SelectorThread _selectorThread = null; // Set if the handler is registered with a selector thread.
 }
@@ -4,20 +4,14 @@
 
 package com.zeroc.IceInternal;
 
+//
+// Monitors the connections which use the communicator or object adapter ACM
+// configuration. Each connection is monitored by a periodic timeout on the
+// timing wheel: adding or removing a connection doesn't require rescanning
+// all the monitored connections.
+//
 class FactoryACMMonitor implements ACMMonitor
 {
-    static class Change
-    {
-        Change(com.zeroc.Ice.ConnectionI connection, boolean remove)
-        {
-            this.connection = connection;
-            this.remove = remove;
-        }
-
-        final com.zeroc.Ice.ConnectionI connection;
-        final boolean remove;
-    }
-
     FactoryACMMonitor(Instance instance, ACMConfig config)
     {
         _instance = instance;
@@ -34,7 +28,6 @@ class FactoryACMMonitor implements ACMMonitor
         {
             com.zeroc.IceUtilInternal.Assert.FinalizerAssert(_instance == null);
             com.zeroc.IceUtilInternal.Assert.FinalizerAssert(_connections.isEmpty());
-            com.zeroc.IceUtilInternal.Assert.FinalizerAssert(_changes.isEmpty());
             com.zeroc.IceUtilInternal.Assert.FinalizerAssert(_reapedConnections.isEmpty());
         }
         catch(java.lang.Exception ex)
@@ -49,45 +42,21 @@ class FactoryACMMonitor implements ACMMonitor
     synchronized void
     destroy()
     {
-        if(_instance == null)
+        if(_instance != null)
         {
-            //
-            // Ensure all the connections have been cleared, it's important to wait here
-            // to prevent the timer destruction in IceInternal::Instance::destroy.
-            //
-            while(!_connections.isEmpty())
+            for(TimingWheel.Timeout timeout : _connections.values())
             {
-                try
-                {
-                    wait();
-                }
-                catch(InterruptedException ex)
-                {
-                }
+                timeout.cancel();
             }
-            return;
-        }
-
-        if(!_connections.isEmpty())
-        {
-            //
-            // Cancel the scheduled timer task and schedule it again now to clear the
-            // connection set from the timer thread.
-            //
-            assert(_future != null);
-            _future.cancel(false);
-            _future = null;
-
-            _instance.timer().schedule(() -> { monitorConnections(); }, 0, java.util.concurrent.TimeUnit.MILLISECONDS);
+            _connections.clear();
+            _instance = null;
         }
 
-        _instance = null;
-        _changes.clear();
-
         //
-        // Wait for the connection set to be cleared by the timer thread.
+        // Wait for the connections being monitored, it's important to wait here
+        // to prevent the timer destruction in IceInternal::Instance::destroy.
         //
-        while(!_connections.isEmpty())
+        while(_monitoring > 0)
         {
             try
             {
@@ -111,19 +80,11 @@ class FactoryACMMonitor implements ACMMonitor
         synchronized(this)
         {
             assert(_instance != null);
-            if(_connections.isEmpty())
-            {
-                _connections.add(connection);
-                assert _future == null;
-                _future = _instance.timer().scheduleAtFixedRate(() -> { monitorConnections(); },
-                                                                _config.timeout / 2,
-                                                                _config.timeout / 2,
-                                                                java.util.concurrent.TimeUnit.MILLISECONDS);
-            }
-            else
-            {
-                _changes.add(new Change(connection, false));
-            }
+            assert(!_connections.containsKey(connection));
+            _connections.put(connection,
+                             _instance.timingWheel().scheduleAtFixedRate(() -> { monitorConnection(connection); },
+                                                                         _config.timeout / 2,
+                                                                         _config.timeout / 2));
         }
     }
 
@@ -139,7 +100,11 @@ class FactoryACMMonitor implements ACMMonitor
         synchronized(this)
         {
             assert(_instance != null);
-            _changes.add(new Change(connection, true));
+            TimingWheel.Timeout timeout = _connections.remove(connection);
+            if(timeout != null)
+            {
+                timeout.cancel();
+            }
         }
     }
 
@@ -170,7 +135,7 @@ class FactoryACMMonitor implements ACMMonitor
         {
             config.heartbeat = heartbeat.get();
         }
-        return new ConnectionACMMonitor(this, _instance.timer(), config);
+        return new ConnectionACMMonitor(this, _instance.timingWheel(), config);
     }
 
     @Override
@@ -197,52 +162,37 @@ class FactoryACMMonitor implements ACMMonitor
     }
 
     private void
-    monitorConnections()
+    monitorConnection(com.zeroc.Ice.ConnectionI connection)
     {
         synchronized(this)
         {
-            if(_instance == null)
-            {
-                _connections.clear();
-                notifyAll();
-                return;
-            }
-
-            for(Change change : _changes)
-            {
-                if(change.remove)
-                {
-                    _connections.remove(change.connection);
-                }
-                else
-                {
-                    _connections.add(change.connection);
-                }
-            }
-            _changes.clear();
-
-            if(_connections.isEmpty())
+            if(_instance == null || !_connections.containsKey(connection))
             {
-                _future.cancel(false);
-                _future = null;
                 return;
             }
+            ++_monitoring;
         }
 
         //
-        // Monitor connections outside the thread synchronization, so
+        // Monitor the connection outside the thread synchronization, so
         // that connections can be added or removed during monitoring.
         //
-        long now = Time.currentMonotonicTimeMillis();
-        for(com.zeroc.Ice.ConnectionI connection : _connections)
+        try
         {
-            try
-            {
-                connection.monitor(now, _config);
-            }
-            catch(Exception ex)
+            connection.monitor(Time.currentMonotonicTimeMillis(), _config);
+        }
+        catch(Exception ex)
+        {
+            handleException(ex);
+        }
+        finally
+        {
+            synchronized(this)
             {
-                handleException(ex);
+                if(--_monitoring == 0 && _instance == null)
+                {
+                    notifyAll();
+                }
             }
         }
     }
@@ -260,8 +210,7 @@ class FactoryACMMonitor implements ACMMonitor
     private Instance _instance;
     final private ACMConfig _config;
 
-    private java.util.Set<com.zeroc.Ice.ConnectionI> _connections = new java.util.HashSet<>();
-    private java.util.List<Change> _changes = new java.util.ArrayList<>();
+    private java.util.Map<com.zeroc.Ice.ConnectionI, TimingWheel.Timeout> _connections = new java.util.HashMap<>();
     private java.util.List<com.zeroc.Ice.ConnectionI> _reapedConnections = new java.util.ArrayList<>();
-    private java.util.concurrent.Future<?> _future;
+    private int _monitoring;
 }
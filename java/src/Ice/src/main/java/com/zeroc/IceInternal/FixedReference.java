@@ -71,6 +71,13 @@ public class FixedReference extends Reference
         return true;
     }
 
+    @Override
+    public final int
+    getConnectionPool()
+    {
+        return 1;
+    }
+
     @Override
     public boolean
     getPreferSecure()
@@ -64,6 +64,15 @@ final public class Incoming implements com.zeroc.Ice.Request
         _inParamPos = -1;
     }
 
+    //
+    // Returns true if the dispatch is completed, false if an asynchronous
+    // dispatch is still in progress and might still use the input stream.
+    //
+    public boolean isCompleted()
+    {
+        return _responseHandler == null;
+    }
+
     public boolean reclaim()
     {
         if(_responseHandler != null) // Async dispatch not ready for being reclaimed!
@@ -85,6 +94,9 @@ final public class Incoming implements com.zeroc.Ice.Request
         }
 
         _is = null;
+        _direct = null;
+        _directResult = null;
+        _directResultSet = false;
 
         //_responseHandler = null;
         assert(_responseHandler == null);
@@ -101,15 +113,145 @@ final public class Incoming implements com.zeroc.Ice.Request
     }
 
     public void invoke(ServantManager servantManager, InputStream stream)
+    {
+        invoke(servantManager, stream, null);
+    }
+
+    //
+    // If direct is set, the collocated invocation parameters aren't marshaled in the
+    // stream which only contains the request header. The servant is called with the
+    // invocation dispatcher if it implements the operation interface, the result is
+    // returned by reference to the invocation.
+    //
+    public void invoke(ServantManager servantManager, InputStream stream, OutgoingAsync<?> direct)
     {
         _is = stream;
+        _direct = direct;
+        if(_direct != null)
+        {
+            _current.encoding = _direct.getEncoding();
+        }
 
         int start = _is.pos();
+        readCurrent(_current);
+        dispatch(servantManager, start);
+    }
+
+    //
+    // Dispatches the batch requests of the stream starting with this request. If the
+    // servant of the first request implements BatchDispatch for its operation, the
+    // following requests with the same target and operation are dispatched with the
+    // same call, with a single servant lookup and dispatch observer. Otherwise, only
+    // the first request is dispatched, as with invoke(). Returns the number of requests
+    // dispatched.
+    //
+    public int invokeBatch(ServantManager servantManager, InputStream stream, int invokeNum)
+    {
+        assert(!_response && servantManager != null);
+        _is = stream;
+
+        int start = _is.pos();
+        readCurrent(_current);
+
+        _servant = servantManager.findServant(_current.id, _current.facet);
+        if(invokeNum < 2 || !(_servant instanceof com.zeroc.Ice.BatchDispatch) ||
+           !((com.zeroc.Ice.BatchDispatch)_servant).ice_isBatchOperation(_current.operation))
+        {
+            dispatch(servantManager, start);
+            return 1;
+        }
+
+        int paramsPos = _is.pos();
+        java.util.List<com.zeroc.Ice.BatchDispatch.Request> requests = new java.util.ArrayList<>();
+        requests.add(new com.zeroc.Ice.BatchDispatch.Request(_current, readParamEncaps()));
+        while(requests.size() < invokeNum)
+        {
+            int pos = _is.pos();
+            Current current = new Current();
+            current.id = new com.zeroc.Ice.Identity();
+            current.adapter = _current.adapter;
+            current.con = _current.con;
+            current.requestId = _current.requestId;
+            readCurrent(current);
+            if(!current.id.equals(_current.id) || !current.facet.equals(_current.facet) ||
+               !current.operation.equals(_current.operation))
+            {
+                _is.pos(pos); // Dispatched with the next call.
+                break;
+            }
+            current.encoding = new com.zeroc.Ice.EncodingVersion();
+            requests.add(new com.zeroc.Ice.BatchDispatch.Request(current, _is.readEncapsulation(current.encoding)));
+        }
+
+        if(requests.size() == 1)
+        {
+            //
+            // The next request has another target or operation, dispatch this request as usual.
+            //
+            _is.pos(paramsPos);
+            dispatch(servantManager, start);
+            return 1;
+        }
+
+        CommunicatorObserver obsv = _instance.initializationData().observer;
+        if(obsv != null)
+        {
+            _observer = obsv.getDispatchObserver(_current, _is.pos() - start);
+            if(_observer != null)
+            {
+                _observer.attach();
+            }
+        }
+
+        //
+        // Each request of the batch is accounted for by the connection, the completion of
+        // this Incoming accounts for the last one.
+        //
+        for(int i = 1; i < requests.size(); ++i)
+        {
+            _responseHandler.sendNoResponse();
+        }
+
+        try
+        {
+            if(_instance.useApplicationClassLoader())
+            {
+                Thread.currentThread().setContextClassLoader(_servant.getClass().getClassLoader());
+            }
 
+            try
+            {
+                ((com.zeroc.Ice.BatchDispatch)_servant).ice_invokeBatch(
+                    java.util.Collections.unmodifiableList(requests));
+                completed(null, false);
+            }
+            finally
+            {
+                if(_instance.useApplicationClassLoader())
+                {
+                    Thread.currentThread().setContextClassLoader(null);
+                }
+            }
+        }
+        catch(ServantError ex)
+        {
+            throw ex;
+        }
+        catch(Throwable ex)
+        {
+            completed(ex, false);
+        }
+        return requests.size();
+    }
+
+    private void readCurrent(Current current)
+    {
         //
-        // Read the current.
+        // Read the current. The identity category and the operation name
+        // are usually repeated, they're read with the string cache.
         //
-        _current.id.ice_readMembers(_is);
+        current.id.name = _is.readString();
+        current.id.category = _is.readCachedString();
 
         //
         // For compatibility with the old FacetPath.
@@ -121,30 +263,37 @@ final public class Incoming implements com.zeroc.Ice.Request
             {
                 throw new com.zeroc.Ice.MarshalException();
             }
-            _current.facet = facetPath[0];
+            current.facet = facetPath[0];
         }
         else
         {
-            _current.facet = "";
+            current.facet = "";
         }
 
-        _current.operation = _is.readString();
-        _current.mode = com.zeroc.Ice.OperationMode.values()[_is.readByte()];
-        _current.ctx = new java.util.HashMap<>();
+        current.operation = _is.readCachedString();
+        current.mode = com.zeroc.Ice.OperationMode.values()[_is.readByte()];
+        current.ctx = new java.util.HashMap<>();
         int sz = _is.readSize();
         while(sz-- > 0)
         {
             String first = _is.readString();
             String second = _is.readString();
-            _current.ctx.put(first, second);
+            current.ctx.put(first, second);
         }
+    }
 
+    private void dispatch(ServantManager servantManager, int start)
+    {
         CommunicatorObserver obsv = _instance.initializationData().observer;
         if(obsv != null)
         {
             // Read the parameter encapsulation size.
-            int size = _is.readInt();
-            _is.pos(_is.pos() - 4);
+            int size = 0;
+            if(_direct == null)
+            {
+                size = _is.readInt();
+                _is.pos(_is.pos() - 4);
+            }
 
             _observer = obsv.getDispatchObserver(_current, _is.pos() - start + size);
             if(_observer != null)
@@ -161,7 +310,10 @@ final public class Incoming implements com.zeroc.Ice.Request
 
         if(servantManager != null)
         {
-            _servant = servantManager.findServant(_current.id, _current.facet);
+            if(_servant == null) // Already looked up by invokeBatch().
+            {
+                _servant = servantManager.findServant(_current.id, _current.facet);
+            }
             if(_servant == null)
             {
                 _locator = servantManager.findServantLocator(_current.id.category);
@@ -218,6 +370,25 @@ final public class Incoming implements com.zeroc.Ice.Request
 
             try
             {
+                if(_direct != null)
+                {
+                    if(_direct.dispatchDirect(_servant))
+                    {
+                        _directResult = _direct.dispatch(_servant, _current);
+                        _direct = null;
+                        _directResultSet = true;
+                        completed(null, false);
+                        return;
+                    }
+
+                    //
+                    // The servant doesn't implement the operation interface (it's for example
+                    // a dispatch interceptor), dispatch the marshaled parameters instead.
+                    //
+                    _is = _direct.readParams();
+                    _direct = null;
+                }
+
                 CompletionStage<OutputStream> f = _servant._iceDispatch(this, _current);
                 if(f == null)
                 {
@@ -368,6 +539,17 @@ final public class Incoming implements com.zeroc.Ice.Request
             {
                 handleException(exc, amd);
             }
+            else if(_directResultSet)
+            {
+                if(_observer != null)
+                {
+                    _observer.reply(0);
+                }
+                Object result = _directResult;
+                _directResult = null;
+                _directResultSet = false;
+                ((CollocatedRequestHandler)_responseHandler).sendDirectResponse(_current.requestId, result);
+            }
             else if(_response)
             {
                 if(_observer != null)
@@ -420,6 +602,11 @@ final public class Incoming implements com.zeroc.Ice.Request
 
     public void skipReadParams()
     {
+        if(_direct != null)
+        {
+            return; // The parameters aren't marshaled, the encoding is already set.
+        }
+
         //
         // Remember the encoding used by the input parameters, we'll
         // encode the response parameters with the same encoding.
@@ -952,6 +1139,10 @@ final public class Incoming implements com.zeroc.Ice.Request
     private OutputStream _os;
     private InputStream _is;
 
+    private OutgoingAsync<?> _direct;
+    private Object _directResult;
+    private boolean _directResultSet;
+
     private int _inParamPos = -1;
 
     public Incoming next; // For use by ConnectionI.
@@ -143,6 +143,44 @@ public final class Instance implements java.util.function.Function<String, Class
         }
     }
 
+    private class StatsProviderI implements MetricsAdminI.StatsProvider
+    {
+        @Override
+        public com.zeroc.IceStats.LocatorCacheStats[]
+        getLocatorCacheStats()
+        {
+            try
+            {
+                return locatorManager().getCacheStats();
+            }
+            catch(com.zeroc.Ice.CommunicatorDestroyedException ex)
+            {
+                return new com.zeroc.IceStats.LocatorCacheStats[0];
+            }
+        }
+
+        @Override
+        public com.zeroc.IceStats.HostResolverStats
+        getHostResolverStats()
+        {
+            try
+            {
+                return endpointHostResolver().getStats();
+            }
+            catch(com.zeroc.Ice.CommunicatorDestroyedException ex)
+            {
+                return new com.zeroc.IceStats.HostResolverStats(0, 0, 0, 0, 0);
+            }
+        }
+
+        @Override
+        public com.zeroc.IceStats.BufferPoolStats
+        getBufferPoolStats()
+        {
+            return _bufferPool != null ? _bufferPool.getStats() : null;
+        }
+    }
+
     public com.zeroc.Ice.InitializationData
     initializationData()
     {
@@ -343,6 +381,18 @@ public final class Instance implements java.util.function.Function<String, Class
         return _timer;
     }
 
+    synchronized public TimingWheel
+    timingWheel()
+    {
+        if(_state == StateDestroyed)
+        {
+            throw new com.zeroc.Ice.CommunicatorDestroyedException();
+        }
+
+        assert(_timingWheel != null);
+        return _timingWheel;
+    }
+
     public synchronized EndpointFactoryManager
     endpointFactoryManager()
     {
@@ -381,6 +431,20 @@ public final class Instance implements java.util.function.Function<String, Class
         return _batchAutoFlushSize;
     }
 
+    public int
+    gatherWriteSize()
+    {
+        // No mutex lock, immutable.
+        return _gatherWriteSize;
+    }
+
+    public boolean
+    collocationDirect()
+    {
+        // No mutex lock, immutable.
+        return _collocationDirect;
+    }
+
     public com.zeroc.Ice.ToStringMode
     toStringMode()
     {
@@ -395,6 +459,27 @@ public final class Instance implements java.util.function.Function<String, Class
         return _cacheMessageBuffers;
     }
 
+    public BufferPool
+    bufferPool()
+    {
+        // No mutex lock, immutable.
+        return _bufferPool;
+    }
+
+    public StringCache
+    stringCache()
+    {
+        // No mutex lock, immutable.
+        return _stringCache;
+    }
+
+    public CompressionCodecManager
+    compressionCodecManager()
+    {
+        // No mutex lock, immutable.
+        return _compressionCodecManager;
+    }
+
     public ACMConfig
     clientACM()
     {
@@ -715,7 +800,19 @@ public final class Instance implements java.util.function.Function<String, Class
     @Override
     public Class<?> apply(String typeId)
     {
-        Class<?> c = null;
+        //
+        // Classes already resolved are cached to avoid loading them again
+        // for each message. The cache is only used with the class loader of
+        // the initialization data: otherwise the classes are loaded with the
+        // thread context class loader, which can differ for each dispatch
+        // (IceBox services, Ice.UseApplicationClassLoader) and the classes
+        // of a context class loader must not be pinned by the communicator.
+        //
+        Class<?> c = _typeIdToClassCache != null ? _typeIdToClassCache.get(typeId) : null;
+        if(c != null)
+        {
+            return c;
+        }
 
         //
         // To convert a Slice type id into a Java class, we do the following:
@@ -800,6 +897,10 @@ public final class Instance implements java.util.function.Function<String, Class
             }
         }
 
+        if(c != null && _typeIdToClassCache != null)
+        {
+            _typeIdToClassCache.put(typeId, c);
+        }
         return c;
     }
 
@@ -963,6 +1064,24 @@ public final class Instance implements java.util.function.Function<String, Class
                         _initData.properties.getProperty("Ice.ProgramName"),
                         _initData.properties.getPropertyWithDefault("Ice.SyslogFacility", "LOG_USER"));
                 }
+                else if(_initData.properties.getPropertyAsInt("Ice.LogAsync") > 0 &&
+                        (logfile.length() != 0 ||
+                         com.zeroc.Ice.Util.getProcessLogger() instanceof com.zeroc.Ice.LoggerI))
+                {
+                    String overflow = _initData.properties.getPropertyWithDefault("Ice.LogAsync.Overflow", "block");
+                    if(!overflow.equals("block") && !overflow.equals("drop"))
+                    {
+                        throw new com.zeroc.Ice.InitializationException(
+                            "invalid value for Ice.LogAsync.Overflow: `" + overflow + "'");
+                    }
+                    int capacity = _initData.properties.getPropertyAsIntWithDefault("Ice.LogAsync.Capacity", 8192);
+                    _initData.logger =
+                        new com.zeroc.Ice.AsyncLoggerI(_initData.properties.getProperty("Ice.ProgramName"), logfile,
+                                                       capacity < 1 ? 1 : capacity, overflow.equals("block"),
+                                                       Util.createThreadFactory(_initData.properties,
+                                                           Util.createThreadName(_initData.properties, "Ice.Logger")),
+                                                       _initData.threadStart, _initData.threadStop);
+                }
                 else if(logfile.length() != 0)
                 {
                     _initData.logger =
@@ -983,6 +1102,9 @@ public final class Instance implements java.util.function.Function<String, Class
 
             _useApplicationClassLoader = _initData.properties.getPropertyAsInt("Ice.UseApplicationClassLoader") > 0;
 
+            _typeIdToClassCache =
+                _initData.classLoader != null ? new java.util.concurrent.ConcurrentHashMap<>() : null;
+
             _traceLevels = new TraceLevels(_initData.properties);
 
             _defaultsAndOverrides = new DefaultsAndOverrides(_initData.properties, _initData.logger);
@@ -1041,6 +1163,24 @@ public final class Instance implements java.util.function.Function<String, Class
                 }
             }
 
+            {
+                int num = _initData.properties.getPropertyAsInt("Ice.GatherWriteSize");
+                if(num < 1)
+                {
+                    _gatherWriteSize = 0; // Disabled
+                }
+                else if(num > 0x7fffffff / 1024)
+                {
+                    _gatherWriteSize = 0x7fffffff;
+                }
+                else
+                {
+                    _gatherWriteSize = num * 1024; // Property is in kilobytes, _gatherWriteSize in bytes
+                }
+            }
+
+            _collocationDirect = _initData.properties.getPropertyAsInt("Ice.CollocationDirect") > 0;
+
             String toStringModeStr = _initData.properties.getPropertyWithDefault("Ice.ToStringMode", "Unicode");
             if(toStringModeStr.equals("Unicode"))
             {
@@ -1064,7 +1204,7 @@ public final class Instance implements java.util.function.Function<String, Class
 
             _routerManager = new RouterManager();
 
-            _locatorManager = new LocatorManager(_initData.properties);
+            _locatorManager = new LocatorManager(this);
 
             _referenceFactory = new ReferenceFactory(this, communicator);
 
@@ -1141,6 +1281,40 @@ public final class Instance implements java.util.function.Function<String, Class
             {
                 _cacheMessageBuffers = _initData.properties.getPropertyAsIntWithDefault("Ice.CacheMessageBuffers", 2);
             }
+
+            //
+            // The buffer pool relies on the same release points as message
+            // buffer caching, it's therefore disabled if caching is disabled.
+            //
+            if(_cacheMessageBuffers > 0 && _initData.properties.getPropertyAsInt("Ice.BufferPool") > 0)
+            {
+                final int defaultMaxSize = 1024; // 1MB
+                int maxSize = _initData.properties.getPropertyAsIntWithDefault("Ice.BufferPool.MaxSize",
+                                                                               defaultMaxSize);
+                if(maxSize < 1 || maxSize > 0x7fffffff / 1024)
+                {
+                    maxSize = defaultMaxSize;
+                }
+
+                final int defaultMaxBuffers = 16;
+                int maxBuffers = _initData.properties.getPropertyAsIntWithDefault("Ice.BufferPool.MaxBuffers",
+                                                                                  defaultMaxBuffers);
+                if(maxBuffers < 1)
+                {
+                    maxBuffers = defaultMaxBuffers;
+                }
+
+                _bufferPool = new BufferPool(maxSize * 1024, maxBuffers);
+            }
+            else
+            {
+                _bufferPool = null;
+            }
+
+            _compressionCodecManager = new CompressionCodecManager(this);
+
+            int stringCacheSize = _initData.properties.getPropertyAsInt("Ice.StringCache");
+            _stringCache = stringCacheSize > 0 ? new StringCache(stringCacheSize) : null;
         }
         catch(com.zeroc.Ice.LocalException ex)
         {
@@ -1197,6 +1371,12 @@ public final class Instance implements java.util.function.Function<String, Class
         //
         _endpointFactoryManager.initialize();
 
+        //
+        // Resolve the compression codec once all the plugins, which might
+        // provide additional codecs, are loaded.
+        //
+        _compressionCodecManager.initialize();
+
         //
         // Create Admin facets, if enabled.
         //
@@ -1261,6 +1441,7 @@ public final class Instance implements java.util.function.Function<String, Class
                  CommunicatorObserverI observer = new CommunicatorObserverI(_initData);
                  _initData.observer = observer;
                  _adminFacets.put(metricsFacetName, observer.getFacet());
+                 observer.getFacet().setStatsProvider(new StatsProviderI());
 
                  //
                  // Make sure the admin plugin receives property updates.
@@ -1286,6 +1467,8 @@ public final class Instance implements java.util.function.Function<String, Class
         try
         {
             _timer = new Timer(_initData.properties, Util.createThreadName(_initData.properties, "Ice.Timer"));
+            _timingWheel = new TimingWheel(_timer, _initData.logger,
+                                           _initData.properties.getPropertyAsIntWithDefault("Ice.TimerTick", 10));
         }
         catch(RuntimeException ex)
         {
@@ -1530,6 +1713,11 @@ public final class Instance implements java.util.function.Function<String, Class
                 _endpointFactoryManager.destroy();
             }
 
+            if(_bufferPool != null && _traceLevels.bufferPool >= 1)
+            {
+                _initData.logger.trace(_traceLevels.bufferPoolCat, "buffer pool statistics:\n" + _bufferPool);
+            }
+
             if(_initData.properties.getPropertyAsInt("Ice.Warn.UnusedProperties") > 0)
             {
                 java.util.List<String> unusedProperties =
@@ -1559,6 +1747,11 @@ public final class Instance implements java.util.function.Function<String, Class
                 com.zeroc.Ice.LoggerI logger = (com.zeroc.Ice.LoggerI)_initData.logger;
                 logger.destroy();
             }
+            else if(_initData.logger instanceof com.zeroc.Ice.AsyncLoggerI)
+            {
+                com.zeroc.Ice.AsyncLoggerI logger = (com.zeroc.Ice.AsyncLoggerI)_initData.logger;
+                logger.destroy();
+            }
 
             synchronized(this)
             {
@@ -1570,6 +1763,7 @@ public final class Instance implements java.util.function.Function<String, Class
                 _clientThreadPool = null;
                 _endpointHostResolver = null;
                 _timer = null;
+                _timingWheel = null;
 
                 _referenceFactory = null;
                 _requestHandlerFactory = null;
@@ -1587,6 +1781,10 @@ public final class Instance implements java.util.function.Function<String, Class
                 _queueExecutorService = null;
 
                 _typeToClassMap.clear();
+                if(_typeIdToClassCache != null)
+                {
+                    _typeIdToClassCache.clear();
+                }
 
                 _state = StateDestroyed;
                 notifyAll();
@@ -1875,8 +2073,13 @@ public final class Instance implements java.util.function.Function<String, Class
     private final DefaultsAndOverrides _defaultsAndOverrides; // Immutable, not reset by destroy().
     private final int _messageSizeMax; // Immutable, not reset by destroy().
     private final int _batchAutoFlushSize; // Immutable, not reset by destroy().
+    private final int _gatherWriteSize; // Immutable, not reset by destroy().
+    private final boolean _collocationDirect; // Immutable, not reset by destroy().
     private final com.zeroc.Ice.ToStringMode _toStringMode; // Immutable, not reset by destroy().
     private final int _cacheMessageBuffers; // Immutable, not reset by destroy().
+    private final BufferPool _bufferPool; // Immutable, not reset by destroy().
+    private final CompressionCodecManager _compressionCodecManager; // Immutable, not reset by destroy().
+    private final StringCache _stringCache; // Immutable, not reset by destroy().
     private final ACMConfig _clientACM; // Immutable, not reset by destroy().
     private final ACMConfig _serverACM; // Immutable, not reset by destroy().
     private final com.zeroc.Ice.ImplicitContextI _implicitContext;
@@ -1895,6 +2098,7 @@ public final class Instance implements java.util.function.Function<String, Class
     private EndpointHostResolver _endpointHostResolver;
     private RetryQueue _retryQueue;
     private Timer _timer;
+    private TimingWheel _timingWheel;
     private EndpointFactoryManager _endpointFactoryManager;
     private com.zeroc.Ice.PluginManager _pluginManager;
 
@@ -1906,6 +2110,7 @@ public final class Instance implements java.util.function.Function<String, Class
     private java.util.Map<Short, BufSizeWarnInfo> _setBufSizeWarn = new java.util.HashMap<>();
 
     private java.util.Map<String, String> _typeToClassMap = new java.util.HashMap<>();
+    final private java.util.Map<String, Class<?>> _typeIdToClassCache; // Null if there's no class loader.
     final private String[] _packages;
     final private boolean _useApplicationClassLoader;
 
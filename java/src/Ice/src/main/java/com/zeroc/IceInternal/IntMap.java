@@ -0,0 +1,241 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+//
+// A map with primitive int keys, using open addressing with linear probing.
+// It avoids the boxing of keys and the allocation of an entry per mapping
+// of java.util.HashMap and java.util.TreeMap. Null values aren't supported.
+//
+// This class isn't thread-safe.
+//
+public final class IntMap<V>
+{
+    public IntMap()
+    {
+        this(8);
+    }
+
+    public IntMap(int expectedSize)
+    {
+        int capacity = 8;
+        while(capacity < expectedSize * 2)
+        {
+            capacity <<= 1;
+        }
+        _keys = new int[capacity];
+        _values = new Object[capacity];
+        _mask = capacity - 1;
+    }
+
+    public int size()
+    {
+        return _size;
+    }
+
+    public boolean isEmpty()
+    {
+        return _size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key)
+    {
+        int i = index(key);
+        Object v;
+        while((v = _values[i]) != null)
+        {
+            if(_keys[i] == key)
+            {
+                return (V)v;
+            }
+            i = (i + 1) & _mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key)
+    {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value)
+    {
+        assert(value != null);
+
+        int i = index(key);
+        Object v;
+        while((v = _values[i]) != null)
+        {
+            if(_keys[i] == key)
+            {
+                _values[i] = value;
+                return (V)v;
+            }
+            i = (i + 1) & _mask;
+        }
+
+        _keys[i] = key;
+        _values[i] = value;
+        if(++_size * 2 > _values.length)
+        {
+            rehash(_values.length << 1);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int key)
+    {
+        int i = index(key);
+        Object v;
+        while((v = _values[i]) != null)
+        {
+            if(_keys[i] == key)
+            {
+                --_size;
+                shift(i);
+                return (V)v;
+            }
+            i = (i + 1) & _mask;
+        }
+        return null;
+    }
+
+    //
+    // The value lookups compare references and require a scan of the table.
+    //
+    public boolean containsValue(Object value)
+    {
+        for(Object v : _values)
+        {
+            if(v == value)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean removeValue(Object value)
+    {
+        for(int i = 0; i < _values.length; ++i)
+        {
+            if(_values[i] == value)
+            {
+                --_size;
+                shift(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear()
+    {
+        if(_size > 0)
+        {
+            java.util.Arrays.fill(_values, null);
+            _size = 0;
+        }
+    }
+
+    //
+    // Calls the given consumer for each value of the map. The map must not
+    // be modified by the consumer.
+    //
+    @SuppressWarnings("unchecked")
+    public void forEachValue(java.util.function.Consumer<? super V> consumer)
+    {
+        for(Object v : _values)
+        {
+            if(v != null)
+            {
+                consumer.accept((V)v);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public java.util.List<V> values()
+    {
+        java.util.List<V> values = new java.util.ArrayList<>(_size);
+        for(Object v : _values)
+        {
+            if(v != null)
+            {
+                values.add((V)v);
+            }
+        }
+        return values;
+    }
+
+    private int index(int key)
+    {
+        //
+        // Spread the bits, keys are often sequential.
+        //
+        final int h = key * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & _mask;
+    }
+
+    //
+    // Remove the entry at the given index and shift back the following
+    // entries of the same cluster to keep the probe sequences unbroken.
+    //
+    private void shift(int i)
+    {
+        int last = i;
+        while(true)
+        {
+            i = (i + 1) & _mask;
+            if(_values[i] == null)
+            {
+                break;
+            }
+            final int slot = index(_keys[i]);
+            //
+            // Move the entry unless its home slot lies cyclically in (last, i].
+            //
+            if(last <= i ? (last >= slot || slot > i) : (last >= slot && slot > i))
+            {
+                _keys[last] = _keys[i];
+                _values[last] = _values[i];
+                last = i;
+            }
+        }
+        _values[last] = null;
+    }
+
+    private void rehash(int capacity)
+    {
+        final int[] keys = _keys;
+        final Object[] values = _values;
+
+        _keys = new int[capacity];
+        _values = new Object[capacity];
+        _mask = capacity - 1;
+
+        for(int j = 0; j < values.length; ++j)
+        {
+            if(values[j] != null)
+            {
+                int i = index(keys[j]);
+                while(_values[i] != null)
+                {
+                    i = (i + 1) & _mask;
+                }
+                _keys[i] = keys[j];
+                _values[i] = values[j];
+            }
+        }
+    }
+
+    private int[] _keys;
+    private Object[] _values;
+    private int _mask;
+    private int _size;
+}
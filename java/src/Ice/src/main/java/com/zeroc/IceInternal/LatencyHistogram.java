@@ -0,0 +1,133 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+//
+// A log-linear histogram of latencies in microseconds with a bounded relative
+// error. Values below 2^precision are recorded exactly. Larger values are
+// recorded in buckets of 2^(precision - 1) linear sub-buckets per power of two,
+// the relative error is therefore below 2^-(precision - 1).
+//
+// Recording is lock-free, the bucket counters are atomically incremented.
+//
+// A histogram has 2^precision + (43 - precision) * 2^(precision - 1) counters of
+// 8 bytes, each metrics object with a histogram has its own histogram:
+//
+//  precision   relative error   memory
+//  2           50%              0.7KB
+//  4           12.5%            2.5KB
+//  6           3.1%             10KB
+//  8           0.8%             37KB
+//
+// The precision is capped to 8 bits, with more bits the histograms of a map with
+// many metrics objects would use several megabytes.
+//
+public final class LatencyHistogram
+{
+    public static final int MinPrecision = 2;
+    public static final int MaxPrecision = 8;
+
+    public LatencyHistogram(int precision)
+    {
+        _precision = Math.min(MaxPrecision, Math.max(MinPrecision, precision));
+        _subBucketCount = 1 << _precision;
+        _halfCount = _subBucketCount >> 1;
+        _counts = new java.util.concurrent.atomic.AtomicLongArray(
+            _subBucketCount + (MaxBit - _precision + 1) * _halfCount);
+    }
+
+    public void
+    record(long value)
+    {
+        if(value < 0)
+        {
+            value = 0;
+        }
+        _counts.incrementAndGet(index(value));
+        _sum.add(value);
+        _min.accumulate(value);
+        _max.accumulate(value);
+    }
+
+    public com.zeroc.IceStats.LatencySnapshot
+    snapshot(String id, boolean reset)
+    {
+        int n = 0;
+        long[] counts = new long[_counts.length()];
+        for(int i = 0; i < counts.length; ++i)
+        {
+            counts[i] = reset ? _counts.getAndSet(i, 0) : _counts.get(i);
+            if(counts[i] > 0)
+            {
+                ++n;
+            }
+        }
+
+        long[] bucketValues = new long[n];
+        long[] bucketCounts = new long[n];
+        n = 0;
+        for(int i = 0; i < counts.length; ++i)
+        {
+            if(counts[i] > 0)
+            {
+                bucketValues[n] = highestValue(i);
+                bucketCounts[n] = counts[i];
+                ++n;
+            }
+        }
+
+        long sum = reset ? _sum.sumThenReset() : _sum.sum();
+        long min = reset ? _min.getThenReset() : _min.get();
+        long max = reset ? _max.getThenReset() : _max.get();
+        return new com.zeroc.IceStats.LatencySnapshot(id, bucketValues, bucketCounts, sum, min, max);
+    }
+
+    private int
+    index(long value)
+    {
+        if(value < _subBucketCount)
+        {
+            return (int)value;
+        }
+
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        if(msb > MaxBit)
+        {
+            msb = MaxBit;
+            value = (1L << (MaxBit + 1)) - 1; // Saturate to the last bucket.
+        }
+        final int shift = msb - _precision + 1;
+        return _subBucketCount + (shift - 1) * _halfCount + (int)((value >>> shift) - _halfCount);
+    }
+
+    private long
+    highestValue(int index)
+    {
+        if(index < _subBucketCount)
+        {
+            return index;
+        }
+        final int k = index - _subBucketCount;
+        final int shift = k / _halfCount + 1;
+        final long subBucket = k % _halfCount + _halfCount;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    //
+    // The highest bit of the recorded values, larger values (more than 50 days) are
+    // recorded in the last bucket.
+    //
+    private static final int MaxBit = 42;
+
+    private final int _precision;
+    private final int _subBucketCount;
+    private final int _halfCount;
+    private final java.util.concurrent.atomic.AtomicLongArray _counts;
+    private final java.util.concurrent.atomic.LongAdder _sum = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAccumulator _min =
+        new java.util.concurrent.atomic.LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final java.util.concurrent.atomic.LongAccumulator _max =
+        new java.util.concurrent.atomic.LongAccumulator(Math::max, 0);
+}
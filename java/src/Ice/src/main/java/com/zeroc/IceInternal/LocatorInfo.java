@@ -357,9 +357,10 @@ public final class LocatorInfo
         assert(ref.isIndirect());
         EndpointI[] endpoints = null;
         Holder<Boolean> cached = new Holder<>();
+        Holder<Boolean> refresh = new Holder<>();
         if(!ref.isWellKnown())
         {
-            endpoints = _table.getAdapterEndpoints(ref.getAdapterId(), ttl, cached);
+            endpoints = _table.getAdapterEndpoints(ref.getAdapterId(), ttl, cached, refresh);
             if(!cached.value)
             {
                 if(_background && endpoints != null)
@@ -372,10 +373,18 @@ public final class LocatorInfo
                     return;
                 }
             }
+            else if(refresh.value)
+            {
+                //
+                // The cached endpoints are about to expire, refresh them in the background
+                // and use them for this invocation.
+                //
+                getAdapterRequest(ref).addCallback(ref, wellKnownRef, ttl, null);
+            }
         }
         else
         {
-            Reference r = _table.getObjectReference(ref.getIdentity(), ttl, cached);
+            Reference r = _table.getObjectReference(ref.getIdentity(), ttl, cached, refresh);
             if(!cached.value)
             {
                 if(_background && r != null)
@@ -388,6 +397,10 @@ public final class LocatorInfo
                     return;
                 }
             }
+            else if(refresh.value)
+            {
+                getObjectRequest(ref).addCallback(ref, null, ttl, null);
+            }
 
             if(!r.isIndirect())
             {
@@ -709,6 +722,10 @@ public final class LocatorInfo
             {
                 _table.removeAdapterEndpoints(ref.getAdapterId());
             }
+            else // The locator request failed, keep the cached endpoints and allow a new refresh.
+            {
+                _table.adapterEndpointsRefreshFailed(ref.getAdapterId());
+            }
 
             synchronized(this)
             {
@@ -727,6 +744,10 @@ public final class LocatorInfo
             {
                 _table.removeObjectReference(ref.getIdentity());
             }
+            else // The locator request failed, keep the cached reference and allow a new refresh.
+            {
+                _table.objectReferenceRefreshFailed(ref.getIdentity());
+            }
 
             synchronized(this)
             {
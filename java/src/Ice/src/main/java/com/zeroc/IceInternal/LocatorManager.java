@@ -63,14 +63,34 @@ public final class LocatorManager
         private com.zeroc.Ice.EncodingVersion _encoding;
     }
 
-    LocatorManager(com.zeroc.Ice.Properties properties)
+    LocatorManager(Instance instance)
     {
+        _instance = instance;
+
+        com.zeroc.Ice.Properties properties = instance.initializationData().properties;
         _background = properties.getPropertyAsInt("Ice.BackgroundLocatorCacheUpdates") > 0;
+        _cacheMaxSize = properties.getPropertyAsInt("Ice.LocatorCache.MaxSize");
+        int refreshAhead = properties.getPropertyAsInt("Ice.LocatorCache.RefreshAhead");
+        _cacheRefreshAhead = refreshAhead > 0 && refreshAhead < 100 ? refreshAhead : 0;
     }
 
     synchronized void
     destroy()
     {
+        if(_instance.traceLevels().location >= 2)
+        {
+            for(java.util.Map.Entry<LocatorKey, LocatorTable> p : _locatorTables.entrySet())
+            {
+                StringBuilder s = new StringBuilder(128);
+                s.append("locator cache statistics\n");
+                s.append("locator = ");
+                s.append(com.zeroc.Ice.Util.identityToString(p.getKey()._id, _instance.toStringMode()));
+                s.append("\n");
+                s.append(p.getValue());
+                _instance.initializationData().logger.trace(_instance.traceLevels().locationCat, s.toString());
+            }
+        }
+
         for(LocatorInfo info : _table.values())
         {
             info.destroy();
@@ -79,6 +99,19 @@ public final class LocatorManager
         _locatorTables.clear();
     }
 
+    synchronized com.zeroc.IceStats.LocatorCacheStats[]
+    getCacheStats()
+    {
+        com.zeroc.IceStats.LocatorCacheStats[] stats = new com.zeroc.IceStats.LocatorCacheStats[_locatorTables.size()];
+        int i = 0;
+        for(java.util.Map.Entry<LocatorKey, LocatorTable> p : _locatorTables.entrySet())
+        {
+            stats[i++] = p.getValue().getStats(
+                com.zeroc.Ice.Util.identityToString(p.getKey()._id, _instance.toStringMode()));
+        }
+        return stats;
+    }
+
     //
     // Returns locator info for a given locator. Automatically creates
     // the locator info if it doesn't exist yet.
@@ -113,7 +146,7 @@ public final class LocatorManager
                 LocatorTable table = _locatorTables.get(_lookupKey.set(locator));
                 if(table == null)
                 {
-                    table = new LocatorTable();
+                    table = new LocatorTable(_cacheMaxSize, _cacheRefreshAhead);
                     _locatorTables.put(_lookupKey.clone(), table);
                 }
 
@@ -125,7 +158,10 @@ public final class LocatorManager
         }
     }
 
+    final private Instance _instance;
     final private boolean _background;
+    final private int _cacheMaxSize;
+    final private int _cacheRefreshAhead;
 
     private java.util.HashMap<com.zeroc.Ice.LocatorPrx, LocatorInfo> _table = new java.util.HashMap<>();
     private java.util.HashMap<LocatorKey, LocatorTable> _locatorTables = new java.util.HashMap<>();
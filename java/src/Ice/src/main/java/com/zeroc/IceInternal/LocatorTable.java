@@ -4,22 +4,37 @@
 
 package com.zeroc.IceInternal;
 
+//
+// The locator cache. If the tables are unbounded, they are concurrent maps and
+// lookups don't lock the table and don't contend with each other.
+//
+// The size of each table is bounded by maxSize (unbounded if 0): a bounded
+// table is an access-ordered LinkedHashMap guarded by its monitor, when the
+// table is full the least recently used entry is evicted. If refreshAhead is
+// set, a lookup of an entry older than refreshAhead percent of its TTL requests
+// a refresh of the entry, see LocatorInfo.getEndpoints.
+//
 final class LocatorTable
 {
-    LocatorTable()
+    LocatorTable(int maxSize, int refreshAhead)
     {
+        _maxSize = maxSize;
+        _refreshAhead = refreshAhead;
+        _adapterEndpointsTable = createTable();
+        _objectTable = createTable();
     }
 
-    synchronized void
+    void
     clear()
     {
         _adapterEndpointsTable.clear();
         _objectTable.clear();
     }
 
-    synchronized EndpointI[]
-    getAdapterEndpoints(String adapter, int ttl, Holder<Boolean> cached)
+    EndpointI[]
+    getAdapterEndpoints(String adapter, int ttl, Holder<Boolean> cached, Holder<Boolean> refresh)
     {
+        refresh.value = false;
         if(ttl == 0) // Locator cache disabled.
         {
             cached.value = false;
@@ -29,30 +44,31 @@ final class LocatorTable
         EndpointTableEntry entry = _adapterEndpointsTable.get(adapter);
         if(entry != null)
         {
-            cached.value = checkTTL(entry.time, ttl);
+            cached.value = checkTTL(entry, ttl, refresh);
             return entry.endpoints;
         }
+        _misses.increment();
         cached.value = false;
         return null;
     }
 
-    synchronized void
+    void
     addAdapterEndpoints(String adapter, EndpointI[] endpoints)
     {
-        _adapterEndpointsTable.put(adapter,
-                new EndpointTableEntry(Time.currentMonotonicTimeMillis(), endpoints));
+        _adapterEndpointsTable.put(adapter, new EndpointTableEntry(Time.currentMonotonicTimeMillis(), endpoints));
     }
 
-    synchronized EndpointI[]
+    EndpointI[]
     removeAdapterEndpoints(String adapter)
     {
         EndpointTableEntry entry = _adapterEndpointsTable.remove(adapter);
         return entry != null ? entry.endpoints : null;
     }
 
-    synchronized Reference
-    getObjectReference(com.zeroc.Ice.Identity id, int ttl, Holder<Boolean> cached)
+    Reference
+    getObjectReference(com.zeroc.Ice.Identity id, int ttl, Holder<Boolean> cached, Holder<Boolean> refresh)
     {
+        refresh.value = false;
         if(ttl == 0) // Locator cache disabled.
         {
             cached.value = false;
@@ -62,64 +78,172 @@ final class LocatorTable
         ReferenceTableEntry entry = _objectTable.get(id);
         if(entry != null)
         {
-            cached.value = checkTTL(entry.time, ttl);
+            cached.value = checkTTL(entry, ttl, refresh);
             return entry.reference;
         }
+        _misses.increment();
         cached.value = false;
         return null;
     }
 
-    synchronized void
+    void
     addObjectReference(com.zeroc.Ice.Identity id, Reference ref)
     {
         _objectTable.put(id, new ReferenceTableEntry(Time.currentMonotonicTimeMillis(), ref));
     }
 
-    synchronized Reference
+    Reference
     removeObjectReference(com.zeroc.Ice.Identity id)
     {
         ReferenceTableEntry entry = _objectTable.remove(id);
         return entry != null ? entry.reference : null;
     }
 
+    //
+    // Called when the refresh of an entry failed, the next lookup requests a new refresh.
+    //
+    void
+    adapterEndpointsRefreshFailed(String adapter)
+    {
+        TableEntry entry = _adapterEndpointsTable.get(adapter);
+        if(entry != null)
+        {
+            entry.refreshing = false;
+        }
+    }
+
+    void
+    objectReferenceRefreshFailed(com.zeroc.Ice.Identity id)
+    {
+        TableEntry entry = _objectTable.get(id);
+        if(entry != null)
+        {
+            entry.refreshing = false;
+        }
+    }
+
+    com.zeroc.IceStats.LocatorCacheStats
+    getStats(String locator)
+    {
+        return new com.zeroc.IceStats.LocatorCacheStats(locator, _hits.sum(), _misses.sum(), _refreshes.sum(),
+                                                        _evictions.sum(), _adapterEndpointsTable.size(),
+                                                        _objectTable.size());
+    }
+
+    @Override
+    public String
+    toString()
+    {
+        StringBuilder s = new StringBuilder();
+        s.append("hits = ").append(_hits.sum());
+        s.append(", misses = ").append(_misses.sum());
+        s.append(", refreshes = ").append(_refreshes.sum());
+        s.append(", evictions = ").append(_evictions.sum());
+        return s.toString();
+    }
+
     private boolean
-    checkTTL(long time, int ttl)
+    checkTTL(TableEntry entry, int ttl, Holder<Boolean> refresh)
     {
         assert(ttl != 0);
         if(ttl < 0) // TTL = infinite
         {
+            _hits.increment();
             return true;
         }
-        else
+
+        final long age = Time.currentMonotonicTimeMillis() - entry.time;
+        if(age > (long)ttl * 1000)
         {
-            return Time.currentMonotonicTimeMillis() - time <= ((long)ttl * 1000);
+            _misses.increment(); // Expired
+            return false;
         }
+
+        _hits.increment();
+        if(_refreshAhead > 0 && !entry.refreshing && age * 100 >= (long)ttl * 1000 * _refreshAhead)
+        {
+            //
+            // The entry is about to expire, request a refresh. The entry is replaced once the
+            // locator replies. Concurrent lookups might request the refresh too, the locator
+            // requests for the same adapter or object are shared by LocatorInfo.
+            //
+            entry.refreshing = true;
+            _refreshes.increment();
+            refresh.value = true;
+        }
+        return true;
     }
 
-    private static final class EndpointTableEntry
+    private <K, V> java.util.Map<K, V>
+    createTable()
     {
-        public EndpointTableEntry(long time, EndpointI[] endpoints)
+        if(_maxSize <= 0)
+        {
+            return new java.util.concurrent.ConcurrentHashMap<>();
+        }
+
+        //
+        // The lookups update the access order of the LinkedHashMap, they must be synchronized.
+        //
+        return java.util.Collections.synchronizedMap(new java.util.LinkedHashMap<K, V>(16, 0.75f, true)
+            {
+                @Override
+                protected boolean
+                removeEldestEntry(java.util.Map.Entry<K, V> eldest)
+                {
+                    if(size() > _maxSize)
+                    {
+                        _evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+
+                public static final long serialVersionUID = 0L;
+            });
+    }
+
+    private static abstract class TableEntry
+    {
+        TableEntry(long time)
         {
             this.time = time;
-            this.endpoints = endpoints;
         }
 
         final public long time;
+        volatile boolean refreshing;
+    }
+
+    private static final class EndpointTableEntry extends TableEntry
+    {
+        public EndpointTableEntry(long time, EndpointI[] endpoints)
+        {
+            super(time);
+            this.endpoints = endpoints;
+        }
+
         final public EndpointI[] endpoints;
     }
 
-    private static final class ReferenceTableEntry
+    private static final class ReferenceTableEntry extends TableEntry
     {
         public ReferenceTableEntry(long time, Reference reference)
         {
-            this.time = time;
+            super(time);
             this.reference = reference;
         }
 
-        final public long time;
         final public Reference reference;
     }
 
-    private java.util.Map<String, EndpointTableEntry> _adapterEndpointsTable = new java.util.HashMap<>();
-    private java.util.Map<com.zeroc.Ice.Identity, ReferenceTableEntry> _objectTable = new java.util.HashMap<>();
+    private final int _maxSize;
+    private final int _refreshAhead;
+
+    private final java.util.Map<String, EndpointTableEntry> _adapterEndpointsTable;
+    private final java.util.Map<com.zeroc.Ice.Identity, ReferenceTableEntry> _objectTable;
+
+    private final java.util.concurrent.atomic.LongAdder _hits = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _misses = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _refreshes = new java.util.concurrent.atomic.LongAdder();
+    private final java.util.concurrent.atomic.LongAdder _evictions = new java.util.concurrent.atomic.LongAdder();
 }
@@ -14,9 +14,23 @@ public class MetricsAdminI implements com.zeroc.IceMX.MetricsAdmin,
         "Accept.*",
         "Reject.*",
         "RetainDetached",
+        "Histogram",
         "Map.*",
     };
 
+    //
+    // The statistics of the Ice run time components which aren't metrics maps, they are
+    // provided by the communicator instance.
+    //
+    public interface StatsProvider
+    {
+        com.zeroc.IceStats.LocatorCacheStats[] getLocatorCacheStats();
+
+        com.zeroc.IceStats.HostResolverStats getHostResolverStats();
+
+        com.zeroc.IceStats.BufferPoolStats getBufferPoolStats();
+    }
+
     static void validateProperties(String prefix, com.zeroc.Ice.Properties properties)
     {
         java.util.Map<String, String> props = properties.getPropertiesForPrefix(prefix);
@@ -251,6 +265,87 @@ public class MetricsAdminI implements com.zeroc.IceMX.MetricsAdmin,
         return new com.zeroc.IceMX.MetricsFailures();
     }
 
+    //
+    // The latency histogram precision is set in bits (2 to 8) by the histogram property,
+    // see LatencyHistogram for the memory used by each histogram.
+    //
+    @Override
+    synchronized public com.zeroc.IceStats.LatencySnapshot[] getLatencySnapshots(String viewName, String mapName,
+                                                                                 boolean reset)
+        throws com.zeroc.IceMX.UnknownMetricsView
+    {
+        MetricsViewI view = getMetricsView(viewName);
+        if(view != null)
+        {
+            com.zeroc.IceStats.LatencySnapshot[] snapshots = view.getLatencySnapshots(mapName, reset);
+            if(snapshots != null)
+            {
+                return snapshots;
+            }
+        }
+        return new com.zeroc.IceStats.LatencySnapshot[0];
+    }
+
+    @Override
+    synchronized public com.zeroc.IceStats.ThreadPoolSizing[] getThreadPoolSizing()
+    {
+        return _threadPoolSizing.values().toArray(new com.zeroc.IceStats.ThreadPoolSizing[0]);
+    }
+
+    synchronized public void threadPoolSizingChanged(com.zeroc.IceStats.ThreadPoolSizing sizing)
+    {
+        _threadPoolSizing.put(sizing.threadPool, sizing);
+    }
+
+    @Override
+    synchronized public com.zeroc.IceStats.EndpointStats[] getEndpointStats()
+    {
+        return _endpointStats.values().toArray(new com.zeroc.IceStats.EndpointStats[0]);
+    }
+
+    //
+    // The statistics are a snapshot of all the endpoints in use, they replace the previous
+    // snapshot so that the endpoints no longer in use aren't kept.
+    //
+    synchronized public void endpointStatsChanged(com.zeroc.IceStats.EndpointStats[] stats)
+    {
+        _endpointStats.clear();
+        for(com.zeroc.IceStats.EndpointStats s : stats)
+        {
+            _endpointStats.put(s.endpoint, s);
+        }
+    }
+
+    //
+    // The statistics below are provided by the communicator instance, they are retrieved
+    // without holding the lock of the facet.
+    //
+    @Override
+    public com.zeroc.IceStats.LocatorCacheStats[] getLocatorCacheStats()
+    {
+        StatsProvider stats = getStatsProvider();
+        return stats != null ? stats.getLocatorCacheStats() : new com.zeroc.IceStats.LocatorCacheStats[0];
+    }
+
+    @Override
+    public com.zeroc.IceStats.HostResolverStats getHostResolverStats()
+    {
+        StatsProvider stats = getStatsProvider();
+        return stats != null ? stats.getHostResolverStats() : new com.zeroc.IceStats.HostResolverStats(0, 0, 0, 0, 0);
+    }
+
+    @Override
+    public com.zeroc.IceStats.BufferPoolStats getBufferPoolStats()
+    {
+        StatsProvider stats = getStatsProvider();
+        return stats != null ? stats.getBufferPoolStats() : null;
+    }
+
+    synchronized public void setStatsProvider(StatsProvider provider)
+    {
+        _statsProvider = provider;
+    }
+
     public <T extends com.zeroc.IceMX.Metrics> void registerMap(String map, Class<T> cl, Runnable updater)
     {
         boolean updated;
@@ -384,10 +479,18 @@ public class MetricsAdminI implements com.zeroc.IceMX.MetricsAdmin,
         return updated;
     }
 
+    synchronized private StatsProvider getStatsProvider()
+    {
+        return _statsProvider;
+    }
+
     private com.zeroc.Ice.Properties _properties;
     final private com.zeroc.Ice.Logger _logger;
     final private java.util.Map<String, MetricsMapFactory<?>> _factories = new java.util.HashMap<>();
 
     private java.util.Map<String, MetricsViewI> _views = new java.util.HashMap<>();
     private java.util.Set<String> _disabledViews = new java.util.HashSet<>();
+    private java.util.Map<String, com.zeroc.IceStats.ThreadPoolSizing> _threadPoolSizing = new java.util.TreeMap<>();
+    private java.util.Map<String, com.zeroc.IceStats.EndpointStats> _endpointStats = new java.util.TreeMap<>();
+    private StatsProvider _statsProvider;
 }
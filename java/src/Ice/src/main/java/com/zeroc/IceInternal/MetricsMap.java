@@ -4,6 +4,13 @@
 
 package com.zeroc.IceInternal;
 
+//
+// The metrics of a metrics view map. The metrics updates of the observers don't
+// lock the map: the counters of each entry are striped, they're accumulated in
+// per-stripe metrics objects and merged when the metrics are retrieved by the
+// metrics admin. The metrics updates (MetricsUpdate and MetricsHelper.initMetrics)
+// must therefore only add to the metrics fields.
+//
 public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
 {
     public class Entry
@@ -11,43 +18,40 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
         Entry(T obj)
         {
             _object = obj;
+            _latency = _histogramPrecision > 0 ? new LatencyHistogram(_histogramPrecision) : null;
         }
 
         public void
         failed(String exceptionName)
         {
-            synchronized(MetricsMap.this)
+            java.util.concurrent.atomic.LongAdder count = _failures.get(exceptionName);
+            if(count == null)
             {
-                ++_object.failures;
-                if(_failures == null)
-                {
-                    _failures = new java.util.HashMap<>();
-                }
-                Integer count = _failures.get(exceptionName);
-                _failures.put(exceptionName, Integer.valueOf(count == null ? 1 : count + 1));
+                count = _failures.computeIfAbsent(exceptionName, k -> new java.util.concurrent.atomic.LongAdder());
             }
+            count.increment();
+            _failureCount.increment();
         }
 
         @SuppressWarnings("unchecked")
         public <S extends com.zeroc.IceMX.Metrics> MetricsMap<S>.Entry
         getMatching(String mapName, com.zeroc.IceMX.MetricsHelper<S> helper, Class<S> cl)
         {
-            SubMap<S> m;
-            synchronized(MetricsMap.this)
+            SubMap<S> m = (SubMap<S>)_subMaps.get(mapName);
+            if(m == null)
             {
-                m = _subMaps != null ? (SubMap<S>)_subMaps.get(mapName) : null;
-                if(m == null)
+                synchronized(MetricsMap.this)
                 {
-                    m = createSubMap(mapName, cl);
+                    m = (SubMap<S>)_subMaps.get(mapName);
                     if(m == null)
                     {
-                        return null;
+                        m = createSubMap(mapName, cl);
+                        if(m == null)
+                        {
+                            return null;
+                        }
+                        _subMaps.put(mapName, m);
                     }
-                    if(_subMaps == null)
-                    {
-                        _subMaps = new java.util.HashMap<>();
-                    }
-                    _subMaps.put(mapName, m);
                 }
             }
             return m.getMatching(helper);
@@ -56,10 +60,14 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
         public void
         detach(long lifetime)
         {
-            synchronized(MetricsMap.this)
+            _totalLifetime.add(lifetime);
+            if(_latency != null)
+            {
+                _latency.record(lifetime);
+            }
+            if(_current.decrementAndGet() == 0)
             {
-                _object.totalLifetime += lifetime;
-                if(--_object.current == 0)
+                synchronized(MetricsMap.this)
                 {
                     detached(this);
                 }
@@ -69,9 +77,10 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
         public void
         execute(com.zeroc.IceMX.Observer.MetricsUpdate<T> func)
         {
-            synchronized(MetricsMap.this)
+            T m = stripe();
+            synchronized(m)
             {
-                func.update(_object);
+                func.update(m);
             }
         }
 
@@ -84,49 +93,118 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
         private com.zeroc.IceMX.MetricsFailures
         getFailures()
         {
-            if(_failures == null)
+            if(_failures.isEmpty())
             {
                 return null;
             }
             com.zeroc.IceMX.MetricsFailures f = new com.zeroc.IceMX.MetricsFailures();
             f.id = _object.id;
-            f.failures = new java.util.HashMap<>(_failures);
+            f.failures = new java.util.HashMap<>();
+            for(java.util.Map.Entry<String, java.util.concurrent.atomic.LongAdder> e : _failures.entrySet())
+            {
+                f.failures.put(e.getKey(), e.getValue().intValue());
+            }
             return f;
         }
 
-        private void
+        //
+        // Attaches the entry unless it has been removed from the map.
+        //
+        private boolean
         attach(com.zeroc.IceMX.MetricsHelper<T> helper)
         {
-            ++_object.total;
-            ++_object.current;
-            helper.initMetrics(_object);
+            int current;
+            do
+            {
+                current = _current.get();
+                if(current < 0)
+                {
+                    return false;
+                }
+            }
+            while(!_current.compareAndSet(current, current + 1));
+
+            _total.increment();
+            T m = stripe();
+            synchronized(m)
+            {
+                helper.initMetrics(m);
+            }
+            return true;
         }
 
         private boolean
         isDetached()
         {
-            return _object.current == 0;
+            return _current.get() == 0;
+        }
+
+        //
+        // Marks the entry as removed if it's still detached.
+        //
+        private boolean
+        remove()
+        {
+            return _current.compareAndSet(0, -1);
+        }
+
+        private T
+        stripe()
+        {
+            final int i = (int)Thread.currentThread().getId() & (_stripes.length() - 1);
+            T m = _stripes.get(i);
+            if(m == null)
+            {
+                m = newMetrics(null);
+                if(!_stripes.compareAndSet(i, null, m))
+                {
+                    m = _stripes.get(i);
+                }
+            }
+            return m;
         }
 
         @Override
-        @SuppressWarnings("unchecked")
         public com.zeroc.IceMX.Metrics
         clone()
         {
-            T metrics = (T)_object.clone();
-            if(_subMaps != null)
+            T metrics = newMetrics(_object.id);
+            for(int i = 0; i < _stripes.length(); ++i)
             {
-                for(SubMap<?> s : _subMaps.values())
+                T m = _stripes.get(i);
+                if(m != null)
                 {
-                    s.addSubMapToMetrics(metrics);
+                    synchronized(m)
+                    {
+                        add(metrics, m);
+                    }
                 }
             }
+            metrics.total = _total.sum();
+            metrics.current = Math.max(0, _current.get());
+            metrics.totalLifetime = _totalLifetime.sum();
+            metrics.failures = _failureCount.intValue();
+            for(SubMap<?> s : _subMaps.values())
+            {
+                s.addSubMapToMetrics(metrics);
+            }
             return metrics;
         }
 
-        private T _object;
-        private java.util.Map<String, Integer> _failures;
-        private java.util.Map<String, SubMap<?>> _subMaps;
+        final private T _object;
+        final private LatencyHistogram _latency;
+        final private java.util.concurrent.atomic.LongAdder _total = new java.util.concurrent.atomic.LongAdder();
+        final private java.util.concurrent.atomic.AtomicInteger _current =
+            new java.util.concurrent.atomic.AtomicInteger(); // -1 if removed from the map.
+        final private java.util.concurrent.atomic.LongAdder _totalLifetime =
+            new java.util.concurrent.atomic.LongAdder();
+        final private java.util.concurrent.atomic.LongAdder _failureCount =
+            new java.util.concurrent.atomic.LongAdder();
+        final private java.util.Map<String, java.util.concurrent.atomic.LongAdder> _failures =
+            new java.util.concurrent.ConcurrentHashMap<>();
+        final private java.util.Map<String, SubMap<?>> _subMaps = new java.util.concurrent.ConcurrentHashMap<>();
+        final private java.util.concurrent.atomic.AtomicReferenceArray<T> _stripes =
+            new java.util.concurrent.atomic.AtomicReferenceArray<>(StripeCount);
     }
 
     static class SubMap<S extends com.zeroc.IceMX.Metrics>
@@ -157,6 +235,12 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
             }
         }
 
+        public com.zeroc.IceStats.LatencySnapshot[]
+        getLatencySnapshots(String prefix, boolean reset)
+        {
+            return _map.getLatencySnapshots(prefix, reset);
+        }
+
         final private MetricsMap<S> _map;
         final private java.lang.reflect.Field _field;
     }
@@ -206,9 +290,11 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
         _retain = props.getPropertyAsIntWithDefault(mapPrefix + "RetainDetached", 10);
         _accept = parseRule(props, mapPrefix + "Accept");
         _reject = parseRule(props, mapPrefix + "Reject");
+        _histogramPrecision = props.getPropertyAsInt(mapPrefix + "Histogram");
         _groupByAttributes = new java.util.ArrayList<>();
         _groupBySeparators = new java.util.ArrayList<>();
         _class = cl;
+        _fields = getCounterFields(cl);
 
         String groupBy = props.getPropertyWithDefault(mapPrefix + "GroupBy", "id");
         if(!groupBy.isEmpty())
@@ -290,7 +376,9 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
         _retain = map._retain;
         _accept = map._accept;
         _reject = map._reject;
+        _histogramPrecision = map._histogramPrecision;
         _class = map._class;
+        _fields = map._fields;
         _subMaps = map._subMaps;
     }
 
@@ -312,6 +400,65 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
         return metrics;
     }
 
+    //
+    // Returns the latency histogram snapshots of the metrics objects, or null if
+    // the latency histograms aren't enabled for this map.
+    //
+    com.zeroc.IceStats.LatencySnapshot[]
+    getLatencySnapshots(boolean reset)
+    {
+        return getLatencySnapshots("", reset);
+    }
+
+    //
+    // Same as above, the identifier of each snapshot is prefixed with the given prefix.
+    //
+    synchronized com.zeroc.IceStats.LatencySnapshot[]
+    getLatencySnapshots(String prefix, boolean reset)
+    {
+        if(_histogramPrecision <= 0)
+        {
+            return null;
+        }
+
+        com.zeroc.IceStats.LatencySnapshot[] snapshots = new com.zeroc.IceStats.LatencySnapshot[_objects.size()];
+        int i = 0;
+        for(Entry e : _objects.values())
+        {
+            snapshots[i++] = e._latency.snapshot(prefix + e._object.id, reset);
+        }
+        return snapshots;
+    }
+
+    //
+    // Returns the latency histogram snapshots of the given sub-map of each metrics
+    // object, or null if the latency histograms aren't enabled for the sub-map.
+    //
+    synchronized com.zeroc.IceStats.LatencySnapshot[]
+    getSubMapLatencySnapshots(String subMapName, boolean reset)
+    {
+        if(_subMaps == null || !_subMaps.containsKey(subMapName))
+        {
+            return null;
+        }
+
+        java.util.List<com.zeroc.IceStats.LatencySnapshot> snapshots = new java.util.ArrayList<>();
+        for(Entry e : _objects.values())
+        {
+            SubMap<?> s = e._subMaps.get(subMapName);
+            if(s != null)
+            {
+                com.zeroc.IceStats.LatencySnapshot[] subSnapshots = s.getLatencySnapshots(e._object.id + '/', reset);
+                if(subSnapshots == null)
+                {
+                    return null;
+                }
+                snapshots.addAll(java.util.Arrays.asList(subSnapshots));
+            }
+        }
+        return snapshots.toArray(new com.zeroc.IceStats.LatencySnapshot[snapshots.size()]);
+    }
+
     synchronized com.zeroc.IceMX.MetricsFailures[]
     getFailures()
     {
@@ -407,34 +554,103 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
         }
 
         //
-        // Lookup the metrics object.
+        // Lookup the metrics object, the map is only locked to add a new object.
         //
+        if(previous != null && previous._object.id.equals(key))
+        {
+            return previous;
+        }
+
+        Entry e = _objects.get(key);
+        if(e != null && e.attach(helper))
+        {
+            return e;
+        }
+
         synchronized(this)
         {
-            if(previous != null && previous._object.id.equals(key))
+            while(true)
             {
-                assert(_objects.get(key) == previous);
-                return previous;
+                e = _objects.get(key);
+                if(e == null)
+                {
+                    e = new Entry(newMetrics(key));
+                    _objects.put(key, e);
+                }
+                if(e.attach(helper))
+                {
+                    return e;
+                }
+                _objects.remove(key, e); // Removed concurrently, retry.
             }
+        }
+    }
+
+    private T
+    newMetrics(String id)
+    {
+        try
+        {
+            T t = _class.getDeclaredConstructor().newInstance();
+            t.id = id;
+            return t;
+        }
+        catch(Exception ex)
+        {
+            assert(false);
+            return null;
+        }
+    }
 
-            Entry e = _objects.get(key);
-            if(e == null)
+    //
+    // Adds the counters of the given stripe to the metrics.
+    //
+    private void
+    add(T metrics, T stripe)
+    {
+        try
+        {
+            for(java.lang.reflect.Field f : _fields)
             {
-                try
+                Class<?> type = f.getType();
+                if(type == int.class)
                 {
-                    T t = _class.getDeclaredConstructor().newInstance();
-                    t.id = key;
-                    e = new Entry(t);
-                    _objects.put(key, e);
+                    f.setInt(metrics, f.getInt(metrics) + f.getInt(stripe));
                 }
-                catch(Exception ex)
+                else if(type == long.class)
                 {
-                    assert(false);
+                    f.setLong(metrics, f.getLong(metrics) + f.getLong(stripe));
+                }
+                else if(type == float.class)
+                {
+                    f.setFloat(metrics, f.getFloat(metrics) + f.getFloat(stripe));
+                }
+                else
+                {
+                    f.setDouble(metrics, f.getDouble(metrics) + f.getDouble(stripe));
                 }
             }
-            e.attach(helper);
-            return e;
         }
+        catch(IllegalAccessException ex)
+        {
+            assert(false);
+        }
+    }
+
+    private static java.lang.reflect.Field[]
+    getCounterFields(Class<?> cl)
+    {
+        java.util.List<java.lang.reflect.Field> fields = new java.util.ArrayList<>();
+        for(java.lang.reflect.Field f : cl.getFields())
+        {
+            Class<?> type = f.getType();
+            if(!java.lang.reflect.Modifier.isStatic(f.getModifiers()) &&
+               (type == int.class || type == long.class || type == float.class || type == double.class))
+            {
+                fields.add(f);
+            }
+        }
+        return fields.toArray(new java.lang.reflect.Field[fields.size()]);
     }
 
     private void
@@ -462,10 +678,15 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
             }
         }
 
-        // If there's still no room, remove the oldest entry (at the front).
+        // If there's still no room, remove the oldest entry (at the front) unless it
+        // has been attached again in the meantime.
         if(_detachedQueue.size() == _retain)
         {
-            _objects.remove(_detachedQueue.pollFirst()._object.id);
+            Entry e = _detachedQueue.pollFirst();
+            if(e.remove())
+            {
+                _objects.remove(e._object.id, e);
+            }
         }
 
         // Add the entry at the back of the queue.
@@ -505,9 +726,22 @@ public class MetricsMap<T extends com.zeroc.IceMX.Metrics>
     final private int _retain;
     final private java.util.Map<String, java.util.regex.Pattern> _accept;
     final private java.util.Map<String, java.util.regex.Pattern> _reject;
+    final private int _histogramPrecision;
     final private Class<T> _class;
+    final private java.lang.reflect.Field[] _fields;
 
-    final private java.util.Map<String, Entry> _objects = new java.util.HashMap<>();
+    final private java.util.Map<String, Entry> _objects = new java.util.concurrent.ConcurrentHashMap<>();
     final private java.util.Map<String, SubMapCloneFactory<?>> _subMaps;
     private java.util.Deque<Entry> _detachedQueue;
+
+    private static final int StripeCount;
+    static
+    {
+        int count = 1;
+        while(count < Runtime.getRuntime().availableProcessors() && count < 64)
+        {
+            count <<= 1;
+        }
+        StripeCount = count;
+    }
 }
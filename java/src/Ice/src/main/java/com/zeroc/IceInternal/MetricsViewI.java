@@ -81,6 +81,29 @@ public class MetricsViewI
         return metrics;
     }
 
+    public com.zeroc.IceStats.LatencySnapshot[]
+    getLatencySnapshots(String mapName, boolean reset)
+    {
+        //
+        // The histograms of a sub-map are returned for a map name of the form
+        // <map>.<sub-map>, for example Invocation.Remote.
+        //
+        String subMapName = null;
+        int pos = mapName.indexOf('.');
+        if(pos >= 0)
+        {
+            subMapName = mapName.substring(pos + 1);
+            mapName = mapName.substring(0, pos);
+        }
+
+        MetricsMap<?> m = _maps.get(mapName);
+        if(m != null)
+        {
+            return subMapName != null ? m.getSubMapLatencySnapshots(subMapName, reset) : m.getLatencySnapshots(reset);
+        }
+        return null;
+    }
+
     public com.zeroc.IceMX.MetricsFailures[]
     getFailures(String mapName)
     {
@@ -945,22 +945,7 @@ public final class Network
                 }
             }
 
-            if(selType == EndpointSelectionType.Random)
-            {
-                java.util.Collections.shuffle(addresses);
-            }
-
-            if(protocol == EnableBoth)
-            {
-                if(preferIPv6)
-                {
-                    java.util.Collections.sort(addresses, _preferIPv6Comparator);
-                }
-                else
-                {
-                    java.util.Collections.sort(addresses, _preferIPv4Comparator);
-                }
-            }
+            orderAddresses(addresses, protocol, selType, preferIPv6);
         }
         catch(java.net.UnknownHostException ex)
         {
@@ -982,6 +967,32 @@ public final class Network
         return addresses;
     }
 
+    //
+    // Orders the addresses returned by getAddresses according to the endpoint selection
+    // type and the IP version preference.
+    //
+    public static void
+    orderAddresses(java.util.List<java.net.InetSocketAddress> addresses, int protocol,
+                   EndpointSelectionType selType, boolean preferIPv6)
+    {
+        if(selType == EndpointSelectionType.Random)
+        {
+            java.util.Collections.shuffle(addresses);
+        }
+
+        if(protocol == EnableBoth)
+        {
+            if(preferIPv6)
+            {
+                java.util.Collections.sort(addresses, _preferIPv6Comparator);
+            }
+            else
+            {
+                java.util.Collections.sort(addresses, _preferIPv4Comparator);
+            }
+        }
+    }
+
     public static java.util.ArrayList<java.net.InetAddress>
     getLocalAddresses(int protocol, boolean includeLoopback, boolean singleAddressPerInterface)
     {
@@ -21,6 +21,17 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
         V unmarshal(com.zeroc.Ice.InputStream istr);
     }
 
+    //
+    // Calls the operation on a collocated servant with the invocation
+    // parameters and returns the servant results, see invoke below.
+    //
+    @FunctionalInterface
+    static public interface Dispatcher<V>
+    {
+        V dispatch(com.zeroc.Ice.Object servant, com.zeroc.Ice.Current current)
+            throws com.zeroc.Ice.UserException;
+    }
+
     public OutgoingAsync(com.zeroc.Ice.ObjectPrx prx, String operation, OperationMode mode, boolean synchronous,
                          Class<?>[] userExceptions)
     {
@@ -47,6 +58,21 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
 
     public void invoke(boolean twowayOnly, java.util.Map<String, String> ctx, FormatType format,
                        OutputStream.Marshaler marshal, Unmarshaler<T> unmarshal)
+    {
+        invoke(twowayOnly, ctx, format, marshal, unmarshal, null, null);
+    }
+
+    //
+    // With Ice.CollocationDirect enabled, a synchronous twoway invocation on a
+    // collocated servant which implements servantType is dispatched with the
+    // dispatcher: the parameters and results are passed by reference instead
+    // of being marshaled. Exceptions are still marshaled. The parameters are
+    // marshaled if the invocation is eventually sent to a connection or to a
+    // servant of a different type (such as a dispatch interceptor).
+    //
+    public void invoke(boolean twowayOnly, java.util.Map<String, String> ctx, FormatType format,
+                       OutputStream.Marshaler marshal, Unmarshaler<T> unmarshal,
+                       Class<?> servantType, Dispatcher<T> dispatcher)
     {
         _unmarshal = unmarshal;
 
@@ -64,14 +90,16 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
         {
             prepare(ctx);
 
-            if(marshal == null)
+            _marshal = marshal;
+            _format = format;
+            if(dispatcher != null && canDispatchDirect())
             {
-                writeEmptyParams();
+                _servantType = servantType;
+                _dispatcher = dispatcher;
             }
             else
             {
-                marshal.marshal(startWriteParams(format));
-                endWriteParams();
+                marshalParams();
             }
 
             if(isBatch())
@@ -165,12 +193,18 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
         throws RetryException
     {
         _cachedConnection = connection;
+        marshalParams();
         return connection.sendAsyncRequest(this, compress, response, 0);
     }
 
     @Override
     public int invokeCollocated(CollocatedRequestHandler handler)
     {
+        if(_dispatcher != null && !handler.canDispatchDirect())
+        {
+            marshalParams(); // The request handler changed since invoke was called.
+        }
+
         // The stream cannot be cached if the proxy is not a twoway or there is an invocation timeout set.
         if(!_proxy.ice_isTwoway() || _proxy._getReference().getInvocationTimeout() > 0)
         {
@@ -213,7 +247,14 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
                 T r = null;
                 try
                 {
-                    if(_unmarshal != null)
+                    if(_directResult)
+                    {
+                        @SuppressWarnings("unchecked")
+                        T result = (T)_result;
+                        r = result;
+                        _result = null;
+                    }
+                    else if(_unmarshal != null)
                     {
                         //
                         // The Unmarshaler callback unmarshals and returns the results.
@@ -288,6 +329,100 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
         return super.completed(_is);
     }
 
+    //
+    // Returns true if the parameters of the invocation aren't marshaled, the servant
+    // must be called with dispatch if it's an instance of the servant type or with the
+    // parameters returned by readParams otherwise.
+    //
+    boolean dispatchDirect()
+    {
+        return _dispatcher != null;
+    }
+
+    boolean dispatchDirect(com.zeroc.Ice.Object servant)
+    {
+        return _dispatcher != null && _servantType.isInstance(servant);
+    }
+
+    Object dispatch(com.zeroc.Ice.Object servant, com.zeroc.Ice.Current current)
+        throws com.zeroc.Ice.UserException
+    {
+        assert(_dispatcher != null);
+        return _dispatcher.dispatch(servant, current);
+    }
+
+    com.zeroc.Ice.EncodingVersion getEncoding()
+    {
+        return _encoding;
+    }
+
+    //
+    // Returns the marshaled parameters for a collocated dispatch on a servant which
+    // can't be called with the dispatcher.
+    //
+    com.zeroc.Ice.InputStream readParams()
+    {
+        assert(_dispatcher != null);
+        com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream(_instance, Protocol.currentProtocolEncoding);
+        if(_marshal == null)
+        {
+            os.writeEmptyEncapsulation(_encoding);
+        }
+        else
+        {
+            os.startEncapsulation(_encoding, _format);
+            _marshal.marshal(os);
+            os.endEncapsulation();
+        }
+        com.zeroc.Ice.InputStream is =
+            new com.zeroc.Ice.InputStream(_instance, Protocol.currentProtocolEncoding, os.getBuffer(), true);
+        is.pos(0);
+        return is;
+    }
+
+    boolean completedDirect(Object result)
+    {
+        if(_childObserver != null)
+        {
+            _childObserver.reply(0);
+            _childObserver.detach();
+            _childObserver = null;
+        }
+
+        _result = result;
+        _directResult = true;
+        return finished(true, true);
+    }
+
+    private boolean canDispatchDirect()
+    {
+        if(!_synchronous || !_proxy.ice_isTwoway() || !_instance.collocationDirect())
+        {
+            return false;
+        }
+        RequestHandler handler = _proxy._getCachedRequestHandler();
+        return handler instanceof CollocatedRequestHandler && ((CollocatedRequestHandler)handler).canDispatchDirect();
+    }
+
+    private void marshalParams()
+    {
+        _dispatcher = null;
+        _servantType = null;
+        if(!_paramsMarshaled)
+        {
+            _paramsMarshaled = true;
+            if(_marshal == null)
+            {
+                writeEmptyParams();
+            }
+            else
+            {
+                _marshal.marshal(startWriteParams(_format));
+                endWriteParams();
+            }
+        }
+    }
+
     private com.zeroc.Ice.OutputStream startWriteParams(FormatType format)
     {
         _os.startEncapsulation(_encoding, format);
@@ -349,6 +484,19 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
                 _state |= StateCachedBuffers;
             }
 
+            if(_instance.bufferPool() != null)
+            {
+                //
+                // Return the memory to the communicator buffer pool rather
+                // than keeping it with the streams cached by the proxy.
+                //
+                if(_is != null)
+                {
+                    _is.getBuffer().release();
+                }
+                _os.getBuffer().release();
+            }
+
             if(_is != null)
             {
                 _is.reset();
@@ -367,4 +515,13 @@ public class OutgoingAsync<T> extends ProxyOutgoingAsyncBaseI<T>
 
     private Class<?>[] _userExceptions; // Valid user exceptions.
     private Unmarshaler<T> _unmarshal;
+
+    private OutputStream.Marshaler _marshal;
+    private FormatType _format;
+    private boolean _paramsMarshaled;
+
+    private Class<?> _servantType;
+    private Dispatcher<T> _dispatcher; // Set if the parameters aren't marshaled yet.
+    private boolean _directResult;
+    private Object _result;
 }
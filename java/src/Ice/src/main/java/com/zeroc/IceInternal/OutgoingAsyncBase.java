@@ -30,4 +30,12 @@ public interface OutgoingAsyncBase
     void invokeCompletedAsync();
 
     void cancelable(CancellationHandler handler);
+
+    //
+    // The time the request was sent over a connection (System.nanoTime), used to measure
+    // the reply latency of the connection.
+    //
+    void setSentTime(long time);
+
+    long getSentTime();
 }
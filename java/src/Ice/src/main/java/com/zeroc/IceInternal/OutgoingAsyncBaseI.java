@@ -67,6 +67,18 @@ public abstract class OutgoingAsyncBaseI<T> extends InvocationFutureI<T> impleme
         return _os;
     }
 
+    @Override
+    public final void setSentTime(long time)
+    {
+        _sentTime = time;
+    }
+
+    @Override
+    public final long getSentTime()
+    {
+        return _sentTime;
+    }
+
     public T waitForResponse()
     {
         if(Thread.interrupted())
@@ -140,4 +152,5 @@ public abstract class OutgoingAsyncBaseI<T> extends InvocationFutureI<T> impleme
 
     protected com.zeroc.Ice.OutputStream _os;
     protected com.zeroc.Ice.Instrumentation.ChildInvocationObserver _childObserver;
+    private long _sentTime;
 }
@@ -226,6 +226,72 @@ public final class OutgoingConnectionFactory
         }
     }
 
+    //
+    // Returns the given endpoints ordered according to the given EndpointBalancing policy,
+    // see EndpointBalancer.
+    //
+    public EndpointI[]
+    balance(EndpointI[] endpts, int policy)
+    {
+        java.util.List<EndpointI> endpoints = applyOverrides(endpts);
+        com.zeroc.IceStats.EndpointStats[] stats = new com.zeroc.IceStats.EndpointStats[endpts.length];
+        java.util.List<com.zeroc.IceStats.EndpointStats> report = null;
+        synchronized(this)
+        {
+            if(_destroyed)
+            {
+                throw new com.zeroc.Ice.CommunicatorDestroyedException();
+            }
+
+            for(int i = 0; i < stats.length; ++i)
+            {
+                stats[i] = getEndpointStats(endpoints.get(i));
+            }
+
+            //
+            // At most once per second, report the statistics of all the endpoints with
+            // outgoing connections, and of the endpoints of this proxy.
+            //
+            long now = Time.currentMonotonicTimeMillis();
+            if(now - _endpointStatsReportTime >= 1000 &&
+               _instance.initializationData().observer instanceof com.zeroc.IceStats.EndpointStatsObserver)
+            {
+                _endpointStatsReportTime = now;
+                report = new java.util.ArrayList<>();
+                java.util.Set<EndpointI> reported = new java.util.HashSet<>();
+                for(int i = 0; i < stats.length; ++i)
+                {
+                    if(reported.add(endpoints.get(i).compress(false)))
+                    {
+                        report.add(stats[i]);
+                    }
+                }
+                for(EndpointI endpoint : _connectionsByEndpoint.keySet())
+                {
+                    //
+                    // The connections are registered with the endpoint and its compressed
+                    // version, report them once.
+                    //
+                    if(reported.add(endpoint.compress(false)))
+                    {
+                        report.add(getEndpointStats(endpoint));
+                    }
+                }
+            }
+        }
+
+        if(report != null)
+        {
+            com.zeroc.Ice.Instrumentation.CommunicatorObserver obsv = _instance.initializationData().observer;
+            if(obsv instanceof com.zeroc.IceStats.EndpointStatsObserver)
+            {
+                ((com.zeroc.IceStats.EndpointStatsObserver)obsv).endpointStatsChanged(
+                    report.toArray(new com.zeroc.IceStats.EndpointStats[0]));
+            }
+        }
+        return _balancer.balance(endpts, stats, policy);
+    }
+
     public void
     setRouterInfo(RouterInfo routerInfo)
     {
@@ -346,6 +412,8 @@ public final class OutgoingConnectionFactory
         _communicator = communicator;
         _instance = instance;
         _monitor = new FactoryACMMonitor(instance, instance.clientACM());
+        _balancer = new EndpointBalancer(instance);
+        _endpointStatsReportTime = Time.currentMonotonicTimeMillis() - 1000;
         _destroyed = false;
     }
 
@@ -434,6 +502,55 @@ public final class OutgoingConnectionFactory
         return null;
     }
 
+    //
+    // Must be called while synchronized.
+    //
+    private com.zeroc.IceStats.EndpointStats
+    getEndpointStats(EndpointI endpoint)
+    {
+        int connections = 0;
+        int outstanding = 0;
+        long latency = 0;
+        java.util.List<ConnectionI> connectionList = _connectionsByEndpoint.get(endpoint);
+        if(connectionList != null)
+        {
+            for(ConnectionI connection : connectionList)
+            {
+                if(connection.isActiveOrHolding())
+                {
+                    long l = connection.getLatency();
+                    if(l > 0)
+                    {
+                        latency = (latency * connections + l) / (connections + 1);
+                    }
+                    outstanding += connection.getAsyncRequestCount();
+                    ++connections;
+                }
+            }
+        }
+
+        //
+        // Keep the last known latency of the endpoint for when its connections are closed.
+        //
+        EndpointI key = endpoint.compress(false);
+        if(latency > 0)
+        {
+            if(_endpointLatencies.size() >= 1024 && !_endpointLatencies.containsKey(key))
+            {
+                _endpointLatencies.clear();
+            }
+            _endpointLatencies.put(key, latency);
+        }
+        else
+        {
+            Long l = _endpointLatencies.get(key);
+            latency = l != null ? l : 0;
+        }
+
+        return new com.zeroc.IceStats.EndpointStats(endpoint.toString(), connections, outstanding, latency / 1000,
+                                                    _balancer.getWeight(endpoint));
+    }
+
     //
     // Must be called while synchronized.
     //
@@ -1180,4 +1297,8 @@ public final class OutgoingConnectionFactory
     private MultiHashMap<EndpointI, ConnectionI> _connectionsByEndpoint = new MultiHashMap<>();
     private java.util.Map<Connector, java.util.HashSet<ConnectCallback> > _pending = new java.util.HashMap<>();
     private int _pendingConnectCount = 0;
+
+    private final EndpointBalancer _balancer;
+    private java.util.Map<EndpointI, Long> _endpointLatencies = new java.util.HashMap<>();
+    private long _endpointStatsReportTime;
 }
@@ -0,0 +1,155 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+//
+// A request handler which spreads the requests of a proxy over several connections
+// to the same endpoints, see the ConnectionPool proxy property. The first connection
+// is the connection established by the connect request handler. The other connections
+// are established in the background with the proxy connection ID suffixed by the
+// connection index, they aren't shared with proxies which don't use a pool.
+//
+// Each request is sent over the connection with the fewest requests waiting for a
+// reply, ties are broken with a rotating start index so that oneway requests are
+// spread evenly.
+//
+public class PooledRequestHandler implements RequestHandler
+{
+    @Override
+    public RequestHandler
+    update(RequestHandler previousHandler, RequestHandler newHandler)
+    {
+        try
+        {
+            if(previousHandler == this)
+            {
+                return newHandler;
+            }
+            else
+            {
+                com.zeroc.Ice.ConnectionI connection = previousHandler.getConnection();
+                for(com.zeroc.Ice.ConnectionI c : _connections)
+                {
+                    if(c == connection)
+                    {
+                        return newHandler;
+                    }
+                }
+            }
+        }
+        catch(com.zeroc.Ice.Exception ex)
+        {
+            // Ignore
+        }
+        return this;
+    }
+
+    @Override
+    public int sendAsyncRequest(ProxyOutgoingAsyncBase out)
+        throws RetryException
+    {
+        final com.zeroc.Ice.ConnectionI[] connections = _connections;
+        final boolean[] compress = _compress;
+        final int start = (_next.getAndIncrement() & Integer.MAX_VALUE) % connections.length;
+
+        int best = start;
+        int bestCount = connections[start].getAsyncRequestCount();
+        for(int i = 1; i < connections.length && bestCount > 0; ++i)
+        {
+            int j = (start + i) % connections.length;
+            int count = connections[j].getAsyncRequestCount();
+            if(count < bestCount)
+            {
+                best = j;
+                bestCount = count;
+            }
+        }
+        return out.invokeRemote(connections[best], compress[best], _response);
+    }
+
+    @Override
+    public void
+    asyncRequestCanceled(OutgoingAsyncBase outgoingAsync, com.zeroc.Ice.LocalException ex)
+    {
+        //
+        // Only the connection which sent the request knows about it, the others ignore
+        // the cancellation.
+        //
+        for(com.zeroc.Ice.ConnectionI c : _connections)
+        {
+            c.asyncRequestCanceled(outgoingAsync, ex);
+        }
+    }
+
+    @Override
+    public Reference
+    getReference()
+    {
+        return _reference;
+    }
+
+    @Override
+    public com.zeroc.Ice.ConnectionI
+    getConnection()
+    {
+        return _connections[0];
+    }
+
+    public PooledRequestHandler(Reference ref, com.zeroc.Ice.ConnectionI connection, boolean compress)
+    {
+        assert(ref instanceof RoutableReference && ref.getConnectionPool() > 1);
+        _reference = ref;
+        _response = _reference.getMode() == Reference.ModeTwoway;
+        _connections = new com.zeroc.Ice.ConnectionI[] { connection };
+        _compress = new boolean[] { compress };
+
+        for(int i = 1; i < ref.getConnectionPool(); ++i)
+        {
+            RoutableReference r =
+                (RoutableReference)ref.changeConnectionId(ref.getConnectionId() + "-pool-" + i);
+            r.getConnection(new Reference.GetConnectionCallback()
+                {
+                    @Override
+                    public void
+                    setConnection(com.zeroc.Ice.ConnectionI connection, boolean compress)
+                    {
+                        add(connection, compress);
+                    }
+
+                    @Override
+                    public void
+                    setException(com.zeroc.Ice.LocalException ex)
+                    {
+                        //
+                        // Ignore, the requests are sent over the other connections. The
+                        // connection is tried again when the proxy gets a new handler.
+                        //
+                    }
+                });
+        }
+    }
+
+    //
+    // The arrays are replaced rather than updated when a connection is added, the
+    // requests are sent without locking.
+    //
+    private synchronized void
+    add(com.zeroc.Ice.ConnectionI connection, boolean compress)
+    {
+        final int n = _connections.length;
+        com.zeroc.Ice.ConnectionI[] connections = java.util.Arrays.copyOf(_connections, n + 1);
+        boolean[] compressFlags = java.util.Arrays.copyOf(_compress, n + 1);
+        connections[n] = connection;
+        compressFlags[n] = compress;
+        _compress = compressFlags;
+        _connections = connections;
+    }
+
+    private final Reference _reference;
+    private final boolean _response;
+    private volatile com.zeroc.Ice.ConnectionI[] _connections;
+    private volatile boolean[] _compress;
+    private final java.util.concurrent.atomic.AtomicInteger _next = new java.util.concurrent.atomic.AtomicInteger();
+}
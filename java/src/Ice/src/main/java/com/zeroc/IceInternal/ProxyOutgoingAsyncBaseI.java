@@ -187,7 +187,7 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
         _cachedConnection = null;
         if(_proxy._getReference().getInvocationTimeout() == -2 && _timerFuture != null)
         {
-            _timerFuture.cancel(false);
+            _timerFuture.cancel();
             _timerFuture = null;
         }
 
@@ -247,9 +247,8 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
             final int timeout = _cachedConnection.timeout();
             if(timeout > 0)
             {
-                _timerFuture = _instance.timer().schedule(
-                    () -> { cancel(new com.zeroc.Ice.ConnectionTimeoutException()); },
-                    timeout, java.util.concurrent.TimeUnit.MILLISECONDS);
+                _timerFuture = _instance.timingWheel().schedule(
+                    () -> { cancel(new com.zeroc.Ice.ConnectionTimeoutException()); }, timeout);
             }
         }
         super.cancelable(handler);
@@ -303,9 +302,8 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
                 int invocationTimeout = _proxy._getReference().getInvocationTimeout();
                 if(invocationTimeout > 0)
                 {
-                    _timerFuture = _instance.timer().schedule(
-                        () -> { cancel(new com.zeroc.Ice.InvocationTimeoutException()); },
-                        invocationTimeout, java.util.concurrent.TimeUnit.MILLISECONDS);
+                    _timerFuture = _instance.timingWheel().schedule(
+                        () -> { cancel(new com.zeroc.Ice.InvocationTimeoutException()); }, invocationTimeout);
                 }
             }
             else // If not called from the user thread, it's called from the retry queue
@@ -394,7 +392,7 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
         {
             if(_timerFuture != null)
             {
-                _timerFuture.cancel(false);
+                _timerFuture.cancel();
                 _timerFuture = null;
             }
         }
@@ -406,7 +404,7 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
     {
         if(_timerFuture != null)
         {
-            _timerFuture.cancel(false);
+            _timerFuture.cancel();
             _timerFuture = null;
         }
         return super.finished(ex);
@@ -417,7 +415,7 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
     {
         if(_timerFuture != null)
         {
-            _timerFuture.cancel(false);
+            _timerFuture.cancel();
             _timerFuture = null;
         }
         return super.finished(ok, invoke);
@@ -456,23 +454,11 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
 
         Reference ref = _proxy._getReference();
 
-        ref.getIdentity().ice_writeMembers(_os);
-
         //
-        // For compatibility with the old FacetPath.
+        // The identity, facet and operation name are copied from their cached encoding.
         //
-        String facet = ref.getFacet();
-        if(facet == null || facet.length() == 0)
-        {
-            _os.writeStringSeq(null);
-        }
-        else
-        {
-            String[] facetPath = { facet };
-            _os.writeStringSeq(facetPath);
-        }
-
-        _os.writeString(_operation);
+        _os.writeBlob(ref.getMarshaledIdentityAndFacet());
+        _os.writeBlob(getMarshaledOperation(_operation));
 
         _os.writeByte((byte)_mode.value());
 
@@ -507,9 +493,34 @@ public abstract class ProxyOutgoingAsyncBaseI<T> extends OutgoingAsyncBaseI<T> i
     protected com.zeroc.Ice.OperationMode _mode;
     protected int _proxyMode;
 
-    private java.util.concurrent.Future<?> _timerFuture;
+    private TimingWheel.Timeout _timerFuture;
     private int _cnt;
     private boolean _sent;
 
     private static final java.util.Map<String, String> _emptyContext = new java.util.HashMap<>();
+
+    //
+    // The encoded operation names, shared by all the communicators since strings are always
+    // UTF-8 encoded. The cache is bounded since dynamic invocations can use any operation name,
+    // the names which don't fit are encoded for each request.
+    //
+    private static byte[] getMarshaledOperation(String operation)
+    {
+        byte[] bytes = _marshaledOperations.get(operation);
+        if(bytes == null)
+        {
+            com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream();
+            os.writeString(operation);
+            bytes = os.finished();
+            if(_marshaledOperations.size() < MarshaledOperationsMax)
+            {
+                _marshaledOperations.putIfAbsent(operation, bytes);
+            }
+        }
+        return bytes;
+    }
+
+    private static final int MarshaledOperationsMax = 4096;
+    private static final java.util.concurrent.ConcurrentHashMap<String, byte[]> _marshaledOperations =
+        new java.util.concurrent.ConcurrentHashMap<>();
 }
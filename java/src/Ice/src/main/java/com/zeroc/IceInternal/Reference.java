@@ -95,6 +95,7 @@ public abstract class Reference implements Cloneable
     public abstract com.zeroc.Ice.EndpointSelectionType getEndpointSelection();
     public abstract int getLocatorCacheTimeout();
     public abstract String getConnectionId();
+    public abstract int getConnectionPool();
     public abstract java.util.OptionalInt getTimeout();
     public abstract com.zeroc.IceInternal.ThreadPool getThreadPool();
     public abstract com.zeroc.Ice.ConnectionI getConnection();
@@ -503,6 +504,39 @@ public abstract class Reference implements Cloneable
         return true;
     }
 
+    //
+    // Returns the identity and facet path fields of the request header, marshaled on first
+    // use. The identity and facet are immutable once the reference is created (changeIdentity
+    // and changeFacet create a new reference) and their marshaled form doesn't depend on the
+    // encoding version, so the bytes are reused for all the requests sent with this reference.
+    //
+    public final byte[]
+    getMarshaledIdentityAndFacet()
+    {
+        byte[] bytes = _marshaledIdentityAndFacet;
+        if(bytes == null)
+        {
+            com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream();
+            _identity.ice_writeMembers(os);
+
+            //
+            // For compatibility with the old FacetPath.
+            //
+            if(_facet.length() == 0)
+            {
+                os.writeStringSeq(null);
+            }
+            else
+            {
+                String[] facetPath = { _facet };
+                os.writeStringSeq(facetPath);
+            }
+            bytes = os.finished();
+            _marshaledIdentityAndFacet = bytes; // Benign race, concurrent callers compute the same bytes.
+        }
+        return bytes;
+    }
+
     @Override
     public Reference clone()
     {
@@ -510,6 +544,7 @@ public abstract class Reference implements Cloneable
         try
         {
             c = (Reference)super.clone();
+            c._marshaledIdentityAndFacet = null;
         }
         catch(CloneNotSupportedException ex)
         {
@@ -535,6 +570,7 @@ public abstract class Reference implements Cloneable
     private int _invocationTimeout;
     protected boolean _overrideCompress;
     protected boolean _compress; // Only used if _overrideCompress == true
+    private volatile byte[] _marshaledIdentityAndFacet;
 
     protected
     Reference(Instance instance,
@@ -669,7 +669,9 @@ public final class ReferenceFactory
     static private String[] _suffixes =
     {
         "EndpointSelection",
+        "EndpointBalancing",
         "ConnectionCached",
+        "ConnectionPool",
         "PreferSecure",
         "LocatorCacheTimeout",
         "InvocationTimeout",
@@ -759,6 +761,8 @@ public final class ReferenceFactory
         com.zeroc.Ice.EndpointSelectionType endpointSelection = defaultsAndOverrides.defaultEndpointSelection;
         int locatorCacheTimeout = defaultsAndOverrides.defaultLocatorCacheTimeout;
         int invocationTimeout = defaultsAndOverrides.defaultInvocationTimeout;
+        int connectionPool = defaultsAndOverrides.defaultConnectionPool;
+        int endpointBalancing = defaultsAndOverrides.defaultEndpointBalancing;
         java.util.Map<String, String> context = null;
 
         //
@@ -838,6 +842,12 @@ public final class ReferenceFactory
                 }
             }
 
+            property = propertyPrefix + ".EndpointBalancing";
+            if(properties.getProperty(property).length() > 0)
+            {
+                endpointBalancing = EndpointBalancer.parse(properties.getProperty(property));
+            }
+
             property = propertyPrefix + ".LocatorCacheTimeout";
             String value = properties.getProperty(property);
             if(!value.isEmpty())
@@ -874,6 +884,20 @@ public final class ReferenceFactory
                 }
             }
 
+            property = propertyPrefix + ".ConnectionPool";
+            connectionPool = properties.getPropertyAsIntWithDefault(property, connectionPool);
+            if(connectionPool < 1)
+            {
+                connectionPool = 1;
+
+                StringBuffer msg = new StringBuffer("invalid value for ");
+                msg.append(property);
+                msg.append(" '");
+                msg.append(properties.getProperty(property));
+                msg.append("': defaulting to 1");
+                _instance.initializationData().logger.warning(msg.toString());
+            }
+
             property = propertyPrefix + ".Context.";
             java.util.Map<String, String> contexts = properties.getPropertiesForPrefix(property);
             if(!contexts.isEmpty())
@@ -907,6 +931,8 @@ public final class ReferenceFactory
                                      endpointSelection,
                                      locatorCacheTimeout,
                                      invocationTimeout,
+                                     connectionPool,
+                                     endpointBalancing,
                                      context);
     }
 
@@ -66,12 +66,12 @@ class RetryTask implements Runnable, CancellationHandler
         return false;
     }
 
-    synchronized public void setFuture(java.util.concurrent.Future<?> future)
+    synchronized public void setFuture(TimingWheel.Timeout future)
     {
         _future = future;
         if(_cancelled)
         {
-            _future.cancel(false);
+            _future.cancel();
         }
     }
 
@@ -85,7 +85,7 @@ class RetryTask implements Runnable, CancellationHandler
         {
             if(_future != null)
             {
-                _future.cancel(false);
+                _future.cancel();
             }
             _cancelled = true;
             return true;
@@ -95,6 +95,6 @@ class RetryTask implements Runnable, CancellationHandler
     private final Instance _instance;
     private final RetryQueue _queue;
     private final ProxyOutgoingAsyncBase _outAsync;
-    private java.util.concurrent.Future<?> _future;
+    private TimingWheel.Timeout _future;
     private boolean _cancelled = false;
 }
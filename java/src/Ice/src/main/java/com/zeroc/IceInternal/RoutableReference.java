@@ -76,6 +76,19 @@ public class RoutableReference extends Reference
         return _connectionId;
     }
 
+    @Override
+    public final int
+    getConnectionPool()
+    {
+        return _connectionPool;
+    }
+
+    public final int
+    getEndpointBalancing()
+    {
+        return _endpointBalancing;
+    }
+
     @Override
     public java.util.OptionalInt
     getTimeout()
@@ -411,9 +424,17 @@ public class RoutableReference extends Reference
         properties.put(prefix, toString());
         properties.put(prefix + ".CollocationOptimized", _collocationOptimized ? "1" : "0");
         properties.put(prefix + ".ConnectionCached", _cacheConnection ? "1" : "0");
+        if(_connectionPool > 1)
+        {
+            properties.put(prefix + ".ConnectionPool", Integer.toString(_connectionPool));
+        }
         properties.put(prefix + ".PreferSecure", _preferSecure ? "1" : "0");
         properties.put(prefix + ".EndpointSelection",
                        _endpointSelection == com.zeroc.Ice.EndpointSelectionType.Random ? "Random" : "Ordered");
+        if(_endpointBalancing != EndpointBalancer.None)
+        {
+            properties.put(prefix + ".EndpointBalancing", EndpointBalancer.toString(_endpointBalancing));
+        }
 
         {
             StringBuffer s = new StringBuffer();
@@ -495,6 +516,14 @@ public class RoutableReference extends Reference
         {
             return false;
         }
+        if(_connectionPool != rhs._connectionPool)
+        {
+            return false;
+        }
+        if(_endpointBalancing != rhs._endpointBalancing)
+        {
+            return false;
+        }
         if(_preferSecure != rhs._preferSecure)
         {
             return false;
@@ -685,6 +714,8 @@ public class RoutableReference extends Reference
                       com.zeroc.Ice.EndpointSelectionType endpointSelection,
                       int locatorCacheTimeout,
                       int invocationTimeout,
+                      int connectionPool,
+                      int endpointBalancing,
                       java.util.Map<String, String> context)
     {
         super(instance, communicator, identity, facet, mode, secure, protocol, encoding, invocationTimeout, context);
@@ -697,6 +728,8 @@ public class RoutableReference extends Reference
         _preferSecure = prefereSecure;
         _endpointSelection = endpointSelection;
         _locatorCacheTimeout = locatorCacheTimeout;
+        _connectionPool = connectionPool;
+        _endpointBalancing = endpointBalancing;
         _overrideTimeout = false;
         _timeout = -1;
 
@@ -846,18 +879,61 @@ public class RoutableReference extends Reference
     protected void
     createConnection(EndpointI[] allEndpoints, final GetConnectionCallback callback)
     {
-        final EndpointI[] endpoints = filterEndpoints(allEndpoints);
-        if(endpoints.length == 0)
+        EndpointI[] filteredEndpoints = filterEndpoints(allEndpoints);
+        if(filteredEndpoints.length == 0)
         {
             callback.setException(new com.zeroc.Ice.NoEndpointException(toString()));
             return;
         }
 
+        final OutgoingConnectionFactory factory = getInstance().outgoingConnectionFactory();
+
+        //
+        // Order the endpoints with the balancing policy, if any. With PreferSecure, the
+        // secure endpoints are still tried first.
+        //
+        if(_endpointBalancing != EndpointBalancer.None && filteredEndpoints.length > 1)
+        {
+            try
+            {
+                int secure = 0;
+                if(_preferSecure)
+                {
+                    while(secure < filteredEndpoints.length && filteredEndpoints[secure].secure())
+                    {
+                        ++secure;
+                    }
+                }
+
+                if(secure == 0 || secure == filteredEndpoints.length)
+                {
+                    filteredEndpoints = factory.balance(filteredEndpoints, _endpointBalancing);
+                }
+                else
+                {
+                    final int n = filteredEndpoints.length;
+                    EndpointI[] secureEndpoints =
+                        factory.balance(java.util.Arrays.copyOfRange(filteredEndpoints, 0, secure), _endpointBalancing);
+                    EndpointI[] otherEndpoints =
+                        factory.balance(java.util.Arrays.copyOfRange(filteredEndpoints, secure, n), _endpointBalancing);
+                    System.arraycopy(secureEndpoints, 0, filteredEndpoints, 0, secure);
+                    System.arraycopy(otherEndpoints, 0, filteredEndpoints, secure, otherEndpoints.length);
+                }
+            }
+            catch(com.zeroc.Ice.LocalException ex)
+            {
+                callback.setException(ex);
+                return;
+            }
+        }
+        final EndpointI[] endpoints = filteredEndpoints;
+
         //
-        // Finally, create the connection.
+        // Finally, create the connection. With a balancing policy, the connection is always
+        // obtained for the first endpoint of the balanced order, an existing connection to
+        // another endpoint isn't used.
         //
-        final OutgoingConnectionFactory factory = getInstance().outgoingConnectionFactory();
-        if(getCacheConnection() || endpoints.length == 1)
+        if((getCacheConnection() && _endpointBalancing == EndpointBalancer.None) || endpoints.length == 1)
         {
             //
             // Get an existing connection or create one if there's no
@@ -1002,6 +1078,8 @@ public class RoutableReference extends Reference
     private boolean _preferSecure;
     private com.zeroc.Ice.EndpointSelectionType _endpointSelection;
     private int _locatorCacheTimeout;
+    private int _connectionPool; // The number of connections requests are spread over.
+    private int _endpointBalancing; // See EndpointBalancer.
 
     private boolean _overrideTimeout;
     private int _timeout; // Only used if _overrideTimeout == true
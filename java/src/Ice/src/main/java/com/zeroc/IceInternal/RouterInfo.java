@@ -128,46 +128,56 @@ public final class RouterInfo
         return ((com.zeroc.Ice._ObjectPrxI)serverProxy)._getReference().getEndpoints();
     }
 
+    //
+    // The proxies are added to the router with at most one addProxies call in progress.
+    // The proxies added while a call is in progress are sent together with the next call
+    // once it completes, and the invocations waiting for the same proxy identity share
+    // the same registration.
+    //
     public boolean
     addProxy(final com.zeroc.Ice.ObjectPrx proxy, final AddProxyCallback callback)
     {
         assert(proxy != null);
+        java.util.Map<com.zeroc.Ice.Identity, AddProxyRequest> batch = null;
         synchronized(this)
         {
             if(!_hasRoutingTable)
             {
                 return true; // The router implementation doesn't maintain a routing table.
             }
-            if(_identities.contains(proxy.ice_getIdentity()))
+
+            com.zeroc.Ice.Identity identity = proxy.ice_getIdentity();
+            if(_identities.contains(identity))
             {
                 //
                 // Only add the proxy to the router if it's not already in our local map.
                 //
                 return true;
             }
-        }
 
-        _router.addProxiesAsync(new com.zeroc.Ice.ObjectPrx[] { proxy }).whenComplete(
-            (com.zeroc.Ice.ObjectPrx[] evictedProxies, Throwable ex) ->
+            AddProxyRequest request = _sending != null ? _sending.get(identity) : null;
+            if(request == null)
             {
-                if(ex != null)
-                {
-                    if(ex instanceof com.zeroc.Ice.LocalException)
-                    {
-                        callback.setException((com.zeroc.Ice.LocalException)ex);
-                    }
-                    else
-                    {
-                        callback.setException(new com.zeroc.Ice.UnknownException(ex));
-                    }
-                }
-                else
+                request = _pending.get(identity);
+                if(request == null)
                 {
-                    addAndEvictProxies(proxy, evictedProxies);
-                    callback.addedProxy();
+                    request = new AddProxyRequest(proxy);
+                    _pending.put(identity, request);
                 }
-            });
+            }
+            request.callbacks.add(callback);
+
+            if(_sending == null)
+            {
+                batch = _sending = _pending;
+                _pending = new java.util.LinkedHashMap<>();
+            }
+        }
 
+        if(batch != null)
+        {
+            addProxies(batch);
+        }
         return false;
     }
 
@@ -221,26 +231,85 @@ public final class RouterInfo
         return _clientEndpoints;
     }
 
-    private synchronized void
-    addAndEvictProxies(com.zeroc.Ice.ObjectPrx proxy, com.zeroc.Ice.ObjectPrx[] evictedProxies)
+    private void
+    addProxies(final java.util.Map<com.zeroc.Ice.Identity, AddProxyRequest> batch)
     {
-        //
-        // Check if the proxy hasn't already been evicted by a
-        // concurrent addProxies call. If it's the case, don't
-        // add it to our local map.
-        //
-        int index = _evictedIdentities.indexOf(proxy.ice_getIdentity());
-        if(index >= 0)
+        com.zeroc.Ice.ObjectPrx[] proxies = new com.zeroc.Ice.ObjectPrx[batch.size()];
+        int i = 0;
+        for(AddProxyRequest request : batch.values())
         {
-            _evictedIdentities.remove(index);
+            proxies[i++] = request.proxy;
         }
-        else
+
+        _router.addProxiesAsync(proxies).whenComplete(
+            (com.zeroc.Ice.ObjectPrx[] evictedProxies, Throwable ex) ->
+            {
+                java.util.Map<com.zeroc.Ice.Identity, AddProxyRequest> next = null;
+                synchronized(this)
+                {
+                    if(ex == null)
+                    {
+                        addAndEvictProxies(batch.keySet(), evictedProxies);
+                    }
+
+                    assert(_sending == batch);
+                    if(_pending.isEmpty())
+                    {
+                        _sending = null;
+                    }
+                    else
+                    {
+                        next = _sending = _pending;
+                        _pending = new java.util.LinkedHashMap<>();
+                    }
+                }
+
+                for(AddProxyRequest request : batch.values())
+                {
+                    for(AddProxyCallback callback : request.callbacks)
+                    {
+                        if(ex == null)
+                        {
+                            callback.addedProxy();
+                        }
+                        else if(ex instanceof com.zeroc.Ice.LocalException)
+                        {
+                            callback.setException((com.zeroc.Ice.LocalException)ex);
+                        }
+                        else
+                        {
+                            callback.setException(new com.zeroc.Ice.UnknownException(ex));
+                        }
+                    }
+                }
+
+                if(next != null)
+                {
+                    addProxies(next);
+                }
+            });
+    }
+
+    private void
+    addAndEvictProxies(java.util.Set<com.zeroc.Ice.Identity> identities, com.zeroc.Ice.ObjectPrx[] evictedProxies)
+    {
+        assert(Thread.holdsLock(this));
+
+        for(com.zeroc.Ice.Identity identity : identities)
         {
             //
-            // If we successfully added the proxy to the router,
-            // we add it to our local map.
+            // Check if the proxy hasn't already been evicted by a
+            // concurrent addProxies call. If it's the case, don't
+            // add it to our local map.
             //
-            _identities.add(proxy.ice_getIdentity());
+            if(!_evictedIdentities.remove(identity))
+            {
+                //
+                // If we successfully added the proxy to the router,
+                // we add it to our local map.
+                //
+                _identities.add(identity);
+            }
         }
 
         //
@@ -252,18 +321,30 @@ public final class RouterInfo
             {
                 //
                 // It's possible for the proxy to not have been
-                // added yet in the local map if two threads
-                // concurrently call addProxies.
+                // added yet in the local map if it's pending.
                 //
                 _evictedIdentities.add(p.ice_getIdentity());
             }
         }
     }
 
+    private static final class AddProxyRequest
+    {
+        AddProxyRequest(com.zeroc.Ice.ObjectPrx proxy)
+        {
+            this.proxy = proxy;
+        }
+
+        final com.zeroc.Ice.ObjectPrx proxy;
+        final java.util.List<AddProxyCallback> callbacks = new java.util.ArrayList<>();
+    }
+
     private final com.zeroc.Ice.RouterPrx _router;
     private EndpointI[] _clientEndpoints;
     private com.zeroc.Ice.ObjectAdapter _adapter;
     private java.util.Set<com.zeroc.Ice.Identity> _identities = new java.util.HashSet<>();
-    private java.util.List<com.zeroc.Ice.Identity> _evictedIdentities = new java.util.ArrayList<>();
+    private java.util.Set<com.zeroc.Ice.Identity> _evictedIdentities = new java.util.HashSet<>();
+    private java.util.Map<com.zeroc.Ice.Identity, AddProxyRequest> _pending = new java.util.LinkedHashMap<>();
+    private java.util.Map<com.zeroc.Ice.Identity, AddProxyRequest> _sending;
     private boolean _hasRoutingTable;
 }
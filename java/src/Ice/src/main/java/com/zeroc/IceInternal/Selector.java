@@ -348,7 +348,7 @@ public final class Selector
         }
     }
 
-    private void wakeup()
+    void wakeup()
     {
         if(_selecting && !_interrupted)
         {
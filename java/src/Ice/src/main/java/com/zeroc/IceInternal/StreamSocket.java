@@ -172,6 +172,44 @@ public class StreamSocket
         return buf.b.hasRemaining() ? SocketOperation.Write : SocketOperation.None;
     }
 
+    public int write(Buffer[] bufs)
+    {
+        if(_state == StateProxyWrite || _maxSendPacketSize > 0)
+        {
+            //
+            // Write the buffers one by one if the proxy handshake isn't
+            // completed or if the size of writes is limited.
+            //
+            for(Buffer buf : bufs)
+            {
+                if(buf.b.hasRemaining())
+                {
+                    int op = write(buf);
+                    if(op != SocketOperation.None)
+                    {
+                        return op;
+                    }
+                }
+            }
+            return SocketOperation.None;
+        }
+
+        java.nio.ByteBuffer[] b = new java.nio.ByteBuffer[bufs.length];
+        for(int i = 0; i < bufs.length; ++i)
+        {
+            b[i] = bufs[i].b;
+        }
+        write(b);
+        for(java.nio.ByteBuffer p : b)
+        {
+            if(p.hasRemaining())
+            {
+                return SocketOperation.Write;
+            }
+        }
+        return SocketOperation.None;
+    }
+
     public int read(java.nio.ByteBuffer buf)
     {
         assert(_fd != null);
@@ -252,6 +290,47 @@ public class StreamSocket
         return sent;
     }
 
+    public long write(java.nio.ByteBuffer[] bufs)
+    {
+        assert(_fd != null);
+
+        long sent = 0;
+        int offset = 0;
+        while(true)
+        {
+            while(offset < bufs.length && !bufs[offset].hasRemaining())
+            {
+                ++offset;
+            }
+            if(offset == bufs.length)
+            {
+                return sent;
+            }
+
+            try
+            {
+                long ret = _fd.write(bufs, offset, bufs.length - offset);
+                if(ret == -1)
+                {
+                    throw new com.zeroc.Ice.ConnectionLostException();
+                }
+                else if(ret == 0)
+                {
+                    return sent;
+                }
+                sent += ret;
+            }
+            catch(java.io.InterruptedIOException ex)
+            {
+                continue;
+            }
+            catch(java.io.IOException ex)
+            {
+                throw new com.zeroc.Ice.SocketException(ex);
+            }
+        }
+    }
+
     public void close()
     {
         assert(_fd != null);
@@ -0,0 +1,80 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+//
+// A communicator-wide cache of small ASCII strings which are frequently
+// unmarshaled, such as operation names and identity categories. Returning
+// the cached instance avoids allocating a new string for each request.
+//
+// The cache is a direct-mapped table indexed by the hash of the encoded
+// bytes. It's accessed without synchronization: strings are immutable and
+// a lost update only results in a cache miss.
+//
+public final class StringCache
+{
+    public static final int MaxLength = 64;
+
+    StringCache(int size)
+    {
+        int sz = 1;
+        while(sz < size && sz < (1 << 20))
+        {
+            sz <<= 1;
+        }
+        _entries = new String[sz];
+        _mask = sz - 1;
+    }
+
+    //
+    // Returns the string for the given UTF-8 bytes, or null if the string
+    // can't be cached because it's too long or not an ASCII string.
+    //
+    public String get(byte[] data, int offset, int len)
+    {
+        if(len > MaxLength)
+        {
+            return null;
+        }
+
+        int h = 0;
+        for(int i = offset; i < offset + len; ++i)
+        {
+            final byte b = data[i];
+            if(b < 0)
+            {
+                return null;
+            }
+            h = 31 * h + b;
+        }
+        final int index = (h ^ (h >>> 16)) & _mask;
+
+        String s = _entries[index];
+        if(s != null && s.length() == len)
+        {
+            int i = 0;
+            while(i < len && s.charAt(i) == data[offset + i])
+            {
+                ++i;
+            }
+            if(i == len)
+            {
+                return s;
+            }
+        }
+
+        char[] chars = new char[len];
+        for(int i = 0; i < len; ++i)
+        {
+            chars[i] = (char)data[offset + i];
+        }
+        s = new String(chars);
+        _entries[index] = s;
+        return s;
+    }
+
+    private final String[] _entries;
+    private final int _mask;
+}
@@ -52,6 +52,12 @@ final class TcpTransceiver implements Transceiver
         return _stream.write(buf);
     }
 
+    @Override
+    public int write(Buffer[] bufs)
+    {
+        return _stream.write(bufs);
+    }
+
     @Override
     public int read(Buffer buf)
     {
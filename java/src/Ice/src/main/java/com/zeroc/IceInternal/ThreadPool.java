@@ -104,6 +104,32 @@ public final class ThreadPool implements java.util.concurrent.Executor
 
         int nProcessors = Runtime.getRuntime().availableProcessors();
 
+        //
+        // With VirtualThreads set, the thread pool threads only perform I/O and the
+        // dispatches run on virtual threads, one per dispatch. The number of concurrent
+        // dispatches is therefore no longer limited by SizeMax.
+        //
+        java.util.concurrent.ExecutorService virtualExecutor = null;
+        if(properties.getPropertyAsInt(_prefix + ".VirtualThreads") > 0)
+        {
+            if(_dispatcher != null)
+            {
+                String s = _prefix + ".VirtualThreads is ignored, a dispatcher is configured";
+                _instance.initializationData().logger.warning(s);
+            }
+            else
+            {
+                virtualExecutor = createVirtualThreadExecutor(_threadPrefix + "-virtual-");
+                if(virtualExecutor == null)
+                {
+                    String s = _prefix + ".VirtualThreads requires Java 21 or later; dispatching on the thread pool " +
+                               "threads";
+                    _instance.initializationData().logger.warning(s);
+                }
+            }
+        }
+        _virtualExecutor = virtualExecutor;
+
         //
         // We use just one thread as the default. This is the fastest
         // possible setting, still allows one level of nesting, and
@@ -136,7 +162,7 @@ public final class ThreadPool implements java.util.concurrent.Executor
             _instance.initializationData().logger.warning(s);
             sizeWarn = size;
         }
-        else if(sizeWarn > sizeMax)
+        else if(sizeWarn > sizeMax && virtualExecutor == null)
         {
             String s = _prefix + ".SizeWarn > " + _prefix + ".SizeMax; adjusted SizeWarn to SizeMax (" + sizeMax + ")";
             _instance.initializationData().logger.warning(s);
@@ -157,6 +183,35 @@ public final class ThreadPool implements java.util.concurrent.Executor
         _sizeIO = Math.min(sizeMax, nProcessors);
         _threadIdleTime = threadIdleTime;
 
+        //
+        // With Adaptive set, the maximum number of threads is adjusted between Size and
+        // SizeMax based on the time the ready connections and work items wait for a thread.
+        // It's not necessary with virtual threads, the threads don't run the dispatches.
+        //
+        _adaptive = properties.getPropertyAsInt(_prefix + ".Adaptive") > 0 && sizeMax > size &&
+                    virtualExecutor == null;
+        int adaptiveTarget = properties.getPropertyAsIntWithDefault(_prefix + ".AdaptiveTarget", 5);
+        if(adaptiveTarget < 1)
+        {
+            String s = _prefix + ".AdaptiveTarget < 1; AdaptiveTarget adjusted to 1";
+            _instance.initializationData().logger.warning(s);
+            adaptiveTarget = 1;
+        }
+        _adaptiveTarget = adaptiveTarget * 1000000L;
+        _sizeTarget = _adaptive ? size : sizeMax;
+
+        int selectors = properties.getPropertyAsInt(_prefix + ".Selectors");
+        if(selectors == -1)
+        {
+            selectors = nProcessors;
+        }
+        else if(selectors < 0)
+        {
+            String s = _prefix + ".Selectors < 0; Selectors adjusted to 0";
+            _instance.initializationData().logger.warning(s);
+            selectors = 0;
+        }
+
         int stackSize = properties.getPropertyAsInt( _prefix + ".StackSize");
         if(stackSize < 0)
         {
@@ -183,9 +238,28 @@ public final class ThreadPool implements java.util.concurrent.Executor
         {
             String s = "creating " + _prefix + ": Size = " + _size + ", SizeMax = " + _sizeMax + ", SizeWarn = " +
                        _sizeWarn;
+            if(selectors > 0)
+            {
+                s += ", Selectors = " + selectors;
+            }
+            if(_virtualExecutor != null)
+            {
+                s += ", VirtualThreads = 1";
+            }
+            if(_adaptive)
+            {
+                s += ", AdaptiveTarget = " + adaptiveTarget + "ms";
+            }
             _instance.initializationData().logger.trace(_instance.traceLevels().threadPoolCat, s);
         }
 
+        if(_adaptive)
+        {
+            _adaptiveStart = System.nanoTime();
+            _adaptiveTimeout = _instance.timingWheel().scheduleAtFixedRate(() -> { adapt(); }, AdaptiveInterval,
+                                                                            AdaptiveInterval);
+        }
+
         try
         {
             for(int i = 0; i < _size; i++)
@@ -201,6 +275,13 @@ public final class ThreadPool implements java.util.concurrent.Executor
                 }
                 _threads.add(thread);
             }
+
+            for(int i = 0; i < selectors; i++)
+            {
+                SelectorThread selectorThread = new SelectorThread(i);
+                _selectorThreads.add(selectorThread);
+                selectorThread.start(_hasPriority ? _priority : java.lang.Thread.NORM_PRIORITY);
+            }
         }
         catch(RuntimeException ex)
         {
@@ -249,6 +330,18 @@ public final class ThreadPool implements java.util.concurrent.Executor
 
         _destroyed = true;
         _workQueue.destroy();
+        if(_adaptiveTimeout != null)
+        {
+            _adaptiveTimeout.cancel();
+        }
+        if(_virtualExecutor != null)
+        {
+            _virtualExecutor.shutdown();
+        }
+        for(SelectorThread selectorThread : _selectorThreads)
+        {
+            selectorThread.destroy();
+        }
     }
 
     public synchronized void
@@ -258,12 +351,27 @@ public final class ThreadPool implements java.util.concurrent.Executor
         {
             thread.updateObserver();
         }
+        for(SelectorThread selectorThread : _selectorThreads)
+        {
+            selectorThread.updateObserver();
+        }
     }
 
     public synchronized void
     initialize(final EventHandler handler)
     {
         assert(!_destroyed);
+        if(!_selectorThreads.isEmpty())
+        {
+            //
+            // Assign the handler to the next selector thread, the handler stays with
+            // this selector thread until it's finished.
+            //
+            _selectorThreads.get(_nextSelectorThread).initialize(handler);
+            _nextSelectorThread = (_nextSelectorThread + 1) % _selectorThreads.size();
+            return;
+        }
+
         _selector.initialize(handler);
 
         handler.setReadyCallback(
@@ -283,28 +391,40 @@ public final class ThreadPool implements java.util.concurrent.Executor
             });
     }
 
+    public boolean
+    hasSelectorThreads()
+    {
+        // No mutex lock, immutable once the thread pool is created.
+        return !_selectorThreads.isEmpty();
+    }
+
+    public boolean
+    hasVirtualThreads()
+    {
+        // No mutex lock, immutable once the thread pool is created.
+        return _virtualExecutor != null;
+    }
+
     public void
     register(EventHandler handler, int op)
     {
         update(handler, SocketOperation.None, op);
     }
 
-    public synchronized void
+    public void
     update(EventHandler handler, int remove, int add)
     {
-        assert(!_destroyed);
-
-        // Don't remove what needs to be added
-        remove &= ~add;
-
-        // Don't remove/add if already un-registered or registered
-        remove = handler._registered & remove;
-        add = ~handler._registered & add;
-        if(remove == add)
+        if(handler._selectorThread != null)
         {
+            handler._selectorThread.update(handler, remove, add);
             return;
         }
-        _selector.update(handler, remove, add);
+
+        synchronized(this)
+        {
+            assert(!_destroyed);
+            updateImpl(_selector, handler, remove, add);
+        }
     }
 
     public void
@@ -313,13 +433,43 @@ public final class ThreadPool implements java.util.concurrent.Executor
         update(handler, op, SocketOperation.None);
     }
 
-    public synchronized boolean
+    public boolean
     finish(EventHandler handler, boolean closeNow)
     {
-        assert(!_destroyed);
-        closeNow = _selector.finish(handler, closeNow);
-        _workQueue.queue(new FinishedWorkItem(handler, !closeNow));
-        return closeNow;
+        if(handler._selectorThread != null)
+        {
+            closeNow = handler._selectorThread.finish(handler, closeNow);
+            synchronized(this)
+            {
+                assert(!_destroyed);
+                _workQueue.queue(new FinishedWorkItem(handler, !closeNow));
+            }
+            return closeNow;
+        }
+
+        synchronized(this)
+        {
+            assert(!_destroyed);
+            closeNow = _selector.finish(handler, closeNow);
+            _workQueue.queue(new FinishedWorkItem(handler, !closeNow));
+            return closeNow;
+        }
+    }
+
+    private static void
+    updateImpl(Selector selector, EventHandler handler, int remove, int add)
+    {
+        // Don't remove what needs to be added
+        remove &= ~add;
+
+        // Don't remove/add if already un-registered or registered
+        remove = handler._registered & remove;
+        add = ~handler._registered & add;
+        if(remove == add)
+        {
+            return;
+        }
+        selector.update(handler, remove, add);
     }
 
     public void
@@ -349,14 +499,191 @@ public final class ThreadPool implements java.util.concurrent.Executor
         }
     }
 
-    synchronized public void
+    public void
     dispatch(DispatchWorkItem workItem)
     {
-        if(_destroyed)
+        if(_virtualExecutor != null)
+        {
+            dispatchOnVirtualThread(workItem);
+            return;
+        }
+
+        synchronized(this)
+        {
+            if(_destroyed)
+            {
+                throw new com.zeroc.Ice.CommunicatorDestroyedException();
+            }
+            _workQueue.queue(workItem);
+        }
+    }
+
+    //
+    // Called by the I/O thread to hand off the dispatch of a message to a virtual thread.
+    //
+    void
+    dispatchOnVirtualThread(ThreadPoolCurrent current, final DispatchWorkItem workItem)
+    {
+        DispatchWorkItem item = workItem;
+        if(_serialize && current._ioCompleted)
+        {
+            //
+            // The handler stays disabled until the dispatch is done, it's re-enabled by the
+            // virtual thread rather than by the I/O thread.
+            //
+            final EventHandler handler = current._handler;
+            final int operation = current.operation;
+            current._handedOff = true;
+            if(_sizeMax == 1)
+            {
+                //
+                // ioCompleted() doesn't disable the handler with a single thread since the
+                // dispatches are serialized by the thread itself.
+                //
+                synchronized(this)
+                {
+                    if(!_destroyed)
+                    {
+                        _selector.disable(handler, operation);
+                    }
+                }
+            }
+            item = new DispatchWorkItem(workItem.getConnection())
+                {
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            workItem.run();
+                        }
+                        finally
+                        {
+                            synchronized(ThreadPool.this)
+                            {
+                                if(!_destroyed)
+                                {
+                                    _selector.enable(handler, operation);
+                                }
+                            }
+                        }
+                    }
+                };
+        }
+
+        try
+        {
+            dispatchOnVirtualThread(item);
+        }
+        catch(com.zeroc.Ice.CommunicatorDestroyedException ex)
+        {
+            dispatchFromThisThread(item);
+        }
+    }
+
+    private void
+    dispatchOnVirtualThread(final DispatchWorkItem workItem)
+    {
+        synchronized(this)
         {
+            if(_destroyed)
+            {
+                throw new com.zeroc.Ice.CommunicatorDestroyedException();
+            }
+
+            //
+            // SizeWarn applies to the number of concurrent dispatches since the thread pool
+            // threads are never busy running user code.
+            //
+            if(++_inUseVirtual == _sizeWarn)
+            {
+                String s = "thread pool `" + _prefix + "' is running many dispatches on virtual threads\n"
+                    + "Dispatches=" + _inUseVirtual + ", " + "SizeWarn=" + _sizeWarn;
+                _instance.initializationData().logger.warning(s);
+            }
+        }
+
+        try
+        {
+            _virtualExecutor.execute(() -> runOnVirtualThread(workItem));
+        }
+        catch(java.util.concurrent.RejectedExecutionException ex)
+        {
+            synchronized(this)
+            {
+                --_inUseVirtual;
+            }
             throw new com.zeroc.Ice.CommunicatorDestroyedException();
         }
-        _workQueue.queue(workItem);
+    }
+
+    private void
+    runOnVirtualThread(DispatchWorkItem workItem)
+    {
+        //
+        // The dispatches are reported to the thread observer as a single thread whose
+        // metrics aggregate all the virtual threads of the thread pool. The threadStart
+        // and threadStop hooks are not called for virtual threads.
+        //
+        com.zeroc.Ice.Instrumentation.ThreadObserver observer = null;
+        com.zeroc.Ice.Instrumentation.CommunicatorObserver obsv = _instance.initializationData().observer;
+        if(obsv != null)
+        {
+            observer = obsv.getThreadObserver(_prefix, _threadPrefix + "-virtual",
+                                              com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateInUseForUser,
+                                              null);
+            if(observer != null)
+            {
+                observer.attach();
+            }
+        }
+
+        try
+        {
+            workItem.run();
+        }
+        catch(java.lang.Exception ex)
+        {
+            String s = "exception in `" + _prefix + "' virtual thread:\n" + Ex.toString(ex);
+            _instance.initializationData().logger.error(s);
+        }
+        finally
+        {
+            if(observer != null)
+            {
+                observer.stateChanged(com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateInUseForUser,
+                                      com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateIdle);
+                observer.detach();
+            }
+            synchronized(this)
+            {
+                --_inUseVirtual;
+            }
+        }
+    }
+
+    //
+    // Creates an executor that runs each task on a new virtual thread, or returns null if
+    // virtual threads aren't supported by the JVM. Reflection is used since the Ice run
+    // time is compiled for Java 8.
+    //
+    private static java.util.concurrent.ExecutorService
+    createVirtualThreadExecutor(String prefix)
+    {
+        try
+        {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            java.lang.Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            java.util.concurrent.ThreadFactory factory =
+                (java.util.concurrent.ThreadFactory)builderClass.getMethod("factory").invoke(builder);
+            return (java.util.concurrent.ExecutorService)java.util.concurrent.Executors.class.getMethod(
+                "newThreadPerTaskExecutor", java.util.concurrent.ThreadFactory.class).invoke(null, factory);
+        }
+        catch(ReflectiveOperationException | RuntimeException ex)
+        {
+            return null;
+        }
     }
 
     public void
@@ -374,6 +701,19 @@ public final class ThreadPool implements java.util.concurrent.Executor
             thread.join();
         }
 
+        for(SelectorThread selectorThread : _selectorThreads)
+        {
+            selectorThread.join();
+        }
+
+        //
+        // Wait for the dispatches running on virtual threads.
+        //
+        if(_virtualExecutor != null)
+        {
+            _virtualExecutor.awaitTermination(Long.MAX_VALUE, java.util.concurrent.TimeUnit.MILLISECONDS);
+        }
+
         //
         // Destroy the selector
         //
@@ -453,6 +793,10 @@ public final class ThreadPool implements java.util.concurrent.Executor
                         _selector.finishSelect(_handlers);
                         select = false;
                         _nextHandler = _handlers.iterator();
+                        if(_adaptive)
+                        {
+                            _readyTime = System.nanoTime();
+                        }
                     }
                     else if(!current._leader && followerWait(current))
                     {
@@ -475,12 +819,17 @@ public final class ThreadPool implements java.util.concurrent.Executor
                         // If the handler called ioCompleted(), we re-enable the handler in
                         // case it was disabled and we decrease the number of thread in use.
                         //
-                        if(_serialize)
+                        if(_serialize && !current._handedOff)
                         {
                             _selector.enable(current._handler, current.operation);
                         }
                         assert(_inUse > 0);
                         --_inUse;
+                        if(_adaptive)
+                        {
+                            _dispatchTime += System.nanoTime() - current._dispatchStart;
+                            ++_dispatchCount;
+                        }
                     }
 
                     if(!current._leader && followerWait(current))
@@ -500,8 +849,16 @@ public final class ThreadPool implements java.util.concurrent.Executor
                     if(op != 0)
                     {
                         current._ioCompleted = false;
+                        current._handedOff = false;
                         current._handler = n.handler;
                         current.operation = op;
+                        if(_adaptive && n.handler != _workQueue)
+                        {
+                            //
+                            // The work queue records the wait of its work items itself.
+                            //
+                            recordWait(System.nanoTime() - _readyTime);
+                        }
                         thread.setState(com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateInUseForIO);
                         break;
                     }
@@ -576,8 +933,13 @@ public final class ThreadPool implements java.util.concurrent.Executor
 
             assert(_inUse >= 0);
             ++_inUse;
+            if(_adaptive)
+            {
+                current._dispatchStart = System.nanoTime();
+                _inUsePeak = Math.max(_inUsePeak, _inUse);
+            }
 
-            if(_inUse == _sizeWarn)
+            if(_inUse == _sizeWarn && _virtualExecutor == null)
             {
                 String s = "thread pool `" + _prefix + "' is running low on threads\n"
                     + "Size=" + _size + ", " + "SizeMax=" + _sizeMax + ", " + "SizeWarn=" + _sizeWarn;
@@ -587,7 +949,7 @@ public final class ThreadPool implements java.util.concurrent.Executor
             if(!_destroyed)
             {
                 assert(_inUse <= _threads.size());
-                if(_inUse < _sizeMax && _inUse == _threads.size())
+                if(_inUse < _sizeTarget && _inUse == _threads.size())
                 {
                     if(_instance.traceLevels().threadPool >= 1)
                     {
@@ -694,12 +1056,115 @@ public final class ThreadPool implements java.util.concurrent.Executor
                     //
                 }
             }
+
+            //
+            // Exit if the adaptive policy lowered the number of threads and this thread isn't
+            // needed as the leader.
+            //
+            if(_threads.size() > _sizeTarget && !_destroyed &&
+               (!_promote || _inUseIO == _sizeIO || (!_nextHandler.hasNext() && _inUseIO > 0)))
+            {
+                if(_instance.traceLevels().threadPool >= 1)
+                {
+                    String s = "shrinking " + _prefix + ": Size=" + (_threads.size() - 1);
+                    _instance.initializationData().logger.trace(_instance.traceLevels().threadPoolCat, s);
+                }
+                _threads.remove(current._thread);
+                _workQueue.queue(new JoinThreadWorkItem(current._thread));
+                return true;
+            }
         }
         current._leader = true; // The current thread has become the leader.
         _promote = false;
         return false;
     }
 
+    //
+    // Called with the thread pool locked.
+    //
+    void
+    recordWait(long wait)
+    {
+        _waitTime += wait;
+        _waitMax = Math.max(_waitMax, wait);
+        ++_waitCount;
+    }
+
+    boolean
+    isAdaptive()
+    {
+        // No mutex lock, immutable once the thread pool is created.
+        return _adaptive;
+    }
+
+    //
+    // Periodically adjusts the maximum number of threads based on the wait time of the
+    // ready connections and work items. If the mean wait exceeds the target while all the
+    // allowed threads were in use, the maximum is doubled. If the wait is well below the
+    // target and threads were left idle, the maximum is decreased by one and the extra
+    // threads exit once they are idle. Growth is fast to absorb bursts, the decrease is
+    // slow to avoid oscillations.
+    //
+    private void
+    adapt()
+    {
+        com.zeroc.IceStats.ThreadPoolSizing sizing;
+        synchronized(this)
+        {
+            if(_destroyed)
+            {
+                return;
+            }
+
+            final long now = System.nanoTime();
+            final long waitMean = _waitCount > 0 ? _waitTime / _waitCount : 0;
+            final long dispatchMean = _dispatchCount > 0 ? _dispatchTime / _dispatchCount : 0;
+            final int previous = _sizeTarget;
+            String decision = "keep";
+            if(waitMean > _adaptiveTarget && _inUsePeak >= _sizeTarget && _sizeTarget < _sizeMax)
+            {
+                _sizeTarget = Math.min(_sizeMax, _sizeTarget * 2);
+                decision = "grow";
+            }
+            else if(waitMean < _adaptiveTarget / 2 && _inUsePeak < _sizeTarget - 1 && _sizeTarget > _size)
+            {
+                _sizeTarget = Math.max(_size, _sizeTarget - 1);
+                decision = "shrink";
+                if(_threads.size() > _sizeTarget)
+                {
+                    notifyAll(); // Wake up the followers, extra threads exit.
+                }
+            }
+
+            if(previous != _sizeTarget && _instance.traceLevels().threadPool >= 1)
+            {
+                String s = "adjusting " + _prefix + " maximum size from " + previous + " to " + _sizeTarget +
+                           ": mean wait = " + waitMean / 1000 + "us, peak in use = " + _inUsePeak +
+                           ", mean dispatch = " + dispatchMean / 1000 + "us";
+                _instance.initializationData().logger.trace(_instance.traceLevels().threadPoolCat, s);
+            }
+
+            sizing = new com.zeroc.IceStats.ThreadPoolSizing(_prefix, decision, _size, _sizeMax, _sizeTarget,
+                                                             _threads.size(), _inUsePeak, _waitCount, waitMean / 1000,
+                                                             _waitMax / 1000, _dispatchCount, dispatchMean / 1000,
+                                                             (now - _adaptiveStart) / 1000000);
+
+            _adaptiveStart = now;
+            _waitTime = 0;
+            _waitMax = 0;
+            _waitCount = 0;
+            _dispatchTime = 0;
+            _dispatchCount = 0;
+            _inUsePeak = _inUse;
+        }
+
+        com.zeroc.Ice.Instrumentation.CommunicatorObserver obsv = _instance.initializationData().observer;
+        if(obsv instanceof com.zeroc.IceStats.ThreadPoolSizingObserver)
+        {
+            ((com.zeroc.IceStats.ThreadPoolSizingObserver)obsv).sizingChanged(sizing);
+        }
+    }
+
     private final Instance _instance;
     private final java.util.function.BiConsumer<Runnable, com.zeroc.Ice.Connection> _dispatcher;
     private final ThreadPoolWorkQueue _workQueue;
@@ -708,11 +1173,231 @@ public final class ThreadPool implements java.util.concurrent.Executor
     private final String _threadPrefix;
     private final Selector _selector;
 
+    //
+    // With ThreadPool.<name>.Selectors set, the event handlers are sharded across
+    // several selectors, each owned by a dedicated I/O thread. The I/O thread only
+    // performs the I/O of its event handlers and hands off the dispatch of the
+    // messages to the thread pool threads. The thread pool threads only wait on
+    // the thread pool work queue and never contend on the selector of the I/O
+    // threads.
+    //
+    final class SelectorThread
+    {
+        SelectorThread(int index)
+        {
+            _selector = new Selector(_instance);
+            _thread = new EventHandlerThread(_threadPrefix + "-io-" + index, this);
+        }
+
+        void
+        start(int priority)
+        {
+            _thread.start(priority);
+        }
+
+        synchronized void
+        destroy()
+        {
+            _destroyed = true;
+            _selector.wakeup();
+        }
+
+        void
+        join()
+            throws InterruptedException
+        {
+            _thread.join();
+            _selector.destroy();
+        }
+
+        synchronized void
+        updateObserver()
+        {
+            _thread.updateObserver();
+        }
+
+        synchronized void
+        initialize(final EventHandler handler)
+        {
+            assert(!_destroyed);
+            handler._selectorThread = this;
+            _selector.initialize(handler);
+
+            handler.setReadyCallback(
+                new ReadyCallback()
+                {
+                    public void ready(int op, boolean value)
+                    {
+                        synchronized(SelectorThread.this)
+                        {
+                            if(_destroyed)
+                            {
+                                return;
+                            }
+                            _selector.ready(handler, op, value);
+                        }
+                    }
+                });
+        }
+
+        synchronized void
+        update(EventHandler handler, int remove, int add)
+        {
+            assert(!_destroyed);
+            updateImpl(_selector, handler, remove, add);
+        }
+
+        synchronized boolean
+        finish(EventHandler handler, boolean closeNow)
+        {
+            assert(!_destroyed);
+            return _selector.finish(handler, closeNow);
+        }
+
+        void
+        ioCompleted(ThreadPoolCurrent current)
+        {
+            //
+            // The I/O thread never runs user code, it's not necessary to promote another
+            // thread. If requests must be serialized, the handler is disabled until the
+            // dispatch handed off to the thread pool is done.
+            //
+            current._ioCompleted = true;
+            if(_serialize)
+            {
+                synchronized(this)
+                {
+                    if(!_destroyed)
+                    {
+                        _selector.disable(current._handler, current.operation);
+                    }
+                }
+            }
+        }
+
+        void
+        dispatch(ThreadPoolCurrent current, final DispatchWorkItem workItem)
+        {
+            DispatchWorkItem item = workItem;
+            if(_serialize && current._ioCompleted)
+            {
+                final EventHandler handler = current._handler;
+                final int operation = current.operation;
+                item = new DispatchWorkItem(workItem.getConnection())
+                    {
+                        @Override
+                        public void run()
+                        {
+                            try
+                            {
+                                workItem.run();
+                            }
+                            finally
+                            {
+                                synchronized(SelectorThread.this)
+                                {
+                                    if(!_destroyed)
+                                    {
+                                        _selector.enable(handler, operation);
+                                    }
+                                }
+                            }
+                        }
+                    };
+            }
+
+            try
+            {
+                ThreadPool.this.dispatch(item);
+            }
+            catch(com.zeroc.Ice.CommunicatorDestroyedException ex)
+            {
+                ThreadPool.this.dispatchFromThisThread(item);
+            }
+        }
+
+        void
+        run(EventHandlerThread thread)
+        {
+            ThreadPoolCurrent current = new ThreadPoolCurrent(_instance, ThreadPool.this, thread);
+            java.util.List<EventHandlerOpPair> handlers = new java.util.ArrayList<>();
+            while(true)
+            {
+                synchronized(this)
+                {
+                    if(_destroyed)
+                    {
+                        return;
+                    }
+                    handlers.clear();
+                    _selector.startSelect();
+                }
+
+                try
+                {
+                    _selector.select(0);
+                }
+                catch(Selector.TimeoutException ex)
+                {
+                    assert(false); // Can't time out without a timeout.
+                }
+
+                synchronized(this)
+                {
+                    _selector.finishSelect(handlers);
+                }
+
+                for(EventHandlerOpPair n : handlers)
+                {
+                    synchronized(this)
+                    {
+                        current.operation = n.op & ~n.handler._disabled & n.handler._registered;
+                        if(current.operation == 0 || _destroyed)
+                        {
+                            continue;
+                        }
+                        thread.setState(com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateInUseForIO);
+                    }
+
+                    current._handler = n.handler;
+                    current._ioCompleted = false;
+                    try
+                    {
+                        current._handler.message(current);
+                    }
+                    catch(java.lang.Exception ex)
+                    {
+                        String s = "exception in `" + _prefix + "':\n" + Ex.toString(ex);
+                        s += "\nevent handler: " + current._handler.toString();
+                        _instance.initializationData().logger.error(s);
+                    }
+                    current._handler = null;
+
+                    synchronized(this)
+                    {
+                        thread.setState(com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateIdle);
+                    }
+                }
+                current.stream.reset();
+            }
+        }
+
+        private final Selector _selector;
+        private final EventHandlerThread _thread;
+        private boolean _destroyed = false;
+    }
+
     final class EventHandlerThread implements Runnable
     {
         EventHandlerThread(String name)
+        {
+            this(name, null);
+        }
+
+        EventHandlerThread(String name, SelectorThread selectorThread)
         {
             _name = name;
+            _selectorThread = selectorThread;
             _state = com.zeroc.Ice.Instrumentation.ThreadState.ThreadStateIdle;
             updateObserver();
         }
@@ -781,7 +1466,14 @@ public final class ThreadPool implements java.util.concurrent.Executor
 
             try
             {
-                ThreadPool.this.run(this);
+                if(_selectorThread != null)
+                {
+                    _selectorThread.run(this);
+                }
+                else
+                {
+                    ThreadPool.this.run(this);
+                }
             }
             catch(java.lang.Exception ex)
             {
@@ -815,6 +1507,7 @@ public final class ThreadPool implements java.util.concurrent.Executor
         }
 
         final private String _name;
+        final SelectorThread _selectorThread;
         private Thread _thread;
         private com.zeroc.Ice.Instrumentation.ThreadState _state;
         private com.zeroc.Ice.Instrumentation.ThreadObserver _observer;
@@ -830,11 +1523,33 @@ public final class ThreadPool implements java.util.concurrent.Executor
     private final long _serverIdleTime;
     private final long _threadIdleTime;
     private final int _stackSize;
+    private final java.util.concurrent.ExecutorService _virtualExecutor; // Null unless dispatching on virtual threads.
+    private final boolean _adaptive; // True if the maximum number of threads is adjusted by the adaptive policy.
+    private final long _adaptiveTarget; // The target wait in nanoseconds.
 
     private java.util.List<EventHandlerThread> _threads = new java.util.ArrayList<>();
+    // Immutable after construction, read without the lock.
+    private final java.util.List<SelectorThread> _selectorThreads = new java.util.ArrayList<>();
+    private int _nextSelectorThread; // For assigning event handlers to selector threads.
     private int _threadIndex; // For assigning thread names.
     private int _inUse; // Number of threads that are currently in use.
     private int _inUseIO; // Number of threads that are currently performing IO.
+    private int _inUseVirtual; // Number of dispatches currently running on virtual threads.
+
+    //
+    // The adaptive policy state, the statistics are reset at each adjustment.
+    //
+    private static final long AdaptiveInterval = 1000; // Milliseconds between adjustments.
+    private int _sizeTarget; // The current maximum number of threads, SizeMax if not adaptive.
+    private TimingWheel.Timeout _adaptiveTimeout;
+    private long _adaptiveStart;
+    private long _readyTime; // The time the last select returned.
+    private long _waitTime;
+    private long _waitMax;
+    private int _waitCount;
+    private long _dispatchTime;
+    private int _dispatchCount;
+    private int _inUsePeak;
 
     private java.util.List<EventHandlerOpPair> _handlers = new java.util.ArrayList<>();
     private java.util.Iterator<EventHandlerOpPair> _nextHandler;
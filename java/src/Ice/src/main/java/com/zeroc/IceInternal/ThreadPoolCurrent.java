@@ -13,6 +13,7 @@ public final class ThreadPoolCurrent
 
         _threadPool = threadPool;
         _thread = thread;
+        _selectorThread = thread._selectorThread;
         _ioCompleted = false;
         _leader = false;
     }
@@ -29,18 +30,43 @@ public final class ThreadPoolCurrent
     public void
     ioCompleted()
     {
-        _threadPool.ioCompleted(this);
+        if(_selectorThread != null)
+        {
+            _selectorThread.ioCompleted(this);
+        }
+        else
+        {
+            _threadPool.ioCompleted(this);
+        }
     }
 
     public void
     dispatchFromThisThread(DispatchWorkItem workItem)
     {
-        _threadPool.dispatchFromThisThread(workItem);
+        if(_selectorThread != null)
+        {
+            //
+            // Selector threads only perform I/O, the dispatch is handed off to the
+            // thread pool threads.
+            //
+            _selectorThread.dispatch(this, workItem);
+        }
+        else if(_threadPool.hasVirtualThreads())
+        {
+            _threadPool.dispatchOnVirtualThread(this, workItem);
+        }
+        else
+        {
+            _threadPool.dispatchFromThisThread(workItem);
+        }
     }
 
     final ThreadPool _threadPool;
     final ThreadPool.EventHandlerThread _thread;
+    final ThreadPool.SelectorThread _selectorThread;
     EventHandler _handler;
     boolean _ioCompleted;
+    boolean _handedOff; // True if the dispatch was handed off to a virtual thread with a disabled handler.
+    long _dispatchStart; // The time ioCompleted() was called, only set with the adaptive thread pool policy.
     boolean _leader;
 }
@@ -10,6 +10,7 @@ final class ThreadPoolWorkQueue extends EventHandler
     {
         _threadPool = threadPool;
         _selector = selector;
+        _queueTimes = threadPool.isAdaptive() ? new java.util.ArrayDeque<>() : null;
         _destroyed = false;
         _registered = SocketOperation.Read;
     }
@@ -44,6 +45,10 @@ final class ThreadPoolWorkQueue extends EventHandler
         // Called with the thread pool locked
         assert(item != null);
         _workItems.add(item);
+        if(_queueTimes != null)
+        {
+            _queueTimes.add(System.nanoTime());
+        }
         if(_workItems.size() == 1)
         {
             _selector.ready(this, SocketOperation.Read, true);
@@ -60,6 +65,10 @@ final class ThreadPoolWorkQueue extends EventHandler
             {
                 workItem = _workItems.removeFirst();
                 assert(workItem != null);
+                if(_queueTimes != null)
+                {
+                    _threadPool.recordWait(System.nanoTime() - _queueTimes.removeFirst());
+                }
             }
             if(_workItems.isEmpty() && !_destroyed)
             {
@@ -107,4 +116,5 @@ final class ThreadPoolWorkQueue extends EventHandler
     private boolean _destroyed;
     private Selector _selector;
     private java.util.LinkedList<ThreadPoolWorkItem> _workItems = new java.util.LinkedList<>();
+    private final java.util.ArrayDeque<Long> _queueTimes; // The queue time of the work items with the adaptive policy.
 }
@@ -0,0 +1,284 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceInternal;
+
+//
+// A hashed timing wheel for the timeouts of the Ice run time: connection
+// timeouts, invocation timeouts, retries and ACM. Scheduling and canceling
+// a timeout are O(1) operations which don't allocate anything else than the
+// timeout, unlike ScheduledThreadPoolExecutor which maintains a heap of
+// futures.
+//
+// The wheel is advanced by a task on the communicator timer which also runs
+// the expired tasks. This task is scheduled for the tick of the first occupied
+// slot of the wheel rather than for every tick, and it isn't scheduled while
+// the wheel is empty. The precision of the timeouts is the tick duration
+// (Ice.TimerTick, 10ms by default): a task never runs before its deadline but
+// it can run up to a tick after it.
+//
+public final class TimingWheel
+{
+    public final class Timeout
+    {
+        //
+        // Cancels the timeout, returns true if the task won't run.
+        //
+        public boolean cancel()
+        {
+            synchronized(TimingWheel.this)
+            {
+                _period = 0;
+                if(_slot < 0)
+                {
+                    return false; // Already expired or canceled.
+                }
+                unlink(this);
+                return true;
+            }
+        }
+
+        private Timeout(Runnable task, long period)
+        {
+            _task = task;
+            _period = period;
+        }
+
+        private final Runnable _task;
+        private long _period;
+        private long _deadline; // Deadline tick.
+        private int _slot = -1; // The slot of the timeout or -1 if not scheduled.
+        private Timeout _prev;
+        private Timeout _next;
+    }
+
+    TimingWheel(java.util.concurrent.ScheduledExecutorService timer, com.zeroc.Ice.Logger logger, int tick)
+    {
+        _timer = timer;
+        _logger = logger;
+        _tickDuration = Math.max(1, tick);
+        _start = Time.currentMonotonicTimeMillis();
+    }
+
+    //
+    // Runs the task once after the given delay in milliseconds.
+    //
+    public Timeout schedule(Runnable task, long delay)
+    {
+        Timeout t = new Timeout(task, 0);
+        synchronized(this)
+        {
+            insert(t, delay);
+        }
+        return t;
+    }
+
+    //
+    // Runs the task periodically after the given delay in milliseconds until the
+    // timeout is canceled.
+    //
+    public Timeout scheduleAtFixedRate(Runnable task, long delay, long period)
+    {
+        assert(period > 0);
+        Timeout t = new Timeout(task, period);
+        synchronized(this)
+        {
+            insert(t, delay);
+        }
+        return t;
+    }
+
+    private void insert(Timeout t, long delay)
+    {
+        final long now = Time.currentMonotonicTimeMillis();
+        if(_count == 0)
+        {
+            //
+            // The wheel doesn't need to catch up with the ticks elapsed since it was
+            // last advanced, it's empty.
+            //
+            _tick = Math.max(_tick, (now - _start) / _tickDuration);
+        }
+
+        link(t, Math.max(_tick + 1, (now + Math.max(0, delay) - _start + _tickDuration - 1) / _tickDuration));
+        if(_future == null || t._deadline < _wakeTick)
+        {
+            schedule(t._deadline, now);
+        }
+    }
+
+    //
+    // Schedules the expiration task for the given tick, replacing the task already
+    // scheduled if any. Must be called with the wheel locked.
+    //
+    private void schedule(long tick, long now)
+    {
+        if(_future != null)
+        {
+            _future.cancel(false);
+        }
+        _wakeTick = tick;
+        _future = _timer.schedule(() -> { expire(); }, Math.max(0, _start + tick * _tickDuration - now),
+                                  java.util.concurrent.TimeUnit.MILLISECONDS);
+    }
+
+    //
+    // Schedules the expiration task for the tick of the first occupied slot, or cancels
+    // it if the wheel is empty. The first occupied slot can hold only timeouts of a later
+    // turn, the task then runs early and is scheduled again. Must be called with the wheel
+    // locked.
+    //
+    private void scheduleNext()
+    {
+        if(_count == 0)
+        {
+            if(_future != null)
+            {
+                _future.cancel(false);
+                _future = null;
+            }
+            return;
+        }
+
+        for(long tick = _tick + 1; tick <= _tick + _slots.length; ++tick)
+        {
+            if(_slots[(int)(tick & _mask)] != null)
+            {
+                schedule(tick, Time.currentMonotonicTimeMillis());
+                return;
+            }
+        }
+        assert(false);
+    }
+
+    private void expire()
+    {
+        java.util.List<Timeout> expired = null;
+        synchronized(this)
+        {
+            final long target = (Time.currentMonotonicTimeMillis() - _start) / _tickDuration;
+
+            //
+            // Process the slots of the ticks elapsed since the last run, each slot is
+            // processed at most once if the timer thread was late by more than a turn.
+            //
+            final long n = Math.min(target - _tick, _slots.length);
+            for(long i = 1; i <= n; ++i)
+            {
+                Timeout t = _slots[(int)((_tick + i) & _mask)];
+                while(t != null)
+                {
+                    Timeout next = t._next;
+                    if(t._deadline <= target)
+                    {
+                        unlink(t);
+                        if(expired == null)
+                        {
+                            expired = new java.util.ArrayList<>();
+                        }
+                        expired.add(t);
+                    }
+                    t = next;
+                }
+            }
+            _tick = Math.max(_tick, target);
+
+            if(expired != null)
+            {
+                //
+                // If the timer thread was late by a turn or more, the slots weren't processed
+                // in the order of the deadlines.
+                //
+                if(n == _slots.length && expired.size() > 1)
+                {
+                    expired.sort((a, b) -> Long.compare(a._deadline, b._deadline));
+                }
+
+                //
+                // Re-insert the periodic tasks before running them so that they can be
+                // canceled by the task itself.
+                //
+                for(Timeout t : expired)
+                {
+                    if(t._period > 0)
+                    {
+                        link(t, Math.max(_tick + 1, t._deadline + (t._period + _tickDuration - 1) / _tickDuration));
+                    }
+                }
+            }
+
+            try
+            {
+                scheduleNext();
+            }
+            catch(java.util.concurrent.RejectedExecutionException ex)
+            {
+                // The communicator is being destroyed.
+            }
+        }
+
+        if(expired != null)
+        {
+            for(Timeout t : expired)
+            {
+                try
+                {
+                    t._task.run();
+                }
+                catch(Throwable ex)
+                {
+                    _logger.error("exception in timer task:\n" + Ex.toString(ex));
+                }
+            }
+        }
+    }
+
+    private void link(Timeout t, long deadline)
+    {
+        t._deadline = deadline;
+        t._slot = (int)(deadline & _mask);
+        t._prev = null;
+        t._next = _slots[t._slot];
+        if(t._next != null)
+        {
+            t._next._prev = t;
+        }
+        _slots[t._slot] = t;
+        ++_count;
+    }
+
+    private void unlink(Timeout t)
+    {
+        if(t._prev != null)
+        {
+            t._prev._next = t._next;
+        }
+        else
+        {
+            _slots[t._slot] = t._next;
+        }
+        if(t._next != null)
+        {
+            t._next._prev = t._prev;
+        }
+        t._prev = null;
+        t._next = null;
+        t._slot = -1;
+        --_count;
+    }
+
+    private static final int WheelSize = 512;
+
+    private final java.util.concurrent.ScheduledExecutorService _timer;
+    private final com.zeroc.Ice.Logger _logger;
+    private final long _tickDuration;
+    private final long _start;
+
+    private final Timeout[] _slots = new Timeout[WheelSize];
+    private final int _mask = WheelSize - 1;
+    private long _tick;
+    private int _count;
+    private java.util.concurrent.Future<?> _future;
+    private long _wakeTick; // The tick of the scheduled expiration task.
+}
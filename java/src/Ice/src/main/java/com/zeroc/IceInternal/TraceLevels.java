@@ -14,6 +14,7 @@ public final class TraceLevels
         locationCat = "Locator";
         slicingCat = "Slicing";
         threadPoolCat = "ThreadPool";
+        bufferPoolCat = "BufferPool";
 
         final String keyBase = "Ice.Trace.";
 
@@ -23,6 +24,7 @@ public final class TraceLevels
         location = properties.getPropertyAsInt(keyBase + locationCat);
         slicing = properties.getPropertyAsInt(keyBase + slicingCat);
         threadPool = properties.getPropertyAsInt(keyBase + threadPoolCat);
+        bufferPool = properties.getPropertyAsInt(keyBase + bufferPoolCat);
     }
 
     final public int network;
@@ -37,4 +39,6 @@ public final class TraceLevels
     final public String threadPoolCat;
     final public int threadPool;
     final public String slicingCat;
+    final public int bufferPool;
+    final public String bufferPoolCat;
 }
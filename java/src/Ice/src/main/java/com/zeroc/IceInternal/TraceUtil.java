@@ -414,31 +414,45 @@ public final class TraceUtil
         {
             out.write("\nmessage type = " + (int)type + " (" + getMessageTypeAsString(type) + ')');
             byte compress = stream.readByte();
-            out.write("\ncompression status = " + (int)compress + ' ');
-            switch(compress)
+            out.write("\ncompression status = " + (compress & 0xff) + ' ');
+            if(type == Protocol.validateConnectionMsg && compress != 0)
             {
-                case (byte)0:
+                out.write("(supports compression codec " + (compress & 0xff) + ')');
+            }
+            else
+            {
+                switch(compress)
                 {
-                    out.write("(not compressed; do not compress response, if any)");
-                    break;
-                }
+                    case (byte)0:
+                    {
+                        out.write("(not compressed; do not compress response, if any)");
+                        break;
+                    }
 
-                case (byte)1:
-                {
-                    out.write("(not compressed; compress response, if any)");
-                    break;
-                }
+                    case (byte)1:
+                    {
+                        out.write("(not compressed; compress response, if any)");
+                        break;
+                    }
 
-                case (byte)2:
-                {
-                    out.write("(compressed; compress response, if any)");
-                    break;
-                }
+                    case (byte)2:
+                    {
+                        out.write("(compressed; compress response, if any)");
+                        break;
+                    }
 
-                default:
-                {
-                    out.write("(unknown)");
-                    break;
+                    default:
+                    {
+                        if((compress & 0xff) > 2)
+                        {
+                            out.write("(compressed with codec " + (compress & 0xff) + "; compress response, if any)");
+                        }
+                        else
+                        {
+                            out.write("(unknown)");
+                        }
+                        break;
+                    }
                 }
             }
 
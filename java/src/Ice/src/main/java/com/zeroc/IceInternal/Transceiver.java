@@ -17,6 +17,27 @@ public interface Transceiver
     int write(Buffer buf);
     int read(Buffer buf);
 
+    //
+    // Write the given buffers in order, as if write was called for each
+    // buffer. Transceivers which can send several buffers with a single
+    // system call (a gathering write) override this method.
+    //
+    default int write(Buffer[] bufs)
+    {
+        for(Buffer buf : bufs)
+        {
+            if(buf.b.hasRemaining())
+            {
+                int op = write(buf);
+                if(op != SocketOperation.None)
+                {
+                    return op;
+                }
+            }
+        }
+        return SocketOperation.None;
+    }
+
     String protocol();
     @Override
     String toString();
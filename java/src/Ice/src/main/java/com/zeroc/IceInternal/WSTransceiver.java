@@ -374,6 +374,36 @@ final class WSTransceiver implements Transceiver
         return SocketOperation.None;
     }
 
+    //
+    // Each buffer is sent with its own frame. Once a buffer has no remaining bytes, its
+    // frame might still be pending in _writeBuffer (or the transceiver might need to
+    // flush), the buffer must then be written again before framing the next one.
+    //
+    @Override
+    public int write(Buffer[] bufs)
+    {
+        for(Buffer buf : bufs)
+        {
+            if(buf != _writePending && !buf.b.hasRemaining())
+            {
+                continue; // Already sent.
+            }
+
+            int s = write(buf);
+            if((s & SocketOperation.Write) != 0)
+            {
+                _writePending = buf;
+                return s;
+            }
+            _writePending = null;
+            if(s != SocketOperation.None)
+            {
+                return s;
+            }
+        }
+        return SocketOperation.None;
+    }
+
     @Override
     public int read(Buffer buf)
     {
@@ -1562,6 +1592,7 @@ final class WSTransceiver implements Transceiver
     private static final int WriteStateFlush = 3;
 
     private int _writeState;
+    private Buffer _writePending; // The gathered buffer whose frame isn't sent yet.
     private Buffer _writeBuffer;
     private int _writeBufferSize;
     private byte[] _writeMask;
@@ -0,0 +1,49 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceStats;
+
+/**
+ * The statistics of the communicator buffer pool, see the Ice.BufferPool
+ * property. The counts are cumulative since the creation of the communicator.
+ **/
+public class BufferPoolStats
+{
+    public BufferPoolStats(long hits, long misses, long released, long discarded, long oversized)
+    {
+        this.hits = hits;
+        this.misses = misses;
+        this.released = released;
+        this.discarded = discarded;
+        this.oversized = oversized;
+    }
+
+    @Override
+    public String
+    toString()
+    {
+        StringBuilder s = new StringBuilder();
+        s.append("hits = ").append(hits);
+        s.append(", misses = ").append(misses);
+        s.append(", released = ").append(released);
+        s.append(", discarded = ").append(discarded);
+        s.append(", oversized = ").append(oversized);
+        return s.toString();
+    }
+
+    /** The number of allocations which reused a pooled buffer. **/
+    public final long hits;
+
+    /** The number of allocations which allocated a new buffer of a pooled size. **/
+    public final long misses;
+
+    /** The number of buffers returned to the pool. **/
+    public final long released;
+
+    /** The number of buffers released while the pool was full, they are left to the garbage collector. **/
+    public final long discarded;
+
+    /** The number of allocations larger than the largest pooled buffer size, these buffers aren't pooled. **/
+    public final long oversized;
+}
@@ -0,0 +1,50 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceStats;
+
+/**
+ * The statistics of an endpoint used by the endpoint balancing policies, see
+ * the EndpointBalancing proxy property. The statistics are computed from the
+ * active outgoing connections to the endpoint.
+ **/
+public class EndpointStats
+{
+    public EndpointStats(String endpoint, int connections, int outstanding, long latency, int weight)
+    {
+        this.endpoint = endpoint;
+        this.connections = connections;
+        this.outstanding = outstanding;
+        this.latency = latency;
+        this.weight = weight;
+    }
+
+    @Override
+    public String
+    toString()
+    {
+        StringBuilder s = new StringBuilder();
+        s.append(endpoint);
+        s.append(": connections = ").append(connections);
+        s.append(", outstanding = ").append(outstanding);
+        s.append(", latency = ").append(latency);
+        s.append(", weight = ").append(weight);
+        return s.toString();
+    }
+
+    /** The endpoint. **/
+    public final String endpoint;
+
+    /** The number of active outgoing connections to the endpoint. **/
+    public final int connections;
+
+    /** The number of requests waiting for a reply on these connections. **/
+    public final int outstanding;
+
+    /** The moving average of the reply latency in microseconds, 0 if unknown. **/
+    public final long latency;
+
+    /** The static weight of the endpoint (Ice.EndpointWeight.<host>:<port>). **/
+    public final int weight;
+}
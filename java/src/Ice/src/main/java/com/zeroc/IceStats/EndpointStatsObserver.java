@@ -0,0 +1,23 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceStats;
+
+/**
+ * A communicator observer which implements this interface is notified of the
+ * statistics used by the endpoint balancing policies, see the EndpointBalancing
+ * proxy property.
+ **/
+public interface EndpointStatsObserver
+{
+    /**
+     * Called when the statistics of endpoints are computed to balance a proxy,
+     * at most once per second for each communicator. The statistics are a
+     * snapshot of all the endpoints with outgoing connections and of the
+     * endpoints of the proxy.
+     *
+     * @param stats The statistics of the endpoints.
+     **/
+    void endpointStatsChanged(EndpointStats[] stats);
+}
@@ -0,0 +1,51 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceStats;
+
+/**
+ * The statistics of the endpoint host resolver, see the Ice.HostResolver.Size,
+ * Ice.HostResolver.CacheTTL and Ice.HostResolver.NegativeCacheTTL properties.
+ * The counts are cumulative since the creation of the communicator.
+ **/
+public class HostResolverStats
+{
+    public HostResolverStats(long lookups, long coalesced, long cacheHits, long negativeCacheHits,
+                             int cacheEntries)
+    {
+        this.lookups = lookups;
+        this.coalesced = coalesced;
+        this.cacheHits = cacheHits;
+        this.negativeCacheHits = negativeCacheHits;
+        this.cacheEntries = cacheEntries;
+    }
+
+    @Override
+    public String
+    toString()
+    {
+        StringBuilder s = new StringBuilder();
+        s.append("lookups = ").append(lookups);
+        s.append(", coalesced = ").append(coalesced);
+        s.append(", cache hits = ").append(cacheHits);
+        s.append(", negative cache hits = ").append(negativeCacheHits);
+        s.append(", cache entries = ").append(cacheEntries);
+        return s.toString();
+    }
+
+    /** The number of DNS lookups. **/
+    public final long lookups;
+
+    /** The number of resolutions which shared the DNS lookup of a concurrent resolution. **/
+    public final long coalesced;
+
+    /** The number of resolutions which used cached addresses. **/
+    public final long cacheHits;
+
+    /** The number of resolutions which failed with a cached DNS failure. **/
+    public final long negativeCacheHits;
+
+    /** The number of cached addresses and DNS failures, including expired entries not yet removed. **/
+    public final int cacheEntries;
+}
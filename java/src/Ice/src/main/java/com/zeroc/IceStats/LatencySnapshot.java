@@ -0,0 +1,115 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceStats;
+
+/**
+ * A snapshot of the latency histogram of a metrics object. The latencies are
+ * the lifetimes of the observed objects (invocations, dispatches, connection
+ * establishments, ...) in microseconds. Recorded values are rounded up to the
+ * precision of the histogram, see the IceMX.Metrics.<view>.Histogram property.
+ **/
+public class LatencySnapshot
+{
+    public LatencySnapshot(String id, long[] values, long[] counts, long sum, long min, long max)
+    {
+        assert(values.length == counts.length);
+        this.id = id;
+        _values = values;
+        _counts = counts;
+
+        long c = 0;
+        for(long n : counts)
+        {
+            c += n;
+        }
+        this.count = c;
+        this.min = c > 0 ? min : 0;
+        this.max = c > 0 ? max : 0;
+        this.mean = c > 0 ? (double)sum / c : 0.0;
+        this.p50 = percentile(50.0);
+        this.p90 = percentile(90.0);
+        this.p99 = percentile(99.0);
+        this.p999 = percentile(99.9);
+    }
+
+    /**
+     * Returns the latency at the given percentile.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The latency in microseconds, or 0 if no latency was recorded.
+     **/
+    public long
+    percentile(double percentile)
+    {
+        if(count == 0)
+        {
+            return 0;
+        }
+
+        long rank = (long)Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count);
+        if(rank == 0)
+        {
+            rank = 1;
+        }
+
+        long n = 0;
+        for(int i = 0; i < _counts.length; ++i)
+        {
+            n += _counts[i];
+            if(n >= rank)
+            {
+                return Math.max(min, Math.min(max, _values[i]));
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String
+    toString()
+    {
+        StringBuilder s = new StringBuilder();
+        s.append(id);
+        s.append(": count = ").append(count);
+        s.append(", min = ").append(min);
+        s.append(", mean = ").append(String.format("%.1f", mean));
+        s.append(", p50 = ").append(p50);
+        s.append(", p90 = ").append(p90);
+        s.append(", p99 = ").append(p99);
+        s.append(", p999 = ").append(p999);
+        s.append(", max = ").append(max);
+        return s.toString();
+    }
+
+    /** The metrics identifier. **/
+    public final String id;
+
+    /** The number of recorded latencies. **/
+    public final long count;
+
+    /** The minimum latency in microseconds. **/
+    public final long min;
+
+    /** The maximum latency in microseconds. **/
+    public final long max;
+
+    /** The mean latency in microseconds. **/
+    public final double mean;
+
+    /** The median latency in microseconds. **/
+    public final long p50;
+
+    /** The 90th percentile latency in microseconds. **/
+    public final long p90;
+
+    /** The 99th percentile latency in microseconds. **/
+    public final long p99;
+
+    /** The 99.9th percentile latency in microseconds. **/
+    public final long p999;
+
+    private final long[] _values; // The highest value of each non-empty bucket, in ascending order.
+    private final long[] _counts;
+}
@@ -0,0 +1,61 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceStats;
+
+/**
+ * The statistics of the locator cache of a locator, see the Ice.LocatorCache.MaxSize
+ * and Ice.LocatorCache.RefreshAhead properties. The counts are cumulative since the
+ * creation of the cache.
+ **/
+public class LocatorCacheStats
+{
+    public LocatorCacheStats(String locator, long hits, long misses, long refreshes, long evictions,
+                             int adapterEntries, int objectEntries)
+    {
+        this.locator = locator;
+        this.hits = hits;
+        this.misses = misses;
+        this.refreshes = refreshes;
+        this.evictions = evictions;
+        this.adapterEntries = adapterEntries;
+        this.objectEntries = objectEntries;
+    }
+
+    @Override
+    public String
+    toString()
+    {
+        StringBuilder s = new StringBuilder();
+        s.append(locator);
+        s.append(": hits = ").append(hits);
+        s.append(", misses = ").append(misses);
+        s.append(", refreshes = ").append(refreshes);
+        s.append(", evictions = ").append(evictions);
+        s.append(", adapter entries = ").append(adapterEntries);
+        s.append(", object entries = ").append(objectEntries);
+        return s.toString();
+    }
+
+    /** The identity of the locator. **/
+    public final String locator;
+
+    /** The number of lookups which found a valid entry. **/
+    public final long hits;
+
+    /** The number of lookups which didn't find an entry or found an expired entry. **/
+    public final long misses;
+
+    /** The number of entries refreshed before they expired. **/
+    public final long refreshes;
+
+    /** The number of least recently used entries evicted from the cache. **/
+    public final long evictions;
+
+    /** The number of cached adapter endpoints. **/
+    public final int adapterEntries;
+
+    /** The number of cached well-known object references. **/
+    public final int objectEntries;
+}
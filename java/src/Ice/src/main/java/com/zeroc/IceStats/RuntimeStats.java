@@ -0,0 +1,79 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceStats;
+
+/**
+ * Provides the statistics of the Ice run time which aren't part of the IceMX
+ * metrics: latency histograms, adaptive thread pool decisions, endpoint balancing,
+ * locator cache, endpoint host resolver and buffer pool statistics.
+ * <p>
+ * The statistics are local to the communicator: they are implemented by the
+ * Metrics admin facet but they aren't part of its Slice interface and can't be
+ * retrieved remotely. To get them, enable the Ice administrative facility (for
+ * example with <code>Ice.Admin.Enabled=1</code>) and cast the Metrics facet:
+ * <pre>
+ * RuntimeStats stats = (RuntimeStats)communicator.findAdminFacet("Metrics");
+ * </pre>
+ **/
+public interface RuntimeStats
+{
+    /**
+     * Returns the latency histogram snapshots of a metrics map. The histograms are
+     * enabled with the <code>IceMX.Metrics.&lt;view&gt;.Histogram</code> property.
+     * The histograms of a sub-map are returned with the &lt;map&gt;.&lt;sub-map&gt;
+     * name (for example Invocation.Remote), the identifier of these snapshots is
+     * &lt;metrics id&gt;/&lt;sub-map metrics id&gt;.
+     *
+     * @param viewName The name of the metrics view.
+     * @param mapName The name of the metrics map.
+     * @param reset If true, the histograms are reset after the snapshots are taken.
+     * @return The snapshots, empty if the map doesn't exist or has no histograms.
+     * @throws com.zeroc.IceMX.UnknownMetricsView Raised if the metrics view cannot be found.
+     **/
+    LatencySnapshot[] getLatencySnapshots(String viewName, String mapName, boolean reset)
+        throws com.zeroc.IceMX.UnknownMetricsView;
+
+    /**
+     * Returns the last decision of each adaptive thread pool, see the
+     * <code>ThreadPool.&lt;name&gt;.Adaptive</code> property.
+     *
+     * @return The decisions, sorted by thread pool name.
+     **/
+    ThreadPoolSizing[] getThreadPoolSizing();
+
+    /**
+     * Returns the statistics used by the endpoint balancing policies, see the
+     * EndpointBalancing proxy property. The statistics are the last snapshot of
+     * the endpoints with outgoing connections, taken at most once per second
+     * when a proxy with an endpoint balancing policy is used.
+     *
+     * @return The statistics, sorted by endpoint.
+     **/
+    EndpointStats[] getEndpointStats();
+
+    /**
+     * Returns the statistics of the locator cache of each locator, see the
+     * <code>Ice.LocatorCache.*</code> properties.
+     *
+     * @return The statistics of each locator cache.
+     **/
+    LocatorCacheStats[] getLocatorCacheStats();
+
+    /**
+     * Returns the statistics of the endpoint host resolver, see the
+     * <code>Ice.HostResolver.*</code> properties.
+     *
+     * @return The statistics of the host resolver.
+     **/
+    HostResolverStats getHostResolverStats();
+
+    /**
+     * Returns the statistics of the buffer pool, see the <code>Ice.BufferPool</code>
+     * property.
+     *
+     * @return The statistics of the buffer pool, or null if the buffer pool is disabled.
+     **/
+    BufferPoolStats getBufferPoolStats();
+}
@@ -0,0 +1,89 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceStats;
+
+/**
+ * A decision of the adaptive sizing policy of a thread pool, see the
+ * ThreadPool.<name>.Adaptive property. The decision is taken periodically
+ * from the statistics collected since the previous decision.
+ **/
+public class ThreadPoolSizing
+{
+    public ThreadPoolSizing(String threadPool, String decision, int size, int sizeMax, int sizeTarget, int threads,
+                            int inUsePeak, long waitCount, long waitMean, long waitMax, long dispatchCount,
+                            long dispatchMean, long interval)
+    {
+        this.threadPool = threadPool;
+        this.decision = decision;
+        this.size = size;
+        this.sizeMax = sizeMax;
+        this.sizeTarget = sizeTarget;
+        this.threads = threads;
+        this.inUsePeak = inUsePeak;
+        this.waitCount = waitCount;
+        this.waitMean = waitMean;
+        this.waitMax = waitMax;
+        this.dispatchCount = dispatchCount;
+        this.dispatchMean = dispatchMean;
+        this.interval = interval;
+    }
+
+    @Override
+    public String
+    toString()
+    {
+        StringBuilder s = new StringBuilder();
+        s.append(threadPool).append(": ").append(decision);
+        s.append(", maximum size = ").append(sizeTarget);
+        s.append(" (").append(size).append("-").append(sizeMax).append(")");
+        s.append(", threads = ").append(threads);
+        s.append(", peak in use = ").append(inUsePeak);
+        s.append(", waits = ").append(waitCount);
+        s.append(", mean wait = ").append(waitMean);
+        s.append(", max wait = ").append(waitMax);
+        s.append(", dispatches = ").append(dispatchCount);
+        s.append(", mean dispatch = ").append(dispatchMean);
+        return s.toString();
+    }
+
+    /** The thread pool name. **/
+    public final String threadPool;
+
+    /** The decision: grow, shrink or keep. **/
+    public final String decision;
+
+    /** The minimum number of threads (ThreadPool.<name>.Size). **/
+    public final int size;
+
+    /** The upper bound of the maximum number of threads (ThreadPool.<name>.SizeMax). **/
+    public final int sizeMax;
+
+    /** The maximum number of threads set by the decision. **/
+    public final int sizeTarget;
+
+    /** The number of threads of the thread pool. **/
+    public final int threads;
+
+    /** The peak number of threads in use during the interval. **/
+    public final int inUsePeak;
+
+    /** The number of ready connections and work items which waited for a thread during the interval. **/
+    public final long waitCount;
+
+    /** The mean wait for a thread in microseconds. **/
+    public final long waitMean;
+
+    /** The maximum wait for a thread in microseconds. **/
+    public final long waitMax;
+
+    /** The number of dispatches completed during the interval. **/
+    public final long dispatchCount;
+
+    /** The mean duration of the dispatches in microseconds. **/
+    public final long dispatchMean;
+
+    /** The duration of the interval in milliseconds. **/
+    public final long interval;
+}
@@ -0,0 +1,20 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package com.zeroc.IceStats;
+
+/**
+ * A communicator observer which implements this interface is notified of the
+ * decisions of the adaptive thread pools, see the ThreadPool.<name>.Adaptive
+ * property.
+ **/
+public interface ThreadPoolSizingObserver
+{
+    /**
+     * Called periodically by each adaptive thread pool with its last decision.
+     *
+     * @param sizing The decision and the statistics it is based on.
+     **/
+    void sizingChanged(ThreadPoolSizing sizing);
+}
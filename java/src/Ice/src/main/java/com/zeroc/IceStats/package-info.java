@@ -0,0 +1,9 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+/**
+ * Ice run time statistics APIs, see {@link com.zeroc.IceStats.RuntimeStats}. Unlike the
+ * IceMX metrics, these statistics are only available locally.
+ **/
+package com.zeroc.IceStats;
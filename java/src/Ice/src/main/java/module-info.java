@@ -6,6 +6,7 @@ module com.zeroc.ice {
     exports com.zeroc.Ice;
     exports com.zeroc.Ice.Instrumentation;
     exports com.zeroc.IceMX;
+    exports com.zeroc.IceStats;
     exports com.zeroc.IceInternal;
     exports com.zeroc.IceUtilInternal to com.zeroc.icebox;
 }
@@ -178,7 +178,25 @@ final class TransceiverI implements com.zeroc.IceInternal.Transceiver
             return _delegate.write(buf);
         }
 
-        int status = writeNonBlocking(buf.b);
+        int status = writeNonBlocking(new ByteBuffer[] { buf.b });
+        assert(status == SocketOperation.None || status == SocketOperation.Write);
+        return status;
+    }
+
+    @Override
+    public int write(com.zeroc.IceInternal.Buffer[] bufs)
+    {
+        if(!_isConnected)
+        {
+            return _delegate.write(bufs);
+        }
+
+        ByteBuffer[] b = new ByteBuffer[bufs.length];
+        for(int i = 0; i < bufs.length; ++i)
+        {
+            b[i] = bufs[i].b;
+        }
+        int status = writeNonBlocking(b);
         assert(status == SocketOperation.None || status == SocketOperation.Write);
         return status;
     }
@@ -451,23 +469,36 @@ final class TransceiverI implements com.zeroc.IceInternal.Transceiver
         return SocketOperation.None;
     }
 
-    private int writeNonBlocking(ByteBuffer buf)
+    private int writeNonBlocking(ByteBuffer[] bufs)
     {
         //
-        // This method has two purposes: encrypt the application's message buffer into our
+        // This method has two purposes: encrypt the application's message buffers into our
         // _netOutput buffer, and write the contents of _netOutput to the socket without
         // blocking.
         //
+        // The engine encrypts data from several buffers into the same SSL records, small
+        // messages are therefore batched into a single record and a single socket write.
+        //
+        int offset = 0;
         try
         {
-            while(buf.hasRemaining() || _netOutput.b.position() > 0)
+            while(true)
             {
-                if(buf.hasRemaining())
+                while(offset < bufs.length && !bufs[offset].hasRemaining())
+                {
+                    ++offset;
+                }
+                if(offset == bufs.length && _netOutput.b.position() == 0)
+                {
+                    break;
+                }
+
+                if(offset < bufs.length)
                 {
                     //
-                    // Encrypt the buffer.
+                    // Encrypt the buffers.
                     //
-                    SSLEngineResult result = _engine.wrap(buf, _netOutput.b);
+                    SSLEngineResult result = _engine.wrap(bufs, offset, bufs.length - offset, _netOutput.b);
                     switch(result.getStatus())
                     {
                     case BUFFER_OVERFLOW:
@@ -481,6 +512,14 @@ final class TransceiverI implements com.zeroc.IceInternal.Transceiver
                     case CLOSED:
                         throw new com.zeroc.Ice.ConnectionLostException();
                     case OK:
+                        //
+                        // If there's more data to encrypt, keep filling _netOutput.b before
+                        // writing to the socket.
+                        //
+                        if(result.bytesConsumed() > 0 && bufs[bufs.length - 1].hasRemaining())
+                        {
+                            continue;
+                        }
                         break;
                     }
                 }
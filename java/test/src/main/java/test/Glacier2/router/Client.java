@@ -346,6 +346,112 @@ public class Client extends test.TestHelper
                 out.println("ok");
             }
 
+            {
+                out.print("testing concurrent proxy registration... ");
+                out.flush();
+
+                //
+                // The router's communicator and the client's communicator don't use the
+                // Glacier2 router. Retries are disabled to get the addProxies failures.
+                //
+                com.zeroc.Ice.Properties props = communicator.getProperties()._clone();
+                props.setProperty("Ice.RetryIntervals", "-1");
+                try(com.zeroc.Ice.Communicator routerCommunicator = initialize(props._clone());
+                    com.zeroc.Ice.Communicator clientCommunicator = initialize(props))
+                {
+                    routerCommunicator.getProperties().setProperty("RouterAdapter.Endpoints", getTestEndpoint(1));
+                    com.zeroc.Ice.ObjectAdapter routerAdapter = routerCommunicator.createObjectAdapter("RouterAdapter");
+                    RouterI routerImpl = new RouterI();
+                    routerAdapter.add(routerImpl, com.zeroc.Ice.Util.stringToIdentity("router"));
+                    RouterI failingRouterImpl = new RouterI();
+                    routerAdapter.add(failingRouterImpl, com.zeroc.Ice.Util.stringToIdentity("failingRouter"));
+                    routerAdapter.addDefaultServant(new CallbackI(), "");
+                    routerAdapter.activate();
+
+                    final int count = 100;
+                    com.zeroc.Ice.RouterPrx testRouter = com.zeroc.Ice.RouterPrx.uncheckedCast(
+                        clientCommunicator.stringToProxy("router:" + getTestEndpoint(1)));
+
+                    //
+                    // Hold the first addProxies call, the proxies added in the meantime are
+                    // sent together once it completes. Each identity is added twice, the
+                    // invocations on the same identity wait for the same registration.
+                    //
+                    routerImpl.hold();
+                    java.util.List<java.util.concurrent.CompletableFuture<Void>> results = new java.util.ArrayList<>();
+                    results.add(clientCommunicator.stringToProxy("first").ice_router(testRouter).ice_pingAsync());
+                    routerImpl.waitForCalls(1);
+                    for(int i = 0; i < count; ++i)
+                    {
+                        com.zeroc.Ice.ObjectPrx p =
+                            clientCommunicator.stringToProxy("object" + i).ice_router(testRouter);
+                        results.add(p.ice_pingAsync());
+                        results.add(p.ice_pingAsync());
+                    }
+                    Thread.sleep(200);
+                    routerImpl.release(false);
+                    for(java.util.concurrent.CompletableFuture<Void> r : results)
+                    {
+                        r.join();
+                    }
+                    test(routerImpl.calls() > 1 && routerImpl.calls() <= count / 10);
+                    test(routerImpl.identities() == count + 1);
+                    test(routerImpl.proxies() == count + 1);
+
+                    //
+                    // The registered proxies aren't added again.
+                    //
+                    int calls = routerImpl.calls();
+                    clientCommunicator.stringToProxy("object0").ice_router(testRouter).ice_ping();
+                    test(routerImpl.calls() == calls);
+
+                    //
+                    // A failed addProxies call fails all the invocations waiting for it.
+                    //
+                    com.zeroc.Ice.RouterPrx failingRouter = com.zeroc.Ice.RouterPrx.uncheckedCast(
+                        clientCommunicator.stringToProxy("failingRouter:" + getTestEndpoint(1)));
+                    failingRouterImpl.hold();
+                    results.clear();
+                    results.add(clientCommunicator.stringToProxy("first").ice_router(failingRouter).ice_pingAsync());
+                    failingRouterImpl.waitForCalls(1);
+                    for(int i = 0; i < count; ++i)
+                    {
+                        com.zeroc.Ice.ObjectPrx p =
+                            clientCommunicator.stringToProxy("object" + i).ice_router(failingRouter);
+                        results.add(p.ice_pingAsync());
+                        results.add(p.ice_pingAsync());
+                    }
+                    Thread.sleep(200);
+                    failingRouterImpl.release(true);
+                    for(java.util.concurrent.CompletableFuture<Void> r : results)
+                    {
+                        try
+                        {
+                            r.join();
+                            test(false);
+                        }
+                        catch(java.util.concurrent.CompletionException ex)
+                        {
+                            test(ex.getCause() instanceof com.zeroc.Ice.UnknownException);
+                        }
+                    }
+                    test(failingRouterImpl.calls() > 1 && failingRouterImpl.calls() <= count / 10);
+
+                    //
+                    // The proxies of the failed calls are added again by the next invocations.
+                    //
+                    failingRouterImpl.release(false);
+                    calls = failingRouterImpl.calls();
+                    clientCommunicator.stringToProxy("object0").ice_router(failingRouter).ice_ping();
+                    test(failingRouterImpl.calls() == calls + 1);
+                }
+                catch(InterruptedException ex)
+                {
+                    test(false);
+                }
+                out.println("ok");
+            }
+
             boolean shutdown = Stream.of(args).anyMatch(v -> v.equals("--shutdown"));
             if(shutdown)
             {
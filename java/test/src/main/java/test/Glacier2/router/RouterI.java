@@ -0,0 +1,105 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Glacier2.router;
+
+//
+// A router without Glacier2 which records the addProxies calls, and can
+// hold them or fail them.
+//
+final class RouterI implements com.zeroc.Ice.Router
+{
+    RouterI()
+    {
+    }
+
+    @Override
+    public com.zeroc.Ice.Router.GetClientProxyResult getClientProxy(com.zeroc.Ice.Current current)
+    {
+        return new com.zeroc.Ice.Router.GetClientProxyResult(null, java.util.Optional.of(true));
+    }
+
+    @Override
+    public com.zeroc.Ice.ObjectPrx getServerProxy(com.zeroc.Ice.Current current)
+    {
+        return null;
+    }
+
+    @Override
+    public synchronized com.zeroc.Ice.ObjectPrx[] addProxies(com.zeroc.Ice.ObjectPrx[] proxies,
+                                                             com.zeroc.Ice.Current current)
+    {
+        ++_calls;
+        for(com.zeroc.Ice.ObjectPrx proxy : proxies)
+        {
+            _identities.add(proxy.ice_getIdentity());
+            ++_proxies;
+        }
+        notifyAll();
+
+        while(_hold)
+        {
+            try
+            {
+                wait();
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+
+        if(_fail)
+        {
+            throw new com.zeroc.Ice.UnknownException("addProxies failed");
+        }
+        return new com.zeroc.Ice.ObjectPrx[0];
+    }
+
+    synchronized void hold()
+    {
+        _hold = true;
+    }
+
+    synchronized void release(boolean fail)
+    {
+        _hold = false;
+        _fail = fail;
+        notifyAll();
+    }
+
+    synchronized void waitForCalls(int calls)
+    {
+        while(_calls < calls)
+        {
+            try
+            {
+                wait();
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+    }
+
+    synchronized int calls()
+    {
+        return _calls;
+    }
+
+    synchronized int proxies()
+    {
+        return _proxies;
+    }
+
+    synchronized int identities()
+    {
+        return _identities.size();
+    }
+
+    private int _calls;
+    private int _proxies;
+    private java.util.Set<com.zeroc.Ice.Identity> _identities = new java.util.HashSet<>();
+    private boolean _hold;
+    private boolean _fail;
+}
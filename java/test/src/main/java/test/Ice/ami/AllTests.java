@@ -13,6 +13,7 @@ import java.util.concurrent.ExecutionException;
 import com.zeroc.Ice.InvocationFuture;
 import com.zeroc.Ice.Util;
 import com.zeroc.Ice.CompressBatch;
+import com.zeroc.IceInternal.IntMap;
 
 import test.Ice.ami.Test.CloseMode;
 import test.Ice.ami.Test.TestIntfPrx;
@@ -132,6 +133,127 @@ public class AllTests
         }
     }
 
+    //
+    // Checks the map of the pending requests of a connection, an open addressing map with
+    // primitive int keys. The request ids wrap back to 1 after Integer.MAX_VALUE.
+    //
+    private static void testRequestTable(PrintWriter out)
+    {
+        out.print("testing request table... ");
+        out.flush();
+        {
+            //
+            // A cluster which wraps around the end of the table: the keys whose home slot is
+            // the last slot of the table are stored at the beginning of the table.
+            //
+            IntMap<Integer> map = new IntMap<>();
+            final int mask = 15; // The capacity of a new map is 16.
+            java.util.List<Integer> keys = new java.util.ArrayList<>();
+            for(int key = Integer.MAX_VALUE; keys.size() < 3; --key)
+            {
+                if(home(key, mask) == mask)
+                {
+                    keys.add(key);
+                }
+            }
+            for(int key = 1; keys.size() < 5; ++key)
+            {
+                if(home(key, mask) == 0)
+                {
+                    keys.add(key);
+                }
+            }
+            for(int key : keys)
+            {
+                test(map.put(key, key) == null);
+            }
+            test(map.size() == 5);
+
+            //
+            // Removing the first keys shifts back the following keys of the cluster across
+            // the end of the table, they must still be found.
+            //
+            test(keys.get(0).equals(map.remove(keys.get(0))));
+            test(map.get(keys.get(0)) == null);
+            for(int i = 1; i < keys.size(); ++i)
+            {
+                test(keys.get(i).equals(map.get(keys.get(i))));
+            }
+            test(keys.get(3).equals(map.remove(keys.get(3))));
+            for(int i : new int[] { 1, 2, 4 })
+            {
+                test(keys.get(i).equals(map.get(keys.get(i))));
+            }
+            test(map.put(keys.get(0), keys.get(0)) == null);
+            test(map.put(keys.get(3), keys.get(3)) == null);
+
+            //
+            // Growing the table rehashes the wrapped cluster.
+            //
+            for(int key = 1000; map.size() < 40; ++key)
+            {
+                map.put(key, key);
+            }
+            for(int key : keys)
+            {
+                test(map.get(key) == key);
+            }
+            for(int key = 1000; key < 1035; ++key)
+            {
+                test(map.get(key) == key);
+            }
+            for(int key : keys)
+            {
+                test(map.remove(key) == key);
+                test(!map.containsKey(key));
+            }
+            test(map.size() == 35);
+        }
+        {
+            //
+            // Random insertions and removals in a small table compared with a HashMap, with
+            // keys around the wrap of the request ids.
+            //
+            IntMap<Integer> map = new IntMap<>();
+            java.util.Map<Integer, Integer> expected = new java.util.HashMap<>();
+            java.util.Random random = new java.util.Random(42);
+            for(int i = 0; i < 100000; ++i)
+            {
+                int key = random.nextInt(64);
+                key = key < 32 ? Integer.MAX_VALUE - key : key - 31;
+                if(random.nextInt(3) == 0)
+                {
+                    test(java.util.Objects.equals(map.remove(key), expected.remove(key)));
+                }
+                else
+                {
+                    test(java.util.Objects.equals(map.put(key, i), expected.put(key, i)));
+                }
+                test(map.size() == expected.size());
+                if(i % 1000 == 0)
+                {
+                    for(int k = -1; k < 64; ++k)
+                    {
+                        int n = k < 32 ? Integer.MAX_VALUE - k : k - 31;
+                        test(java.util.Objects.equals(map.get(n), expected.get(n)));
+                    }
+                }
+            }
+            map.clear();
+            test(map.isEmpty() && map.get(1) == null);
+        }
+        out.println("ok");
+    }
+
+    //
+    // The home slot of a key in an IntMap table with the given mask.
+    //
+    private static int home(int key, int mask)
+    {
+        final int h = key * 0x9e3779b9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
     public static void allTests(test.TestHelper helper, boolean collocated)
     {
         com.zeroc.Ice.Communicator communicator = helper.communicator();
@@ -1053,8 +1175,115 @@ public class AllTests
                 }
             }
             out.println("ok");
+
+            out.print("testing concurrent requests on a single connection... ");
+            out.flush();
+            {
+                //
+                // Many threads send requests over the same connection, each reply is matched
+                // with its request.
+                //
+                final TestIntfPrx mp = p.ice_connectionId("Multiplex");
+                final com.zeroc.Ice.Connection con = mp.ice_getConnection();
+                final int nThreads = 8;
+                final int count = 200;
+                java.util.Queue<Throwable> errors = new java.util.concurrent.ConcurrentLinkedQueue<>();
+                java.util.List<Thread> threads = new java.util.ArrayList<>();
+                for(int t = 0; t < nThreads; ++t)
+                {
+                    final int base = t * count;
+                    threads.add(new Thread(() ->
+                        {
+                            try
+                            {
+                                java.util.List<CompletableFuture<Integer>> results = new java.util.ArrayList<>();
+                                for(int i = 0; i < count; ++i)
+                                {
+                                    if(i % 2 == 0)
+                                    {
+                                        test(mp.opInt(base + i) == base + i);
+                                    }
+                                    else
+                                    {
+                                        results.add(mp.opIntAsync(base + i));
+                                    }
+                                }
+                                for(int i = 0; i < results.size(); ++i)
+                                {
+                                    test(results.get(i).join() == base + 2 * i + 1);
+                                }
+                            }
+                            catch(Throwable ex)
+                            {
+                                errors.add(ex);
+                            }
+                        }));
+                }
+                for(Thread t : threads)
+                {
+                    t.start();
+                }
+                for(Thread t : threads)
+                {
+                    try
+                    {
+                        t.join();
+                    }
+                    catch(InterruptedException ex)
+                    {
+                        test(false);
+                    }
+                }
+                test(errors.isEmpty());
+                test(mp.ice_getConnection() == con);
+            }
+            out.println("ok");
+
+            out.print("testing canceled requests with replies in flight... ");
+            out.flush();
+            {
+                //
+                // The requests time out or are canceled after they were sent, their replies are
+                // received later and discarded. The connection isn't closed and the replies of
+                // the next requests are matched with their requests.
+                //
+                TestIntfPrx tp = p.ice_connectionId("Cancel");
+                com.zeroc.Ice.Connection con = tp.ice_getConnection();
+                for(int i = 0; i < 10; ++i)
+                {
+                    CompletableFuture<Void> timedOut = tp.ice_invocationTimeout(20).sleepAsync(100);
+                    CompletableFuture<Void> canceled = tp.sleepAsync(100);
+                    Util.getInvocationFuture(canceled).waitForSent();
+                    canceled.cancel(false);
+                    CompletableFuture<Integer> r = tp.opIntAsync(i);
+
+                    try
+                    {
+                        timedOut.join();
+                        test(false);
+                    }
+                    catch(CompletionException ex)
+                    {
+                        test(ex.getCause() instanceof com.zeroc.Ice.InvocationTimeoutException);
+                    }
+                    try
+                    {
+                        canceled.join();
+                        test(false);
+                    }
+                    catch(CancellationException ex)
+                    {
+                    }
+                    test(r.join() == i);
+                    test(tp.opInt(i) == i);
+                }
+                test(tp.ice_getConnection() == con);
+            }
+            out.println("ok");
         }
 
+        testRequestTable(out);
+
         out.print("testing ice_executor... ");
         out.flush();
         {
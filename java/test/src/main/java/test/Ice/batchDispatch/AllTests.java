@@ -0,0 +1,123 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.batchDispatch;
+
+import java.io.PrintWriter;
+
+import com.zeroc.Ice.ObjectPrx;
+import com.zeroc.Ice.OperationMode;
+
+//
+// Checks the dispatch of batch requests to a servant implementing BatchDispatch: the
+// consecutive requests for the same target and operation are dispatched with a single
+// call, the other requests are dispatched one by one, in order.
+//
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static void allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        //
+        // Batch dispatch doesn't apply to collocated invocations, the requests are sent over
+        // a connection. The adapter thread pool has a single thread, the requests are
+        // dispatched in order.
+        //
+        BatchServantI servant = new BatchServantI();
+        com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter("TestAdapter");
+        ObjectPrx batch = adapter.add(servant, com.zeroc.Ice.Util.stringToIdentity("servant"));
+        adapter.activate();
+        batch = batch.ice_collocationOptimized(false).ice_batchOneway();
+
+        out.print("testing batch dispatch... ");
+        out.flush();
+        {
+            for(int i = 0; i < 10; ++i)
+            {
+                invoke(batch, "report", i);
+            }
+            batch.ice_flushBatchRequests();
+            test(servant.waitForDispatches(1).equals(java.util.Arrays.asList("batch:report:0,1,2,3,4,5,6,7,8,9")));
+        }
+        out.println("ok");
+
+        out.print("testing batch dispatch with other operations... ");
+        out.flush();
+        {
+            //
+            // The requests are dispatched in order, only the consecutive requests of a batch
+            // operation are dispatched together.
+            //
+            invoke(batch, "report", 0);
+            invoke(batch, "report", 1);
+            invoke(batch, "report", 2);
+            invoke(batch, "other", 3);
+            invoke(batch, "other", 4);
+            invoke(batch, "report", 5);
+            invoke(batch, "other", 6);
+            invoke(batch, "report", 7);
+            invoke(batch, "report", 8);
+            batch.ice_flushBatchRequests();
+            test(servant.waitForDispatches(6).equals(java.util.Arrays.asList("batch:report:0,1,2",
+                                                                             "other:3",
+                                                                             "other:4",
+                                                                             "report:5",
+                                                                             "other:6",
+                                                                             "batch:report:7,8")));
+
+            //
+            // A batch with a single request is dispatched as usual.
+            //
+            invoke(batch, "report", 9);
+            batch.ice_flushBatchRequests();
+            test(servant.waitForDispatches(1).equals(java.util.Arrays.asList("report:9")));
+        }
+        out.println("ok");
+
+        out.print("testing batch dispatch with several identities... ");
+        out.flush();
+        {
+            adapter.add(servant, com.zeroc.Ice.Util.stringToIdentity("servant2"));
+            ObjectPrx batch2 = batch.ice_identity(com.zeroc.Ice.Util.stringToIdentity("servant2"));
+            test(batch2.ice_getConnection() == batch.ice_getConnection());
+
+            //
+            // The requests for different identities are queued with the connection batch
+            // queue, they are dispatched with a call per identity.
+            //
+            com.zeroc.Ice.Connection connection = batch.ice_getConnection();
+            ObjectPrx fixed1 = batch.ice_fixed(connection);
+            ObjectPrx fixed2 = batch2.ice_fixed(connection);
+            invoke(fixed1, "report", 0);
+            invoke(fixed1, "report", 1);
+            invoke(fixed2, "report", 2);
+            invoke(fixed2, "report", 3);
+            connection.flushBatchRequests(com.zeroc.Ice.CompressBatch.BasedOnProxy);
+            test(servant.waitForDispatches(2).equals(java.util.Arrays.asList("batch:report:0,1",
+                                                                             "batch:report:2,3")));
+        }
+        out.println("ok");
+
+        adapter.destroy();
+    }
+
+    private static void invoke(ObjectPrx proxy, String operation, int value)
+    {
+        com.zeroc.Ice.OutputStream os = new com.zeroc.Ice.OutputStream(proxy.ice_getCommunicator());
+        os.startEncapsulation();
+        os.writeInt(value);
+        os.endEncapsulation();
+        test(proxy.ice_invoke(operation, OperationMode.Normal, os.finished()).returnValue);
+    }
+}
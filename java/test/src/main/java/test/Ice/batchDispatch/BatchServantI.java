@@ -0,0 +1,94 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.batchDispatch;
+
+import com.zeroc.Ice.BatchDispatch;
+import com.zeroc.Ice.Current;
+
+//
+// Records the dispatches: "batch:<operation>:<values>" for ice_invokeBatch and
+// "<operation>:<value>" for the regular dispatches, the value is the int parameter
+// of the request.
+//
+class BatchServantI implements com.zeroc.Ice.Blobject, BatchDispatch
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    @Override
+    public boolean ice_isBatchOperation(String operation)
+    {
+        return operation.equals("report");
+    }
+
+    @Override
+    public void ice_invokeBatch(java.util.List<BatchDispatch.Request> requests)
+    {
+        test(requests.size() > 1);
+        Current first = requests.get(0).current;
+        StringBuilder sb = new StringBuilder("batch:" + first.operation + ":");
+        for(BatchDispatch.Request r : requests)
+        {
+            test(r.current.operation.equals(first.operation));
+            test(r.current.id.equals(first.id));
+            test(r.current.requestId == 0);
+            if(r != requests.get(0))
+            {
+                sb.append(',');
+            }
+            sb.append(readValue(r.inEncaps, r.current));
+        }
+        add(sb.toString());
+    }
+
+    @Override
+    public com.zeroc.Ice.Object.Ice_invokeResult ice_invoke(byte[] inEncaps, Current current)
+    {
+        add(current.operation + ":" + readValue(inEncaps, current));
+        return new com.zeroc.Ice.Object.Ice_invokeResult(true, null);
+    }
+
+    synchronized java.util.List<String> waitForDispatches(int count)
+    {
+        long end = System.currentTimeMillis() + 10000;
+        while(_dispatches.size() < count)
+        {
+            long delay = end - System.currentTimeMillis();
+            test(delay > 0);
+            try
+            {
+                wait(delay);
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+        java.util.List<String> dispatches = new java.util.ArrayList<>(_dispatches);
+        _dispatches.clear();
+        return dispatches;
+    }
+
+    private synchronized void add(String dispatch)
+    {
+        _dispatches.add(dispatch);
+        notifyAll();
+    }
+
+    private static int readValue(byte[] inEncaps, Current current)
+    {
+        com.zeroc.Ice.InputStream is = new com.zeroc.Ice.InputStream(current.adapter.getCommunicator(), inEncaps);
+        is.startEncapsulation();
+        int value = is.readInt();
+        is.endEncapsulation();
+        return value;
+    }
+
+    private final java.util.List<String> _dispatches = new java.util.ArrayList<>();
+}
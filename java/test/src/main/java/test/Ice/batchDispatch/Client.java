@@ -0,0 +1,20 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.batchDispatch;
+
+public class Client extends test.TestHelper
+{
+    @Override
+    public void run(String[] args)
+    {
+        com.zeroc.Ice.Properties properties = createTestProperties(args);
+        properties.setProperty("TestAdapter.Endpoints", getTestEndpoint(properties, 0));
+        properties.setProperty("TestAdapter.ThreadPool.Size", "1");
+        try(com.zeroc.Ice.Communicator communicator = initialize(properties))
+        {
+            AllTests.allTests(this);
+        }
+    }
+}
@@ -13,6 +13,8 @@ import test.Ice.binding.Test.TestIntfPrx;
 import com.zeroc.Ice.ConnectionClose;
 import com.zeroc.Ice.Endpoint;
 import com.zeroc.Ice.EndpointSelectionType;
+import com.zeroc.IceStats.HostResolverStats;
+import com.zeroc.IceStats.RuntimeStats;
 
 public class AllTests
 {
@@ -42,6 +44,36 @@ public class AllTests
         return test.ice_endpoints(endpoints.toArray(new Endpoint[endpoints.size()]));
     }
 
+    private static void setEndpointWeights(com.zeroc.Ice.Properties properties,
+                                           java.util.List<RemoteObjectAdapterPrx> adapters, int[] weights)
+    {
+        for(int i = 0; i < adapters.size(); ++i)
+        {
+            for(Endpoint e : adapters.get(i).getTestIntf().ice_getEndpoints())
+            {
+                com.zeroc.Ice.EndpointInfo info = e.getInfo();
+                while(info != null && !(info instanceof com.zeroc.Ice.IPEndpointInfo))
+                {
+                    info = info.underlying;
+                }
+                test(info != null);
+                com.zeroc.Ice.IPEndpointInfo ipInfo = (com.zeroc.Ice.IPEndpointInfo)info;
+                properties.setProperty("Ice.EndpointWeight." + ipInfo.host + ":" + ipInfo.port,
+                                       Integer.toString(weights[i]));
+            }
+        }
+    }
+
+    private static java.util.Map<String, Integer> countAdapterNames(TestIntfPrx test, int nCalls)
+    {
+        java.util.Map<String, Integer> counts = new java.util.HashMap<>();
+        for(int i = 0; i < nCalls; ++i)
+        {
+            counts.merge(test.getAdapterName(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
     private static void deactivate(RemoteCommunicatorPrx communicator, java.util.List<RemoteObjectAdapterPrx> adapters)
     {
         for(RemoteObjectAdapterPrx p : adapters)
@@ -50,6 +82,16 @@ public class AllTests
         }
     }
 
+    private static com.zeroc.Ice.Communicator createResolverClient(test.TestHelper helper, String cacheTTL)
+    {
+        com.zeroc.Ice.Properties properties = helper.communicator().getProperties()._clone();
+        properties.setProperty("Ice.HostResolver.CacheTTL", cacheTTL);
+        properties.setProperty("Ice.HostResolver.NegativeCacheTTL", cacheTTL);
+        properties.setProperty("Ice.Admin.Enabled", "1");
+        properties.setProperty("Ice.RetryIntervals", "-1"); // Each invocation resolves the host once.
+        return helper.initialize(properties);
+    }
+
     public static void allTests(test.TestHelper helper)
     {
         com.zeroc.Ice.Communicator communicator = helper.communicator();
@@ -374,6 +416,86 @@ public class AllTests
         }
         out.println("ok");
 
+        out.print("testing endpoint balancing... ");
+        out.flush();
+        {
+            java.util.List<RemoteObjectAdapterPrx> adapters = new java.util.ArrayList<>();
+            adapters.add(rcom.createObjectAdapter("AdapterBalancing1", "default"));
+            adapters.add(rcom.createObjectAdapter("AdapterBalancing2", "default"));
+            adapters.add(rcom.createObjectAdapter("AdapterBalancing3", "default"));
+
+            com.zeroc.Ice.Properties properties = communicator.getProperties();
+            properties.setProperty("Balanced", communicator.proxyToString(createTestIntfPrx(adapters)));
+            properties.setProperty("Balanced.ConnectionCached", "0");
+            final int nCalls = 300;
+
+            //
+            // The first adapter has the weight 1, the second the weight 3 and the third the
+            // weight 0, it's never used since the other adapters are available.
+            //
+            setEndpointWeights(properties, adapters, new int[] { 1, 3, 0 });
+            properties.setProperty("Balanced.EndpointBalancing", "Weighted");
+            TestIntfPrx test = TestIntfPrx.uncheckedCast(communicator.propertyToProxy("Balanced"));
+            test(communicator.proxyToProperty(test, "P").get("P.EndpointBalancing").equals("Weighted"));
+            java.util.Map<String, Integer> counts = countAdapterNames(test, nCalls);
+            test(!counts.containsKey("AdapterBalancing3"));
+            test(counts.getOrDefault("AdapterBalancing1", 0) > 0);
+            test(counts.getOrDefault("AdapterBalancing2", 0) > counts.get("AdapterBalancing1"));
+
+            //
+            // Weight updates apply to the next connection requests.
+            //
+            setEndpointWeights(properties, adapters, new int[] { 0, 0, 1 });
+            counts = countAdapterNames(test, nCalls);
+            test(counts.size() == 1 && counts.get("AdapterBalancing3") == nCalls);
+
+            //
+            // Without outstanding requests, the least outstanding policy picks the adapters
+            // randomly. They all get a fair share of the calls, including the adapters which
+            // already have a connection.
+            //
+            setEndpointWeights(properties, adapters, new int[] { 1, 1, 1 });
+            properties.setProperty("Balanced.EndpointBalancing", "LeastOutstanding");
+            test = TestIntfPrx.uncheckedCast(communicator.propertyToProxy("Balanced"));
+            test(communicator.proxyToProperty(test, "P").get("P.EndpointBalancing").equals("LeastOutstanding"));
+            counts = countAdapterNames(test, nCalls);
+            test(counts.size() == 3);
+            for(int count : counts.values())
+            {
+                test(count > nCalls / 6);
+            }
+
+            //
+            // The latency policy tries first the fastest of two random endpoints: the calls are
+            // shared by the fastest endpoints rather than all sent to the same endpoint.
+            //
+            properties.setProperty("Balanced.EndpointBalancing", "Latency");
+            test = TestIntfPrx.uncheckedCast(communicator.propertyToProxy("Balanced"));
+            test(communicator.proxyToProperty(test, "P").get("P.EndpointBalancing").equals("Latency"));
+            counts = countAdapterNames(test, nCalls);
+            test(counts.size() >= 2);
+            for(int count : counts.values())
+            {
+                test(count < nCalls);
+            }
+
+            try
+            {
+                properties.setProperty("Balanced.EndpointBalancing", "Unknown");
+                communicator.propertyToProxy("Balanced");
+                test(false);
+            }
+            catch(com.zeroc.Ice.EndpointBalancingParseException ex)
+            {
+            }
+
+            properties.setProperty("Balanced", "");
+            properties.setProperty("Balanced.ConnectionCached", "");
+            properties.setProperty("Balanced.EndpointBalancing", "");
+            deactivate(rcom, adapters);
+        }
+        out.println("ok");
+
         out.print("testing random endpoint selection... ");
         out.flush();
         {
@@ -949,6 +1071,89 @@ public class AllTests
             out.println("ok");
         }
 
+        out.print("testing host resolver cache statistics... ");
+        out.flush();
+        {
+            //
+            // Textual IP addresses aren't resolved by the host resolver, the adapter endpoints
+            // use a host name.
+            //
+            RemoteObjectAdapterPrx adapter = rcom.createObjectAdapter("AdapterResolver", "default -h localhost");
+            String endpoints = adapter.getTestIntf().ice_getEndpoints()[0].toString();
+
+            try(com.zeroc.Ice.Communicator client = createResolverClient(helper, "60"))
+            {
+                RuntimeStats admin = (RuntimeStats)client.findAdminFacet("Metrics");
+                HostResolverStats stats = admin.getHostResolverStats();
+                test(stats.lookups == 0 && stats.coalesced == 0 && stats.cacheHits == 0);
+
+                //
+                // Each connection resolves the host, the first resolution looks up the host
+                // and the next ones use the cached addresses.
+                //
+                TestIntfPrx test = TestIntfPrx.uncheckedCast(client.stringToProxy("test:" + endpoints));
+                for(int i = 0; i < 5; ++i)
+                {
+                    test.ice_connectionId("c" + i).ice_ping();
+                }
+                stats = admin.getHostResolverStats();
+                test(stats.lookups == 1);
+                test(stats.coalesced == 0);
+                test(stats.cacheHits == 4);
+                test(stats.negativeCacheHits == 0);
+                test(stats.cacheEntries == 1);
+
+                //
+                // The DNS failures are cached too.
+                //
+                com.zeroc.Ice.ObjectPrx unknown = client.stringToProxy("test:default -h unknown.invalid -p 10000");
+                for(int i = 0; i < 3; ++i)
+                {
+                    try
+                    {
+                        unknown.ice_connectionId("c" + i).ice_ping();
+                        test(false);
+                    }
+                    catch(com.zeroc.Ice.DNSException ex)
+                    {
+                    }
+                }
+                stats = admin.getHostResolverStats();
+                test(stats.lookups == 2);
+                test(stats.cacheHits == 4);
+                test(stats.negativeCacheHits == 2);
+                test(stats.cacheEntries == 2);
+            }
+
+            //
+            // Without cache, the concurrent resolutions of the same host are either coalesced
+            // with a pending lookup or start a new lookup.
+            //
+            try(com.zeroc.Ice.Communicator client = createResolverClient(helper, "0"))
+            {
+                RuntimeStats admin = (RuntimeStats)client.findAdminFacet("Metrics");
+                TestIntfPrx test = TestIntfPrx.uncheckedCast(client.stringToProxy("test:" + endpoints));
+                java.util.List<java.util.concurrent.CompletableFuture<Void>> results = new java.util.ArrayList<>();
+                for(int i = 0; i < 20; ++i)
+                {
+                    results.add(test.ice_connectionId("c" + i).ice_pingAsync());
+                }
+                for(java.util.concurrent.CompletableFuture<Void> r : results)
+                {
+                    r.join();
+                }
+
+                HostResolverStats stats = admin.getHostResolverStats();
+                test(stats.lookups >= 1);
+                test(stats.lookups + stats.coalesced == 20);
+                test(stats.cacheHits == 0);
+                test(stats.cacheEntries == 0);
+            }
+
+            rcom.deactivateObjectAdapter(adapter);
+        }
+        out.println("ok");
+
         //
         // On Windows, the FD limit is very high and there's no way to limit the number of FDs
         // for the server so we don't run this test.
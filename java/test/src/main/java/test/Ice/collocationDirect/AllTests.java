@@ -0,0 +1,158 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.collocationDirect;
+
+import java.io.PrintWriter;
+
+import com.zeroc.Ice.ObjectAdapter;
+import com.zeroc.Ice.Util;
+
+import test.Ice.collocationDirect.Test.Point;
+import test.Ice.collocationDirect.Test.TestException;
+import test.Ice.collocationDirect.Test.TestIntfPrx;
+
+//
+// Checks the dispatch of collocated invocations without marshaling: the parameters are
+// passed by reference to the servant when Ice.CollocationDirect is enabled, see test.py
+// for the configurations.
+//
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static void allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+        final boolean direct = communicator.getProperties().getPropertyAsInt("Ice.CollocationDirect") > 0;
+
+        communicator.getProperties().setProperty("TestAdapter.Endpoints", helper.getTestEndpoint(0));
+        ObjectAdapter adapter = communicator.createObjectAdapter("TestAdapter");
+        TestIntfI servant = new TestIntfI();
+        InterceptorI interceptor = new InterceptorI(new TestIntfI());
+        TestIntfPrx prx = TestIntfPrx.uncheckedCast(adapter.add(servant, Util.stringToIdentity("direct")));
+        TestIntfPrx intercepted =
+            TestIntfPrx.uncheckedCast(adapter.add(interceptor, Util.stringToIdentity("intercepted")));
+        adapter.activate();
+
+        //
+        // The parameters are only passed by reference once the proxy caches its collocated
+        // request handler, the first invocation establishes it.
+        //
+        prx.ice_ping();
+        intercepted.ice_ping();
+
+        out.print("testing collocated dispatch parameter aliasing... ");
+        out.flush();
+        {
+            //
+            // The parameters are only shared with the servant with direct dispatch.
+            //
+            byte[] seq = new byte[] { 1, 2, 3 };
+            byte[] r = prx.echo(seq);
+            test((servant.lastSeq == seq) == direct);
+            test((r == seq) == direct);
+            test(java.util.Arrays.equals(r, seq));
+
+            Point p = new Point(1, 2);
+            Point q = prx.move(p, 10, 20);
+            test((servant.lastPoint == p) == direct);
+            test((q == p) == direct);
+            test(q.x == 11 && q.y == 22);
+            test(direct ? p.x == 11 && p.y == 22 : p.x == 1 && p.y == 2);
+        }
+        out.println("ok");
+
+        out.print("testing collocated dispatch user exception... ");
+        out.flush();
+        try
+        {
+            prx.fail("direct");
+            test(false);
+        }
+        catch(TestException ex)
+        {
+            test(ex.reason.equals("direct"));
+        }
+        out.println("ok");
+
+        out.print("testing collocated dispatch with marshaling... ");
+        out.flush();
+        {
+            //
+            // Asynchronous invocations are marshaled.
+            //
+            byte[] seq = new byte[] { 1, 2, 3 };
+            byte[] r = prx.echoAsync(seq).join();
+            test(servant.lastSeq != seq && java.util.Arrays.equals(servant.lastSeq, seq));
+            test(r != seq && java.util.Arrays.equals(r, seq));
+
+            //
+            // The servant doesn't implement the interface, the dispatch interceptor dispatches
+            // the marshaled request.
+            //
+            int count = interceptor.count;
+            Point p = new Point(1, 2);
+            Point q = intercepted.move(p, 10, 20);
+            test(interceptor.count == count + 1);
+            test(q != p);
+            test(p.x == 1 && p.y == 2);
+            test(q.x == 11 && q.y == 22);
+            try
+            {
+                intercepted.fail("intercepted");
+                test(false);
+            }
+            catch(TestException ex)
+            {
+                test(ex.reason.equals("intercepted"));
+            }
+
+            //
+            // Invocations on a proxy without collocation optimization go through a connection.
+            //
+            TestIntfPrx remote = prx.ice_collocationOptimized(false);
+            r = remote.echo(seq);
+            test(servant.lastSeq != seq && java.util.Arrays.equals(servant.lastSeq, seq));
+            test(r != seq && java.util.Arrays.equals(r, seq));
+        }
+        out.println("ok");
+
+        adapter.destroy();
+
+        out.print("testing collocated dispatch without Ice.CollocationDirect... ");
+        out.flush();
+        {
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.CollocationDirect", "0");
+            try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+            {
+                adapter = ic.createObjectAdapter("TestAdapter");
+                TestIntfI servant2 = new TestIntfI();
+                TestIntfPrx prx2 = TestIntfPrx.uncheckedCast(adapter.add(servant2, Util.stringToIdentity("test")));
+                adapter.activate();
+                prx2.ice_ping();
+
+                byte[] seq = new byte[] { 1, 2, 3 };
+                byte[] r = prx2.echo(seq);
+                test(servant2.lastSeq != seq && java.util.Arrays.equals(servant2.lastSeq, seq));
+                test(r != seq && java.util.Arrays.equals(r, seq));
+
+                Point p = new Point(1, 2);
+                Point q = prx2.move(p, 10, 20);
+                test(q != p);
+                test(p.x == 1 && p.y == 2);
+                test(q.x == 11 && q.y == 22);
+            }
+        }
+        out.println("ok");
+    }
+}
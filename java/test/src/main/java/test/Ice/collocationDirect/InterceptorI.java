@@ -0,0 +1,29 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.collocationDirect;
+
+import java.util.concurrent.CompletionStage;
+
+import com.zeroc.Ice.OutputStream;
+
+class InterceptorI extends com.zeroc.Ice.DispatchInterceptor
+{
+    InterceptorI(com.zeroc.Ice.Object servant)
+    {
+        _servant = servant;
+    }
+
+    @Override
+    public CompletionStage<OutputStream> dispatch(com.zeroc.Ice.Request request)
+        throws com.zeroc.Ice.UserException
+    {
+        ++count;
+        return _servant.ice_dispatch(request);
+    }
+
+    volatile int count;
+
+    private final com.zeroc.Ice.Object _servant;
+}
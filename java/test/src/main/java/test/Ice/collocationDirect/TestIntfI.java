@@ -0,0 +1,38 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.collocationDirect;
+
+import test.Ice.collocationDirect.Test.Point;
+import test.Ice.collocationDirect.Test.TestException;
+import test.Ice.collocationDirect.Test.TestIntf;
+
+class TestIntfI implements TestIntf
+{
+    @Override
+    public byte[] echo(byte[] seq, com.zeroc.Ice.Current current)
+    {
+        lastSeq = seq;
+        return seq;
+    }
+
+    @Override
+    public Point move(Point p, int dx, int dy, com.zeroc.Ice.Current current)
+    {
+        lastPoint = p;
+        p.x += dx;
+        p.y += dy;
+        return p;
+    }
+
+    @Override
+    public void fail(String reason, com.zeroc.Ice.Current current)
+        throws TestException
+    {
+        throw new TestException(reason);
+    }
+
+    volatile byte[] lastSeq;
+    volatile Point lastPoint;
+}
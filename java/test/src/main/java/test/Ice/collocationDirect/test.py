@@ -0,0 +1,14 @@
+#
+# Copyright (c) ZeroC, Inc. All rights reserved.
+#
+
+#
+# Run the tests with the collocated invocations dispatched without marshaling.
+#
+directProps = {
+    "Ice.CollocationDirect" : 1,
+}
+
+TestSuite(__file__,
+          [ClientTestCase(),
+           ClientTestCase(name = "client with direct dispatch", props = directProps)])
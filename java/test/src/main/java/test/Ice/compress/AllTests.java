@@ -0,0 +1,363 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.compress;
+
+import java.io.PrintWriter;
+
+import com.zeroc.IceInternal.BufferPool;
+import com.zeroc.IceStats.BufferPoolStats;
+import com.zeroc.IceStats.RuntimeStats;
+
+import test.Ice.compress.Test.*;
+
+//
+// Checks the protocol message buffers: the reuse of the buffers of the communicator buffer
+// pool, and the compression codec negotiation. A client only compresses its requests with
+// a codec other than bzip2 if the server advertised it when validating the connection, and
+// the server compresses its replies with the codec used by the client.
+//
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    private static final int RequestMsg = 0;
+    private static final int ReplyMsg = 2;
+
+    public static void allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        RemoteCommunicatorFactoryPrx factory =
+            RemoteCommunicatorFactoryPrx.uncheckedCast(communicator.stringToProxy("factory:" +
+                                                                                  helper.getTestEndpoint(0)));
+
+        out.print("testing buffer pool... ");
+        out.flush();
+        {
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.BufferPool", "1");
+            properties.setProperty("Ice.BufferPool.MaxSize", "4"); // 4KB
+            properties.setProperty("Ice.BufferPool.MaxBuffers", "2");
+            try(com.zeroc.Ice.Communicator client = helper.initialize(properties))
+            {
+                BufferPool pool = com.zeroc.IceInternal.Util.getInstance(client).bufferPool();
+                test(pool != null);
+                BufferPoolStats s0 = pool.getStats();
+
+                //
+                // Buffers are allocated with the size of their size class and reused once released.
+                //
+                java.nio.ByteBuffer b1 = pool.allocate(1000, false);
+                test(b1.capacity() == 1024 && !b1.isDirect());
+                pool.release(b1);
+                java.nio.ByteBuffer b2 = pool.allocate(600, false);
+                test(b2 == b1);
+                test(b2.position() == 0 && b2.limit() == 1024);
+
+                //
+                // Heap and direct buffers are pooled separately.
+                //
+                java.nio.ByteBuffer d1 = pool.allocate(1000, true);
+                test(d1 != b1 && d1.isDirect() && d1.capacity() == 1024);
+
+                //
+                // A size class keeps at most MaxBuffers buffers.
+                //
+                java.nio.ByteBuffer b3 = pool.allocate(1024, false);
+                java.nio.ByteBuffer b4 = pool.allocate(1024, false);
+                pool.release(b2);
+                pool.release(b3);
+                pool.release(b4);
+                pool.release(d1);
+
+                //
+                // Buffers larger than MaxSize and buffers which weren't allocated by the pool
+                // aren't pooled.
+                //
+                java.nio.ByteBuffer large = pool.allocate(8 * 1024, false);
+                test(large.capacity() == 8 * 1024);
+                pool.release(large);
+                pool.release(java.nio.ByteBuffer.allocate(1000));
+
+                BufferPoolStats s1 = pool.getStats();
+                test(s1.hits - s0.hits == 1);
+                test(s1.misses - s0.misses == 4);
+                test(s1.released - s0.released == 4);
+                test(s1.discarded - s0.discarded == 1);
+                test(s1.oversized - s0.oversized == 1);
+
+                test(pool.allocate(1024, false) == b2); // The size class is a FIFO queue.
+            }
+        }
+        out.println("ok");
+
+        out.print("testing buffer pool reuse with invocations... ");
+        out.flush();
+        {
+            java.util.Map<String, String> props = serverProps(helper, "bzip2");
+            props.put("Ice.BufferPool", "1");
+            RemoteCommunicatorPrx remote = factory.createCommunicator(props);
+
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.BufferPool", "1");
+            properties.setProperty("Ice.Admin.Enabled", "1");
+            try(com.zeroc.Ice.Communicator client = helper.initialize(properties))
+            {
+                RuntimeStats admin = (RuntimeStats)client.findAdminFacet("Metrics");
+                TestIntfPrx obj = getObject(client, remote);
+                final int count = 100;
+                byte[] data = new byte[10 * 1024];
+                test(java.util.Arrays.equals(obj.echo(data), data));
+                BufferPoolStats s0 = admin.getBufferPoolStats();
+                test(s0 != null);
+                for(int i = 0; i < count; ++i)
+                {
+                    test(java.util.Arrays.equals(obj.echo(data), data));
+                }
+                BufferPoolStats s1 = admin.getBufferPoolStats();
+
+                //
+                // The request and reply buffers of each invocation are released once it
+                // completes, the next invocations reuse them.
+                //
+                long hits = s1.hits - s0.hits;
+                long misses = s1.misses - s0.misses;
+                test(hits >= count);
+                test(misses < count / 10);
+
+                //
+                // A buffer is only reused once it was released.
+                //
+                test(s1.released >= s1.hits);
+            }
+
+            //
+            // The buffers of the dispatches are released once the requests are dispatched.
+            //
+            PoolStats s = remote.getPoolStats();
+            test(s.hits > 0 && s.released >= s.hits);
+            remote.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing buffer pool disabled... ");
+        out.flush();
+        {
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.BufferPool", "0");
+            properties.setProperty("Ice.Admin.Enabled", "1");
+            try(com.zeroc.Ice.Communicator client = helper.initialize(properties))
+            {
+                test(com.zeroc.IceInternal.Util.getInstance(client).bufferPool() == null);
+                test(((RuntimeStats)client.findAdminFacet("Metrics")).getBufferPoolStats() == null);
+            }
+        }
+        out.println("ok");
+
+        //
+        // The status of the messages compressed with bzip2, or of the messages which
+        // should be compressed if bzip2 isn't available.
+        //
+        final int bzip2Status = com.zeroc.IceInternal.BZip2.supported() ? 2 : 1;
+
+        out.print("testing deflate compression round-trip... ");
+        out.flush();
+        {
+            RemoteCommunicatorPrx remote = factory.createCommunicator(serverProps(helper, "deflate"));
+            LoggerI logger = new LoggerI(communicator.getLogger());
+            try(com.zeroc.Ice.Communicator client = createClient(helper, "deflate", logger))
+            {
+                TestIntfPrx obj = getObject(client, remote);
+
+                test(echo(obj, compressible(16 * 1024)));
+                test(logger.contains("supports compression codec 3"));
+                test(logger.getCompressionStatus(RequestMsg).equals(java.util.Arrays.asList(3)));
+                test(logger.getCompressionStatus(ReplyMsg).equals(java.util.Arrays.asList(3)));
+                test(java.util.Arrays.equals(remote.getCompressionStatus(RequestMsg), new int[] { 3 }));
+                test(java.util.Arrays.equals(remote.getCompressionStatus(ReplyMsg), new int[] { 3 }));
+
+                //
+                // Messages which don't get smaller aren't compressed, messages smaller than
+                // 100 bytes aren't compressed either.
+                //
+                logger.clear();
+                test(echo(obj, random(16 * 1024)));
+                test(echo(obj, compressible(10)));
+                test(logger.getCompressionStatus(RequestMsg).equals(java.util.Arrays.asList(1, 1)));
+                test(logger.getCompressionStatus(ReplyMsg).equals(java.util.Arrays.asList(1, 1)));
+
+                //
+                // Large messages span several buffers of the buffer pool.
+                //
+                logger.clear();
+                test(echo(obj, compressible(1024 * 1024)));
+                test(logger.getCompressionStatus(ReplyMsg).equals(java.util.Arrays.asList(3)));
+            }
+            remote.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing compression codec fallback... ");
+        out.flush();
+        {
+            //
+            // The server doesn't advertise deflate, the client falls back to bzip2.
+            //
+            RemoteCommunicatorPrx remote = factory.createCommunicator(serverProps(helper, "bzip2"));
+            LoggerI logger = new LoggerI(communicator.getLogger());
+            try(com.zeroc.Ice.Communicator client = createClient(helper, "deflate", logger))
+            {
+                test(echo(getObject(client, remote), compressible(16 * 1024)));
+                test(!logger.contains("supports compression codec"));
+                test(logger.getCompressionStatus(RequestMsg).equals(java.util.Arrays.asList(bzip2Status)));
+                test(logger.getCompressionStatus(ReplyMsg).equals(java.util.Arrays.asList(bzip2Status)));
+            }
+            remote.destroy();
+        }
+        {
+            //
+            // The server advertises deflate but the client is configured with bzip2, both
+            // sides keep using bzip2.
+            //
+            RemoteCommunicatorPrx remote = factory.createCommunicator(serverProps(helper, "deflate"));
+            LoggerI logger = new LoggerI(communicator.getLogger());
+            try(com.zeroc.Ice.Communicator client = createClient(helper, "bzip2", logger))
+            {
+                test(echo(getObject(client, remote), compressible(16 * 1024)));
+                test(logger.contains("supports compression codec 3"));
+                test(logger.getCompressionStatus(RequestMsg).equals(java.util.Arrays.asList(bzip2Status)));
+                test(java.util.Arrays.equals(remote.getCompressionStatus(ReplyMsg), new int[] { bzip2Status }));
+            }
+            remote.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing compressed requests racing connection close... ");
+        out.flush();
+        {
+            //
+            // The requests are compressed before they are queued with the connection. The
+            // requests compressed while the connection is closed either complete or fail with
+            // the close exception, none of them is lost.
+            //
+            java.util.Map<String, String> props = serverProps(helper, "deflate");
+            props.put("Ice.Trace.Protocol", "0");
+            RemoteCommunicatorPrx remote = factory.createCommunicator(props);
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.Compression.Codec", "deflate");
+            properties.setProperty("Ice.Override.Compress", "1");
+            try(com.zeroc.Ice.Communicator client = helper.initialize(properties))
+            {
+                TestIntfPrx obj = getObject(client, remote);
+                final byte[] data = compressible(64 * 1024);
+                for(int i = 0; i < 20; ++i)
+                {
+                    final TestIntfPrx p = obj.ice_connectionId("race" + i);
+                    com.zeroc.Ice.Connection con = p.ice_getConnection();
+                    java.util.List<java.util.concurrent.CompletableFuture<byte[]>> results =
+                        java.util.Collections.synchronizedList(new java.util.ArrayList<>());
+                    java.util.concurrent.CountDownLatch sent = new java.util.concurrent.CountDownLatch(1);
+                    Thread sender = new Thread(() ->
+                        {
+                            for(int j = 0; j < 20; ++j)
+                            {
+                                results.add(p.echoAsync(data));
+                                sent.countDown();
+                            }
+                        });
+                    sender.start();
+                    try
+                    {
+                        sent.await();
+                        con.close(com.zeroc.Ice.ConnectionClose.Forcefully);
+                        sender.join();
+                    }
+                    catch(InterruptedException ex)
+                    {
+                        test(false);
+                    }
+
+                    for(java.util.concurrent.CompletableFuture<byte[]> r : results)
+                    {
+                        try
+                        {
+                            test(java.util.Arrays.equals(r.join(), data));
+                        }
+                        catch(java.util.concurrent.CompletionException ex)
+                        {
+                            test(ex.getCause() instanceof com.zeroc.Ice.ConnectionManuallyClosedException);
+                        }
+                    }
+                    test(echo(p, data));
+                }
+            }
+            remote.destroy();
+        }
+        out.println("ok");
+
+        factory.shutdown();
+    }
+
+    //
+    // The properties of the server communicators, the test adapter of each communicator
+    // listens on the second test endpoint.
+    //
+    private static java.util.Map<String, String> serverProps(test.TestHelper helper, String codec)
+    {
+        java.util.Map<String, String> props = new java.util.HashMap<>();
+        props.put("TestAdapter.Endpoints", helper.getTestEndpoint(1));
+        props.put("Ice.Compression.Codec", codec);
+        props.put("Ice.Trace.Protocol", "1");
+        props.put("Ice.BufferPool", "1");
+        props.put("Ice.MessageSizeMax", "4096");
+        return props;
+    }
+
+    private static com.zeroc.Ice.Communicator createClient(test.TestHelper helper, String codec, LoggerI logger)
+    {
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.properties = helper.communicator().getProperties()._clone();
+        initData.properties.setProperty("Ice.Compression.Codec", codec);
+        initData.properties.setProperty("Ice.Override.Compress", "1");
+        initData.properties.setProperty("Ice.Trace.Protocol", "1");
+        initData.properties.setProperty("Ice.MessageSizeMax", "4096");
+        initData.logger = logger;
+        return helper.initialize(initData);
+    }
+
+    private static TestIntfPrx getObject(com.zeroc.Ice.Communicator communicator, RemoteCommunicatorPrx remote)
+    {
+        return TestIntfPrx.uncheckedCast(communicator.stringToProxy(remote.getObject().toString()));
+    }
+
+    private static boolean echo(TestIntfPrx obj, byte[] data)
+    {
+        return java.util.Arrays.equals(obj.echo(data), data);
+    }
+
+    private static byte[] compressible(int size)
+    {
+        byte[] data = new byte[size];
+        for(int i = 0; i < size; ++i)
+        {
+            data[i] = (byte)(i % 17);
+        }
+        return data;
+    }
+
+    private static byte[] random(int size)
+    {
+        byte[] data = new byte[size];
+        new java.util.Random(42).nextBytes(data);
+        return data;
+    }
+}
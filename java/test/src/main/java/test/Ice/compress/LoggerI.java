@@ -0,0 +1,93 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.compress;
+
+//
+// Records the traces, the other messages are forwarded to the given logger.
+//
+class LoggerI implements com.zeroc.Ice.Logger
+{
+    LoggerI(com.zeroc.Ice.Logger logger)
+    {
+        _logger = logger;
+    }
+
+    @Override
+    public void print(String message)
+    {
+        _logger.print(message);
+    }
+
+    @Override
+    public synchronized void trace(String category, String message)
+    {
+        _traces.add(message);
+    }
+
+    @Override
+    public void warning(String message)
+    {
+        _logger.warning(message);
+    }
+
+    @Override
+    public void error(String message)
+    {
+        _logger.error(message);
+    }
+
+    @Override
+    public String getPrefix()
+    {
+        return _logger.getPrefix();
+    }
+
+    @Override
+    public com.zeroc.Ice.Logger cloneWithPrefix(String prefix)
+    {
+        return this;
+    }
+
+    //
+    // Returns the compression status of the traced messages of the given type.
+    //
+    synchronized java.util.List<Integer> getCompressionStatus(int type)
+    {
+        java.util.List<Integer> status = new java.util.ArrayList<>();
+        for(String trace : _traces)
+        {
+            if(trace.contains("message type = " + type + " "))
+            {
+                java.util.regex.Matcher m = _status.matcher(trace);
+                if(m.find())
+                {
+                    status.add(Integer.parseInt(m.group(1)));
+                }
+            }
+        }
+        return status;
+    }
+
+    synchronized boolean contains(String s)
+    {
+        for(String trace : _traces)
+        {
+            if(trace.contains(s))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized void clear()
+    {
+        _traces.clear();
+    }
+
+    private final com.zeroc.Ice.Logger _logger;
+    private final java.util.regex.Pattern _status = java.util.regex.Pattern.compile("compression status = (\\d+)");
+    private final java.util.List<String> _traces = new java.util.ArrayList<>();
+}
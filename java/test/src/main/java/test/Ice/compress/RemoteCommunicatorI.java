@@ -0,0 +1,61 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.compress;
+
+import com.zeroc.IceInternal.BufferPool;
+import com.zeroc.IceStats.BufferPoolStats;
+
+import test.Ice.compress.Test.*;
+
+public class RemoteCommunicatorI implements RemoteCommunicator
+{
+    RemoteCommunicatorI(com.zeroc.Ice.Communicator communicator, TestIntfPrx object, LoggerI logger)
+    {
+        _communicator = communicator;
+        _object = object;
+        _logger = logger;
+    }
+
+    @Override
+    public TestIntfPrx getObject(com.zeroc.Ice.Current current)
+    {
+        return _object;
+    }
+
+    @Override
+    public int[] getCompressionStatus(int type, com.zeroc.Ice.Current current)
+    {
+        java.util.List<Integer> status = _logger.getCompressionStatus(type);
+        int[] result = new int[status.size()];
+        for(int i = 0; i < result.length; ++i)
+        {
+            result[i] = status.get(i);
+        }
+        return result;
+    }
+
+    @Override
+    public PoolStats getPoolStats(com.zeroc.Ice.Current current)
+    {
+        BufferPool pool = com.zeroc.IceInternal.Util.getInstance(_communicator).bufferPool();
+        if(pool == null)
+        {
+            return new PoolStats();
+        }
+        BufferPoolStats stats = pool.getStats();
+        return new PoolStats(stats.hits, stats.misses, stats.released);
+    }
+
+    @Override
+    public void destroy(com.zeroc.Ice.Current current)
+    {
+        _communicator.destroy();
+        current.adapter.remove(current.id);
+    }
+
+    private final com.zeroc.Ice.Communicator _communicator;
+    private final TestIntfPrx _object;
+    private final LoggerI _logger;
+}
@@ -0,0 +1,16 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.compress;
+
+import test.Ice.compress.Test.*;
+
+public class TestIntfI implements TestIntf
+{
+    @Override
+    public byte[] echo(byte[] seq, com.zeroc.Ice.Current current)
+    {
+        return seq;
+    }
+}
@@ -0,0 +1,28 @@
+#
+# Copyright (c) ZeroC, Inc. All rights reserved.
+#
+
+#
+# The server communicators created by the tests set their buffer pool and compression
+# properties, the properties below configure the client and the communicator factory.
+#
+
+#
+# Run the tests with the communicator buffer pool enabled.
+#
+bufferPoolProps = {
+    "Ice.BufferPool" : 1,
+}
+
+#
+# And with all the messages compressed with the deflate codec.
+#
+deflateProps = {
+    "Ice.Override.Compress" : 1,
+    "Ice.Compression.Codec" : "deflate",
+}
+
+TestSuite(__file__,
+          [ClientServerTestCase(),
+           ClientServerTestCase(name = "client/server with buffer pool", props = bufferPoolProps),
+           ClientServerTestCase(name = "client/server with deflate compression", props = deflateProps)])
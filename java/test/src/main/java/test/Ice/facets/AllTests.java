@@ -23,6 +23,43 @@ public class AllTests
         }
     }
 
+    private static void runThreads(int nThreads, java.util.function.IntConsumer task)
+    {
+        java.util.Queue<Throwable> errors = new java.util.concurrent.ConcurrentLinkedQueue<>();
+        java.util.List<Thread> threads = new java.util.ArrayList<>();
+        for(int i = 0; i < nThreads; ++i)
+        {
+            final int index = i;
+            threads.add(new Thread(() ->
+                {
+                    try
+                    {
+                        task.accept(index);
+                    }
+                    catch(Throwable ex)
+                    {
+                        errors.add(ex);
+                    }
+                }));
+        }
+        for(Thread t : threads)
+        {
+            t.start();
+        }
+        for(Thread t : threads)
+        {
+            try
+            {
+                t.join();
+            }
+            catch(InterruptedException ex)
+            {
+                test(false);
+            }
+        }
+        test(errors.isEmpty());
+    }
+
     public static GPrx allTests(test.TestHelper helper)
     {
         com.zeroc.Ice.Communicator communicator = helper.communicator();
@@ -103,6 +140,123 @@ public class AllTests
         test(fm.get("") == obj3);
         out.println("ok");
 
+        out.print("testing concurrent servant registration... ");
+        out.flush();
+        {
+            //
+            // The writers add and remove facets of their own identities and of a shared identity
+            // down to an empty facet map, while the readers look up the servants.
+            //
+            final int nWriters = 4;
+            final int nReaders = 4;
+            final int count = 500;
+            final com.zeroc.Ice.Identity stable = com.zeroc.Ice.Util.stringToIdentity("stable");
+            final com.zeroc.Ice.Identity shared = com.zeroc.Ice.Util.stringToIdentity("shared");
+            final com.zeroc.Ice.Object stableServant = new EmptyI();
+            final com.zeroc.Ice.Object stableFacet = new EmptyI();
+            final com.zeroc.Ice.Object defaultServant = new EmptyI();
+            adapter.add(stableServant, stable);
+            adapter.addFacet(stableFacet, stable, "facet");
+            adapter.addDefaultServant(defaultServant, "stable");
+            final java.util.concurrent.atomic.AtomicInteger writers =
+                new java.util.concurrent.atomic.AtomicInteger(nWriters);
+            runThreads(nWriters + nReaders, t ->
+                {
+                    if(t < nWriters)
+                    {
+                        try
+                        {
+                            com.zeroc.Ice.Identity id = com.zeroc.Ice.Util.stringToIdentity("writer" + t);
+                            String facet = "facet" + t;
+                            String category = "category" + t;
+                            for(int i = 0; i < count; ++i)
+                            {
+                                com.zeroc.Ice.Object s0 = new EmptyI();
+                                com.zeroc.Ice.Object s1 = new EmptyI();
+                                com.zeroc.Ice.Object s2 = new EmptyI();
+                                adapter.add(s0, id);
+                                adapter.addFacet(s1, id, "f1");
+                                adapter.addFacet(s2, id, "f2");
+                                adapter.addFacet(s1, shared, facet);
+                                adapter.addDefaultServant(s2, category);
+                                test(adapter.find(id) == s0);
+                                test(adapter.findFacet(id, "f1") == s1);
+                                test(adapter.findFacet(shared, facet) == s1);
+                                test(adapter.findDefaultServant(category) == s2);
+                                test(adapter.findAllFacets(id).size() == 3);
+
+                                test(adapter.removeFacet(id, "f1") == s1);
+                                test(adapter.findFacet(id, "f1") == null);
+                                test(adapter.findFacet(id, "f2") == s2);
+                                test(adapter.removeFacet(shared, facet) == s1);
+                                test(adapter.findFacet(shared, facet) == null);
+                                test(adapter.removeDefaultServant(category) == s2);
+                                test(adapter.findDefaultServant(category) == null);
+                                if(i % 2 == 0)
+                                {
+                                    test(adapter.remove(id) == s0);
+                                    test(adapter.removeFacet(id, "f2") == s2);
+                                }
+                                else
+                                {
+                                    java.util.Map<String, com.zeroc.Ice.Object> facets = adapter.removeAllFacets(id);
+                                    test(facets.size() == 2 && facets.get("") == s0 && facets.get("f2") == s2);
+                                }
+
+                                //
+                                // Once the last facet is removed, the identity isn't registered anymore.
+                                //
+                                test(adapter.find(id) == null);
+                                test(adapter.findAllFacets(id).isEmpty());
+                                try
+                                {
+                                    adapter.removeAllFacets(id);
+                                    test(false);
+                                }
+                                catch(com.zeroc.Ice.NotRegisteredException ex)
+                                {
+                                }
+                            }
+                        }
+                        finally
+                        {
+                            writers.decrementAndGet();
+                        }
+                    }
+                    else
+                    {
+                        while(writers.get() > 0)
+                        {
+                            test(adapter.find(stable) == stableServant);
+                            test(adapter.findFacet(stable, "facet") == stableFacet);
+                            java.util.Map<String, com.zeroc.Ice.Object> facets = adapter.findAllFacets(stable);
+                            test(facets.size() == 2 && facets.get("") == stableServant &&
+                                 facets.get("facet") == stableFacet);
+                            test(adapter.findDefaultServant("stable") == defaultServant);
+                            test(adapter.findFacet(shared, "") == null);
+                            for(com.zeroc.Ice.Object servant : adapter.findAllFacets(shared).values())
+                            {
+                                test(servant instanceof EmptyI);
+                            }
+                            for(int i = 0; i < nWriters; ++i)
+                            {
+                                facets = adapter.findAllFacets(com.zeroc.Ice.Util.stringToIdentity("writer" + i));
+                                test(facets.size() <= 3);
+                            }
+                        }
+                    }
+                });
+
+            test(adapter.findAllFacets(shared).isEmpty());
+            for(int i = 0; i < nWriters; ++i)
+            {
+                test(adapter.findAllFacets(com.zeroc.Ice.Util.stringToIdentity("writer" + i)).isEmpty());
+            }
+            test(adapter.removeAllFacets(stable).size() == 2);
+            test(adapter.removeDefaultServant("stable") == defaultServant);
+        }
+        out.println("ok");
+
         adapter.deactivate();
 
         out.print("testing stringToProxy... ");
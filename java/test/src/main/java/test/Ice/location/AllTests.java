@@ -9,6 +9,8 @@ import java.util.concurrent.CompletableFuture;
 
 import com.zeroc.Ice.ObjectPrx;
 import com.zeroc.Ice.Util;
+import com.zeroc.IceStats.LocatorCacheStats;
+import com.zeroc.IceStats.RuntimeStats;
 
 import test.Ice.location.Test.HelloPrx;
 import test.Ice.location.Test.ServerManagerPrx;
@@ -577,6 +579,113 @@ public class AllTests
         }
         out.println("ok");
 
+        out.print("testing locator cache eviction... ");
+        out.flush();
+        {
+            //
+            // The cache keeps the 2 most recently used adapter entries.
+            //
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.LocatorCache.MaxSize", "2");
+            properties.setProperty("Ice.Admin.Enabled", "1");
+            try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+            {
+                ObjectPrx adapter = locator.findAdapterById("TestAdapter");
+                for(String id : new String[] { "CacheAdapter1", "CacheAdapter2", "CacheAdapter3" })
+                {
+                    registry.setAdapterDirectProxy(id, adapter);
+                }
+                RuntimeStats admin = (RuntimeStats)ic.findAdminFacet("Metrics");
+
+                count = locator.getRequestCount();
+                ic.stringToProxy("test@CacheAdapter1").ice_ping();
+                ic.stringToProxy("test@CacheAdapter2").ice_ping();
+                ic.stringToProxy("test@CacheAdapter1").ice_ping(); // CacheAdapter2 is now the least recently used.
+                ic.stringToProxy("test@CacheAdapter3").ice_ping(); // Evicts CacheAdapter2.
+                ic.stringToProxy("test@CacheAdapter1").ice_ping();
+                count += 3;
+                test(count == locator.getRequestCount());
+
+                ic.stringToProxy("test@CacheAdapter2").ice_ping(); // Evicts CacheAdapter3.
+                test(++count == locator.getRequestCount());
+                ic.stringToProxy("test@CacheAdapter1").ice_ping();
+                test(count == locator.getRequestCount());
+                ic.stringToProxy("test@CacheAdapter3").ice_ping();
+                test(++count == locator.getRequestCount());
+
+                LocatorCacheStats[] stats = admin.getLocatorCacheStats();
+                test(stats.length == 1);
+                test(stats[0].locator.equals("locator"));
+                test(stats[0].hits == 3);
+                test(stats[0].misses == 5);
+                test(stats[0].evictions == 3);
+                test(stats[0].refreshes == 0);
+                test(stats[0].adapterEntries == 2);
+                test(stats[0].objectEntries == 0);
+            }
+        }
+        out.println("ok");
+
+        out.print("testing locator cache refresh... ");
+        out.flush();
+        {
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.Default.LocatorCacheTimeout", "2");
+            properties.setProperty("Ice.LocatorCache.RefreshAhead", "50");
+            properties.setProperty("Ice.Admin.Enabled", "1");
+            try(com.zeroc.Ice.Communicator ic = helper.initialize(properties))
+            {
+                RuntimeStats admin = (RuntimeStats)ic.findAdminFacet("Metrics");
+
+                count = locator.getRequestCount();
+                ic.stringToProxy("test@CacheAdapter1").ice_ping();
+                test(++count == locator.getRequestCount());
+
+                //
+                // The entry is older than half its TTL, the lookup uses the cached endpoints
+                // and requests a refresh which fails.
+                //
+                Thread.sleep(1100);
+                locator.setAdapterFailure(true);
+                ic.stringToProxy("test@CacheAdapter1").ice_ping();
+                long end = System.currentTimeMillis() + 500;
+                while(locator.getRequestCount() < count + 1)
+                {
+                    test(System.currentTimeMillis() < end);
+                    Thread.sleep(10);
+                }
+                locator.setAdapterFailure(false);
+
+                //
+                // The failed refresh doesn't prevent the next lookups from requesting a new
+                // refresh before the entry expires.
+                //
+                while(admin.getLocatorCacheStats()[0].refreshes < 2)
+                {
+                    test(System.currentTimeMillis() < end);
+                    ic.stringToProxy("test@CacheAdapter1").ice_ping();
+                    Thread.sleep(10);
+                }
+                end = System.currentTimeMillis() + 500;
+                while(locator.getRequestCount() < count + 2)
+                {
+                    test(System.currentTimeMillis() < end);
+                    Thread.sleep(10);
+                }
+
+                LocatorCacheStats stats = admin.getLocatorCacheStats()[0];
+                test(stats.misses == 1);
+                test(stats.refreshes == 2);
+                test(stats.evictions == 0);
+                test(stats.adapterEntries == 1);
+            }
+            for(String id : new String[] { "CacheAdapter1", "CacheAdapter2", "CacheAdapter3" })
+            {
+                registry.setAdapterDirectProxy(id, null);
+            }
+        }
+        out.println("ok");
+
         out.print("testing proxy from server after shutdown... ");
         out.flush();
         hello = obj.getReplicatedHello();
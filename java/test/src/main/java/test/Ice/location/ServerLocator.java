@@ -25,6 +25,12 @@ public class ServerLocator implements TestLocator
         throws com.zeroc.Ice.AdapterNotFoundException
     {
         ++_requestCount;
+        if(_adapterFailure)
+        {
+            CompletableFuture<ObjectPrx> f = new CompletableFuture<>();
+            f.completeExceptionally(new com.zeroc.Ice.UnknownLocalException("locator failure"));
+            return f;
+        }
         if(adapter.equals("TestAdapter10") || adapter.equals("TestAdapter10-2"))
         {
             assert(current.encoding.equals(com.zeroc.Ice.Util.Encoding_1_0));
@@ -72,7 +78,14 @@ public class ServerLocator implements TestLocator
         return _requestCount;
     }
 
+    @Override
+    public void setAdapterFailure(boolean fail, com.zeroc.Ice.Current current)
+    {
+        _adapterFailure = fail;
+    }
+
     private ServerLocatorRegistry _registry;
     private com.zeroc.Ice.LocatorRegistryPrx _registryPrx;
     private int _requestCount;
+    private volatile boolean _adapterFailure;
 }
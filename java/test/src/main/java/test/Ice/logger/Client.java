@@ -48,5 +48,109 @@ public class Client extends test.TestHelper
         }
         new File("log.txt").delete();
         System.out.println("ok");
+
+        System.out.print("testing Ice.LogAsync... ");
+        properties = createTestProperties(args);
+        properties.setProperty("Ice.LogFile", "log.txt");
+        properties.setProperty("Ice.LogAsync", "1");
+        properties.setProperty("Ice.LogAsync.Capacity", "16");
+        properties.setProperty("Ice.LogAsync.Overflow", "block");
+        try(Communicator communicator = initialize(properties))
+        {
+            test(communicator.getLogger() instanceof com.zeroc.Ice.AsyncLoggerI);
+            for(int i = 0; i < 1000; ++i)
+            {
+                communicator.getLogger().trace("info", "my async logger " + i);
+            }
+            communicator.getLogger().cloneWithPrefix("clone").warning("my async\nwarning");
+            test(((com.zeroc.Ice.AsyncLoggerI)communicator.getLogger()).getDroppedCount() == 0);
+        }
+        try
+        {
+            String log = new String(Files.readAllBytes(Paths.get("log.txt")));
+            int pos = 0;
+            for(int i = 0; i < 1000; ++i)
+            {
+                pos = log.indexOf("info: my async logger " + i + System.getProperty("line.separator"), pos);
+                test(pos >= 0);
+            }
+            test(log.contains("clone: warning: "));
+            test(log.contains("my async\n   warning"));
+        }
+        catch(IOException ex)
+        {
+            test(false);
+        }
+        new File("log.txt").delete();
+        System.out.println("ok");
+
+        System.out.print("testing Ice.LogAsync.Overflow=drop... ");
+        {
+            //
+            // The writer thread doesn't start before the latch is released, the records
+            // logged in the meantime fill the ring buffer and the next ones are dropped.
+            //
+            java.util.concurrent.CountDownLatch latch = new java.util.concurrent.CountDownLatch(1);
+            java.util.concurrent.atomic.AtomicInteger started = new java.util.concurrent.atomic.AtomicInteger();
+            java.util.concurrent.atomic.AtomicInteger stopped = new java.util.concurrent.atomic.AtomicInteger();
+            com.zeroc.Ice.AsyncLoggerI logger = new com.zeroc.Ice.AsyncLoggerI("", "log.txt", 4, false,
+                r -> new Thread(() ->
+                    {
+                        try
+                        {
+                            latch.await();
+                        }
+                        catch(InterruptedException ex)
+                        {
+                        }
+                        r.run();
+                    }),
+                () -> started.incrementAndGet(),
+                () -> stopped.incrementAndGet());
+
+            for(int i = 0; i < 10; ++i)
+            {
+                logger.trace("info", "my dropped logger " + i);
+            }
+            test(logger.getDroppedCount() == 6);
+            test(logger.cloneWithPrefix("clone") instanceof com.zeroc.Ice.AsyncLoggerI);
+            test(((com.zeroc.Ice.AsyncLoggerI)logger.cloneWithPrefix("clone")).getDroppedCount() == 6);
+            latch.countDown();
+            logger.destroy();
+            test(started.get() == 1 && stopped.get() == 1);
+
+            //
+            // The records logged after destroy are written to stderr.
+            //
+            java.io.PrintStream err = System.err;
+            java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+            System.setErr(new java.io.PrintStream(bytes, true));
+            try
+            {
+                logger.trace("info", "my logger after destroy");
+            }
+            finally
+            {
+                System.setErr(err);
+            }
+            test(new String(bytes.toByteArray()).contains("info: my logger after destroy"));
+
+            try
+            {
+                String log = new String(Files.readAllBytes(Paths.get("log.txt")));
+                for(int i = 0; i < 10; ++i)
+                {
+                    test(log.contains("info: my dropped logger " + i + System.getProperty("line.separator")) == i < 4);
+                }
+                test(log.contains("6 log records dropped"));
+                test(!log.contains("after destroy"));
+            }
+            catch(IOException ex)
+            {
+                test(false);
+            }
+        }
+        new File("log.txt").delete();
+        System.out.println("ok");
     }
 }
@@ -9,7 +9,10 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
+import com.zeroc.IceInternal.LatencyHistogram;
 import com.zeroc.IceMX.*;
+import com.zeroc.IceStats.LatencySnapshot;
+import com.zeroc.IceStats.RuntimeStats;
 
 import test.Ice.metrics.Test.*;
 
@@ -1325,6 +1328,363 @@ public class AllTests
 
         out.println("ok");
 
+        testLatency(helper);
+        testConcurrentUpdates(helper);
+
         return metrics;
     }
+
+    static long count(LatencySnapshot[] snapshots)
+    {
+        long count = 0;
+        for(LatencySnapshot s : snapshots)
+        {
+            count += s.count;
+        }
+        return count;
+    }
+
+    //
+    // The observers are detached once the invocation completes, the metrics might be
+    // updated shortly after the invocation returns.
+    //
+    static void waitForCount(RuntimeStats admin, String map, long expected)
+        throws UnknownMetricsView
+    {
+        long end = System.currentTimeMillis() + 10000;
+        while(count(admin.getLatencySnapshots("View", map, false)) != expected)
+        {
+            test(System.currentTimeMillis() < end);
+            try
+            {
+                Thread.sleep(10);
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+    }
+
+    static void testLatency(test.TestHelper helper)
+        throws UnknownMetricsView
+    {
+        PrintWriter out = helper.getWriter();
+
+        out.print("testing latency histogram... ");
+        out.flush();
+        {
+            //
+            // Values below 2^precision are recorded exactly.
+            //
+            LatencyHistogram histogram = new LatencyHistogram(4);
+            for(int i = 0; i < 16; ++i)
+            {
+                histogram.record(i);
+            }
+            LatencySnapshot s = histogram.snapshot("exact", false);
+            test(s.id.equals("exact"));
+            test(s.count == 16 && s.min == 0 && s.max == 15);
+            test(s.mean == 7.5);
+            test(s.p50 == 7);
+            test(s.percentile(25.0) == 3);
+            test(s.percentile(100.0) == 15);
+            test(s.percentile(0.0) == 0);
+
+            //
+            // Larger values are rounded up with a relative error below 2^-(precision - 1).
+            //
+            final int precision = 6;
+            final long large = 1L << 41;
+            for(long value : new long[] { 64, 100, 1000, 12345, 1000000, 987654321 })
+            {
+                histogram = new LatencyHistogram(precision);
+                histogram.record(value);
+                histogram.record(large);
+                long p50 = histogram.snapshot("", false).p50;
+                test(p50 >= value && p50 - value <= value >> (precision - 1));
+            }
+
+            //
+            // Negative values are recorded as 0 and values beyond the range of the histogram
+            // are recorded in its last bucket.
+            //
+            histogram = new LatencyHistogram(precision);
+            histogram.record(-10);
+            histogram.record(Long.MAX_VALUE);
+            s = histogram.snapshot("", false);
+            test(s.count == 2 && s.min == 0 && s.max == Long.MAX_VALUE);
+            test(s.p50 == 0);
+            test(s.percentile(100.0) > large);
+
+            //
+            // The precision is capped: 300 is rounded up to 301 with 8 bits.
+            //
+            histogram = new LatencyHistogram(20);
+            histogram.record(300);
+            histogram.record(large);
+            test(histogram.snapshot("", false).p50 == 301);
+
+            //
+            // A reset snapshot clears the histogram.
+            //
+            histogram = new LatencyHistogram(precision);
+            histogram.record(10);
+            histogram.record(20);
+            s = histogram.snapshot("", true);
+            test(s.count == 2 && s.min == 10 && s.max == 20 && s.mean == 15.0);
+            s = histogram.snapshot("", false);
+            test(s.count == 0 && s.min == 0 && s.max == 0 && s.mean == 0.0 && s.p99 == 0);
+            histogram.record(5);
+            s = histogram.snapshot("", false);
+            test(s.count == 1 && s.min == 5 && s.max == 5);
+        }
+        out.println("ok");
+
+        out.print("testing metrics latency histograms... ");
+        out.flush();
+        {
+            //
+            // A communicator with a histogram view and its own adapter, the invocations are
+            // either collocated or remote.
+            //
+            com.zeroc.Ice.Properties properties = helper.communicator().getProperties()._clone();
+            properties.setProperty("Ice.Admin.Enabled", "1");
+            properties.setProperty("IceMX.Metrics.View.Histogram", "6");
+            properties.setProperty("TestAdapter.Endpoints", helper.getTestEndpoint(2));
+            com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+            initData.properties = properties;
+            try(com.zeroc.Ice.Communicator communicator = helper.initialize(initData))
+            {
+                com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter("TestAdapter");
+                MetricsPrx collocated = MetricsPrx.uncheckedCast(
+                    adapter.add(new MetricsI(), com.zeroc.Ice.Util.stringToIdentity("metrics")));
+                MetricsPrx remote = collocated.ice_collocationOptimized(false);
+                adapter.activate();
+
+                RuntimeStats admin = (RuntimeStats)communicator.findAdminFacet("Metrics");
+                test(admin != null);
+
+                for(int i = 0; i < 10; ++i)
+                {
+                    remote.op();
+                }
+                for(int i = 0; i < 5; ++i)
+                {
+                    collocated.op();
+                }
+
+                waitForCount(admin, "Invocation", 15);
+                for(LatencySnapshot s : admin.getLatencySnapshots("View", "Invocation", false))
+                {
+                    test(s.count == 0 || (s.min <= s.p50 && s.p50 <= s.p99 && s.p99 <= s.max));
+                }
+
+                //
+                // The histograms of the sub-maps are returned with the <map>.<sub-map> name.
+                //
+                waitForCount(admin, "Invocation.Remote", 10);
+                waitForCount(admin, "Invocation.Collocated", 5);
+                for(LatencySnapshot s : admin.getLatencySnapshots("View", "Invocation.Remote", false))
+                {
+                    test(s.id.indexOf('/') > 0);
+                }
+                test(admin.getLatencySnapshots("View", "Invocation.Unknown", false).length == 0);
+                test(admin.getLatencySnapshots("View", "Unknown", false).length == 0);
+                test(admin.getLatencySnapshots("Unknown", "Invocation", false).length == 0);
+
+                //
+                // Resetting the sub-map histograms doesn't reset the histograms of the map.
+                //
+                test(count(admin.getLatencySnapshots("View", "Invocation.Remote", true)) == 10);
+                test(count(admin.getLatencySnapshots("View", "Invocation.Remote", false)) == 0);
+                test(count(admin.getLatencySnapshots("View", "Invocation.Collocated", false)) == 5);
+                test(count(admin.getLatencySnapshots("View", "Invocation", true)) == 15);
+                test(count(admin.getLatencySnapshots("View", "Invocation", false)) == 0);
+            }
+        }
+        out.println("ok");
+    }
+
+    //
+    // Runs the given task concurrently with the given number of threads, the task is called
+    // with the thread index.
+    //
+    static void runThreads(int nThreads, java.util.function.IntConsumer task)
+    {
+        java.util.Queue<Throwable> errors = new java.util.concurrent.ConcurrentLinkedQueue<>();
+        java.util.List<Thread> threads = new java.util.ArrayList<>();
+        for(int i = 0; i < nThreads; ++i)
+        {
+            final int index = i;
+            threads.add(new Thread(() ->
+                {
+                    try
+                    {
+                        task.accept(index);
+                    }
+                    catch(Throwable ex)
+                    {
+                        errors.add(ex);
+                    }
+                }));
+        }
+        for(Thread t : threads)
+        {
+            t.start();
+        }
+        for(Thread t : threads)
+        {
+            try
+            {
+                t.join();
+            }
+            catch(InterruptedException ex)
+            {
+                test(false);
+            }
+        }
+        test(errors.isEmpty());
+    }
+
+    //
+    // Waits for the dispatches and the invocations to be detached from the entries of the
+    // given map and returns the entries.
+    //
+    static Map<String, com.zeroc.IceMX.Metrics> waitForDetached(MetricsAdmin admin, String viewName, String map)
+        throws UnknownMetricsView
+    {
+        long end = System.currentTimeMillis() + 10000;
+        while(true)
+        {
+            Map<String, com.zeroc.IceMX.Metrics> m = toMap(admin.getMetricsView(viewName, null).returnValue.get(map));
+            boolean detached = true;
+            for(com.zeroc.IceMX.Metrics e : m.values())
+            {
+                test(e.current >= 0);
+                detached &= e.current == 0;
+            }
+            if(detached)
+            {
+                return m;
+            }
+            test(System.currentTimeMillis() < end);
+            try
+            {
+                Thread.sleep(10);
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+    }
+
+    static void testConcurrentUpdates(test.TestHelper helper)
+        throws UnknownMetricsView
+    {
+        PrintWriter out = helper.getWriter();
+
+        //
+        // A communicator with its own adapter and two views: the "View" view groups the
+        // dispatches and invocations by operation, the "Evict" view groups the dispatches by
+        // a context value and only retains a single detached entry.
+        //
+        com.zeroc.Ice.Properties properties = helper.communicator().getProperties()._clone();
+        properties.setProperty("Ice.Admin.Enabled", "1");
+        properties.setProperty("IceMX.Metrics.View.Map.Dispatch.GroupBy", "operation");
+        properties.setProperty("IceMX.Metrics.View.Map.Invocation.GroupBy", "operation");
+        properties.setProperty("IceMX.Metrics.Evict.Map.Dispatch.GroupBy", "context.key");
+        properties.setProperty("IceMX.Metrics.Evict.Map.Dispatch.RetainDetached", "1");
+        properties.setProperty("TestAdapter.Endpoints", helper.getTestEndpoint(2));
+        properties.setProperty("TestAdapter.ThreadPool.Size", "8");
+        try(com.zeroc.Ice.Communicator communicator = helper.initialize(properties))
+        {
+            com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter("TestAdapter");
+            MetricsPrx collocated = MetricsPrx.uncheckedCast(
+                adapter.add(new MetricsI(), com.zeroc.Ice.Util.stringToIdentity("metrics")));
+            final MetricsPrx remote = collocated.ice_collocationOptimized(false);
+            adapter.activate();
+            MetricsAdmin admin = (MetricsAdmin)communicator.findAdminFacet("Metrics");
+            test(admin != null);
+
+            final int nThreads = 8;
+            final int count = 500;
+
+            out.print("testing concurrent metrics updates... ");
+            out.flush();
+            {
+                //
+                // The totals of the view are the exact number of calls, no update is lost.
+                //
+                runThreads(nThreads, t ->
+                    {
+                        for(int i = 0; i < count; ++i)
+                        {
+                            if(i % 5 == 0)
+                            {
+                                try
+                                {
+                                    remote.opWithUserException();
+                                    test(false);
+                                }
+                                catch(UserEx ex)
+                                {
+                                }
+                            }
+                            else
+                            {
+                                remote.op();
+                            }
+                        }
+                    });
+
+                final int calls = nThreads * count;
+                Map<String, com.zeroc.IceMX.Metrics> dispatch = waitForDetached(admin, "View", "Dispatch");
+                test(dispatch.size() == 2);
+                DispatchMetrics dm = (DispatchMetrics)dispatch.get("op");
+                test(dm.total == calls * 4 / 5 && dm.failures == 0 && dm.userException == 0);
+                test(dm.totalLifetime > 0 && dm.size > 0 && dm.replySize > 0);
+                dm = (DispatchMetrics)dispatch.get("opWithUserException");
+                test(dm.total == calls / 5 && dm.failures == 0 && dm.userException == calls / 5);
+
+                Map<String, com.zeroc.IceMX.Metrics> invocation = waitForDetached(admin, "View", "Invocation");
+                test(invocation.size() == 2);
+                InvocationMetrics im = (InvocationMetrics)invocation.get("op");
+                test(im.total == calls * 4 / 5 && im.failures == 0 && im.retry == 0);
+                im = (InvocationMetrics)invocation.get("opWithUserException");
+                test(im.total == calls / 5 && im.userException == calls / 5);
+            }
+            out.println("ok");
+
+            out.print("testing metrics eviction with concurrent updates... ");
+            out.flush();
+            {
+                //
+                // The dispatches with different context values attach to entries which are
+                // concurrently detached and evicted. A dispatch never updates an evicted entry:
+                // once all the dispatches completed, the "Evict" view has a single detached
+                // entry and the "View" view, which doesn't evict its entries, has the exact
+                // totals.
+                //
+                long total = ((DispatchMetrics)waitForDetached(admin, "View", "Dispatch").get("op")).total;
+                runThreads(nThreads, t ->
+                    {
+                        java.util.Random random = new java.util.Random(t);
+                        for(int i = 0; i < count; ++i)
+                        {
+                            remote.op(java.util.Collections.singletonMap("key", Integer.toString(random.nextInt(16))));
+                        }
+                    });
+
+                Map<String, com.zeroc.IceMX.Metrics> evict = waitForDetached(admin, "Evict", "Dispatch");
+                test(evict.size() == 1);
+                com.zeroc.IceMX.Metrics m = evict.values().iterator().next();
+                test(m.total > 0 && m.total <= nThreads * count && m.failures == 0);
+                test(admin.getMapMetricsFailures("Evict", "Dispatch", null).length == 0);
+
+                DispatchMetrics dm = (DispatchMetrics)waitForDetached(admin, "View", "Dispatch").get("op");
+                test(dm.total == total + nThreads * count);
+            }
+            out.println("ok");
+        }
+    }
 }
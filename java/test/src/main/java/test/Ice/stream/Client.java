@@ -800,6 +800,162 @@ public class Client extends test.TestHelper
             }
 
             printWriter.println("ok");
+
+            printWriter.print("testing UTF-8 strings... ");
+            printWriter.flush();
+            {
+                //
+                // 1, 2, 3 and 4-byte sequences, the 4-byte sequences are surrogate pairs.
+                //
+                StringBuilder large = new StringBuilder();
+                for(int i = 0; i < 5000; ++i)
+                {
+                    large.append("a\u00e9\u20ac\ud83d\ude00");
+                }
+                String[] strings = new String[]
+                {
+                    "",
+                    "hello",
+                    "\u00e9t\u00e9 \u00fcber",
+                    "\u20ac \u4e2d\u6587 \uffff",
+                    "\ud83d\ude00\ud800\udc00\udbff\udfff",
+                    "a\u0080\u07ff\u0800\ud7ff\ue000\ud83d\ude00z",
+                    large.toString()
+                };
+                for(String str : strings)
+                {
+                    byte[] utf8 = str.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+                    for(boolean direct : new boolean[] { false, true })
+                    {
+                        out = new OutputStream(communicator, direct);
+                        out.writeString(str);
+                        out.writeString(str);
+                        byte[] data = out.finished();
+
+                        in = new InputStream(communicator, data);
+                        test(in.readSize() == utf8.length);
+                        int pos = in.pos();
+                        test(java.util.Arrays.equals(java.util.Arrays.copyOfRange(data, pos, pos + utf8.length), utf8));
+
+                        for(java.nio.ByteBuffer buf : buffers(data))
+                        {
+                            in = new InputStream(communicator, buf);
+                            test(in.readString().equals(str));
+                            test(in.readString().equals(str));
+                        }
+                    }
+                }
+
+                //
+                // Unpaired surrogates can't be encoded.
+                //
+                for(String str : new String[] { "\ud800", "a\udc00b", "abc\ud83d", "\ude00\ud83d" })
+                {
+                    for(boolean direct : new boolean[] { false, true })
+                    {
+                        out = new OutputStream(communicator, direct);
+                        try
+                        {
+                            out.writeString(str);
+                            test(false);
+                        }
+                        catch(com.zeroc.Ice.MarshalException ex)
+                        {
+                        }
+                    }
+                }
+
+                //
+                // Overlong, truncated and other invalid sequences are decoded like the String
+                // constructor decodes them.
+                //
+                byte[][] invalid = new byte[][]
+                {
+                    { (byte)0xc0, (byte)0xaf },
+                    { (byte)0xe0, (byte)0x80, (byte)0xaf },
+                    { 'a', (byte)0xe2, (byte)0x82 },
+                    { (byte)0xc3 },
+                    { (byte)0x80, 'b' },
+                    { (byte)0xed, (byte)0xa0, (byte)0x80 },
+                    { (byte)0xf4, (byte)0x90, (byte)0x80, (byte)0x80 },
+                    { (byte)0xf0, (byte)0x9f, (byte)0x98 },
+                    { (byte)0xff, 'c' }
+                };
+                for(byte[] bytes : invalid)
+                {
+                    String expected = new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
+                    out = new OutputStream(communicator);
+                    out.writeSize(bytes.length);
+                    out.writeBlob(bytes);
+                    for(java.nio.ByteBuffer buf : buffers(out.finished()))
+                    {
+                        in = new InputStream(communicator, buf);
+                        test(in.readString().equals(expected));
+                    }
+                }
+            }
+            printWriter.println("ok");
+
+            printWriter.print("testing string cache... ");
+            printWriter.flush();
+            {
+                char[] chars = new char[com.zeroc.IceInternal.StringCache.MaxLength + 1];
+                java.util.Arrays.fill(chars, 'x');
+                String longString = new String(chars);
+                out = new OutputStream(communicator);
+                for(String str : new String[] { "op", "op", "\u00e9t\u00e9", "\u00e9t\u00e9", longString, longString })
+                {
+                    out.writeString(str);
+                }
+                byte[] data = out.finished();
+
+                //
+                // Without Ice.StringCache, each string is a new instance.
+                //
+                in = new InputStream(communicator, data);
+                test(in.readCachedString() != in.readCachedString());
+
+                com.zeroc.Ice.Properties props = communicator.getProperties()._clone();
+                props.setProperty("Ice.StringCache", "64");
+                try(com.zeroc.Ice.Communicator cached = initialize(props))
+                {
+                    for(java.nio.ByteBuffer buf : buffers(data))
+                    {
+                        //
+                        // Small ASCII strings are returned from the cache, other strings are
+                        // decoded as usual.
+                        //
+                        in = new InputStream(cached, buf);
+                        String s1 = in.readCachedString();
+                        String s2 = in.readCachedString();
+                        test(s1.equals("op") && s1 == s2);
+                        s1 = in.readCachedString();
+                        s2 = in.readCachedString();
+                        test(s1.equals("\u00e9t\u00e9") && s2.equals(s1) && s1 != s2);
+                        s1 = in.readCachedString();
+                        s2 = in.readCachedString();
+                        test(s1.equals(longString) && s2.equals(s1) && s1 != s2);
+                    }
+
+                    //
+                    // Strings read with readString aren't cached.
+                    //
+                    in = new InputStream(cached, data);
+                    test(in.readString() != in.readCachedString());
+                }
+            }
+            printWriter.println("ok");
         }
     }
+
+    //
+    // Returns a heap buffer and a direct buffer with the given data.
+    //
+    private static java.nio.ByteBuffer[] buffers(byte[] data)
+    {
+        java.nio.ByteBuffer direct = java.nio.ByteBuffer.allocateDirect(data.length);
+        direct.put(data);
+        direct.flip();
+        return new java.nio.ByteBuffer[] { java.nio.ByteBuffer.wrap(data), direct };
+    }
 }
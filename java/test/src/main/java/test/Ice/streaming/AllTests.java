@@ -0,0 +1,228 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.streaming;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.zeroc.Ice.ObjectPrx;
+import com.zeroc.Ice.StreamReceiver;
+import com.zeroc.Ice.StreamSender;
+
+//
+// Checks the StreamSender and StreamReceiver: ordering of the chunks, flow control,
+// cancellation by the receiver and abort by the sender.
+//
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static void allTests(test.TestHelper helper)
+        throws Exception
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        final int chunkSize = 1024;
+        final int window = 4;
+
+        //
+        // The receivers are registered with a local adapter, the chunks are sent over a
+        // connection and dispatched concurrently by the adapter thread pool.
+        //
+        HandlerI handler = new HandlerI();
+        com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter("TestAdapter");
+        ObjectPrx receiver =
+            adapter.add(new StreamReceiver(handler), com.zeroc.Ice.Util.stringToIdentity("receiver"));
+        adapter.activate();
+        StreamSender sender = new StreamSender(receiver.ice_collocationOptimized(false), chunkSize, window);
+
+        out.print("testing stream ordering... ");
+        out.flush();
+        {
+            //
+            // The chunks are dispatched concurrently by the adapter thread pool and
+            // delivered in order.
+            //
+            java.util.Random random = new java.util.Random(42);
+            java.util.List<byte[]> items = new java.util.ArrayList<>();
+            for(int i = 0; i < 200; ++i)
+            {
+                byte[] item = new byte[random.nextInt(5 * chunkSize) + 1];
+                random.nextBytes(item);
+                items.add(item);
+            }
+            Subscriber subscriber = new Subscriber(Long.MAX_VALUE, -1);
+            handler.add("ordering", subscriber);
+
+            sender.send("ordering", new Publisher(items, -1, -1)).get(30, TimeUnit.SECONDS);
+            subscriber.done.get(30, TimeUnit.SECONDS);
+            test(java.util.Arrays.equals(subscriber.getReceived(), concat(items)));
+            test(handler.getStreamCount("ordering") == 1);
+
+            //
+            // An empty stream.
+            //
+            subscriber = new Subscriber(Long.MAX_VALUE, -1);
+            handler.add("empty", subscriber);
+            sender.send("empty", new Publisher(new java.util.ArrayList<>(), -1, -1)).get(30, TimeUnit.SECONDS);
+            subscriber.done.get(30, TimeUnit.SECONDS);
+            test(subscriber.getReceived().length == 0);
+        }
+        out.println("ok");
+
+        out.print("testing stream flow control... ");
+        out.flush();
+        {
+            java.util.List<byte[]> items = new java.util.ArrayList<>();
+            for(int i = 0; i < 100; ++i)
+            {
+                byte[] item = new byte[chunkSize];
+                java.util.Arrays.fill(item, (byte)i);
+                items.add(item);
+            }
+            Subscriber subscriber = new Subscriber(2, -1);
+            handler.add("flow", subscriber);
+
+            Publisher publisher = new Publisher(items, -1, -1);
+            CompletableFuture<Void> sent = sender.send("flow", publisher);
+            subscriber.waitForCount(2);
+            Thread.sleep(500);
+
+            //
+            // The subscriber doesn't request more items: the sender has at most window
+            // chunks in flight and holds at most one item it couldn't send yet.
+            //
+            test(!sent.isDone());
+            test(publisher.getEmitted() <= 2 + window + 1);
+
+            subscriber.request(Long.MAX_VALUE);
+            sent.get(30, TimeUnit.SECONDS);
+            subscriber.done.get(30, TimeUnit.SECONDS);
+            test(java.util.Arrays.equals(subscriber.getReceived(), concat(items)));
+        }
+        out.println("ok");
+
+        out.print("testing stream cancellation... ");
+        out.flush();
+        {
+            java.util.List<byte[]> items = new java.util.ArrayList<>();
+            for(int i = 0; i < 100; ++i)
+            {
+                items.add(new byte[chunkSize]);
+            }
+            Subscriber subscriber = new Subscriber(Long.MAX_VALUE, 3);
+            handler.add("cancel", subscriber);
+
+            try
+            {
+                sender.send("cancel", new Publisher(items, -1, -1)).get(30, TimeUnit.SECONDS);
+                test(false);
+            }
+            catch(java.util.concurrent.ExecutionException ex)
+            {
+            }
+
+            //
+            // The chunks which were in flight when the stream was canceled are rejected,
+            // they don't create a new stream.
+            //
+            Thread.sleep(500);
+            test(handler.getStreamCount("cancel") == 1);
+        }
+        out.println("ok");
+
+        out.print("testing stream abort... ");
+        out.flush();
+        {
+            java.util.List<byte[]> items = new java.util.ArrayList<>();
+            for(int i = 0; i < 100; ++i)
+            {
+                items.add(new byte[chunkSize]);
+            }
+            Subscriber subscriber = new Subscriber(Long.MAX_VALUE, -1);
+            handler.add("abort", subscriber);
+
+            try
+            {
+                sender.send("abort", new Publisher(items, 10, -1)).get(30, TimeUnit.SECONDS);
+                test(false);
+            }
+            catch(java.util.concurrent.ExecutionException ex)
+            {
+                test(ex.getCause().getMessage().equals("publisher failure"));
+            }
+
+            try
+            {
+                subscriber.done.get(30, TimeUnit.SECONDS);
+                test(false);
+            }
+            catch(java.util.concurrent.ExecutionException ex)
+            {
+                test(ex.getCause() instanceof com.zeroc.Ice.UnknownException);
+            }
+
+            Thread.sleep(500);
+            test(handler.getStreamCount("abort") == 1);
+        }
+        out.println("ok");
+
+        out.print("testing stream idle timeout... ");
+        out.flush();
+        {
+            //
+            // A receiver reads Ice.Stream.IdleTimeout when it receives its first stream.
+            //
+            communicator.getProperties().setProperty("Ice.Stream.IdleTimeout", "1");
+            handler = new HandlerI();
+            receiver = adapter.add(new StreamReceiver(handler), com.zeroc.Ice.Util.stringToIdentity("idleReceiver"));
+            sender = new StreamSender(receiver.ice_collocationOptimized(false), 1024, 4);
+
+            //
+            // The publisher stops publishing after the first item, the receiver fails the
+            // stream once it's idle for more than one second.
+            //
+            java.util.List<byte[]> items = new java.util.ArrayList<>();
+            items.add(new byte[100]);
+            items.add(new byte[100]);
+            Subscriber subscriber = new Subscriber(Long.MAX_VALUE, -1);
+            handler.add("idle", subscriber);
+
+            CompletableFuture<Void> sent = sender.send("idle", new Publisher(items, -1, 1));
+            try
+            {
+                subscriber.done.get(30, TimeUnit.SECONDS);
+                test(false);
+            }
+            catch(java.util.concurrent.ExecutionException ex)
+            {
+                test(ex.getCause() instanceof com.zeroc.Ice.UnknownException);
+            }
+            test(subscriber.getReceived().length == 100);
+            test(!sent.isDone());
+        }
+        out.println("ok");
+
+        adapter.destroy();
+    }
+
+    private static byte[] concat(java.util.List<byte[]> items)
+    {
+        java.io.ByteArrayOutputStream os = new java.io.ByteArrayOutputStream();
+        for(byte[] item : items)
+        {
+            os.write(item, 0, item.length);
+        }
+        return os.toByteArray();
+    }
+}
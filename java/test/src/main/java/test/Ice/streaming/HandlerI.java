@@ -0,0 +1,39 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.streaming;
+
+import com.zeroc.Ice.Flow;
+import com.zeroc.Ice.StreamReceiver;
+
+import java.nio.ByteBuffer;
+
+//
+// Subscribes the subscriber registered for the stream name and counts the streams
+// created for each name.
+//
+class HandlerI implements StreamReceiver.Handler
+{
+    @Override
+    public void stream(String name, Flow.Publisher<ByteBuffer> publisher, com.zeroc.Ice.Current current)
+    {
+        _streams.computeIfAbsent(name, k -> new java.util.concurrent.atomic.AtomicInteger()).incrementAndGet();
+        publisher.subscribe(_subscribers.get(name));
+    }
+
+    void add(String name, Subscriber subscriber)
+    {
+        _subscribers.put(name, subscriber);
+    }
+
+    int getStreamCount(String name)
+    {
+        java.util.concurrent.atomic.AtomicInteger count = _streams.get(name);
+        return count == null ? 0 : count.get();
+    }
+
+    private final java.util.Map<String, Subscriber> _subscribers = new java.util.concurrent.ConcurrentHashMap<>();
+    private final java.util.Map<String, java.util.concurrent.atomic.AtomicInteger> _streams =
+        new java.util.concurrent.ConcurrentHashMap<>();
+}
@@ -0,0 +1,91 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.streaming;
+
+import com.zeroc.Ice.Flow;
+
+import java.nio.ByteBuffer;
+
+//
+// Publishes the given items. The publisher can fail or stop publishing once a given
+// number of items were published.
+//
+class Publisher implements Flow.Publisher<ByteBuffer>, Flow.Subscription
+{
+    Publisher(java.util.List<byte[]> items, int failAfter, int stallAfter)
+    {
+        _items = items;
+        _failAfter = failAfter;
+        _stallAfter = stallAfter;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber)
+    {
+        _subscriber = subscriber;
+        subscriber.onSubscribe(this);
+    }
+
+    @Override
+    public void request(long n)
+    {
+        synchronized(this)
+        {
+            _demand += n;
+            if(_emitting)
+            {
+                return; // The emitting thread publishes the requested items.
+            }
+            _emitting = true;
+        }
+
+        while(true)
+        {
+            int next;
+            synchronized(this)
+            {
+                if(_demand == 0 || _canceled || _emitted == _stallAfter)
+                {
+                    _emitting = false;
+                    return;
+                }
+                --_demand;
+                next = _emitted++;
+            }
+
+            if(next == _failAfter)
+            {
+                _subscriber.onError(new RuntimeException("publisher failure"));
+                return;
+            }
+            else if(next == _items.size())
+            {
+                _subscriber.onComplete();
+                return;
+            }
+            _subscriber.onNext(ByteBuffer.wrap(_items.get(next)));
+        }
+    }
+
+    @Override
+    public synchronized void cancel()
+    {
+        _canceled = true;
+    }
+
+    synchronized int getEmitted()
+    {
+        return _emitted;
+    }
+
+    private final java.util.List<byte[]> _items;
+    private final int _failAfter;
+    private final int _stallAfter;
+    private Flow.Subscriber<? super ByteBuffer> _subscriber;
+    private long _demand;
+    private int _emitted;
+    private boolean _emitting;
+    private boolean _canceled;
+}
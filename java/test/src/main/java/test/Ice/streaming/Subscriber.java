@@ -0,0 +1,116 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.streaming;
+
+import com.zeroc.Ice.Flow;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+//
+// Collects the received bytes. The subscriber requests the given number of items
+// once subscribed and can cancel the subscription after receiving a given number
+// of items.
+//
+class Subscriber implements Flow.Subscriber<ByteBuffer>
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    Subscriber(long initialRequest, int cancelAfter)
+    {
+        _initialRequest = initialRequest;
+        _cancelAfter = cancelAfter;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription)
+    {
+        synchronized(this)
+        {
+            _subscription = subscription;
+        }
+        subscription.request(_initialRequest);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item)
+    {
+        Flow.Subscription cancel = null;
+        synchronized(this)
+        {
+            byte[] data = new byte[item.remaining()];
+            item.get(data);
+            _received.write(data, 0, data.length);
+            if(++_count == _cancelAfter)
+            {
+                cancel = _subscription;
+            }
+            notifyAll();
+        }
+        if(cancel != null)
+        {
+            cancel.cancel();
+            done.complete(null);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable)
+    {
+        done.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete()
+    {
+        done.complete(null);
+    }
+
+    void request(long n)
+    {
+        Flow.Subscription subscription;
+        synchronized(this)
+        {
+            subscription = _subscription;
+        }
+        subscription.request(n);
+    }
+
+    synchronized void waitForCount(int count)
+    {
+        long end = System.currentTimeMillis() + 10000;
+        while(_count < count)
+        {
+            long delay = end - System.currentTimeMillis();
+            test(delay > 0);
+            try
+            {
+                wait(delay);
+            }
+            catch(InterruptedException ex)
+            {
+            }
+        }
+    }
+
+    synchronized byte[] getReceived()
+    {
+        return _received.toByteArray();
+    }
+
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    private final long _initialRequest;
+    private final int _cancelAfter;
+    private Flow.Subscription _subscription;
+    private final java.io.ByteArrayOutputStream _received = new java.io.ByteArrayOutputStream();
+    private int _count;
+}
@@ -0,0 +1,552 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.threadPool;
+
+import java.io.PrintWriter;
+import java.util.concurrent.CompletableFuture;
+
+import test.Ice.threadPool.Test.*;
+
+//
+// Checks the dispatch of the requests by the thread pools: the selector threads
+// (ThreadPool.<name>.Selectors), the virtual threads (ThreadPool.<name>.VirtualThreads),
+// the adaptive sizing policy (ThreadPool.<name>.Adaptive) and the dispatch of the requests
+// spread over a connection pool (Ice.Default.ConnectionPool and <proxy>.ConnectionPool).
+//
+// Each test creates a communicator with the thread pool configuration under test in the
+// server and a client communicator to invoke on its test object.
+//
+public class AllTests
+{
+    private static void test(boolean b)
+    {
+        if(!b)
+        {
+            throw new RuntimeException();
+        }
+    }
+
+    public static void allTests(test.TestHelper helper)
+    {
+        com.zeroc.Ice.Communicator communicator = helper.communicator();
+        PrintWriter out = helper.getWriter();
+
+        RemoteCommunicatorFactoryPrx factory =
+            RemoteCommunicatorFactoryPrx.uncheckedCast(communicator.stringToProxy("factory:" +
+                                                                                  helper.getTestEndpoint(0)));
+
+        out.print("testing dispatch hand-off with selector threads... ");
+        out.flush();
+        {
+            //
+            // 4 dispatches on 4 connections served by 2 selector threads run concurrently
+            // on the thread pool threads.
+            //
+            final int count = 4;
+            java.util.Map<String, String> props = serverProps(helper);
+            props.put("Ice.ThreadPool.Server.Size", "4");
+            props.put("Ice.ThreadPool.Server.SizeMax", "4");
+            props.put("Ice.ThreadPool.Server.Selectors", "2");
+            RemoteCommunicatorPrx remote = factory.createCommunicator(props);
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.ThreadPool.Client.Size", "2");
+            properties.setProperty("Ice.ThreadPool.Client.Selectors", "1");
+            try(com.zeroc.Ice.Communicator client = helper.initialize(properties))
+            {
+                TestIntfPrx obj = getObject(client, remote);
+                java.util.List<CompletableFuture<Boolean>> results = new java.util.ArrayList<>();
+                java.util.List<String> callbackThreads =
+                    java.util.Collections.synchronizedList(new java.util.ArrayList<>());
+                for(int i = 0; i < count; ++i)
+                {
+                    TestIntfPrx p = obj.ice_connectionId("c" + i);
+                    p.ice_ping();
+                    results.add(p.barrierAsync(count).whenComplete(
+                        (r, ex) -> callbackThreads.add(Thread.currentThread().getName())));
+                }
+                for(CompletableFuture<Boolean> r : results)
+                {
+                    test(r.join());
+                }
+
+                //
+                // Neither the dispatches nor the AMI callbacks run on the selector threads.
+                //
+                ThreadInfo[] threads = obj.getThreads();
+                test(threads.length == count);
+                for(ThreadInfo thread : threads)
+                {
+                    test(thread.name.contains("Ice.ThreadPool.Server-") && !thread.name.contains("-io-"));
+                }
+                for(String thread : callbackThreads)
+                {
+                    test(!thread.contains("-io-"));
+                }
+            }
+            remote.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing serialized dispatches with selector threads... ");
+        out.flush();
+        {
+            //
+            // With Serialize, the requests of a connection are dispatched one at a time and
+            // in order although the thread pool has several threads.
+            //
+            java.util.Map<String, String> props = serverProps(helper);
+            props.put("Ice.ThreadPool.Server.Size", "4");
+            props.put("Ice.ThreadPool.Server.SizeMax", "4");
+            props.put("Ice.ThreadPool.Server.Selectors", "1");
+            props.put("Ice.ThreadPool.Server.Serialize", "1");
+            RemoteCommunicatorPrx remote = factory.createCommunicator(props);
+            testSerialize(getObject(communicator, remote));
+            remote.destroy();
+        }
+        out.println("ok");
+
+        final boolean virtualThreads = virtualThreadsSupported();
+
+        out.print("testing dispatch on virtual threads... ");
+        out.flush();
+        {
+            //
+            // With virtual threads, the dispatches of a single connection run concurrently
+            // although the thread pool has a single thread. Without virtual threads, the
+            // pool logs a warning and dispatches on its thread.
+            //
+            final int count = virtualThreads ? 10 : 1;
+            java.util.Map<String, String> props = serverProps(helper);
+            props.put("Ice.ThreadPool.Server.Size", "1");
+            props.put("Ice.ThreadPool.Server.SizeMax", "1");
+            props.put("Ice.ThreadPool.Server.VirtualThreads", "1");
+            RemoteCommunicatorPrx remote = factory.createCommunicator(props);
+            test(hasWarning(remote, "VirtualThreads requires Java 21") == !virtualThreads);
+
+            TestIntfPrx obj = getObject(communicator, remote);
+            obj.ice_ping();
+            java.util.List<CompletableFuture<Boolean>> results = new java.util.ArrayList<>();
+            for(int i = 0; i < count; ++i)
+            {
+                results.add(obj.barrierAsync(count));
+            }
+            for(CompletableFuture<Boolean> r : results)
+            {
+                test(r.join());
+            }
+
+            ThreadInfo[] threads = obj.getThreads();
+            test(threads.length == count);
+            for(ThreadInfo thread : threads)
+            {
+                test(thread.name.startsWith("Ice.ThreadPool.Server-virtual-") == virtualThreads);
+                test(thread.virtualThread == virtualThreads);
+            }
+            remote.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing serialized dispatches on virtual threads... ");
+        out.flush();
+        {
+            //
+            // With Serialize, the connection waits for the virtual thread to complete the
+            // dispatch before reading the next request.
+            //
+            java.util.Map<String, String> props = serverProps(helper);
+            props.put("Ice.ThreadPool.Server.Size", "1");
+            props.put("Ice.ThreadPool.Server.SizeMax", "1");
+            props.put("Ice.ThreadPool.Server.VirtualThreads", "1");
+            props.put("Ice.ThreadPool.Server.Serialize", "1");
+            RemoteCommunicatorPrx remote = factory.createCommunicator(props);
+            testSerialize(getObject(communicator, remote));
+            remote.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing virtual threads with a dispatcher... ");
+        out.flush();
+        {
+            //
+            // VirtualThreads is ignored if a dispatcher is configured.
+            //
+            java.util.Map<String, String> props = serverProps(helper);
+            props.put("Ice.ThreadPool.Server.VirtualThreads", "1");
+            props.put("Dispatcher", "1");
+            RemoteCommunicatorPrx remote = factory.createCommunicator(props);
+            test(hasWarning(remote, "VirtualThreads is ignored, a dispatcher is configured"));
+
+            TestIntfPrx obj = getObject(communicator, remote);
+            test(obj.barrier(1));
+            test(remote.getDispatcherCount() > 0);
+            for(ThreadInfo thread : obj.getThreads())
+            {
+                test(!thread.virtualThread);
+            }
+            remote.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing adaptive thread pool growth... ");
+        out.flush();
+        RemoteCommunicatorPrx adaptive;
+        {
+            java.util.Map<String, String> props = serverProps(helper);
+            props.put("Ice.ThreadPool.Server.Size", "1");
+            props.put("Ice.ThreadPool.Server.SizeMax", "8");
+            props.put("Ice.ThreadPool.Server.Adaptive", "1");
+            props.put("Ice.ThreadPool.Server.AdaptiveTarget", "1");
+            props.put("Ice.Admin.Enabled", "1");
+            adaptive = factory.createCommunicator(props);
+
+            TestIntfPrx obj = getObject(communicator, adaptive);
+            final int count = 8;
+            TestIntfPrx[] proxies = new TestIntfPrx[count];
+            for(int i = 0; i < count; ++i)
+            {
+                proxies[i] = obj.ice_connectionId("c" + i);
+                proxies[i].ice_ping();
+            }
+
+            //
+            // The requests of 8 connections wait for the single thread of the pool, the
+            // pool grows the maximum number of threads.
+            //
+            Sizing grow = null;
+            final long deadline = System.currentTimeMillis() + 10000;
+            while(grow == null && System.currentTimeMillis() < deadline)
+            {
+                java.util.List<CompletableFuture<Void>> results = new java.util.ArrayList<>();
+                for(TestIntfPrx p : proxies)
+                {
+                    results.add(p.sleepAsync(20));
+                }
+                for(CompletableFuture<Void> r : results)
+                {
+                    r.join();
+                }
+                grow = findSizing(adaptive.getSizing(), "grow", -1, -1);
+            }
+            test(grow != null);
+            test(grow.size == 1 && grow.sizeMax == 8);
+            test(grow.sizeTarget > 1 && grow.sizeTarget <= 8);
+            test(grow.waitCount > 0 && grow.waitMean > 1000);
+            test(grow.dispatchCount > 0);
+        }
+        out.println("ok");
+
+        out.print("testing adaptive thread pool shrinking... ");
+        out.flush();
+        {
+            //
+            // Once idle, the maximum decreases by one at each decision down to Size and
+            // the extra threads exit.
+            //
+            test(waitForSizing(adaptive, "shrink", -1, -1, 10000) != null);
+            test(waitForSizing(adaptive, "shrink", 1, -1, 20000) != null);
+            test(waitForSizing(adaptive, null, 1, 1, 5000) != null);
+
+            int previous = 1;
+            for(Sizing sizing : adaptive.getSizing())
+            {
+                test(sizing.sizeTarget >= 1 && sizing.sizeTarget <= 8);
+                if(sizing.decision.equals("shrink"))
+                {
+                    test(sizing.sizeTarget == previous - 1);
+                }
+                else if(sizing.decision.equals("grow"))
+                {
+                    test(sizing.sizeTarget > previous);
+                }
+                else
+                {
+                    test(sizing.sizeTarget == previous);
+                }
+                previous = sizing.sizeTarget;
+            }
+
+            //
+            // The decisions are also available from the metrics facet.
+            //
+            test(adaptive.getAdminSizing().length > 0);
+            adaptive.destroy();
+        }
+        out.println("ok");
+
+        final int pool = 4;
+
+        out.print("testing twoway requests over a connection pool... ");
+        out.flush();
+        {
+            //
+            // The server dispatches the requests of a connection one at a time, the 4
+            // concurrent requests only complete if they are sent over 4 connections.
+            //
+            RemoteCommunicatorPrx remote = factory.createCommunicator(serializeProps(helper));
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.Default.ConnectionPool", Integer.toString(pool));
+            try(com.zeroc.Ice.Communicator client = helper.initialize(properties))
+            {
+                TestIntfPrx obj = getObject(client, remote);
+                waitForConnections(obj, pool);
+
+                java.util.List<CompletableFuture<Boolean>> results = new java.util.ArrayList<>();
+                for(int i = 0; i < pool; ++i)
+                {
+                    results.add(obj.barrierAsync(pool));
+                }
+                for(CompletableFuture<Boolean> r : results)
+                {
+                    test(r.join());
+                }
+                test(obj.getConnectionCount() == pool);
+            }
+            remote.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing oneway requests over a connection pool... ");
+        out.flush();
+        {
+            //
+            // The oneway requests are spread evenly over the connections of the pool, they
+            // aren't ordered across connections but they are dispatched in order on each
+            // connection.
+            //
+            RemoteCommunicatorPrx remote = factory.createCommunicator(serializeProps(helper));
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Test.Proxy", getObject(communicator, remote).toString());
+            properties.setProperty("Test.Proxy.ConnectionPool", Integer.toString(pool));
+            try(com.zeroc.Ice.Communicator client = helper.initialize(properties))
+            {
+                TestIntfPrx obj = TestIntfPrx.uncheckedCast(client.propertyToProxy("Test.Proxy"));
+                waitForConnections(obj, pool);
+
+                final int count = 100;
+                TestIntfPrx oneway = obj.ice_oneway();
+                for(int i = 0; i < count; ++i)
+                {
+                    oneway.record(i);
+                }
+                int[][] values = waitForValues(obj, count);
+                test(values.length == pool);
+                for(int[] v : values)
+                {
+                    test(v.length == count / pool);
+                    for(int i = 1; i < v.length; ++i)
+                    {
+                        test(v[i - 1] < v[i]);
+                    }
+                }
+            }
+            remote.destroy();
+        }
+        out.println("ok");
+
+        out.print("testing oneway requests without a connection pool... ");
+        out.flush();
+        {
+            //
+            // Without a pool, the requests of the proxy are sent over a single connection
+            // and dispatched in order.
+            //
+            RemoteCommunicatorPrx remote = factory.createCommunicator(serializeProps(helper));
+            com.zeroc.Ice.Properties properties = communicator.getProperties()._clone();
+            properties.setProperty("Ice.Default.ConnectionPool", "0");
+            try(com.zeroc.Ice.Communicator client = helper.initialize(properties))
+            {
+                TestIntfPrx obj = getObject(client, remote);
+                obj.ice_ping();
+
+                final int count = 100;
+                TestIntfPrx oneway = obj.ice_oneway();
+                for(int i = 0; i < count; ++i)
+                {
+                    oneway.record(i);
+                }
+                int[][] values = waitForValues(obj, count);
+                test(values.length == 1);
+                for(int i = 0; i < count; ++i)
+                {
+                    test(values[0][i] == i);
+                }
+                test(obj.getConnectionCount() == 1);
+            }
+            remote.destroy();
+        }
+        out.println("ok");
+
+        factory.shutdown();
+    }
+
+    //
+    // The properties of the server communicators, the test adapter of each communicator
+    // listens on the second test endpoint.
+    //
+    private static java.util.Map<String, String> serverProps(test.TestHelper helper)
+    {
+        java.util.Map<String, String> props = new java.util.HashMap<>();
+        props.put("TestAdapter.Endpoints", helper.getTestEndpoint(1));
+        props.put("Ice.ThreadPool.Server.Size", "1");
+        props.put("Ice.ThreadPool.Server.SizeMax", "1");
+        props.put("Ice.ThreadPool.Server.Selectors", "0");
+        props.put("Ice.ThreadPool.Server.VirtualThreads", "0");
+        props.put("Ice.ThreadPool.Server.Adaptive", "0");
+        props.put("Ice.ThreadPool.Server.Serialize", "0");
+        return props;
+    }
+
+    private static java.util.Map<String, String> serializeProps(test.TestHelper helper)
+    {
+        java.util.Map<String, String> props = serverProps(helper);
+        props.put("Ice.ThreadPool.Server.Size", "4");
+        props.put("Ice.ThreadPool.Server.SizeMax", "4");
+        props.put("Ice.ThreadPool.Server.Serialize", "1");
+        return props;
+    }
+
+    private static TestIntfPrx getObject(com.zeroc.Ice.Communicator communicator, RemoteCommunicatorPrx remote)
+    {
+        return TestIntfPrx.uncheckedCast(communicator.stringToProxy(remote.getObject().toString()));
+    }
+
+    private static boolean hasWarning(RemoteCommunicatorPrx remote, String s)
+    {
+        for(String warning : remote.getWarnings())
+        {
+            if(warning.contains(s))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //
+    // 50 requests sent over a single connection are dispatched one at a time and in order.
+    //
+    private static void testSerialize(TestIntfPrx obj)
+    {
+        //
+        // The dispatches are serialized per connection, the requests are sent over a single
+        // connection even if the proxy uses a connection pool.
+        //
+        obj = obj.ice_fixed(obj.ice_getConnection());
+        final int count = 50;
+        java.util.List<CompletableFuture<Void>> results = new java.util.ArrayList<>();
+        for(int i = 0; i < count; ++i)
+        {
+            results.add(obj.serialAsync(i));
+        }
+        for(CompletableFuture<Void> r : results)
+        {
+            r.join();
+        }
+
+        int[] order = obj.getOrder();
+        test(order.length == count);
+        for(int i = 0; i < count; ++i)
+        {
+            test(order[i] == i);
+        }
+        test(obj.getMaxConcurrent() == 1);
+    }
+
+    //
+    // Returns the first decision matching the given decision, target size and number of
+    // threads, null or -1 match any decision or number.
+    //
+    private static Sizing findSizing(Sizing[] decisions, String decision, int sizeTarget, int threads)
+    {
+        for(Sizing sizing : decisions)
+        {
+            if((decision == null || sizing.decision.equals(decision)) &&
+               (sizeTarget == -1 || sizing.sizeTarget == sizeTarget) &&
+               (threads == -1 || sizing.threads == threads))
+            {
+                return sizing;
+            }
+        }
+        return null;
+    }
+
+    private static Sizing waitForSizing(RemoteCommunicatorPrx remote, String decision, int sizeTarget, int threads,
+                                        long timeout)
+    {
+        final long deadline = System.currentTimeMillis() + timeout;
+        while(true)
+        {
+            Sizing sizing = findSizing(remote.getSizing(), decision, sizeTarget, threads);
+            if(sizing != null || System.currentTimeMillis() >= deadline)
+            {
+                return sizing;
+            }
+            sleep(50);
+        }
+    }
+
+    //
+    // The connections of the pool other than the first one are established in the
+    // background, invoke until the server saw all of them. The pool belongs to the request
+    // handler of the proxy, the proxy must be used for the requests of the test.
+    //
+    private static void waitForConnections(TestIntfPrx obj, int count)
+    {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while(obj.getConnectionCount() < count)
+        {
+            test(System.currentTimeMillis() < deadline);
+            obj.sleep(0);
+            sleep(10);
+        }
+    }
+
+    private static int[][] waitForValues(TestIntfPrx obj, int count)
+    {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while(true)
+        {
+            int[][] values = obj.getValues();
+            int n = 0;
+            for(int[] v : values)
+            {
+                n += v.length;
+            }
+            if(n == count)
+            {
+                return values;
+            }
+            test(n < count && System.currentTimeMillis() < deadline);
+            sleep(10);
+        }
+    }
+
+    //
+    // The tests are compiled for Java 8, virtual threads are detected with reflection.
+    //
+    private static boolean virtualThreadsSupported()
+    {
+        try
+        {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        }
+        catch(ReflectiveOperationException | RuntimeException ex)
+        {
+            return false;
+        }
+    }
+
+    private static void sleep(long ms)
+    {
+        try
+        {
+            Thread.sleep(ms);
+        }
+        catch(InterruptedException ex)
+        {
+        }
+    }
+}
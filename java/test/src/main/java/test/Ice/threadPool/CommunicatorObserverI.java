@@ -0,0 +1,82 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.threadPool;
+
+import com.zeroc.Ice.Instrumentation.*;
+import com.zeroc.IceStats.ThreadPoolSizing;
+import com.zeroc.IceStats.ThreadPoolSizingObserver;
+
+import test.Ice.threadPool.Test.Sizing;
+
+//
+// Records the sizing decisions of the server thread pool.
+//
+class CommunicatorObserverI implements CommunicatorObserver, ThreadPoolSizingObserver
+{
+    @Override
+    public Observer getConnectionEstablishmentObserver(com.zeroc.Ice.Endpoint e, String s)
+    {
+        return null;
+    }
+
+    @Override
+    public Observer getEndpointLookupObserver(com.zeroc.Ice.Endpoint e)
+    {
+        return null;
+    }
+
+    @Override
+    public ConnectionObserver getConnectionObserver(com.zeroc.Ice.ConnectionInfo c, com.zeroc.Ice.Endpoint e,
+                                                    ConnectionState s, ConnectionObserver o)
+    {
+        return null;
+    }
+
+    @Override
+    public ThreadObserver getThreadObserver(String p, String id, ThreadState s, ThreadObserver o)
+    {
+        return null;
+    }
+
+    @Override
+    public InvocationObserver getInvocationObserver(com.zeroc.Ice.ObjectPrx p, String o,
+                                                    java.util.Map<String, String> c)
+    {
+        return null;
+    }
+
+    @Override
+    public DispatchObserver getDispatchObserver(com.zeroc.Ice.Current c, int s)
+    {
+        return null;
+    }
+
+    @Override
+    public void setObserverUpdater(ObserverUpdater u)
+    {
+    }
+
+    @Override
+    public synchronized void sizingChanged(ThreadPoolSizing s)
+    {
+        if(s.threadPool.equals("Ice.ThreadPool.Server"))
+        {
+            _sizing.add(toSizing(s));
+        }
+    }
+
+    synchronized Sizing[] getSizing()
+    {
+        return _sizing.toArray(new Sizing[_sizing.size()]);
+    }
+
+    static Sizing toSizing(ThreadPoolSizing s)
+    {
+        return new Sizing(s.decision, s.size, s.sizeMax, s.sizeTarget, s.threads, s.waitCount, s.waitMean,
+                          s.dispatchCount);
+    }
+
+    private final java.util.List<Sizing> _sizing = new java.util.ArrayList<>();
+}
@@ -0,0 +1,64 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.threadPool;
+
+//
+// Records the warnings and forwards all the messages to the logger of the server.
+//
+class LoggerI implements com.zeroc.Ice.Logger
+{
+    LoggerI(com.zeroc.Ice.Logger logger)
+    {
+        _logger = logger;
+    }
+
+    @Override
+    public void print(String message)
+    {
+        _logger.print(message);
+    }
+
+    @Override
+    public void trace(String category, String message)
+    {
+        _logger.trace(category, message);
+    }
+
+    @Override
+    public void warning(String message)
+    {
+        synchronized(this)
+        {
+            _warnings.add(message);
+        }
+        _logger.warning(message);
+    }
+
+    @Override
+    public void error(String message)
+    {
+        _logger.error(message);
+    }
+
+    @Override
+    public String getPrefix()
+    {
+        return _logger.getPrefix();
+    }
+
+    @Override
+    public com.zeroc.Ice.Logger cloneWithPrefix(String prefix)
+    {
+        return this;
+    }
+
+    synchronized String[] getWarnings()
+    {
+        return _warnings.toArray(new String[_warnings.size()]);
+    }
+
+    private final com.zeroc.Ice.Logger _logger;
+    private final java.util.List<String> _warnings = new java.util.ArrayList<>();
+}
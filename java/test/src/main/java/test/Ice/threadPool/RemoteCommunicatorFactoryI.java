@@ -0,0 +1,55 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.threadPool;
+
+import test.Ice.threadPool.Test.*;
+
+public class RemoteCommunicatorFactoryI implements RemoteCommunicatorFactory
+{
+    @Override
+    public RemoteCommunicatorPrx createCommunicator(java.util.Map<String, String> props, com.zeroc.Ice.Current current)
+    {
+        //
+        // The new communicator inherits the transport configuration of the server.
+        //
+        com.zeroc.Ice.Communicator server = current.adapter.getCommunicator();
+        com.zeroc.Ice.InitializationData initData = new com.zeroc.Ice.InitializationData();
+        initData.classLoader = com.zeroc.IceInternal.Util.getInstance(server).getClassLoader();
+        initData.properties = server.getProperties()._clone();
+        for(java.util.Map.Entry<String, String> e : props.entrySet())
+        {
+            initData.properties.setProperty(e.getKey(), e.getValue());
+        }
+
+        LoggerI logger = new LoggerI(server.getLogger());
+        CommunicatorObserverI observer = new CommunicatorObserverI();
+        java.util.concurrent.atomic.AtomicInteger dispatcherCount = new java.util.concurrent.atomic.AtomicInteger();
+        initData.logger = logger;
+        initData.observer = observer;
+        if(initData.properties.getPropertyAsInt("Dispatcher") > 0)
+        {
+            initData.dispatcher = (runnable, connection) ->
+                {
+                    dispatcherCount.incrementAndGet();
+                    runnable.run();
+                };
+        }
+
+        com.zeroc.Ice.Communicator communicator = com.zeroc.Ice.Util.initialize(initData);
+        com.zeroc.Ice.ObjectAdapter adapter = communicator.createObjectAdapter("TestAdapter");
+        com.zeroc.Ice.ObjectPrx object = adapter.add(new TestIntfI(), com.zeroc.Ice.Util.stringToIdentity("test"));
+        adapter.activate();
+
+        RemoteCommunicatorI servant =
+            new RemoteCommunicatorI(communicator, TestIntfPrx.uncheckedCast(object), logger, observer, dispatcherCount);
+        return RemoteCommunicatorPrx.uncheckedCast(current.adapter.addWithUUID(servant));
+    }
+
+    @Override
+    public void shutdown(com.zeroc.Ice.Current current)
+    {
+        current.adapter.getCommunicator().shutdown();
+    }
+}
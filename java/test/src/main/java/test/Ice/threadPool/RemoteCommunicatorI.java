@@ -0,0 +1,78 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.threadPool;
+
+import com.zeroc.IceStats.RuntimeStats;
+import com.zeroc.IceStats.ThreadPoolSizing;
+
+import test.Ice.threadPool.Test.*;
+
+public class RemoteCommunicatorI implements RemoteCommunicator
+{
+    RemoteCommunicatorI(com.zeroc.Ice.Communicator communicator, TestIntfPrx object, LoggerI logger,
+                        CommunicatorObserverI observer, java.util.concurrent.atomic.AtomicInteger dispatcherCount)
+    {
+        _communicator = communicator;
+        _object = object;
+        _logger = logger;
+        _observer = observer;
+        _dispatcherCount = dispatcherCount;
+    }
+
+    @Override
+    public TestIntfPrx getObject(com.zeroc.Ice.Current current)
+    {
+        return _object;
+    }
+
+    @Override
+    public String[] getWarnings(com.zeroc.Ice.Current current)
+    {
+        return _logger.getWarnings();
+    }
+
+    @Override
+    public Sizing[] getSizing(com.zeroc.Ice.Current current)
+    {
+        return _observer.getSizing();
+    }
+
+    @Override
+    public Sizing[] getAdminSizing(com.zeroc.Ice.Current current)
+    {
+        java.util.List<Sizing> sizing = new java.util.ArrayList<>();
+        RuntimeStats stats = (RuntimeStats)_communicator.findAdminFacet("Metrics");
+        if(stats != null)
+        {
+            for(ThreadPoolSizing s : stats.getThreadPoolSizing())
+            {
+                if(s.threadPool.equals("Ice.ThreadPool.Server"))
+                {
+                    sizing.add(CommunicatorObserverI.toSizing(s));
+                }
+            }
+        }
+        return sizing.toArray(new Sizing[sizing.size()]);
+    }
+
+    @Override
+    public int getDispatcherCount(com.zeroc.Ice.Current current)
+    {
+        return _dispatcherCount.get();
+    }
+
+    @Override
+    public void destroy(com.zeroc.Ice.Current current)
+    {
+        _communicator.destroy();
+        current.adapter.remove(current.id);
+    }
+
+    private final com.zeroc.Ice.Communicator _communicator;
+    private final TestIntfPrx _object;
+    private final LoggerI _logger;
+    private final CommunicatorObserverI _observer;
+    private final java.util.concurrent.atomic.AtomicInteger _dispatcherCount;
+}
@@ -0,0 +1,155 @@
+//
+// Copyright (c) ZeroC, Inc. All rights reserved.
+//
+
+package test.Ice.threadPool;
+
+import test.Ice.threadPool.Test.*;
+
+public class TestIntfI implements TestIntf
+{
+    @Override
+    public boolean barrier(int parties, com.zeroc.Ice.Current current)
+    {
+        addThread(current);
+        java.util.concurrent.CyclicBarrier barrier;
+        synchronized(this)
+        {
+            if(_barrier == null || _barrier.getParties() != parties)
+            {
+                _barrier = new java.util.concurrent.CyclicBarrier(parties);
+            }
+            barrier = _barrier;
+        }
+
+        try
+        {
+            barrier.await(10, java.util.concurrent.TimeUnit.SECONDS);
+            return true;
+        }
+        catch(Exception ex)
+        {
+            return false;
+        }
+    }
+
+    @Override
+    public void serial(int value, com.zeroc.Ice.Current current)
+    {
+        addThread(current);
+        int n = _current.incrementAndGet();
+        synchronized(this)
+        {
+            _maxConcurrent = Math.max(_maxConcurrent, n);
+            _order.add(value);
+        }
+        try
+        {
+            Thread.sleep(5);
+        }
+        catch(InterruptedException ex)
+        {
+        }
+        _current.decrementAndGet();
+    }
+
+    @Override
+    public synchronized void record(int value, com.zeroc.Ice.Current current)
+    {
+        addThread(current);
+        _values.computeIfAbsent(current.con, k -> new java.util.ArrayList<>()).add(value);
+    }
+
+    @Override
+    public void sleep(int ms, com.zeroc.Ice.Current current)
+    {
+        addThread(current);
+        try
+        {
+            Thread.sleep(ms);
+        }
+        catch(InterruptedException ex)
+        {
+        }
+    }
+
+    @Override
+    public synchronized ThreadInfo[] getThreads(com.zeroc.Ice.Current current)
+    {
+        return _threads.toArray(new ThreadInfo[_threads.size()]);
+    }
+
+    @Override
+    public synchronized int[] getOrder(com.zeroc.Ice.Current current)
+    {
+        int[] order = new int[_order.size()];
+        for(int i = 0; i < order.length; ++i)
+        {
+            order[i] = _order.get(i);
+        }
+        return order;
+    }
+
+    @Override
+    public synchronized int getMaxConcurrent(com.zeroc.Ice.Current current)
+    {
+        return _maxConcurrent;
+    }
+
+    @Override
+    public synchronized int getConnectionCount(com.zeroc.Ice.Current current)
+    {
+        return _connections.size();
+    }
+
+    @Override
+    public synchronized int[][] getValues(com.zeroc.Ice.Current current)
+    {
+        int[][] values = new int[_values.size()][];
+        int i = 0;
+        for(java.util.List<Integer> v : _values.values())
+        {
+            values[i] = new int[v.size()];
+            for(int j = 0; j < v.size(); ++j)
+            {
+                values[i][j] = v.get(j);
+            }
+            ++i;
+        }
+        return values;
+    }
+
+    //
+    // Records the thread and the connection of the dispatch. The tests are compiled for
+    // Java 8, virtual threads are detected with reflection.
+    //
+    private void addThread(com.zeroc.Ice.Current current)
+    {
+        Thread thread = Thread.currentThread();
+        boolean virtual;
+        try
+        {
+            virtual = (Boolean)Thread.class.getMethod("isVirtual").invoke(thread);
+        }
+        catch(ReflectiveOperationException | RuntimeException ex)
+        {
+            virtual = false;
+        }
+
+        synchronized(this)
+        {
+            _threads.add(new ThreadInfo(thread.getName(), virtual));
+            _connections.add(current.con);
+        }
+    }
+
+    private java.util.concurrent.CyclicBarrier _barrier;
+    private final java.util.concurrent.atomic.AtomicInteger _current = new java.util.concurrent.atomic.AtomicInteger();
+    private final java.util.List<ThreadInfo> _threads = new java.util.ArrayList<>();
+    private final java.util.List<Integer> _order = new java.util.ArrayList<>();
+    private final java.util.Set<com.zeroc.Ice.Connection> _connections =
+        java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>());
+    private final java.util.Map<com.zeroc.Ice.Connection, java.util.List<Integer>> _values =
+        new java.util.IdentityHashMap<>();
+    private int _maxConcurrent;
+}
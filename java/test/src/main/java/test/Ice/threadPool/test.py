@@ -0,0 +1,47 @@
+#
+# Copyright (c) ZeroC, Inc. All rights reserved.
+#
+
+#
+# The server communicators created by the tests set their thread pool properties,
+# the properties below configure the client and the communicator factory.
+#
+
+#
+# Run the tests with the thread pools using selector threads.
+#
+selectorProps = {
+    "Ice.ThreadPool.Client.Selectors" : 2,
+    "Ice.ThreadPool.Server.Selectors" : 2,
+}
+
+#
+# And with the dispatches running on virtual threads (with Java 21 or later, otherwise
+# the thread pool threads are used).
+#
+virtualProps = {
+    "Ice.ThreadPool.Client.VirtualThreads" : 1,
+    "Ice.ThreadPool.Server.VirtualThreads" : 1,
+}
+
+#
+# And with the adaptive sizing policy for the server thread pool.
+#
+adaptiveProps = {
+    "Ice.ThreadPool.Server.SizeMax" : 8,
+    "Ice.ThreadPool.Server.Adaptive" : 1,
+}
+
+#
+# And with the proxy requests spread over a pool of connections.
+#
+connectionPoolProps = {
+    "Ice.Default.ConnectionPool" : 4,
+}
+
+TestSuite(__file__,
+          [ClientServerTestCase(),
+           ClientServerTestCase(name = "client/server with selector threads", props = selectorProps),
+           ClientServerTestCase(name = "client/server with virtual threads", props = virtualProps),
+           ClientServerTestCase(name = "client/server with adaptive thread pool", props = adaptiveProps),
+           ClientServerTestCase(name = "client/server with connection pool", props = connectionPoolProps)])
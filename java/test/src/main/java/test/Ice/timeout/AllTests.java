@@ -7,6 +7,8 @@ package test.Ice.timeout;
 import java.io.PrintWriter;
 import java.util.concurrent.CompletionException;
 
+import com.zeroc.IceInternal.TimingWheel;
+
 import test.Ice.timeout.Test.TimeoutPrx;
 import test.Ice.timeout.Test.ControllerPrx;
 
@@ -525,6 +527,207 @@ public class AllTests
         }
         out.println("ok");
 
+        testTimingWheel(helper);
+
         controller.shutdown();
     }
+
+    //
+    // Records the time at which a timing wheel task runs, relative to the time it was created.
+    //
+    private static class Task implements Runnable
+    {
+        Task(String name, java.util.List<String> order)
+        {
+            _name = name;
+            _order = order;
+        }
+
+        @Override
+        public void run()
+        {
+            synchronized(_order)
+            {
+                _order.add(_name);
+            }
+            synchronized(this)
+            {
+                _elapsed = (System.nanoTime() - _start) / 1000000;
+                ++_count;
+                notifyAll();
+            }
+        }
+
+        synchronized long waitForRun()
+        {
+            long end = System.currentTimeMillis() + 10000;
+            while(_count == 0)
+            {
+                long delay = end - System.currentTimeMillis();
+                test(delay > 0);
+                try
+                {
+                    wait(delay);
+                }
+                catch(InterruptedException ex)
+                {
+                }
+            }
+            return _elapsed;
+        }
+
+        synchronized int getCount()
+        {
+            return _count;
+        }
+
+        private final String _name;
+        private final java.util.List<String> _order;
+        private final long _start = System.nanoTime();
+        private long _elapsed;
+        private int _count;
+    }
+
+    //
+    // Checks the timing wheel used by the Ice run time for its timeouts.
+    //
+    private static void testTimingWheel(test.TestHelper helper)
+    {
+        PrintWriter out = helper.getWriter();
+        com.zeroc.Ice.Properties properties = helper.communicator().getProperties()._clone();
+        properties.setProperty("Ice.TimerTick", "1");
+        try(com.zeroc.Ice.Communicator communicator = helper.initialize(properties))
+        {
+            com.zeroc.IceInternal.Instance instance = com.zeroc.IceInternal.Util.getInstance(communicator);
+            TimingWheel wheel = instance.timingWheel();
+            java.util.concurrent.ThreadPoolExecutor timer = (java.util.concurrent.ThreadPoolExecutor)instance.timer();
+
+            out.print("testing timing wheel schedule... ");
+            out.flush();
+            {
+                java.util.List<String> order = new java.util.ArrayList<>();
+                Task t200 = new Task("200", order);
+                Task t0 = new Task("0", order);
+                Task t100 = new Task("100", order);
+                Task t50 = new Task("50", order);
+                wheel.schedule(t200, 200);
+                wheel.schedule(t0, 0);
+                wheel.schedule(t100, 100);
+                wheel.schedule(t50, 50);
+
+                //
+                // A task never runs before its deadline.
+                //
+                test(t200.waitForRun() >= 199);
+                test(t100.waitForRun() >= 99);
+                test(t50.waitForRun() >= 49);
+                t0.waitForRun();
+                test(order.equals(java.util.Arrays.asList("0", "50", "100", "200")));
+            }
+            out.println("ok");
+
+            out.print("testing timing wheel cancel... ");
+            out.flush();
+            {
+                java.util.List<String> order = new java.util.ArrayList<>();
+                Task canceled = new Task("canceled", order);
+                Task task = new Task("task", order);
+                TimingWheel.Timeout t1 = wheel.schedule(canceled, 100);
+                TimingWheel.Timeout t2 = wheel.schedule(task, 200);
+                test(t1.cancel());
+                test(!t1.cancel());
+                task.waitForRun();
+                test(!t2.cancel());
+                test(canceled.getCount() == 0);
+                test(order.equals(java.util.Arrays.asList("task")));
+            }
+            out.println("ok");
+
+            out.print("testing timing wheel repeated tasks... ");
+            out.flush();
+            {
+                java.util.concurrent.atomic.AtomicInteger count = new java.util.concurrent.atomic.AtomicInteger();
+                java.util.concurrent.CompletableFuture<TimingWheel.Timeout> timeout =
+                    new java.util.concurrent.CompletableFuture<>();
+                java.util.concurrent.CompletableFuture<Long> done = new java.util.concurrent.CompletableFuture<>();
+                final long start = System.nanoTime();
+                timeout.complete(wheel.scheduleAtFixedRate(() ->
+                    {
+                        //
+                        // The task cancels itself after 5 runs, it's already re-scheduled
+                        // for the next run.
+                        //
+                        if(count.incrementAndGet() == 5)
+                        {
+                            test(timeout.join().cancel());
+                            done.complete((System.nanoTime() - start) / 1000000);
+                        }
+                    }, 20, 20));
+                test(done.get(10, java.util.concurrent.TimeUnit.SECONDS) >= 99);
+                Thread.sleep(100);
+                test(count.get() == 5);
+            }
+            out.println("ok");
+
+            out.print("testing timing wheel late ticks... ");
+            out.flush();
+            {
+                //
+                // Block the timer thread for more than a turn of the wheel (512 ticks of 1ms),
+                // the tasks which expire in the meantime run once the thread is released, in
+                // order and not before their deadline.
+                //
+                java.util.List<String> order = new java.util.ArrayList<>();
+                java.util.concurrent.CountDownLatch blocked = new java.util.concurrent.CountDownLatch(1);
+                wheel.schedule(() ->
+                    {
+                        blocked.countDown();
+                        try
+                        {
+                            Thread.sleep(700);
+                        }
+                        catch(InterruptedException ex)
+                        {
+                        }
+                    }, 0);
+                blocked.await();
+
+                Task t10 = new Task("10", order);
+                Task t300 = new Task("300", order);
+                Task t600 = new Task("600", order);
+                Task t900 = new Task("900", order);
+                wheel.schedule(t900, 900);
+                wheel.schedule(t600, 600);
+                wheel.schedule(t300, 300);
+                wheel.schedule(t10, 10);
+
+                test(t10.waitForRun() >= 600);
+                test(t300.waitForRun() >= 600);
+                test(t600.waitForRun() >= 599);
+                test(t900.waitForRun() >= 899);
+                test(order.equals(java.util.Arrays.asList("10", "300", "600", "900")));
+            }
+            out.println("ok");
+
+            out.print("testing timing wheel wake-ups... ");
+            out.flush();
+            {
+                //
+                // The timer only runs when a timeout expires, not on every tick.
+                //
+                long completed = timer.getCompletedTaskCount();
+                Task task = new Task("task", new java.util.ArrayList<>());
+                wheel.schedule(task, 500);
+                test(task.waitForRun() >= 499);
+                Thread.sleep(100);
+                test(timer.getCompletedTaskCount() - completed <= 5);
+            }
+            out.println("ok");
+        }
+        catch(InterruptedException | java.util.concurrent.ExecutionException |
+              java.util.concurrent.TimeoutException ex)
+        {
+            throw new RuntimeException(ex);
+        }
+    }
 }
@@ -1,7 +1,7 @@
 //
 // Copyright (c) ZeroC, Inc. All rights reserved.
 //
-// Generated by makeprops.py from file ./config/PropertyNames.xml, Fri Sep  6 18:11:04 2019
+// Generated by makeprops.py from file ../config/PropertyNames.xml, Sat Oct 17 13:29:20 2026
 
 // IMPORTANT: Do not edit this file -- any edits made here will be lost!
 
@@ -35,7 +35,9 @@ PropertyNames.IceProps =
     new Property("/^Ice\.Admin\.AdapterId/", false, null),
     new Property("/^Ice\.Admin\.Endpoints/", false, null),
     new Property("/^Ice\.Admin\.Locator\.EndpointSelection/", false, null),
+    new Property("/^Ice\.Admin\.Locator\.EndpointBalancing/", false, null),
     new Property("/^Ice\.Admin\.Locator\.ConnectionCached/", false, null),
+    new Property("/^Ice\.Admin\.Locator\.ConnectionPool/", false, null),
     new Property("/^Ice\.Admin\.Locator\.PreferSecure/", false, null),
     new Property("/^Ice\.Admin\.Locator\.LocatorCacheTimeout/", false, null),
     new Property("/^Ice\.Admin\.Locator\.InvocationTimeout/", false, null),
@@ -47,7 +49,9 @@ PropertyNames.IceProps =
     new Property("/^Ice\.Admin\.PublishedEndpoints/", false, null),
     new Property("/^Ice\.Admin\.ReplicaGroupId/", false, null),
     new Property("/^Ice\.Admin\.Router\.EndpointSelection/", false, null),
+    new Property("/^Ice\.Admin\.Router\.EndpointBalancing/", false, null),
     new Property("/^Ice\.Admin\.Router\.ConnectionCached/", false, null),
+    new Property("/^Ice\.Admin\.Router\.ConnectionPool/", false, null),
     new Property("/^Ice\.Admin\.Router\.PreferSecure/", false, null),
     new Property("/^Ice\.Admin\.Router\.LocatorCacheTimeout/", false, null),
     new Property("/^Ice\.Admin\.Router\.InvocationTimeout/", false, null),
@@ -64,6 +68,10 @@ PropertyNames.IceProps =
     new Property("/^Ice\.Admin\.ThreadPool\.Serialize/", false, null),
     new Property("/^Ice\.Admin\.ThreadPool\.ThreadIdleTime/", false, null),
     new Property("/^Ice\.Admin\.ThreadPool\.ThreadPriority/", false, null),
+    new Property("/^Ice\.Admin\.ThreadPool\.Selectors/", false, null),
+    new Property("/^Ice\.Admin\.ThreadPool\.Adaptive/", false, null),
+    new Property("/^Ice\.Admin\.ThreadPool\.AdaptiveTarget/", false, null),
+    new Property("/^Ice\.Admin\.ThreadPool\.VirtualThreads/", false, null),
     new Property("/^Ice\.Admin\.MessageSizeMax/", false, null),
     new Property("/^Ice\.Admin\.DelayCreation/", false, null),
     new Property("/^Ice\.Admin\.Enabled/", false, null),
@@ -76,19 +84,28 @@ PropertyNames.IceProps =
     new Property("/^Ice\.BackgroundLocatorCacheUpdates/", false, null),
     new Property("/^Ice\.BatchAutoFlush/", true, null),
     new Property("/^Ice\.BatchAutoFlushSize/", false, null),
+    new Property("/^Ice\.BufferPool/", false, null),
+    new Property("/^Ice\.BufferPool\.MaxBuffers/", false, null),
+    new Property("/^Ice\.BufferPool\.MaxSize/", false, null),
     new Property("/^Ice\.ChangeUser/", false, null),
     new Property("/^Ice\.ClassGraphDepthMax/", false, null),
     new Property("/^Ice\.ClientAccessPolicyProtocol/", false, null),
+    new Property("/^Ice\.Compression\.Codec/", false, null),
     new Property("/^Ice\.Compression\.Level/", false, null),
     new Property("/^Ice\.CollectObjects/", false, null),
+    new Property("/^Ice\.CollocationDirect/", false, null),
     new Property("/^Ice\.Config/", false, null),
     new Property("/^Ice\.ConsoleListener/", false, null),
     new Property("/^Ice\.Default\.CollocationOptimized/", false, null),
+    new Property("/^Ice\.Default\.ConnectionPool/", false, null),
     new Property("/^Ice\.Default\.EncodingVersion/", false, null),
+    new Property("/^Ice\.Default\.EndpointBalancing/", false, null),
     new Property("/^Ice\.Default\.EndpointSelection/", false, null),
     new Property("/^Ice\.Default\.Host/", false, null),
     new Property("/^Ice\.Default\.Locator\.EndpointSelection/", false, null),
+    new Property("/^Ice\.Default\.Locator\.EndpointBalancing/", false, null),
     new Property("/^Ice\.Default\.Locator\.ConnectionCached/", false, null),
+    new Property("/^Ice\.Default\.Locator\.ConnectionPool/", false, null),
     new Property("/^Ice\.Default\.Locator\.PreferSecure/", false, null),
     new Property("/^Ice\.Default\.Locator\.LocatorCacheTimeout/", false, null),
     new Property("/^Ice\.Default\.Locator\.InvocationTimeout/", false, null),
@@ -103,7 +120,9 @@ PropertyNames.IceProps =
     new Property("/^Ice\.Default\.PreferSecure/", false, null),
     new Property("/^Ice\.Default\.Protocol/", false, null),
     new Property("/^Ice\.Default\.Router\.EndpointSelection/", false, null),
+    new Property("/^Ice\.Default\.Router\.EndpointBalancing/", false, null),
     new Property("/^Ice\.Default\.Router\.ConnectionCached/", false, null),
+    new Property("/^Ice\.Default\.Router\.ConnectionPool/", false, null),
     new Property("/^Ice\.Default\.Router\.PreferSecure/", false, null),
     new Property("/^Ice\.Default\.Router\.LocatorCacheTimeout/", false, null),
     new Property("/^Ice\.Default\.Router\.InvocationTimeout/", false, null),
@@ -115,14 +134,24 @@ PropertyNames.IceProps =
     new Property("/^Ice\.Default\.SlicedFormat/", false, null),
     new Property("/^Ice\.Default\.SourceAddress/", false, null),
     new Property("/^Ice\.Default\.Timeout/", false, null),
+    new Property("/^Ice\.EndpointWeight\../", false, null),
     new Property("/^Ice\.EventLog\.Source/", false, null),
     new Property("/^Ice\.FactoryAssemblies/", false, null),
+    new Property("/^Ice\.GatherWriteSize/", false, null),
+    new Property("/^Ice\.HostResolver\.CacheTTL/", false, null),
+    new Property("/^Ice\.HostResolver\.NegativeCacheTTL/", false, null),
+    new Property("/^Ice\.HostResolver\.Size/", false, null),
     new Property("/^Ice\.HTTPProxyHost/", false, null),
     new Property("/^Ice\.HTTPProxyPort/", false, null),
     new Property("/^Ice\.ImplicitContext/", false, null),
     new Property("/^Ice\.InitPlugins/", false, null),
     new Property("/^Ice\.IPv4/", false, null),
     new Property("/^Ice\.IPv6/", false, null),
+    new Property("/^Ice\.LocatorCache\.MaxSize/", false, null),
+    new Property("/^Ice\.LocatorCache\.RefreshAhead/", false, null),
+    new Property("/^Ice\.LogAsync/", false, null),
+    new Property("/^Ice\.LogAsync\.Capacity/", false, null),
+    new Property("/^Ice\.LogAsync\.Overflow/", false, null),
     new Property("/^Ice\.LogFile/", false, null),
     new Property("/^Ice\.LogFile\.SizeMax/", false, null),
     new Property("/^Ice\.LogStdErr\.Convert/", false, null),
@@ -149,6 +178,10 @@ PropertyNames.IceProps =
     new Property("/^Ice\.SOCKSProxyPort/", false, null),
     new Property("/^Ice\.StdErr/", false, null),
     new Property("/^Ice\.StdOut/", false, null),
+    new Property("/^Ice\.Stream\.ChunkSize/", false, null),
+    new Property("/^Ice\.Stream\.IdleTimeout/", false, null),
+    new Property("/^Ice\.Stream\.Window/", false, null),
+    new Property("/^Ice\.StringCache/", false, null),
     new Property("/^Ice\.SyslogFacility/", false, null),
     new Property("/^Ice\.ThreadPool\.Client\.Size/", false, null),
     new Property("/^Ice\.ThreadPool\.Client\.SizeMax/", false, null),
@@ -157,6 +190,10 @@ PropertyNames.IceProps =
     new Property("/^Ice\.ThreadPool\.Client\.Serialize/", false, null),
     new Property("/^Ice\.ThreadPool\.Client\.ThreadIdleTime/", false, null),
     new Property("/^Ice\.ThreadPool\.Client\.ThreadPriority/", false, null),
+    new Property("/^Ice\.ThreadPool\.Client\.Selectors/", false, null),
+    new Property("/^Ice\.ThreadPool\.Client\.Adaptive/", false, null),
+    new Property("/^Ice\.ThreadPool\.Client\.AdaptiveTarget/", false, null),
+    new Property("/^Ice\.ThreadPool\.Client\.VirtualThreads/", false, null),
     new Property("/^Ice\.ThreadPool\.Server\.Size/", false, null),
     new Property("/^Ice\.ThreadPool\.Server\.SizeMax/", false, null),
     new Property("/^Ice\.ThreadPool\.Server\.SizeWarn/", false, null),
@@ -164,10 +201,16 @@ PropertyNames.IceProps =
     new Property("/^Ice\.ThreadPool\.Server\.Serialize/", false, null),
     new Property("/^Ice\.ThreadPool\.Server\.ThreadIdleTime/", false, null),
     new Property("/^Ice\.ThreadPool\.Server\.ThreadPriority/", false, null),
+    new Property("/^Ice\.ThreadPool\.Server\.Selectors/", false, null),
+    new Property("/^Ice\.ThreadPool\.Server\.Adaptive/", false, null),
+    new Property("/^Ice\.ThreadPool\.Server\.AdaptiveTarget/", false, null),
+    new Property("/^Ice\.ThreadPool\.Server\.VirtualThreads/", false, null),
     new Property("/^Ice\.ThreadPriority/", false, null),
+    new Property("/^Ice\.TimerTick/", false, null),
     new Property("/^Ice\.ToStringMode/", false, null),
     new Property("/^Ice\.Trace\.Admin\.Properties/", false, null),
     new Property("/^Ice\.Trace\.Admin\.Logger/", false, null),
+    new Property("/^Ice\.Trace\.BufferPool/", false, null),
     new Property("/^Ice\.Trace\.Locator/", false, null),
     new Property("/^Ice\.Trace\.Network/", false, null),
     new Property("/^Ice\.Trace\.Protocol/", false, null),
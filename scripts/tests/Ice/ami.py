@@ -10,7 +10,32 @@ traceProps = {
     "Ice.Trace.Protocol" : 1
 }
 
+#
+# Run the Java client/server test with gathered writes too, the test queues many
+# requests on the same connection. The small socket buffers force partial writes.
+# The websocket test case runs over ws (or wss with ssl) whatever the protocol, the
+# websocket transceiver frames each gathered message.
+#
+class GatherClientServerTestCase(ClientServerTestCase):
+
+    def __init__(self, name, websocket):
+        ClientServerTestCase.__init__(self, name, traceProps=traceProps, props={
+            "Ice.GatherWriteSize" : 64,
+            "Ice.TCP.SndSize" : 4096,
+            "Ice.TCP.RcvSize" : 4096,
+        })
+        self.websocket = websocket
+
+    def getProps(self, process, current):
+        props = dict(ClientServerTestCase.getProps(self, process, current))
+        if self.websocket:
+            props["Ice.Default.Protocol"] = "wss" if current.config.protocol in ["ssl", "wss"] else "ws"
+        return props
+
 testcases = [ ClientServerTestCase(traceProps=traceProps) ]
+if Mapping.getByPath(__name__).name == "java":
+    testcases += [ GatherClientServerTestCase("client/server with gathered writes", False),
+                   GatherClientServerTestCase("client/server with gathered websocket writes", True) ]
 if Mapping.getByPath(__name__).hasSource("Ice/ami", "collocated"):
     testcases += [ CollocatedTestCase() ]
 